@@ -0,0 +1,41 @@
+#!/usr/bin/env bash
+#
+# Runs the JMH benchmarks of common, including the GC profiler to get allocation rates.
+#
+# Usage:
+#   ./run_benchmarks.sh                    Runs all benchmarks and compares the results with baseline/baseline.json
+#   ./run_benchmarks.sh --save-baseline    Runs all benchmarks and stores the results as new baseline
+#   ./run_benchmarks.sh <regex>            Runs only the benchmarks matching the given regular expression
+#
+set -o errexit
+set -o nounset
+set -o pipefail
+
+cd "$(dirname "$0")"
+
+BASELINE_FILE=baseline/baseline.json
+RESULT_FILE=target/benchmark-result.json
+SAVE_BASELINE=false
+FILTER=""
+
+for arg in "$@"; do
+    case "$arg" in
+        --save-baseline) SAVE_BASELINE=true ;;
+        *) FILTER="$arg" ;;
+    esac
+done
+
+mvn -B -q -f ../common/pom.xml install -DskipTests
+mvn -B -q package
+
+java -jar target/benchmarks.jar ${FILTER} -prof gc -rf json -rff "${RESULT_FILE}"
+
+if [ "${SAVE_BASELINE}" = true ]; then
+    mkdir -p "$(dirname "${BASELINE_FILE}")"
+    cp "${RESULT_FILE}" "${BASELINE_FILE}"
+    echo "Baseline stored in ${BASELINE_FILE}"
+elif [ -f "${BASELINE_FILE}" ]; then
+    java -cp target/benchmarks.jar com.common.benchmark.BaselineComparator "${BASELINE_FILE}" "${RESULT_FILE}"
+else
+    echo "No baseline found, use --save-baseline to create ${BASELINE_FILE}"
+fi
@@ -0,0 +1,95 @@
+package com.common.benchmark;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ *    Compares two JMH result files generated using {@code -rf json}, printing the throughput and allocation rate
+ * differences of every benchmark included in both.
+ *
+ * Usage:
+ *
+ *   java -cp target/benchmarks.jar com.common.benchmark.BaselineComparator baseline.json current.json [maxRegressionPercentage]
+ *
+ *    The process finishes with exit code {@code 1} if the throughput of any benchmark is lower than the baseline one
+ * more than {@code maxRegressionPercentage} (10% by default).
+ */
+public class BaselineComparator {
+
+    private static final String ALLOCATION_RATE_METRIC = "·gc.alloc.rate.norm";
+    private static final double DEFAULT_MAX_REGRESSION_PERCENTAGE = 10.0;
+
+
+    public static void main(String[] args) throws IOException {
+        if (2 > args.length) {
+            System.err.println("Usage: BaselineComparator <baseline.json> <current.json> [maxRegressionPercentage]");
+            System.exit(2);
+        }
+        double maxRegressionPercentage = 2 < args.length
+                ? Double.parseDouble(args[2])
+                : DEFAULT_MAX_REGRESSION_PERCENTAGE;
+
+        ObjectMapper mapper = new ObjectMapper();
+        Map<String, JsonNode> baseline = indexByBenchmark(mapper.readTree(new File(args[0])));
+        Map<String, JsonNode> current = indexByBenchmark(mapper.readTree(new File(args[1])));
+
+        boolean regressionFound = false;
+        System.out.printf("%-90s %15s %15s %9s %12s %12s%n",
+                "Benchmark", "Baseline", "Current", "Diff %", "B/op base", "B/op now");
+
+        for (Map.Entry<String, JsonNode> entry : current.entrySet()) {
+            JsonNode baselineResult = baseline.get(entry.getKey());
+            if (null == baselineResult) {
+                System.out.printf("%-90s %15s%n", entry.getKey(), "(new)");
+                continue;
+            }
+            double baselineScore = baselineResult.path("primaryMetric").path("score").asDouble();
+            double currentScore = entry.getValue().path("primaryMetric").path("score").asDouble();
+            double difference = 0 == baselineScore
+                    ? 0
+                    : 100 * (currentScore - baselineScore) / baselineScore;
+
+            boolean isRegression = -difference > maxRegressionPercentage;
+            regressionFound |= isRegression;
+
+            System.out.printf("%-90s %15.3f %15.3f %8.2f%% %12s %12s%s%n",
+                    entry.getKey(), baselineScore, currentScore, difference,
+                    allocationRate(baselineResult), allocationRate(entry.getValue()),
+                    isRegression ? "  <-- REGRESSION" : "");
+        }
+        System.exit(regressionFound ? 1 : 0);
+    }
+
+
+    /**
+     * Uses as key the name of the benchmark plus its parameters, in order to compare the same executions.
+     */
+    private static Map<String, JsonNode> indexByBenchmark(JsonNode results) {
+        Map<String, JsonNode> indexed = new LinkedHashMap<>();
+        for (JsonNode result : results) {
+            StringBuilder key = new StringBuilder(result.path("benchmark").asText());
+            Iterator<Map.Entry<String, JsonNode>> params = result.path("params").fields();
+            while (params.hasNext()) {
+                Map.Entry<String, JsonNode> param = params.next();
+                key.append(" ").append(param.getKey()).append("=").append(param.getValue().asText());
+            }
+            indexed.put(key.toString(), result);
+        }
+        return indexed;
+    }
+
+
+    private static String allocationRate(JsonNode result) {
+        JsonNode allocationRate = result.path("secondaryMetrics").path(ALLOCATION_RATE_METRIC);
+        return allocationRate.isMissingNode()
+                ? "-"
+                : String.format("%.1f", allocationRate.path("score").asDouble());
+    }
+
+}
@@ -0,0 +1,78 @@
+package com.common.benchmark.collection;
+
+import com.common.collection.WeightedCollection;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.security.SecureRandom;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks of the operations included in {@link WeightedCollection}.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class WeightedCollectionBenchmark {
+
+    @Param({"10", "100", "1000"})
+    private int size;
+
+    private SecureRandom random;
+    private WeightedCollection<Integer> weightedCollection;
+
+
+    @Setup
+    public void setUp() {
+        random = new SecureRandom();
+        weightedCollection = build();
+    }
+
+
+    @Benchmark
+    public WeightedCollection<Integer> add() {
+        return build();
+    }
+
+
+    @Benchmark
+    public Optional<Integer> next() {
+        return weightedCollection.next();
+    }
+
+
+    @Benchmark
+    public Set<Integer> toSet() {
+        return weightedCollection.toSet();
+    }
+
+
+    @Benchmark
+    public WeightedCollection<Integer> removeAndThen() {
+        return weightedCollection.removeAndThen(size / 2);
+    }
+
+
+    private WeightedCollection<Integer> build() {
+        WeightedCollection<Integer> result = WeightedCollection.of(random);
+        for (int i = 0; i < size; i++) {
+            result.add(1 + (i % 10), i);
+        }
+        return result;
+    }
+
+}
@@ -0,0 +1,152 @@
+package com.common.benchmark.collection.primitive;
+
+import com.common.collection.primitive.IntHashSet;
+import com.common.collection.primitive.IntObjectMap;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ *    Benchmarks of {@link IntObjectMap} and {@link IntHashSet} compared with the boxed {@link HashMap} and {@link HashSet}.
+ * The keys are random, because consecutive ones are stored in consecutive slots of {@link HashMap}, a best case that
+ * real identifiers do not keep after some removals.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class PrimitiveCollectionsBenchmark {
+
+    @Param({"10", "1000", "100000"})
+    private int size;
+
+    private int[] keys;
+    private IntObjectMap<String> intObjectMap;
+    private Map<Integer, String> hashMap;
+    private IntHashSet intHashSet;
+    private Set<Integer> hashSet;
+
+
+    @Setup
+    public void setUp() {
+        keys = new Random(31).ints(size).toArray();
+        intObjectMap = buildIntObjectMap();
+        hashMap = buildHashMap();
+        intHashSet = buildIntHashSet();
+        hashSet = buildHashSet();
+    }
+
+
+    @Benchmark
+    public IntObjectMap<String> intObjectMap_put() {
+        return buildIntObjectMap();
+    }
+
+
+    @Benchmark
+    public Map<Integer, String> hashMap_put() {
+        return buildHashMap();
+    }
+
+
+    @Benchmark
+    public int intObjectMap_get() {
+        int found = 0;
+        for (int i = 0; i < size; i++) {
+            if (null != intObjectMap.get(keys[i])) {
+                found++;
+            }
+        }
+        return found;
+    }
+
+
+    @Benchmark
+    public int hashMap_get() {
+        int found = 0;
+        for (int i = 0; i < size; i++) {
+            if (null != hashMap.get(keys[i])) {
+                found++;
+            }
+        }
+        return found;
+    }
+
+
+    @Benchmark
+    public int intHashSet_contains() {
+        int found = 0;
+        for (int i = 0; i < size; i++) {
+            if (intHashSet.contains(keys[i])) {
+                found++;
+            }
+        }
+        return found;
+    }
+
+
+    @Benchmark
+    public int hashSet_contains() {
+        int found = 0;
+        for (int i = 0; i < size; i++) {
+            if (hashSet.contains(keys[i])) {
+                found++;
+            }
+        }
+        return found;
+    }
+
+
+    private IntObjectMap<String> buildIntObjectMap() {
+        IntObjectMap<String> result = new IntObjectMap<>();
+        for (int i = 0; i < size; i++) {
+            result.put(keys[i], "value");
+        }
+        return result;
+    }
+
+
+    private Map<Integer, String> buildHashMap() {
+        Map<Integer, String> result = new HashMap<>();
+        for (int i = 0; i < size; i++) {
+            result.put(keys[i], "value");
+        }
+        return result;
+    }
+
+
+    private IntHashSet buildIntHashSet() {
+        IntHashSet result = new IntHashSet();
+        for (int i = 0; i < size; i++) {
+            result.add(keys[i]);
+        }
+        return result;
+    }
+
+
+    private Set<Integer> buildHashSet() {
+        Set<Integer> result = new HashSet<>();
+        for (int i = 0; i < size; i++) {
+            result.add(keys[i]);
+        }
+        return result;
+    }
+
+}
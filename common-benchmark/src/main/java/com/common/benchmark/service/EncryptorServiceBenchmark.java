@@ -0,0 +1,96 @@
+package com.common.benchmark.service;
+
+import com.common.service.EncryptorService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ *    Benchmarks of {@link EncryptorService#encrypt(String, String)} and {@link EncryptorService#decrypt(String, String)},
+ * compared with the {@link ByteBuffer} and stream variants.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@Threads(4)
+@State(Scope.Benchmark)
+public class EncryptorServiceBenchmark {
+
+    private static final String PASSWORD = "23Rhf(@_2-Poas";
+
+    // Generated by the previous format, which includes one salt by message
+    private static final String LEGACY_ENCRYPTED = "SGB2pnNj1NUZ7IKV6RpEes/cv76rwV/0fNopGgnIuVeyuy1wdOomylv4i0geFJBHQe0B4VAyjcWGD6gpCEtszrGwcDiu1w==";
+
+    @Param({"32", "1024", "1048576"})
+    private int size;
+
+    private EncryptorService encryptorService;
+    private String toEncrypt;
+    private String encrypted;
+    private byte[] toEncryptBytes;
+
+
+    @Setup
+    public void setUp() throws GeneralSecurityException {
+        encryptorService = new EncryptorService();
+        toEncrypt = IntStream.range(0, size)
+                .mapToObj(i -> String.valueOf((char) ('a' + i % 26)))
+                .collect(Collectors.joining());
+        encrypted = encryptorService.encrypt(toEncrypt, PASSWORD);
+        toEncryptBytes = toEncrypt.getBytes(StandardCharsets.UTF_8);
+    }
+
+
+    @Benchmark
+    public String encrypt() throws GeneralSecurityException {
+        return encryptorService.encrypt(toEncrypt, PASSWORD);
+    }
+
+
+    @Benchmark
+    public String decrypt() throws GeneralSecurityException {
+        return encryptorService.decrypt(encrypted, PASSWORD);
+    }
+
+
+    @Benchmark
+    public String decrypt_legacyFormat() throws GeneralSecurityException {
+        return encryptorService.decrypt(LEGACY_ENCRYPTED, PASSWORD);
+    }
+
+
+    @Benchmark
+    public ByteBuffer encrypt_byteBuffer() throws GeneralSecurityException {
+        return encryptorService.encrypt(ByteBuffer.wrap(toEncryptBytes), PASSWORD);
+    }
+
+
+    @Benchmark
+    public int encrypt_stream() throws IOException, GeneralSecurityException {
+        ByteArrayOutputStream output = new ByteArrayOutputStream(toEncryptBytes.length + 64);
+        encryptorService.encrypt(new ByteArrayInputStream(toEncryptBytes), output, PASSWORD);
+        return output.size();
+    }
+
+}
@@ -0,0 +1,131 @@
+package com.common.benchmark.util;
+
+import com.common.util.CollectionUtil;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ *    Benchmarks of the most used operations included in {@link CollectionUtil}. The {@code _parallel} ones always use
+ * the parallel execution, to know from which size it compensates.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class CollectionUtilBenchmark {
+
+    private static final int CHUNK_SIZE = 100;
+    private static final int WINDOW_SIZE = 5;
+    private static final int TRANSPOSE_ROWS = 10;
+    private static final int ALWAYS_PARALLEL = 1;
+
+    @Param({"10", "1000", "100000"})
+    private int size;
+
+    private List<Integer> source;
+    private Collection<Collection<Integer>> matrix;
+
+
+    @Setup
+    public void setUp() {
+        source = IntStream.range(0, size)
+                .boxed()
+                .collect(Collectors.toList());
+
+        int columns = Math.max(1, size / TRANSPOSE_ROWS);
+        matrix = new ArrayList<>(TRANSPOSE_ROWS);
+        for (int i = 0; i < TRANSPOSE_ROWS; i++) {
+            matrix.add(new ArrayList<>(source.subList(0, Math.min(columns, size))));
+        }
+    }
+
+
+    @Benchmark
+    public List<String> collect() {
+        return CollectionUtil.collect(source, i -> 0 == i % 2, String::valueOf);
+    }
+
+
+    @Benchmark
+    public Collection<String> collect_parallel() {
+        return CollectionUtil.collect(source, i -> 0 == i % 2, String::valueOf, ArrayList::new, ALWAYS_PARALLEL);
+    }
+
+
+    @Benchmark
+    public Long foldLeft() {
+        return CollectionUtil.foldLeft(source, 0L, (a, b) -> a + b);
+    }
+
+
+    @Benchmark
+    public Long foldLeft_parallel() {
+        return CollectionUtil.foldLeft(source, 0L, (a, b) -> a + b, Long::sum, ALWAYS_PARALLEL);
+    }
+
+
+    @Benchmark
+    public List<List<Integer>> sliding() {
+        return CollectionUtil.sliding(source, WINDOW_SIZE);
+    }
+
+
+    @Benchmark
+    public long windowed() {
+        return CollectionUtil.windowed(source.stream(), WINDOW_SIZE, 1)
+                .mapToInt(List::size)
+                .sum();
+    }
+
+
+    @Benchmark
+    public List<List<Integer>> split() {
+        return CollectionUtil.split(source, CHUNK_SIZE);
+    }
+
+
+    @Benchmark
+    public long chunked() {
+        // count() would not traverse the chunks, because the size is known
+        return CollectionUtil.chunked(source.stream(), CHUNK_SIZE)
+                .mapToInt(List::size)
+                .sum();
+    }
+
+
+    @Benchmark
+    public List<List<Integer>> split_parallel() {
+        return CollectionUtil.split(source, CHUNK_SIZE, ALWAYS_PARALLEL);
+    }
+
+
+    @Benchmark
+    public List<List<Integer>> transpose() {
+        return CollectionUtil.transpose(matrix);
+    }
+
+
+    @Benchmark
+    public List<List<Integer>> transpose_parallel() {
+        return CollectionUtil.transpose(matrix, ALWAYS_PARALLEL);
+    }
+
+}
@@ -0,0 +1,102 @@
+package com.common.benchmark.util;
+
+import com.common.dto.UsernameAuthoritiesDto;
+import com.common.util.JsonUtil;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.ByteArrayOutputStream;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * Benchmarks of the serialization/deserialization provided by {@link JsonUtil}.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class JsonUtilBenchmark {
+
+    /**
+     * Number of authorities and additional information entries of the managed {@link UsernameAuthoritiesDto}
+     */
+    @Param({"1", "100", "10000"})
+    private int size;
+
+    private UsernameAuthoritiesDto dto;
+    private String json;
+    private byte[] jsonBytes;
+    private List<UsernameAuthoritiesDto> dtos;
+
+
+    @Setup
+    public void setUp() {
+        Set<String> authorities = IntStream.range(0, size)
+                .mapToObj(i -> "ROLE_" + i)
+                .collect(Collectors.toSet());
+
+        Map<String, Object> additionalInfo = new HashMap<>(size);
+        IntStream.range(0, size).forEach(i -> additionalInfo.put("key" + i, i));
+
+        dto = new UsernameAuthoritiesDto("username", authorities, additionalInfo);
+        json = JsonUtil.toJson(dto).get();
+        jsonBytes = JsonUtil.toJsonBytes(dto).get();
+        dtos = Collections.nCopies(100, dto);
+    }
+
+
+    @Benchmark
+    public Optional<String> toJson() {
+        return JsonUtil.toJson(dto);
+    }
+
+
+    @Benchmark
+    public Optional<UsernameAuthoritiesDto> fromJson() {
+        return JsonUtil.fromJson(json, UsernameAuthoritiesDto.class);
+    }
+
+
+
+    @Benchmark
+    public Optional<byte[]> toJsonBytes() {
+        return JsonUtil.toJsonBytes(dto);
+    }
+
+
+    @Benchmark
+    public Optional<UsernameAuthoritiesDto> fromJsonBytes() {
+        return JsonUtil.fromJson(jsonBytes, UsernameAuthoritiesDto.class);
+    }
+
+
+    /**
+     * Stream of 100 elements written in an in-memory array, used as reference of the cost of building a response body.
+     */
+    @Benchmark
+    public int toJsonArray() {
+        ByteArrayOutputStream output = new ByteArrayOutputStream(100 * jsonBytes.length + 101);
+        JsonUtil.toJsonArray(dtos.stream(), output);
+        return output.size();
+    }
+
+}
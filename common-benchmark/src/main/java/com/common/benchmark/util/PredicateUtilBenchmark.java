@@ -0,0 +1,75 @@
+package com.common.benchmark.util;
+
+import com.common.util.PredicateUtil;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+import static java.util.Arrays.stream;
+
+/**
+ *    Benchmarks of the {@link PredicateUtil} distinct variants over a stream of {@code size} order identifiers, where
+ * half of them are duplicates received shortly after the original one.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class PredicateUtilBenchmark {
+
+    @Param({"10000", "1000000"})
+    private int size;
+
+    private String[] orderIds;
+
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(11);
+        orderIds = new String[size];
+        for (int i = 0; i < size; i++) {
+            orderIds[i] = 0 == i % 2 || 100 > i
+                    ? "order-" + i
+                    : orderIds[i - 1 - random.nextInt(100)];
+        }
+    }
+
+
+    @Benchmark
+    public long distinctByKey() {
+        return stream(orderIds)
+                .filter(PredicateUtil.distinctByKey(Function.identity()))
+                .count();
+    }
+
+
+    @Benchmark
+    public long distinctByKeyInWindow() {
+        return stream(orderIds)
+                .filter(PredicateUtil.distinctByKeyInWindow(Function.identity(), 1_000))
+                .count();
+    }
+
+
+    @Benchmark
+    public long distinctByKeyApproximately() {
+        return stream(orderIds)
+                .filter(PredicateUtil.distinctByKeyApproximately(Function.identity(), size / 2, 0.001))
+                .count();
+    }
+
+}
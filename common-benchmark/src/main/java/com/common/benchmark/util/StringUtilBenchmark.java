@@ -0,0 +1,107 @@
+package com.common.benchmark.util;
+
+import com.common.util.StringUtil;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Iterator;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+/**
+ *    Benchmarks of {@link StringUtil#splitFromString(String, java.util.function.Function, String)}, the lazy
+ * {@link StringUtil#split(CharSequence, String, int, java.util.function.Function)} and {@link StringUtil#keepOnlyDigits(String)}.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class StringUtilBenchmark {
+
+    private static final String SINGLE_CHAR_SEPARATOR = ",";
+
+    // Separators with more than one character were managed as regular expressions by String.split
+    private static final String MULTI_CHAR_SEPARATOR = ";;";
+
+    private static final String PHONE_NUMBER = "+34 (373) 030-9447";
+
+    @Param({"10", "1000", "100000"})
+    private int size;
+
+    private String singleCharSeparatedSource;
+    private String multiCharSeparatedSource;
+
+
+    @Setup
+    public void setUp() {
+        singleCharSeparatedSource = buildSource(SINGLE_CHAR_SEPARATOR);
+        multiCharSeparatedSource = buildSource(MULTI_CHAR_SEPARATOR);
+    }
+
+
+    @Benchmark
+    public List<Integer> splitFromString_singleCharSeparator() {
+        return StringUtil.splitFromString(singleCharSeparatedSource, Integer::parseInt, SINGLE_CHAR_SEPARATOR);
+    }
+
+
+    @Benchmark
+    public List<Integer> splitFromString_multiCharSeparator() {
+        return StringUtil.splitFromString(multiCharSeparatedSource, Integer::parseInt, MULTI_CHAR_SEPARATOR);
+    }
+
+
+    @Benchmark
+    public List<Integer> splitFromString_stringSplit_multiCharSeparator() {
+        return Stream.of(multiCharSeparatedSource.split(MULTI_CHAR_SEPARATOR))
+                .map(Integer::parseInt)
+                .collect(Collectors.toList());
+    }
+
+
+    @Benchmark
+    public int split_multiCharSeparator() {
+        int sum = 0;
+        Iterator<Integer> iterator = StringUtil.split(multiCharSeparatedSource, MULTI_CHAR_SEPARATOR, -1, Integer::parseInt);
+        while (iterator.hasNext()) {
+            sum += iterator.next();
+        }
+        return sum;
+    }
+
+
+    @Benchmark
+    public Optional<Integer> splitStream_firstPart() {
+        return StringUtil.splitStream(multiCharSeparatedSource, MULTI_CHAR_SEPARATOR, -1, Integer::parseInt)
+                .findFirst();
+    }
+
+
+    @Benchmark
+    public Optional<String> keepOnlyDigits() {
+        return StringUtil.keepOnlyDigits(PHONE_NUMBER);
+    }
+
+
+    private String buildSource(String separator) {
+        return IntStream.range(0, size)
+                .mapToObj(String::valueOf)
+                .collect(Collectors.joining(separator));
+    }
+
+}
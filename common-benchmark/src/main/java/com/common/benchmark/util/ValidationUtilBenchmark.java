@@ -0,0 +1,63 @@
+package com.common.benchmark.util;
+
+import com.common.util.ValidationUtil;
+import com.common.validation.Validation;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+import static java.util.Arrays.asList;
+
+/**
+ * Benchmarks of {@link ValidationUtil#combine(Validation[])}.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ValidationUtilBenchmark {
+
+    @Param({"10", "1000", "10000"})
+    private int size;
+
+    private Validation<String>[] onlyValidValidations;
+    private Validation<String>[] mixedValidations;
+
+
+    @Setup
+    public void setUp() {
+        onlyValidValidations = new Validation[size];
+        mixedValidations = new Validation[size];
+        for (int i = 0; i < size; i++) {
+            onlyValidValidations[i] = Validation.valid(String.valueOf(i));
+            mixedValidations[i] = 0 == i % 2
+                    ? Validation.valid(String.valueOf(i))
+                    : Validation.invalid(asList("error " + i));
+        }
+    }
+
+
+    @Benchmark
+    public Validation<String> combine_onlyValid() {
+        return ValidationUtil.combine(onlyValidValidations);
+    }
+
+
+    @Benchmark
+    public Validation<String> combine_validAndInvalid() {
+        return ValidationUtil.combine(mixedValidations);
+    }
+
+}
@@ -0,0 +1,218 @@
+package com.common.cache;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.util.Assert;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+import java.util.function.ToDoubleFunction;
+
+/**
+ *    Micrometer meters published for every cache used through {@link com.common.service.CacheService} and
+ * {@link com.common.service.ReactiveCacheService}:
+ *
+ * <ul>
+ *   <li>{@code cache.service.gets}: number of searched keys, tagged with {@code result} = {@code hit} or {@code miss}</li>
+ *   <li>{@code cache.service.puts}: number of stored entries</li>
+ *   <li>{@code cache.service.removals}: number of keys removed explicitly, the evictions done by the cache provider
+ *       are not included</li>
+ *   <li>{@code cache.service.evictions}: number of entries discarded by the cache provider, tagged with {@code cause} =
+ *       {@code size} or {@code expired}. The statistics of the provider have to be bound using
+ *       {@link CacheMetrics#bindEvictions(String, String, Object, ToDoubleFunction)}</li>
+ *   <li>{@code cache.service.latency}: duration of every operation, tagged with {@code operation}</li>
+ * </ul>
+ *
+ *    All of them are tagged with {@code cache} = cache name. The {@code cache.service} prefix avoids any collision with
+ * the {@code cache.*} meters registered by Spring Boot for some cache providers.
+ */
+public class CacheMetrics {
+
+    public static final String GETS = "cache.service.gets";
+    public static final String PUTS = "cache.service.puts";
+    public static final String REMOVALS = "cache.service.removals";
+    public static final String EVICTIONS = "cache.service.evictions";
+    public static final String LATENCY = "cache.service.latency";
+
+    public static final String CACHE_TAG = "cache";
+    public static final String OPERATION_TAG = "operation";
+    public static final String RESULT_TAG = "result";
+    public static final String CAUSE_TAG = "cause";
+
+    // Causes of the evictions: the cache was full or the entry expired
+    public static final String SIZE_CAUSE = "size";
+    public static final String EXPIRED_CAUSE = "expired";
+
+    private final MeterRegistry registry;
+
+    // Meters are cached to avoid looking them up in the registry on every operation
+    private final Map<String, CacheMeters> metersByCache;
+
+
+    public CacheMetrics(MeterRegistry registry) {
+        Assert.notNull(registry, "registry must be not null");
+        this.registry = registry;
+        this.metersByCache = new ConcurrentHashMap<>();
+    }
+
+
+    /**
+     * Record {@code hits} found keys and {@code misses} not found ones in the given {@code cacheName}.
+     */
+    public void gets(String cacheName, long hits, long misses) {
+        CacheMeters meters = meters(cacheName);
+        if (0 < hits) {
+            meters.hits.increment(hits);
+        }
+        if (0 < misses) {
+            meters.misses.increment(misses);
+        }
+    }
+
+
+    /**
+     * Record {@code count} entries stored in the given {@code cacheName}.
+     */
+    public void puts(String cacheName, long count) {
+        if (0 < count) {
+            meters(cacheName).puts.increment(count);
+        }
+    }
+
+
+    /**
+     * Record {@code count} keys removed from the given {@code cacheName}.
+     */
+    public void removals(String cacheName, long count) {
+        if (0 < count) {
+            meters(cacheName).removals.increment(count);
+        }
+    }
+
+
+    /**
+     *    Publish the entries discarded by the cache provider from the given {@code cacheName}, counted by its statistics
+     * or by a listener of its events. The value is read every time the meter is published.
+     *
+     * @param cacheName
+     *    Cache from which the entries are discarded
+     * @param cause
+     *    {@link CacheMetrics#SIZE_CAUSE} or {@link CacheMetrics#EXPIRED_CAUSE}
+     * @param statistics
+     *    Object with the statistics of the cache, only weakly referenced by the meter, so it must be kept by the provider
+     * @param count
+     *    Returns the total number of discarded entries from {@code statistics}
+     */
+    public <T> void bindEvictions(String cacheName, String cause, T statistics, ToDoubleFunction<T> count) {
+        FunctionCounter.builder(EVICTIONS, statistics, count)
+                .description("Entries discarded by the cache provider")
+                .tag(CACHE_TAG, cacheName)
+                .tag(CAUSE_TAG, cause)
+                .register(registry);
+    }
+
+
+    /**
+     * Start measuring the duration of an operation, it must be finished using {@link CacheMetrics#stop(Timer.Sample, String, String)}.
+     */
+    public Timer.Sample start() {
+        return Timer.start(registry);
+    }
+
+
+    /**
+     * Record the duration of the operation started with {@code sample}.
+     *
+     * @param sample
+     *    {@link Timer.Sample} returned by {@link CacheMetrics#start()}
+     * @param cacheName
+     *    Cache on which the operation was executed
+     * @param operation
+     *    Name of the executed operation
+     */
+    public void stop(Timer.Sample sample, String cacheName, String operation) {
+        sample.stop(meters(cacheName).latency(operation));
+    }
+
+
+    /**
+     * Execute the given {@code action} recording its duration.
+     *
+     * @param cacheName
+     *    Cache on which the operation is executed
+     * @param operation
+     *    Name of the executed operation
+     * @param action
+     *    Operation to execute
+     *
+     * @return the value returned by {@code action}
+     */
+    public <T> T record(String cacheName, String operation, Supplier<T> action) {
+        Timer.Sample sample = start();
+        try {
+            return action.get();
+        } finally {
+            stop(sample, cacheName, operation);
+        }
+    }
+
+
+    private CacheMeters meters(String cacheName) {
+        return metersByCache.computeIfAbsent(cacheName, CacheMeters::new);
+    }
+
+
+    /**
+     * Meters related with one cache.
+     */
+    private final class CacheMeters {
+
+        private final String cacheName;
+        private final Counter hits;
+        private final Counter misses;
+        private final Counter puts;
+        private final Counter removals;
+        private final Map<String, Timer> latencyByOperation;
+
+        private CacheMeters(String cacheName) {
+            this.cacheName = cacheName;
+            this.hits = getsCounter("hit");
+            this.misses = getsCounter("miss");
+            this.puts = Counter.builder(PUTS)
+                    .description("Entries stored in the cache")
+                    .tag(CACHE_TAG, cacheName)
+                    .register(registry);
+            this.removals = Counter.builder(REMOVALS)
+                    .description("Keys removed from the cache")
+                    .tag(CACHE_TAG, cacheName)
+                    .register(registry);
+            this.latencyByOperation = new ConcurrentHashMap<>();
+        }
+
+        private Timer latency(String operation) {
+            return latencyByOperation.computeIfAbsent(operation, op ->
+                    Timer.builder(LATENCY)
+                            .description("Duration of the operations over the cache")
+                            .tag(CACHE_TAG, cacheName)
+                            .tag(OPERATION_TAG, op)
+                            .publishPercentileHistogram()
+                            .minimumExpectedValue(Duration.ofNanos(100_000))
+                            .maximumExpectedValue(Duration.ofSeconds(1))
+                            .register(registry)
+            );
+        }
+
+        private Counter getsCounter(String result) {
+            return Counter.builder(GETS)
+                    .description("Keys searched in the cache")
+                    .tag(CACHE_TAG, cacheName)
+                    .tag(RESULT_TAG, result)
+                    .register(registry);
+        }
+    }
+
+}
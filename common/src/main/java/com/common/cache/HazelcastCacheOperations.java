@@ -0,0 +1,204 @@
+package com.common.cache;
+
+import com.hazelcast.core.ExecutionCallback;
+import com.hazelcast.core.ICompletableFuture;
+import com.hazelcast.core.IMap;
+import com.hazelcast.map.AbstractEntryProcessor;
+import com.hazelcast.spring.cache.HazelcastCache;
+import lombok.experimental.UtilityClass;
+import org.springframework.cache.Cache;
+import org.springframework.cache.Cache.ValueWrapper;
+import org.springframework.cache.support.SimpleValueWrapper;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ *    Bulk operations over the {@link IMap} of a {@link HazelcastCache}, grouping the given keys by partition in order
+ * to send only one request to every member instead of one per key. The values are stored and read in the same way as
+ * {@link HazelcastCache} does, so both can be used over the same {@link IMap}.
+ *
+ *    Only invoke it if Hazelcast is included in the classpath, {@link HazelcastCacheOperations#isHazelcastCache(Cache)}
+ * can be used to know if the cache is a {@link HazelcastCache}.
+ */
+@UtilityClass
+public class HazelcastCacheOperations {
+
+    /**
+     * Verify if the given {@code cache} is a {@link HazelcastCache}.
+     */
+    public static boolean isHazelcastCache(Cache cache) {
+        return cache instanceof HazelcastCache;
+    }
+
+
+    /**
+     * Return the values of the given {@code keys} included in {@code cache}.
+     *
+     * @param cache
+     *    {@link HazelcastCache} with the information
+     * @param keys
+     *    Identifiers to search
+     *
+     * @return {@link Map} with the found {@code keys} and their values
+     */
+    public static <K, V> Map<K, V> getAll(Cache cache, Collection<K> keys) {
+        Map<Object, Object> storedValues = getMap(cache).getAll(new LinkedHashSet<>(keys));
+        Map<K, V> result = new HashMap<>(storedValues.size());
+        storedValues.forEach((k, v) ->
+                result.put((K) k, (V) StoreValueConverter.INSTANCE.fromStoreValue(v))
+        );
+        return result;
+    }
+
+
+    /**
+     * Return the value of the given {@code key} included in {@code cache}, without blocking the current thread.
+     *
+     * @param cache
+     *    {@link HazelcastCache} with the information
+     * @param key
+     *    Identifier to search
+     *
+     * @return {@link CompletableFuture} with the {@link ValueWrapper} of the found value, {@code null} if {@code key} was not found
+     */
+    public static CompletableFuture<ValueWrapper> getAsync(Cache cache, Object key) {
+        return toCompletableFuture(getMap(cache).getAsync(key))
+                .thenApply(v ->
+                        null == v
+                                ? null
+                                : new SimpleValueWrapper(StoreValueConverter.INSTANCE.fromStoreValue(v))
+                );
+    }
+
+
+    /**
+     * Include the given pairs of {@code key} - {@code value} inside the {@code cache}.
+     *
+     * @param cache
+     *    {@link HazelcastCache} with the information
+     * @param entries
+     *    Pairs of {@code key} - {@code value} to store
+     */
+    public static <K, V> void putAll(Cache cache, Map<K, V> entries) {
+        Map<Object, Object> storeEntries = new HashMap<>(entries.size());
+        entries.forEach((k, v) ->
+                storeEntries.put(k, StoreValueConverter.INSTANCE.toStoreValue(v))
+        );
+        getMap(cache).putAll(storeEntries);
+    }
+
+
+    /**
+     * Include a pair of {@code key} - {@code value} inside the {@code cache}, without blocking the current thread.
+     *
+     * @param cache
+     *    {@link HazelcastCache} with the information
+     * @param key
+     *    Identifier of the {@code value} to store
+     * @param value
+     *    Information to store
+     *
+     * @return {@link CompletableFuture} completed when the data was stored
+     */
+    public static CompletableFuture<Void> putAsync(Cache cache, Object key, Object value) {
+        return toCompletableFuture(getMap(cache).setAsync(key, StoreValueConverter.INSTANCE.toStoreValue(value)));
+    }
+
+
+    /**
+     * Remove the given {@code key} from the {@code cache}, without blocking the current thread.
+     *
+     * @param cache
+     *    {@link HazelcastCache} with the information
+     * @param key
+     *    Identifier to remove
+     *
+     * @return {@link CompletableFuture} completed when the {@code key} was removed
+     */
+    public static CompletableFuture<Void> removeAsync(Cache cache, Object key) {
+        return toCompletableFuture(getMap(cache).removeAsync(key))
+                .thenApply(v -> null);
+    }
+
+
+    /**
+     * Remove the given {@code keys} from the {@code cache}.
+     *
+     * @param cache
+     *    {@link HazelcastCache} with the information
+     * @param keys
+     *    Identifiers to remove
+     */
+    public static <K> void removeAll(Cache cache, Collection<K> keys) {
+        Set<Object> keysToRemove = new LinkedHashSet<>(keys);
+        getMap(cache).executeOnKeys(keysToRemove, new RemoveEntryProcessor<>());
+    }
+
+
+    private static IMap<Object, Object> getMap(Cache cache) {
+        return ((HazelcastCache) cache).getNativeCache();
+    }
+
+
+    private static <T> CompletableFuture<T> toCompletableFuture(ICompletableFuture<T> hazelcastFuture) {
+        CompletableFuture<T> result = new CompletableFuture<>();
+        hazelcastFuture.andThen(new ExecutionCallback<T>() {
+
+            @Override
+            public void onResponse(T response) {
+                result.complete(response);
+            }
+
+            @Override
+            public void onFailure(Throwable t) {
+                result.completeExceptionally(t);
+            }
+        });
+        return result;
+    }
+
+
+    /**
+     *    Gives access to the conversions used by {@link HazelcastCache} to store and read the values, because {@code null}
+     * is stored as an internal object and not as {@link org.springframework.cache.support.NullValue}.
+     */
+    private static final class StoreValueConverter extends HazelcastCache {
+
+        private static final StoreValueConverter INSTANCE = new StoreValueConverter();
+
+        private StoreValueConverter() {
+            super(null);
+        }
+
+        @Override
+        public Object toStoreValue(Object value) {
+            return super.toStoreValue(value);
+        }
+
+        @Override
+        public Object fromStoreValue(Object value) {
+            return super.fromStoreValue(value);
+        }
+    }
+
+
+    /**
+     * Removes the entries on which it is executed.
+     */
+    private static final class RemoveEntryProcessor<K> extends AbstractEntryProcessor<K, Object> {
+
+        private static final long serialVersionUID = 4327187302514936413L;
+
+        @Override
+        public Object process(Map.Entry<K, Object> entry) {
+            entry.setValue(null);
+            return null;
+        }
+    }
+
+}
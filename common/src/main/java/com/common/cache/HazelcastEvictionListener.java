@@ -0,0 +1,49 @@
+package com.common.cache;
+
+import com.hazelcast.core.EntryEvent;
+import com.hazelcast.core.IMap;
+import com.hazelcast.map.listener.EntryEvictedListener;
+import com.hazelcast.map.listener.EntryExpiredListener;
+import org.springframework.util.Assert;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import static com.common.cache.CacheMetrics.EXPIRED_CAUSE;
+import static com.common.cache.CacheMetrics.SIZE_CAUSE;
+
+/**
+ *    Publishes in {@link CacheMetrics#EVICTIONS} the entries of an {@link IMap} evicted because the map is full or
+ * expired, Hazelcast does not include them in its statistics.
+ *
+ *    It must be added with {@link IMap#addLocalEntryListener(com.hazelcast.map.listener.MapListener)}, so every member
+ * counts only the entries it owns and the total of the cluster is the sum of all of them.
+ */
+public class HazelcastEvictionListener implements EntryEvictedListener<Object, Object>, EntryExpiredListener<Object, Object> {
+
+    // Hazelcast notifies every expiration as an eviction too, just before notifying it as an expiration
+    private final AtomicLong evicted;
+    private final AtomicLong expired;
+
+
+    public HazelcastEvictionListener(CacheMetrics cacheMetrics, String cacheName) {
+        Assert.notNull(cacheMetrics, "cacheMetrics must be not null");
+        Assert.hasText(cacheName, "cacheName must be not empty");
+        this.evicted = new AtomicLong();
+        this.expired = new AtomicLong();
+        cacheMetrics.bindEvictions(cacheName, SIZE_CAUSE, this, l -> l.evicted.get() - l.expired.get());
+        cacheMetrics.bindEvictions(cacheName, EXPIRED_CAUSE, this, l -> l.expired.get());
+    }
+
+
+    @Override
+    public void entryEvicted(EntryEvent<Object, Object> event) {
+        evicted.incrementAndGet();
+    }
+
+
+    @Override
+    public void entryExpired(EntryEvent<Object, Object> event) {
+        expired.incrementAndGet();
+    }
+
+}
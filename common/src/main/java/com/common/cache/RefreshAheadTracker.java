@@ -0,0 +1,157 @@
+package com.common.cache;
+
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import org.springframework.util.Assert;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ *    Keeps when every entry was loaded using {@code getOrLoad} of {@link com.common.service.CacheService} or
+ * {@link com.common.service.ReactiveCacheService}, to know when a hot entry must be refreshed before its expiration.
+ *
+ *    Only the keys loaded with a refresh-ahead interval are tracked, up to {@code capacity} keys. When it is full, the
+ * keys not requested for twice their refresh-ahead interval are removed: they are not hot anymore, because any request
+ * after that interval would have refreshed them. If there is still no room, new keys are not tracked until there is.
+ */
+public class RefreshAheadTracker {
+
+    public static final int DEFAULT_CAPACITY = 10_000;
+
+    // Minimum time between two clean-ups, avoids iterating over all the keys on every request when all of them are hot
+    private static final long CLEAN_UP_INTERVAL_NANOS = Duration.ofSeconds(1).toNanos();
+
+    private final int capacity;
+
+    private final Map<LoadKey, LoadTime> loadTimes;
+
+    private final AtomicLong lastCleanUp;
+
+
+    public RefreshAheadTracker() {
+        this(DEFAULT_CAPACITY);
+    }
+
+
+    public RefreshAheadTracker(int capacity) {
+        Assert.isTrue(0 < capacity, "capacity must be greater than 0");
+        this.capacity = capacity;
+        this.loadTimes = new ConcurrentHashMap<>();
+        this.lastCleanUp = new AtomicLong(System.nanoTime() - CLEAN_UP_INTERVAL_NANOS);
+    }
+
+
+    /**
+     * Store that the given {@code key} has been loaded right now.
+     *
+     * @param key
+     *    Loaded {@link LoadKey}
+     * @param refreshAfter
+     *    Time after which the entry must be refreshed. {@code null} means no refresh, so the {@code key} is not tracked
+     */
+    public void loaded(LoadKey key, Duration refreshAfter) {
+        if (null == refreshAfter) {
+            return;
+        }
+        if (loadTimes.containsKey(key) || hasRoom()) {
+            loadTimes.put(key, new LoadTime(System.nanoTime(), refreshAfter.toNanos()));
+        }
+    }
+
+
+    /**
+     *    Check if the given {@code key} has to be refreshed, that is, it was loaded more than {@code refreshAfter} ago. When
+     * several threads invoke this method at the same time, only one of them gets {@code true}.
+     *
+     * @param key
+     *    {@link LoadKey} to check
+     * @param refreshAfter
+     *    Time after which a loaded entry must be refreshed. {@code null} means no refresh
+     *
+     * @return {@code true} if the caller has to refresh the entry, {@code false} otherwise
+     */
+    public boolean shouldRefresh(LoadKey key, Duration refreshAfter) {
+        if (null == refreshAfter) {
+            return false;
+        }
+        long now = System.nanoTime();
+        LoadTime loadTime = loadTimes.get(key);
+        // Entry loaded by another instance of the microservice, refresh interval starts now
+        if (null == loadTime) {
+            if (hasRoom()) {
+                loadTimes.putIfAbsent(key, new LoadTime(now, refreshAfter.toNanos()));
+            }
+            return false;
+        }
+        return now - loadTime.getTime() >= refreshAfter.toNanos() &&
+                loadTimes.replace(key, loadTime, new LoadTime(now, refreshAfter.toNanos()));
+    }
+
+
+    /**
+     * Stop tracking the given {@code key}.
+     */
+    public void forget(LoadKey key) {
+        loadTimes.remove(key);
+    }
+
+
+    /**
+     * Stop tracking all the keys of the given {@code cacheName}.
+     */
+    public void forget(String cacheName) {
+        loadTimes.keySet().removeIf(k -> k.getCacheName().equals(cacheName));
+    }
+
+
+    /**
+     * Number of tracked keys.
+     */
+    public int size() {
+        return loadTimes.size();
+    }
+
+
+    /**
+     * Check if a new key can be tracked, removing the keys that are not hot anymore when there is no room.
+     */
+    private boolean hasRoom() {
+        if (loadTimes.size() < capacity) {
+            return true;
+        }
+        long now = System.nanoTime();
+        long last = lastCleanUp.get();
+        if (now - last >= CLEAN_UP_INTERVAL_NANOS && lastCleanUp.compareAndSet(last, now)) {
+            loadTimes.values().removeIf(t -> now - t.getTime() > 2 * t.getRefreshAfterNanos());
+        }
+        return loadTimes.size() < capacity;
+    }
+
+
+    /**
+     * Identifies a key inside a specific cache.
+     */
+    @AllArgsConstructor
+    @EqualsAndHashCode
+    @Getter
+    public static final class LoadKey {
+        private final String cacheName;
+        private final Object key;
+    }
+
+
+    /**
+     * When a key was loaded and its refresh-ahead interval. Compared by identity, so a concurrent refresh is detected.
+     */
+    @AllArgsConstructor
+    @Getter
+    private static final class LoadTime {
+        private final long time;
+        private final long refreshAfterNanos;
+    }
+
+}
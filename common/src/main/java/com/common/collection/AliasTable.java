@@ -0,0 +1,103 @@
+package com.common.collection;
+
+import java.util.List;
+import java.util.Random;
+
+/**
+ *    Immutable table used to select, in constant time, one of the given elements taking into account their weights
+ * (alias method, Vose's version). Every column {@code i} returns {@code elements[i]} with probability
+ * {@code probabilities[i]}, or {@code elements[aliases[i]]} otherwise.
+ *
+ * @param <T>
+ *     Elements stored in the table
+ */
+final class AliasTable<T> {
+
+    private final List<T> elements;
+    private final double[] probabilities;
+    private final int[] aliases;
+
+
+    /**
+     * Builds the table in O(n).
+     *
+     * @param elements
+     *    Elements to select, it must not be modified after the invocation
+     * @param weights
+     *    Weight of every element in {@code elements}, in the same order
+     * @param totalWeight
+     *    Sum of {@code weights}
+     */
+    AliasTable(List<T> elements, int[] weights, long totalWeight) {
+        int numberOfElements = elements.size();
+        this.elements = elements;
+        this.probabilities = new double[numberOfElements];
+        this.aliases = new int[numberOfElements];
+
+        // Weights scaled to average 1
+        double[] scaledWeights = new double[numberOfElements];
+        for (int i = 0; i < numberOfElements; i++) {
+            scaledWeights[i] = (double) weights[i] * numberOfElements / totalWeight;
+        }
+
+        int[] small = new int[numberOfElements];
+        int[] large = new int[numberOfElements];
+        int smallSize = 0, largeSize = 0;
+        for (int i = 0; i < numberOfElements; i++) {
+            if (1.0 > scaledWeights[i]) {
+                small[smallSize++] = i;
+            } else {
+                large[largeSize++] = i;
+            }
+        }
+        while (0 < smallSize && 0 < largeSize) {
+            int less = small[--smallSize];
+            int more = large[--largeSize];
+            probabilities[less] = scaledWeights[less];
+            aliases[less] = more;
+
+            scaledWeights[more] = (scaledWeights[more] + scaledWeights[less]) - 1.0;
+            if (1.0 > scaledWeights[more]) {
+                small[smallSize++] = more;
+            } else {
+                large[largeSize++] = more;
+            }
+        }
+        // Remaining ones are (up to rounding errors) equal to 1
+        while (0 < largeSize) {
+            int more = large[--largeSize];
+            probabilities[more] = 1.0;
+            aliases[more] = more;
+        }
+        while (0 < smallSize) {
+            int less = small[--smallSize];
+            probabilities[less] = 1.0;
+            aliases[less] = less;
+        }
+    }
+
+
+    /**
+     * Return one of the stored elements taking into account their weights.
+     *
+     * @param random
+     *    Source of randomness
+     *
+     * @return {@code T}, {@code null} if the table is empty
+     */
+    T next(Random random) {
+        if (elements.isEmpty()) {
+            return null;
+        }
+        int column = random.nextInt(elements.size());
+        return random.nextDouble() < probabilities[column]
+                ? elements.get(column)
+                : elements.get(aliases[column]);
+    }
+
+
+    int size() {
+        return elements.size();
+    }
+
+}
@@ -0,0 +1,257 @@
+package com.common.collection;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.UnaryOperator;
+
+import static java.util.Optional.ofNullable;
+
+/**
+ *    Thread-safe collection used to work with a weighted list of unique elements, every one related with an specific
+ * weight value.
+ *
+ *    Every modification builds a new immutable snapshot (elements, weights and the alias table used to select them)
+ * that is published through an {@link AtomicReference}. Readers never lock: {@link ConcurrentWeightedCollection#next()}
+ * and {@link ConcurrentWeightedCollection#toSet()} work over the last published snapshot using {@link ThreadLocalRandom},
+ * so no random source is shared among threads. That is why this collection fits well when reads are much more frequent
+ * than writes, every one of them costs O(n).
+ *
+ * @param <T>
+ *     Elements stored in the collection
+ */
+public class ConcurrentWeightedCollection<T> {
+
+    private final AtomicReference<Snapshot<T>> snapshot;
+
+
+    private ConcurrentWeightedCollection() {
+        this.snapshot = new AtomicReference<>(Snapshot.empty());
+    }
+
+    public static <T> ConcurrentWeightedCollection<T> of() {
+        return new ConcurrentWeightedCollection<>();
+    }
+
+
+    /**
+     * Include a new weighted element in the collection. If {@code toInsert} already exists, its weight will be replaced.
+     *
+     * @param weight
+     *    Weight value related with {@code toInsert}
+     * @param toInsert
+     *    New element to insert
+     */
+    public void add(int weight, T toInsert) {
+        checkWeight(weight);
+        if (null == toInsert) {
+            throw new IllegalArgumentException("toInsert must not be null");
+        }
+        update(current -> current.with(Collections.singletonMap(toInsert, weight)));
+    }
+
+
+    /**
+     *    Include or replace several weighted elements in the collection, publishing only one new snapshot. Recommended
+     * when several weights have to be modified at the same time.
+     *
+     * @param weightedElements
+     *    {@link Map} with the elements to insert and their weights
+     */
+    public void addAll(Map<T, Integer> weightedElements) {
+        if (null == weightedElements || weightedElements.isEmpty()) {
+            return;
+        }
+        weightedElements.forEach((element, weight) -> {
+            checkWeight(null == weight ? 0 : weight);
+            if (null == element) {
+                throw new IllegalArgumentException("weightedElements must not contain null elements");
+            }
+        });
+        Map<T, Integer> copy = new LinkedHashMap<>(weightedElements);
+        update(current -> current.with(copy));
+    }
+
+
+    /**
+     * Return the current weight of the given {@code element}.
+     *
+     * @param element
+     *    Element to search
+     *
+     * @return {@link Optional} with the weight of {@code element} if it was found, {@link Optional#empty()} otherwise
+     */
+    public Optional<Integer> getWeight(T element) {
+        return ofNullable(snapshot.get().weights.get(element));
+    }
+
+
+    /**
+     * Return {@code true} if the collection has no elements, {@code false} otherwise.
+     */
+    public boolean isEmpty() {
+        return 0 == size();
+    }
+
+
+    /**
+     *    Return one of the stored elements taking into account their related "weight values". It is important to take into account that
+     * in every invocation, all stored elements will be used to return a new one (in a randomly way), so it is possible getting same
+     * elements more than once.
+     *
+     * @return {@link Optional} of {@code E}
+     */
+    public Optional<T> next() {
+        return ofNullable(snapshot.get().aliasTable.next(ThreadLocalRandom.current()));
+    }
+
+
+    /**
+     * Remove the given element from the current collection.
+     *
+     * @param toRemove
+     *    Element to remove
+     *
+     * @return {@code true} if {@code toRemove} was found and removed, {@code false} otherwise
+     */
+    public boolean remove(T toRemove) {
+        return update(current -> current.without(toRemove));
+    }
+
+
+    /**
+     * Return the number of stored elements in {@link ConcurrentWeightedCollection}
+     */
+    public int size() {
+        return snapshot.get().weights.size();
+    }
+
+
+    /**
+     *    Return a weighted {@link Set} of the elements included in the {@link ConcurrentWeightedCollection}. Every new element inserted in
+     * the returned {@link Set} will be weighted against the elements of the {@link ConcurrentWeightedCollection} not included on it.
+     *
+     * @return weighted {@link Set} of the elements in the collection
+     */
+    public Set<T> toSet() {
+        Snapshot<T> current = snapshot.get();
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+
+        // Weighted random permutation sorting by exponential keys with rate = weight
+        int numberOfElements = current.elements.size();
+        double[] keys = new double[numberOfElements];
+        Integer[] positions = new Integer[numberOfElements];
+        for (int i = 0; i < numberOfElements; i++) {
+            keys[i] = -Math.log(1.0 - random.nextDouble()) / current.weights.get(current.elements.get(i));
+            positions[i] = i;
+        }
+        Arrays.sort(positions, (p1, p2) -> Double.compare(keys[p1], keys[p2]));
+
+        Set<T> result = new LinkedHashSet<>();
+        for (Integer position : positions) {
+            result.add(current.elements.get(position));
+        }
+        return result;
+    }
+
+
+    /**
+     * Modify the weight of an existing element.
+     *
+     * @param element
+     *    Element to update
+     * @param newWeight
+     *    New weight value related with {@code element}
+     *
+     * @return {@code true} if {@code element} was found and updated, {@code false} otherwise
+     */
+    public boolean updateWeight(T element, int newWeight) {
+        checkWeight(newWeight);
+        return update(current ->
+                current.weights.containsKey(element)
+                        ? current.with(Collections.singletonMap(element, newWeight))
+                        : current
+        );
+    }
+
+
+    private void checkWeight(int weight) {
+        if (0 >= weight) {
+            throw new IllegalArgumentException("weight should be a positive value");
+        }
+    }
+
+
+    /**
+     * Publish the snapshot returned by {@code updater}, retrying if other writer published a new one in the meantime.
+     *
+     * @return {@code true} if a new snapshot was published, {@code false} if {@code updater} returned the current one
+     */
+    private boolean update(UnaryOperator<Snapshot<T>> updater) {
+        while (true) {
+            Snapshot<T> current = snapshot.get();
+            Snapshot<T> next = updater.apply(current);
+            if (next == current) {
+                return false;
+            }
+            if (snapshot.compareAndSet(current, next)) {
+                return true;
+            }
+        }
+    }
+
+
+    /**
+     * Immutable state of the collection used by readers.
+     */
+    private static final class Snapshot<T> {
+
+        private static final Snapshot<?> EMPTY = new Snapshot<>(Collections.emptyMap());
+
+        private final Map<T, Integer> weights;
+        private final List<T> elements;
+        private final AliasTable<T> aliasTable;
+
+
+        private Snapshot(Map<T, Integer> weights) {
+            this.weights = weights;
+            this.elements = Collections.unmodifiableList(new ArrayList<>(weights.keySet()));
+
+            int[] elementWeights = new int[elements.size()];
+            long totalWeight = 0;
+            for (int i = 0; i < elements.size(); i++) {
+                elementWeights[i] = weights.get(elements.get(i));
+                totalWeight += elementWeights[i];
+            }
+            this.aliasTable = new AliasTable<>(elements, elementWeights, totalWeight);
+        }
+
+        static <T> Snapshot<T> empty() {
+            return (Snapshot<T>) EMPTY;
+        }
+
+        Snapshot<T> with(Map<T, Integer> newWeights) {
+            Map<T, Integer> result = new LinkedHashMap<>(weights);
+            result.putAll(newWeights);
+            return new Snapshot<>(Collections.unmodifiableMap(result));
+        }
+
+        Snapshot<T> without(T element) {
+            if (!weights.containsKey(element)) {
+                return this;
+            }
+            Map<T, Integer> result = new LinkedHashMap<>(weights);
+            result.remove(element);
+            return new Snapshot<>(Collections.unmodifiableMap(result));
+        }
+    }
+
+}
@@ -0,0 +1,267 @@
+package com.common.collection;
+
+import java.security.SecureRandom;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+
+import static java.util.Optional.empty;
+import static java.util.Optional.ofNullable;
+
+/**
+ *    Collection used to work with a weighted list of unique elements, every one related with an specific weight value
+ * that could be modified at any time.
+ *
+ *    Unlike {@link WeightedCollection}, weights are stored in a binary indexed tree (Fenwick tree), so {@code add},
+ * {@code updateWeight}, {@code remove} and {@code next} take O(log n) time, without rebuilding the collection.
+ *
+ * @param <T>
+ *     Elements stored in the collection
+ */
+public class DynamicWeightedCollection<T> {
+
+    private static final int DEFAULT_INITIAL_CAPACITY = 16;
+
+    private final SecureRandom randomElementSelector;
+
+    // Element's slot in the arrays below
+    private final Map<T, Integer> slotByElement;
+
+    // 1-based binary indexed tree with the partial sums of the weights
+    private long[] tree;
+    private int[] weights;
+    private Object[] elements;
+
+    // Slots released by remove, reused by the next insertions
+    private int[] freeSlots;
+    private int numberOfFreeSlots;
+
+    private int usedSlots;
+    private long totalWeight;
+
+
+    private DynamicWeightedCollection(SecureRandom randomElementSelector, int initialCapacity) {
+        this.randomElementSelector = randomElementSelector;
+        this.slotByElement = new HashMap<>();
+        this.tree = new long[initialCapacity + 1];
+        this.weights = new int[initialCapacity + 1];
+        this.elements = new Object[initialCapacity + 1];
+        this.freeSlots = new int[initialCapacity];
+        this.numberOfFreeSlots = 0;
+        this.usedSlots = 0;
+        this.totalWeight = 0;
+    }
+
+    public static <T> DynamicWeightedCollection<T> of(SecureRandom randomElementSelector) {
+        return of(randomElementSelector, DEFAULT_INITIAL_CAPACITY);
+    }
+
+    public static <T> DynamicWeightedCollection<T> of(SecureRandom randomElementSelector, int initialCapacity) {
+        if (null == randomElementSelector) {
+            throw new IllegalArgumentException("randomElementSelector must not be null");
+        }
+        if (0 >= initialCapacity) {
+            throw new IllegalArgumentException("initialCapacity should be a positive value");
+        }
+        return new DynamicWeightedCollection<>(randomElementSelector, initialCapacity);
+    }
+
+
+    /**
+     * Include a new weighted element in the collection. If {@code toInsert} already exists, its weight will be replaced.
+     *
+     * @param weight
+     *    Weight value related with {@code toInsert}
+     * @param toInsert
+     *    New element to insert
+     */
+    public void add(int weight, T toInsert) {
+        checkWeight(weight);
+        if (null == toInsert) {
+            throw new IllegalArgumentException("toInsert must not be null");
+        }
+        Integer slot = slotByElement.get(toInsert);
+        if (null != slot) {
+            setWeight(slot, weight);
+            return;
+        }
+        slot = 0 < numberOfFreeSlots
+                ? freeSlots[--numberOfFreeSlots]
+                : nextNewSlot();
+
+        elements[slot] = toInsert;
+        slotByElement.put(toInsert, slot);
+        setWeight(slot, weight);
+    }
+
+
+    /**
+     * Check if the given {@code element} is included in the collection.
+     *
+     * @param element
+     *    Element to search
+     *
+     * @return {@code true} if {@code element} is included, {@code false} otherwise
+     */
+    public boolean contains(T element) {
+        return slotByElement.containsKey(element);
+    }
+
+
+    /**
+     * Return the current weight of the given {@code element}.
+     *
+     * @param element
+     *    Element to search
+     *
+     * @return {@link Optional} with the weight of {@code element} if it was found, {@link Optional#empty()} otherwise
+     */
+    public Optional<Integer> getWeight(T element) {
+        return ofNullable(slotByElement.get(element))
+                .map(slot -> weights[slot]);
+    }
+
+
+    /**
+     * Return {@code true} if the collection has no elements, {@code false} otherwise.
+     */
+    public boolean isEmpty() {
+        return 0 == size();
+    }
+
+
+    /**
+     *    Return one of the stored elements taking into account their related "weight values". It is important to take into account that
+     * in every invocation, all stored elements will be used to return a new one (in a randomly way), so it is possible getting same
+     * elements more than once.
+     *
+     * @return {@link Optional} of {@code E}
+     */
+    public Optional<T> next() {
+        if (0 == totalWeight) {
+            return empty();
+        }
+        long value = Integer.MAX_VALUE >= totalWeight
+                ? randomElementSelector.nextInt((int) totalWeight)
+                : Math.min(totalWeight - 1, (long) (randomElementSelector.nextDouble() * totalWeight));
+
+        return Optional.of((T) elements[findSlot(value)]);
+    }
+
+
+    /**
+     * Remove the given element from the current collection.
+     *
+     * @param toRemove
+     *    Element to remove
+     *
+     * @return {@code true} if {@code toRemove} was found and removed, {@code false} otherwise
+     */
+    public boolean remove(T toRemove) {
+        Integer slot = slotByElement.remove(toRemove);
+        if (null == slot) {
+            return false;
+        }
+        setWeight(slot, 0);
+        elements[slot] = null;
+        freeSlots[numberOfFreeSlots++] = slot;
+        return true;
+    }
+
+
+    /**
+     * Return the number of stored elements in {@link DynamicWeightedCollection}
+     */
+    public int size() {
+        return slotByElement.size();
+    }
+
+
+    /**
+     * Return the sum of the weights of the stored elements.
+     */
+    public long totalWeight() {
+        return totalWeight;
+    }
+
+
+    /**
+     * Modify the weight of an existing element.
+     *
+     * @param element
+     *    Element to update
+     * @param newWeight
+     *    New weight value related with {@code element}
+     *
+     * @return {@code true} if {@code element} was found and updated, {@code false} otherwise
+     */
+    public boolean updateWeight(T element, int newWeight) {
+        checkWeight(newWeight);
+        Integer slot = slotByElement.get(element);
+        if (null == slot) {
+            return false;
+        }
+        setWeight(slot, newWeight);
+        return true;
+    }
+
+
+    private void checkWeight(int weight) {
+        if (0 >= weight) {
+            throw new IllegalArgumentException("weight should be a positive value");
+        }
+    }
+
+
+    /**
+     * Find the first slot whose accumulated weight is greater than {@code value}, using binary lifting over the tree.
+     */
+    private int findSlot(long value) {
+        int position = 0;
+        long remaining = value;
+        for (int step = Integer.highestOneBit(usedSlots); 0 < step; step >>= 1) {
+            int nextPosition = position + step;
+            if (nextPosition <= usedSlots && tree[nextPosition] <= remaining) {
+                position = nextPosition;
+                remaining -= tree[nextPosition];
+            }
+        }
+        return position + 1;
+    }
+
+
+    /**
+     * Return a never used slot, resizing the internal arrays if required.
+     */
+    private int nextNewSlot() {
+        if (usedSlots + 1 == tree.length) {
+            int newCapacity = 2 * (tree.length - 1);
+            weights = Arrays.copyOf(weights, newCapacity + 1);
+            elements = Arrays.copyOf(elements, newCapacity + 1);
+            freeSlots = Arrays.copyOf(freeSlots, newCapacity);
+
+            // Rebuild the tree in O(n)
+            tree = new long[newCapacity + 1];
+            for (int i = 1; i <= newCapacity; i++) {
+                tree[i] += weights[i];
+                int parent = i + (i & -i);
+                if (parent <= newCapacity) {
+                    tree[parent] += tree[i];
+                }
+            }
+        }
+        return ++usedSlots;
+    }
+
+
+    private void setWeight(int slot, int weight) {
+        long delta = weight - weights[slot];
+        weights[slot] = weight;
+        totalWeight += delta;
+        for (int i = slot; i < tree.length; i += i & -i) {
+            tree[i] += delta;
+        }
+    }
+
+}
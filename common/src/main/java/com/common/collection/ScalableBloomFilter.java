@@ -0,0 +1,272 @@
+package com.common.collection;
+
+import org.springframework.util.Assert;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ *    Probabilistic set that answers if an element was (probably) added before, using a fixed number of bits by element
+ * instead of storing it. It never returns false negatives, but {@link ScalableBloomFilter#mightContain(Object)} could
+ * return {@code true} for an element never added, with a probability lower than the configured one.
+ *
+ *    It is a scalable Bloom filter (Almeida et al.): when the current filter reaches its capacity, a new one with double
+ * capacity and half false positive probability is added, so the total false positive probability is bounded by the
+ * configured one however many elements are added. The bits are updated atomically, so it is thread-safe without locks,
+ * but two threads adding the same new element at the same time could both receive {@code true}.
+ *
+ *    {@link CharSequence} and integral {@link Number} elements are hashed using all their content, the other ones using
+ * their {@link Object#hashCode()}.
+ */
+public class ScalableBloomFilter {
+
+    // Capacity of every new stage compared with the previous one
+    private static final int GROWTH_FACTOR = 2;
+
+    // False positive probability of every new stage compared with the previous one
+    private static final double TIGHTENING_RATIO = 0.5;
+
+    private final double falsePositiveProbability;
+
+    private volatile Stage[] stages;
+
+
+    /**
+     * Create a new filter.
+     *
+     * @param initialCapacity
+     *    Number of elements of the first stage, the following ones double it
+     * @param falsePositiveProbability
+     *    Maximum probability of returning {@code true} for an element never added
+     *
+     * @throws IllegalArgumentException if {@code initialCapacity} is not positive or {@code falsePositiveProbability}
+     *                                  is not in (0, 1)
+     */
+    public ScalableBloomFilter(final int initialCapacity, final double falsePositiveProbability) {
+        Assert.isTrue(0 < initialCapacity, "initialCapacity must be greater than 0");
+        Assert.isTrue(0 < falsePositiveProbability && 1 > falsePositiveProbability,
+                "falsePositiveProbability must be greater than 0 and less than 1");
+        this.falsePositiveProbability = falsePositiveProbability;
+        // The sum of the probabilities of all stages: p * (1 - r) * (1 + r + r^2 + ...) converges to p
+        this.stages = new Stage[] {
+                new Stage(initialCapacity, falsePositiveProbability * (1 - TIGHTENING_RATIO))
+        };
+    }
+
+
+    /**
+     * Include the given {@code element}.
+     *
+     * @param element
+     *    Element to include
+     *
+     * @return {@code true} if {@code element} was not included before, {@code false} if it was probably included
+     */
+    public boolean add(final Object element) {
+        long hash = hash(element);
+        Stage[] current = stages;
+        int lastIndex = current.length - 1;
+        // Newest stage first, usually duplicated elements are close to their original ones
+        Stage last = current[lastIndex];
+        if (last.mightContain(hash)) {
+            return false;
+        }
+        for (int i = lastIndex - 1; i >= 0; i--) {
+            if (current[i].mightContain(hash)) {
+                return false;
+            }
+        }
+        if (!last.put(hash)) {
+            return false;
+        }
+        if (last.incrementAndCheckIsFull()) {
+            grow(last);
+        }
+        return true;
+    }
+
+
+    /**
+     * Check if the given {@code element} was probably included.
+     *
+     * @param element
+     *    Element to check
+     *
+     * @return {@code false} if {@code element} was never included, {@code true} if it was probably included
+     */
+    public boolean mightContain(final Object element) {
+        long hash = hash(element);
+        Stage[] current = stages;
+        for (int i = current.length - 1; i >= 0; i--) {
+            if (current[i].mightContain(hash)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+
+    /**
+     * Returns the number of elements included, that could be less than the real one due to the false positives.
+     */
+    public long approximateElementCount() {
+        long count = 0;
+        for (Stage stage : stages) {
+            count += stage.count.get();
+        }
+        return count;
+    }
+
+
+    /**
+     * Returns the number of bits used to store the included elements.
+     */
+    public long bitSize() {
+        long bitSize = 0;
+        for (Stage stage : stages) {
+            bitSize += stage.numberOfBits;
+        }
+        return bitSize;
+    }
+
+
+    public double getFalsePositiveProbability() {
+        return falsePositiveProbability;
+    }
+
+
+    /**
+     * Add a new stage if {@code full} is still the last one.
+     */
+    private synchronized void grow(final Stage full) {
+        Stage[] current = stages;
+        if (current[current.length - 1] != full) {
+            return;
+        }
+        Stage[] newStages = new Stage[current.length + 1];
+        System.arraycopy(current, 0, newStages, 0, current.length);
+        newStages[current.length] = new Stage(
+                full.capacity * GROWTH_FACTOR,
+                full.falsePositiveProbability * TIGHTENING_RATIO
+        );
+        stages = newStages;
+    }
+
+
+    /**
+     * 64 bits hash of the given {@code element}, using all its content when it is a {@link CharSequence} or an integral number.
+     */
+    private static long hash(final Object element) {
+        if (null == element) {
+            return mix(0);
+        }
+        if (element instanceof CharSequence) {
+            // FNV-1a
+            CharSequence chars = (CharSequence) element;
+            long hash = 0xCBF29CE484222325L;
+            for (int i = 0; i < chars.length(); i++) {
+                hash ^= chars.charAt(i);
+                hash *= 0x100000001B3L;
+            }
+            return mix(hash);
+        }
+        if (element instanceof Long || element instanceof Integer || element instanceof Short || element instanceof Byte) {
+            return mix(((Number) element).longValue());
+        }
+        return mix(element.hashCode());
+    }
+
+
+    /**
+     * Finalization step of MurmurHash3, spreading every bit of {@code value} to all the result ones.
+     */
+    private static long mix(long value) {
+        value ^= value >>> 33;
+        value *= 0xFF51AFD7ED558CCDL;
+        value ^= value >>> 33;
+        value *= 0xC4CEB9FE1A85EC53L;
+        value ^= value >>> 33;
+        return value;
+    }
+
+
+
+    /**
+     *    Classic Bloom filter with the number of bits and hash functions required to store {@code capacity} elements
+     * with the given {@code falsePositiveProbability}. The positions of every element are calculated by double hashing
+     * (Kirsch and Mitzenmacher), so only one 64 bits hash is required.
+     */
+    private static final class Stage {
+
+        private final long capacity;
+        private final double falsePositiveProbability;
+        private final long numberOfBits;
+        private final int numberOfHashFunctions;
+        private final AtomicLongArray bits;
+        private final AtomicLong count;
+
+        private Stage(final long capacity, final double falsePositiveProbability) {
+            this.capacity = capacity;
+            this.falsePositiveProbability = falsePositiveProbability;
+            long optimalBits = (long) Math.ceil(-capacity * Math.log(falsePositiveProbability) / (Math.log(2) * Math.log(2)));
+            this.numberOfBits = Math.max(Long.SIZE, (optimalBits + Long.SIZE - 1) & -Long.SIZE);
+            this.numberOfHashFunctions = Math.max(1, (int) Math.round((double) numberOfBits / capacity * Math.log(2)));
+            this.bits = new AtomicLongArray(Math.toIntExact(numberOfBits / Long.SIZE));
+            this.count = new AtomicLong(0);
+        }
+
+        /**
+         * @return {@code true} if any bit changed, that is, the element was not included before
+         */
+        private boolean put(final long hash) {
+            long secondHash = Long.rotateLeft(hash, 32) | 1;
+            boolean isChanged = false;
+            for (int i = 0; i < numberOfHashFunctions; i++) {
+                isChanged |= setBit(index(hash + i * secondHash));
+            }
+            return isChanged;
+        }
+
+        private boolean mightContain(final long hash) {
+            long secondHash = Long.rotateLeft(hash, 32) | 1;
+            for (int i = 0; i < numberOfHashFunctions; i++) {
+                long index = index(hash + i * secondHash);
+                if (0 == (bits.get((int) (index >>> 6)) & (1L << index))) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        private boolean incrementAndCheckIsFull() {
+            return count.incrementAndGet() >= capacity;
+        }
+
+        /**
+         * Maps {@code hash} to [0, numberOfBits) using its high bits, without the cost of a division.
+         */
+        private long index(final long hash) {
+            return Math.multiplyHigh(hash >>> 1, numberOfBits << 1);
+        }
+
+        /**
+         * @return {@code true} if the bit was not set before
+         */
+        private boolean setBit(final long index) {
+            int word = (int) (index >>> 6);
+            long mask = 1L << index;
+            long current = bits.get(word);
+            if (0 != (current & mask)) {
+                return false;
+            }
+            while (!bits.compareAndSet(word, current, current | mask)) {
+                current = bits.get(word);
+                if (0 != (current & mask)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+
+}
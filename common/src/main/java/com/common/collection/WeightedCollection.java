@@ -1,7 +1,10 @@
 package com.common.collection;
 
 import java.security.SecureRandom;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.NavigableMap;
 import java.util.Optional;
@@ -13,6 +16,9 @@ import static java.util.Optional.empty;
 /**
  * Collection used to work with a weighted list of elements, every one related with an specific weight value.
  *
+ *    Random selections in {@link WeightedCollection#next()} use the alias method (Vose's version), so they take
+ * constant time. The required tables are built the first time they are needed after any modification.
+ *
  * @param <T>
  *     Elements stored in the collection
  */
@@ -22,6 +28,8 @@ public class WeightedCollection<T> {
     private final NavigableMap<Integer, T> weightedMap;
     private int totalWeight;
 
+    // Used to select random elements, null when it has to be rebuilt
+    private AliasTable<T> aliasTable;
 
     private WeightedCollection() {
         this.weightedMap = new TreeMap<>();
@@ -55,6 +63,7 @@ public class WeightedCollection<T> {
         }
         totalWeight += weight;
         weightedMap.put(totalWeight, toInsert);
+        aliasTable = null;
     }
 
 
@@ -109,15 +118,31 @@ public class WeightedCollection<T> {
      * @return weighted {@link Set} of the elements in the collection
      */
     public Set<T> toSet() {
-        Set<T> result = new LinkedHashSet<>();
-        WeightedCollection<T> copy = clone();
+        if (weightedMap.isEmpty()) {
+            return new LinkedHashSet<>();
+        }
+        // Weighted random permutation: sorting by exponential keys with rate = weight is equivalent to choose,
+        // one by one, the remaining elements using their weights. If the same element was included several
+        // times, its first appearance follows the distribution of the sum of its weights.
+        int numberOfElements = size();
+        double[] keys = new double[numberOfElements];
+        List<T> elements = new ArrayList<>(numberOfElements);
+        Integer[] positions = new Integer[numberOfElements];
+
+        int previousAccumulated = 0;
+        for (Map.Entry<Integer, T> entry : weightedMap.entrySet()) {
+            int position = elements.size();
+            int weight = entry.getKey() - previousAccumulated;
+            keys[position] = -Math.log(1.0 - randomElementSelector.nextDouble()) / weight;
+            positions[position] = position;
+            elements.add(entry.getValue());
+            previousAccumulated = entry.getKey();
+        }
+        Arrays.sort(positions, (p1, p2) -> Double.compare(keys[p1], keys[p2]));
 
-        for (int i = 0; i < size(); i++) {
-            Optional<T> nextValue = copy.next();
-            if (nextValue.isPresent()) {
-                copy = copy.removeAndThen(nextValue.get());
-                result.add(nextValue.get());
-            }
+        Set<T> result = new LinkedHashSet<>();
+        for (Integer position : positions) {
+            result.add(elements.get(position));
         }
         return result;
     }
@@ -134,8 +159,10 @@ public class WeightedCollection<T> {
         if (weightedMap.isEmpty()) {
             return empty();
         }
-        int value = randomElementSelector.nextInt(totalWeight);
-        return Optional.of(weightedMap.higherEntry(value).getValue());
+        if (null == aliasTable) {
+            aliasTable = buildAliasTable();
+        }
+        return Optional.of(aliasTable.next(randomElementSelector));
     }
 
 
@@ -179,4 +206,17 @@ public class WeightedCollection<T> {
         return result;
     }
 
+
+    private AliasTable<T> buildAliasTable() {
+        List<T> elements = new ArrayList<>(size());
+        int[] weights = new int[size()];
+        int previousAccumulated = 0;
+        for (Map.Entry<Integer, T> entry : weightedMap.entrySet()) {
+            weights[elements.size()] = entry.getKey() - previousAccumulated;
+            elements.add(entry.getValue());
+            previousAccumulated = entry.getKey();
+        }
+        return new AliasTable<>(elements, weights, totalWeight);
+    }
+
 }
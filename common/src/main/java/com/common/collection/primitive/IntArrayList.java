@@ -0,0 +1,249 @@
+package com.common.collection.primitive;
+
+import org.springframework.util.Assert;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.IntConsumer;
+import java.util.stream.IntStream;
+
+/**
+ *    {@link List} alternative with {@code int} elements, backed by a growing {@code int[]}, that avoids boxing them. This
+ * class is not thread-safe.
+ */
+public class IntArrayList {
+
+    private static final int DEFAULT_CAPACITY = 10;
+
+    private static final int[] EMPTY = {};
+
+    private int[] elements;
+    private int size;
+
+
+    public IntArrayList() {
+        this(DEFAULT_CAPACITY);
+    }
+
+
+    /**
+     * Create a new list able to store {@code initialCapacity} elements without resizing.
+     *
+     * @param initialCapacity
+     *    Number of elements to store
+     *
+     * @throws IllegalArgumentException if {@code initialCapacity} is negative
+     */
+    public IntArrayList(final int initialCapacity) {
+        Assert.isTrue(0 <= initialCapacity, "initialCapacity must be equal or greater than 0");
+        this.elements = 0 == initialCapacity
+                ? EMPTY
+                : new int[initialCapacity];
+        this.size = 0;
+    }
+
+
+    /**
+     * Return a new {@link IntArrayList} with the provided {@code elements}.
+     *
+     * @param elements
+     *    Elements to include
+     *
+     * @return {@link IntArrayList}
+     */
+    public static IntArrayList of(final int ...elements) {
+        if (null == elements) {
+            return new IntArrayList();
+        }
+        IntArrayList result = new IntArrayList(elements.length);
+        System.arraycopy(elements, 0, result.elements, 0, elements.length);
+        result.size = elements.length;
+        return result;
+    }
+
+
+    public int size() {
+        return size;
+    }
+
+
+    public boolean isEmpty() {
+        return 0 == size;
+    }
+
+
+    /**
+     * Append the given {@code element} at the end of this list.
+     */
+    public void add(final int element) {
+        if (size == elements.length) {
+            grow(size + 1);
+        }
+        elements[size++] = element;
+    }
+
+
+    /**
+     * Append all the given {@code toAdd} at the end of this list.
+     */
+    public void addAll(final int ...toAdd) {
+        if (null == toAdd) {
+            return;
+        }
+        if (size + toAdd.length > elements.length) {
+            grow(size + toAdd.length);
+        }
+        System.arraycopy(toAdd, 0, elements, size, toAdd.length);
+        size += toAdd.length;
+    }
+
+
+    /**
+     * @throws IndexOutOfBoundsException if {@code index} is out of range
+     */
+    public int get(final int index) {
+        checkIndex(index);
+        return elements[index];
+    }
+
+
+    /**
+     * Replace the element in the position {@code index}.
+     *
+     * @return the previous element
+     *
+     * @throws IndexOutOfBoundsException if {@code index} is out of range
+     */
+    public int set(final int index, final int element) {
+        checkIndex(index);
+        int previous = elements[index];
+        elements[index] = element;
+        return previous;
+    }
+
+
+    /**
+     * Remove the element in the position {@code index}, moving back the following ones.
+     *
+     * @return the removed element
+     *
+     * @throws IndexOutOfBoundsException if {@code index} is out of range
+     */
+    public int removeAt(final int index) {
+        checkIndex(index);
+        int removed = elements[index];
+        System.arraycopy(elements, index + 1, elements, index, size - index - 1);
+        size--;
+        return removed;
+    }
+
+
+    /**
+     * Return the position of the first occurrence of {@code element}, or -1 if it is not included.
+     */
+    public int indexOf(final int element) {
+        for (int i = 0; i < size; i++) {
+            if (element == elements[i]) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+
+    public boolean contains(final int element) {
+        return 0 <= indexOf(element);
+    }
+
+
+    public void clear() {
+        size = 0;
+    }
+
+
+    /**
+     * Sort the elements of this list in ascending order.
+     */
+    public void sort() {
+        Arrays.sort(elements, 0, size);
+    }
+
+
+    /**
+     * Perform the given {@code action} for every element, in order.
+     *
+     * @throws IllegalArgumentException if {@code action} is {@code null}
+     */
+    public void forEach(final IntConsumer action) {
+        Assert.notNull(action, "action must be not null");
+        for (int i = 0; i < size; i++) {
+            action.accept(elements[i]);
+        }
+    }
+
+
+    public int[] toArray() {
+        return Arrays.copyOf(elements, size);
+    }
+
+
+    public IntStream stream() {
+        return Arrays.stream(elements, 0, size);
+    }
+
+
+    /**
+     * Return a new {@link ArrayList} with the elements of this list, to interact with APIs that require a {@link List}.
+     */
+    public List<Integer> toList() {
+        List<Integer> result = new ArrayList<>(size);
+        forEach(result::add);
+        return result;
+    }
+
+
+    @Override
+    public boolean equals(final Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof IntArrayList)) {
+            return false;
+        }
+        IntArrayList other = (IntArrayList) o;
+        return size == other.size &&
+                Arrays.equals(elements, 0, size, other.elements, 0, other.size);
+    }
+
+
+    @Override
+    public int hashCode() {
+        // Same value than List<Integer> with the same elements
+        int hashCode = 1;
+        for (int i = 0; i < size; i++) {
+            hashCode = 31 * hashCode + elements[i];
+        }
+        return hashCode;
+    }
+
+
+    @Override
+    public String toString() {
+        return Arrays.toString(toArray());
+    }
+
+
+    private void checkIndex(final int index) {
+        if (0 > index || index >= size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", size: " + size);
+        }
+    }
+
+
+    private void grow(final int minCapacity) {
+        int newCapacity = Math.max(minCapacity, elements.length + (elements.length >> 1));
+        elements = Arrays.copyOf(elements, Math.max(DEFAULT_CAPACITY, newCapacity));
+    }
+
+}
@@ -0,0 +1,284 @@
+package com.common.collection.primitive;
+
+import org.springframework.util.Assert;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.function.IntConsumer;
+import java.util.stream.IntStream;
+
+import static com.common.collection.primitive.PrimitiveHashing.DEFAULT_EXPECTED_SIZE;
+import static com.common.collection.primitive.PrimitiveHashing.MAX_CAPACITY;
+import static com.common.collection.primitive.PrimitiveHashing.canMoveToGap;
+import static com.common.collection.primitive.PrimitiveHashing.capacityFor;
+import static com.common.collection.primitive.PrimitiveHashing.mix;
+import static com.common.collection.primitive.PrimitiveHashing.resizeThreshold;
+
+/**
+ *    {@link Set} alternative with {@code int} elements, that avoids boxing them and the node allocated by every element
+ * of {@link HashSet}. The elements are stored in an array using open addressing with linear probing, and the removals
+ * move back the following elements instead of leaving tombstones.
+ *
+ *    The element {@code 0} marks the free slots, so it is tracked outside the array. This class is not thread-safe.
+ */
+public class IntHashSet {
+
+    private static final int FREE_ELEMENT = 0;
+
+    private int[] elements;
+    private int mask;
+    private int resizeThreshold;
+
+    // Number of elements stored in the array, that is, not including FREE_ELEMENT
+    private int arraySize;
+
+    private boolean hasFreeElement;
+
+
+    public IntHashSet() {
+        this(DEFAULT_EXPECTED_SIZE);
+    }
+
+
+    /**
+     * Create a new set able to store {@code expectedSize} elements without resizing.
+     *
+     * @param expectedSize
+     *    Number of elements to store
+     *
+     * @throws IllegalArgumentException if {@code expectedSize} is negative
+     */
+    public IntHashSet(final int expectedSize) {
+        allocate(capacityFor(expectedSize));
+    }
+
+
+    /**
+     * Return a new {@link IntHashSet} with the provided {@code elements}.
+     *
+     * @param elements
+     *    Elements to include
+     *
+     * @return {@link IntHashSet}
+     */
+    public static IntHashSet of(final int ...elements) {
+        if (null == elements) {
+            return new IntHashSet();
+        }
+        IntHashSet result = new IntHashSet(elements.length);
+        for (int element : elements) {
+            result.add(element);
+        }
+        return result;
+    }
+
+
+    public int size() {
+        return arraySize + (hasFreeElement ? 1 : 0);
+    }
+
+
+    public boolean isEmpty() {
+        return 0 == size();
+    }
+
+
+    public boolean contains(final int element) {
+        if (FREE_ELEMENT == element) {
+            return hasFreeElement;
+        }
+        return 0 <= slotOf(element);
+    }
+
+
+    /**
+     * Include the given {@code element}.
+     *
+     * @return {@code true} if {@code element} was not included yet, {@code false} otherwise
+     *
+     * @throws IllegalStateException if the set has reached its maximum capacity
+     */
+    public boolean add(final int element) {
+        if (FREE_ELEMENT == element) {
+            boolean isNew = !hasFreeElement;
+            hasFreeElement = true;
+            return isNew;
+        }
+        int slot = mix(element) & mask;
+        while (FREE_ELEMENT != elements[slot]) {
+            if (element == elements[slot]) {
+                return false;
+            }
+            slot = (slot + 1) & mask;
+        }
+        if (arraySize == resizeThreshold) {
+            rehash();
+            return add(element);
+        }
+        elements[slot] = element;
+        arraySize++;
+        return true;
+    }
+
+
+    /**
+     * Remove the given {@code element}.
+     *
+     * @return {@code true} if {@code element} was included, {@code false} otherwise
+     */
+    public boolean remove(final int element) {
+        if (FREE_ELEMENT == element) {
+            boolean wasIncluded = hasFreeElement;
+            hasFreeElement = false;
+            return wasIncluded;
+        }
+        int slot = slotOf(element);
+        if (0 > slot) {
+            return false;
+        }
+        shiftBack(slot);
+        arraySize--;
+        return true;
+    }
+
+
+    public void clear() {
+        Arrays.fill(elements, FREE_ELEMENT);
+        arraySize = 0;
+        hasFreeElement = false;
+    }
+
+
+    /**
+     * Perform the given {@code action} for every element, in no particular order.
+     *
+     * @throws IllegalArgumentException if {@code action} is {@code null}
+     */
+    public void forEach(final IntConsumer action) {
+        Assert.notNull(action, "action must be not null");
+        if (hasFreeElement) {
+            action.accept(FREE_ELEMENT);
+        }
+        for (int element : elements) {
+            if (FREE_ELEMENT != element) {
+                action.accept(element);
+            }
+        }
+    }
+
+
+    /**
+     * Return the elements of this set, in no particular order.
+     */
+    public int[] toArray() {
+        int[] result = new int[size()];
+        int[] index = { 0 };
+        forEach(e -> result[index[0]++] = e);
+        return result;
+    }
+
+
+    public IntStream stream() {
+        return IntStream.of(toArray());
+    }
+
+
+    @Override
+    public boolean equals(final Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof IntHashSet)) {
+            return false;
+        }
+        IntHashSet other = (IntHashSet) o;
+        if (size() != other.size()) {
+            return false;
+        }
+        if (hasFreeElement != other.hasFreeElement) {
+            return false;
+        }
+        for (int element : elements) {
+            if (FREE_ELEMENT != element && !other.contains(element)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+
+    @Override
+    public int hashCode() {
+        // Same value than Set<Integer> with the same elements
+        int hashCode = 0;
+        for (int element : elements) {
+            hashCode += element;
+        }
+        return hashCode;
+    }
+
+
+    @Override
+    public String toString() {
+        return Arrays.toString(toArray());
+    }
+
+
+    /**
+     * Return the slot that contains {@code element}, or -1 if it is not included.
+     */
+    private int slotOf(final int element) {
+        int slot = mix(element) & mask;
+        while (FREE_ELEMENT != elements[slot]) {
+            if (element == elements[slot]) {
+                return slot;
+            }
+            slot = (slot + 1) & mask;
+        }
+        return -1;
+    }
+
+
+    /**
+     * Fill the free {@code slot} moving back the following elements that belong to a previous position.
+     */
+    private void shiftBack(final int slot) {
+        int gap = slot;
+        int current = (slot + 1) & mask;
+        while (FREE_ELEMENT != elements[current]) {
+            if (canMoveToGap(current, mix(elements[current]) & mask, gap, mask)) {
+                elements[gap] = elements[current];
+                gap = current;
+            }
+            current = (current + 1) & mask;
+        }
+        elements[gap] = FREE_ELEMENT;
+    }
+
+
+    private void rehash() {
+        if (MAX_CAPACITY == elements.length) {
+            throw new IllegalStateException("IntHashSet has reached its maximum capacity");
+        }
+        int[] oldElements = elements;
+        allocate(elements.length << 1);
+        for (int element : oldElements) {
+            if (FREE_ELEMENT != element) {
+                int slot = mix(element) & mask;
+                while (FREE_ELEMENT != elements[slot]) {
+                    slot = (slot + 1) & mask;
+                }
+                elements[slot] = element;
+            }
+        }
+    }
+
+
+    private void allocate(final int capacity) {
+        elements = new int[capacity];
+        mask = capacity - 1;
+        resizeThreshold = resizeThreshold(capacity);
+    }
+
+}
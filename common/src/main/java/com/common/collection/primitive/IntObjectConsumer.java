@@ -0,0 +1,14 @@
+package com.common.collection.primitive;
+
+/**
+ * Operation that accepts an {@code int} key and an object value, without boxing the key.
+ *
+ * @param <V>
+ *    Type of the value
+ */
+@FunctionalInterface
+public interface IntObjectConsumer<V> {
+
+    void accept(int key, V value);
+
+}
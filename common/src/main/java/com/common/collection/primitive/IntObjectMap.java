@@ -0,0 +1,359 @@
+package com.common.collection.primitive;
+
+import org.springframework.util.Assert;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.IntFunction;
+
+import static com.common.collection.primitive.PrimitiveHashing.DEFAULT_EXPECTED_SIZE;
+import static com.common.collection.primitive.PrimitiveHashing.MAX_CAPACITY;
+import static com.common.collection.primitive.PrimitiveHashing.canMoveToGap;
+import static com.common.collection.primitive.PrimitiveHashing.capacityFor;
+import static com.common.collection.primitive.PrimitiveHashing.mix;
+import static com.common.collection.primitive.PrimitiveHashing.resizeThreshold;
+
+/**
+ *    {@link Map} alternative with {@code int} keys, that avoids boxing them and the node allocated by every entry of
+ * {@link HashMap}. Keys and values are stored in two arrays using open addressing with linear probing, and the removals
+ * move back the following elements instead of leaving tombstones.
+ *
+ *    The key {@code 0} marks the free slots, so it is stored outside the arrays. {@code null} values are allowed. This
+ * class is not thread-safe.
+ *
+ * @param <V>
+ *    Type of the values
+ */
+public class IntObjectMap<V> {
+
+    private static final int FREE_KEY = 0;
+
+    private int[] keys;
+    private Object[] values;
+    private int mask;
+    private int resizeThreshold;
+
+    // Number of keys stored in the arrays, that is, not including FREE_KEY
+    private int arraySize;
+
+    private boolean hasFreeKey;
+    private V freeKeyValue;
+
+
+    public IntObjectMap() {
+        this(DEFAULT_EXPECTED_SIZE);
+    }
+
+
+    /**
+     * Create a new map able to store {@code expectedSize} entries without resizing.
+     *
+     * @param expectedSize
+     *    Number of entries to store
+     *
+     * @throws IllegalArgumentException if {@code expectedSize} is negative
+     */
+    public IntObjectMap(final int expectedSize) {
+        allocate(capacityFor(expectedSize));
+    }
+
+
+    public int size() {
+        return arraySize + (hasFreeKey ? 1 : 0);
+    }
+
+
+    public boolean isEmpty() {
+        return 0 == size();
+    }
+
+
+    public boolean containsKey(final int key) {
+        if (FREE_KEY == key) {
+            return hasFreeKey;
+        }
+        return 0 <= slotOf(key);
+    }
+
+
+    /**
+     * Return the value related with {@code key}, or {@code null} if there is no one.
+     */
+    public V get(final int key) {
+        return getOrDefault(key, null);
+    }
+
+
+    /**
+     * Return the value related with {@code key}, or {@code defaultValue} if there is no one.
+     */
+    public V getOrDefault(final int key, final V defaultValue) {
+        if (FREE_KEY == key) {
+            return hasFreeKey ? freeKeyValue : defaultValue;
+        }
+        int slot = slotOf(key);
+        return 0 <= slot
+                ? (V) values[slot]
+                : defaultValue;
+    }
+
+
+    /**
+     * Relate {@code value} with {@code key}, replacing the previous value if there is one.
+     *
+     * @return previous value related with {@code key}, or {@code null} if there was no one
+     *
+     * @throws IllegalStateException if the map has reached its maximum capacity
+     */
+    public V put(final int key, final V value) {
+        if (FREE_KEY == key) {
+            V previous = freeKeyValue;
+            hasFreeKey = true;
+            freeKeyValue = value;
+            return previous;
+        }
+        int slot = mix(key) & mask;
+        while (FREE_KEY != keys[slot]) {
+            if (key == keys[slot]) {
+                V previous = (V) values[slot];
+                values[slot] = value;
+                return previous;
+            }
+            slot = (slot + 1) & mask;
+        }
+        if (arraySize == resizeThreshold) {
+            rehash();
+            return put(key, value);
+        }
+        keys[slot] = key;
+        values[slot] = value;
+        arraySize++;
+        return null;
+    }
+
+
+    /**
+     * Relate {@code value} with {@code key} only if {@code key} is not included yet.
+     *
+     * @return current value related with {@code key}, or {@code null} if there was no one and {@code value} was stored
+     *
+     * @throws IllegalStateException if the map has reached its maximum capacity
+     */
+    public V putIfAbsent(final int key, final V value) {
+        if (containsKey(key)) {
+            return get(key);
+        }
+        put(key, value);
+        return null;
+    }
+
+
+    /**
+     *    Return the value related with {@code key}. If there is no one, the result of {@code mappingFunction} is stored
+     * and returned, unless it is {@code null}.
+     *
+     * @throws IllegalArgumentException if {@code mappingFunction} is {@code null}
+     * @throws IllegalStateException if the map has reached its maximum capacity
+     */
+    public V computeIfAbsent(final int key, final IntFunction<? extends V> mappingFunction) {
+        Assert.notNull(mappingFunction, "mappingFunction must be not null");
+        V current = get(key);
+        if (null == current) {
+            current = mappingFunction.apply(key);
+            if (null != current) {
+                put(key, current);
+            }
+        }
+        return current;
+    }
+
+
+    /**
+     * Remove the given {@code key}.
+     *
+     * @return value related with {@code key}, or {@code null} if there was no one
+     */
+    public V remove(final int key) {
+        if (FREE_KEY == key) {
+            V previous = freeKeyValue;
+            hasFreeKey = false;
+            freeKeyValue = null;
+            return previous;
+        }
+        int slot = slotOf(key);
+        if (0 > slot) {
+            return null;
+        }
+        V previous = (V) values[slot];
+        shiftBack(slot);
+        arraySize--;
+        return previous;
+    }
+
+
+    public void clear() {
+        Arrays.fill(keys, FREE_KEY);
+        Arrays.fill(values, null);
+        arraySize = 0;
+        hasFreeKey = false;
+        freeKeyValue = null;
+    }
+
+
+    /**
+     * Perform the given {@code action} for every entry, in no particular order.
+     *
+     * @throws IllegalArgumentException if {@code action} is {@code null}
+     */
+    public void forEach(final IntObjectConsumer<? super V> action) {
+        Assert.notNull(action, "action must be not null");
+        if (hasFreeKey) {
+            action.accept(FREE_KEY, freeKeyValue);
+        }
+        for (int i = 0; i < keys.length; i++) {
+            if (FREE_KEY != keys[i]) {
+                action.accept(keys[i], (V) values[i]);
+            }
+        }
+    }
+
+
+    /**
+     * Return the keys of this map, in no particular order.
+     */
+    public int[] keys() {
+        int[] result = new int[size()];
+        int[] index = { 0 };
+        forEach((k, v) -> result[index[0]++] = k);
+        return result;
+    }
+
+
+    /**
+     * Return the values of this map, in the same order than {@link IntObjectMap#keys()}.
+     */
+    public List<V> values() {
+        List<V> result = new ArrayList<>(size());
+        forEach((k, v) -> result.add(v));
+        return result;
+    }
+
+
+    /**
+     * Return a new {@link HashMap} with the entries of this map, to interact with APIs that require a {@link Map}.
+     */
+    public Map<Integer, V> toMap() {
+        Map<Integer, V> result = new HashMap<>((int) Math.ceil(size() / 0.75));
+        forEach(result::put);
+        return result;
+    }
+
+
+    @Override
+    public boolean equals(final Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof IntObjectMap)) {
+            return false;
+        }
+        IntObjectMap<?> other = (IntObjectMap<?>) o;
+        if (size() != other.size()) {
+            return false;
+        }
+        boolean[] isEqual = { true };
+        forEach((k, v) -> {
+            if (isEqual[0]) {
+                isEqual[0] = other.containsKey(k) && Objects.equals(v, other.get(k));
+            }
+        });
+        return isEqual[0];
+    }
+
+
+    @Override
+    public int hashCode() {
+        int[] hashCode = { 0 };
+        forEach((k, v) -> hashCode[0] += k ^ Objects.hashCode(v));
+        return hashCode[0];
+    }
+
+
+    @Override
+    public String toString() {
+        StringBuilder result = new StringBuilder("{");
+        forEach((k, v) -> result.append(1 == result.length() ? "" : ", ")
+                                .append(k)
+                                .append('=')
+                                .append(v));
+        return result.append('}')
+                     .toString();
+    }
+
+
+    /**
+     * Return the slot that contains {@code key}, or -1 if it is not included.
+     */
+    private int slotOf(final int key) {
+        int slot = mix(key) & mask;
+        while (FREE_KEY != keys[slot]) {
+            if (key == keys[slot]) {
+                return slot;
+            }
+            slot = (slot + 1) & mask;
+        }
+        return -1;
+    }
+
+
+    /**
+     * Fill the free {@code slot} moving back the following elements that belong to a previous position.
+     */
+    private void shiftBack(final int slot) {
+        int gap = slot;
+        int current = (slot + 1) & mask;
+        while (FREE_KEY != keys[current]) {
+            if (canMoveToGap(current, mix(keys[current]) & mask, gap, mask)) {
+                keys[gap] = keys[current];
+                values[gap] = values[current];
+                gap = current;
+            }
+            current = (current + 1) & mask;
+        }
+        keys[gap] = FREE_KEY;
+        values[gap] = null;
+    }
+
+
+    private void rehash() {
+        if (MAX_CAPACITY == keys.length) {
+            throw new IllegalStateException("IntObjectMap has reached its maximum capacity");
+        }
+        int[] oldKeys = keys;
+        Object[] oldValues = values;
+        allocate(keys.length << 1);
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (FREE_KEY != oldKeys[i]) {
+                int slot = mix(oldKeys[i]) & mask;
+                while (FREE_KEY != keys[slot]) {
+                    slot = (slot + 1) & mask;
+                }
+                keys[slot] = oldKeys[i];
+                values[slot] = oldValues[i];
+            }
+        }
+    }
+
+
+    private void allocate(final int capacity) {
+        keys = new int[capacity];
+        values = new Object[capacity];
+        mask = capacity - 1;
+        resizeThreshold = resizeThreshold(capacity);
+    }
+
+}
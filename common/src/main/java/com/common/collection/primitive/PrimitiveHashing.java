@@ -0,0 +1,60 @@
+package com.common.collection.primitive;
+
+import lombok.experimental.UtilityClass;
+
+/**
+ * Shared logic of the open addressing hash tables included in this package.
+ */
+@UtilityClass
+class PrimitiveHashing {
+
+    // Lower than the one used by HashMap, because linear probing degrades faster with long clusters
+    static final float LOAD_FACTOR = 0.6f;
+
+    static final int MAX_CAPACITY = 1 << 30;
+
+    static final int DEFAULT_EXPECTED_SIZE = 8;
+
+
+    /**
+     * Spread the bits of {@code key}, so consecutive keys are not stored in consecutive slots.
+     */
+    static int mix(final int key) {
+        int h = key * 0x9E3779B9;
+        return h ^ (h >>> 16);
+    }
+
+
+    /**
+     * Power of 2 capacity able to store {@code expectedSize} elements without exceeding {@link PrimitiveHashing#LOAD_FACTOR}.
+     *
+     * @throws IllegalArgumentException if {@code expectedSize} is negative
+     */
+    static int capacityFor(final int expectedSize) {
+        if (0 > expectedSize) {
+            throw new IllegalArgumentException("expectedSize must be equal or greater than 0");
+        }
+        long required = Math.max(2, (long) Math.ceil(expectedSize / (double) LOAD_FACTOR));
+        if (MAX_CAPACITY < required) {
+            return MAX_CAPACITY;
+        }
+        return Integer.highestOneBit((int) required - 1) << 1;
+    }
+
+
+    /**
+     * Maximum number of elements that fits in a table of {@code capacity} slots.
+     */
+    static int resizeThreshold(final int capacity) {
+        return Math.min(capacity - 1, (int) Math.ceil(capacity * LOAD_FACTOR));
+    }
+
+
+    /**
+     * Check if the element stored in {@code slot}, whose ideal one is {@code idealSlot}, can fill the given {@code gap}.
+     */
+    static boolean canMoveToGap(final int slot, final int idealSlot, final int gap, final int mask) {
+        return ((slot - idealSlot) & mask) >= ((slot - gap) & mask);
+    }
+
+}
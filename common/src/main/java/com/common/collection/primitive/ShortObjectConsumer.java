@@ -0,0 +1,14 @@
+package com.common.collection.primitive;
+
+/**
+ * Operation that accepts a {@code short} key and an object value, without boxing the key.
+ *
+ * @param <V>
+ *    Type of the value
+ */
+@FunctionalInterface
+public interface ShortObjectConsumer<V> {
+
+    void accept(short key, V value);
+
+}
@@ -0,0 +1,181 @@
+package com.common.collection.primitive;
+
+import org.springframework.util.Assert;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.IntFunction;
+
+/**
+ *    {@link Map} alternative with {@code short} keys, like the identifiers of the pizzas, that avoids boxing them and the
+ * node allocated by every entry of {@link HashMap}. The entries are stored in an {@link IntObjectMap}, so it shares its
+ * open addressing layout. This class is not thread-safe.
+ *
+ * @param <V>
+ *    Type of the values
+ */
+public class ShortObjectMap<V> {
+
+    private final IntObjectMap<V> map;
+
+
+    public ShortObjectMap() {
+        this.map = new IntObjectMap<>();
+    }
+
+
+    /**
+     * Create a new map able to store {@code expectedSize} entries without resizing.
+     *
+     * @param expectedSize
+     *    Number of entries to store
+     *
+     * @throws IllegalArgumentException if {@code expectedSize} is negative
+     */
+    public ShortObjectMap(final int expectedSize) {
+        this.map = new IntObjectMap<>(expectedSize);
+    }
+
+
+    public int size() {
+        return map.size();
+    }
+
+
+    public boolean isEmpty() {
+        return map.isEmpty();
+    }
+
+
+    public boolean containsKey(final short key) {
+        return map.containsKey(key);
+    }
+
+
+    /**
+     * Return the value related with {@code key}, or {@code null} if there is no one.
+     */
+    public V get(final short key) {
+        return map.get(key);
+    }
+
+
+    /**
+     * Return the value related with {@code key}, or {@code defaultValue} if there is no one.
+     */
+    public V getOrDefault(final short key, final V defaultValue) {
+        return map.getOrDefault(key, defaultValue);
+    }
+
+
+    /**
+     * Relate {@code value} with {@code key}, replacing the previous value if there is one.
+     *
+     * @return previous value related with {@code key}, or {@code null} if there was no one
+     */
+    public V put(final short key, final V value) {
+        return map.put(key, value);
+    }
+
+
+    /**
+     * Relate {@code value} with {@code key} only if {@code key} is not included yet.
+     *
+     * @return current value related with {@code key}, or {@code null} if there was no one and {@code value} was stored
+     */
+    public V putIfAbsent(final short key, final V value) {
+        return map.putIfAbsent(key, value);
+    }
+
+
+    /**
+     *    Return the value related with {@code key}. If there is no one, the result of {@code mappingFunction} is stored
+     * and returned, unless it is {@code null}.
+     *
+     * @throws IllegalArgumentException if {@code mappingFunction} is {@code null}
+     */
+    public V computeIfAbsent(final short key, final IntFunction<? extends V> mappingFunction) {
+        return map.computeIfAbsent(key, mappingFunction);
+    }
+
+
+    /**
+     * Remove the given {@code key}.
+     *
+     * @return value related with {@code key}, or {@code null} if there was no one
+     */
+    public V remove(final short key) {
+        return map.remove(key);
+    }
+
+
+    public void clear() {
+        map.clear();
+    }
+
+
+    /**
+     * Perform the given {@code action} for every entry, in no particular order.
+     *
+     * @throws IllegalArgumentException if {@code action} is {@code null}
+     */
+    public void forEach(final ShortObjectConsumer<? super V> action) {
+        Assert.notNull(action, "action must be not null");
+        map.forEach((k, v) -> action.accept((short) k, v));
+    }
+
+
+    /**
+     * Return the keys of this map, in no particular order.
+     */
+    public short[] keys() {
+        int[] intKeys = map.keys();
+        short[] result = new short[intKeys.length];
+        for (int i = 0; i < intKeys.length; i++) {
+            result[i] = (short) intKeys[i];
+        }
+        return result;
+    }
+
+
+    /**
+     * Return the values of this map, in the same order than {@link ShortObjectMap#keys()}.
+     */
+    public List<V> values() {
+        return map.values();
+    }
+
+
+    /**
+     * Return a new {@link HashMap} with the entries of this map, to interact with APIs that require a {@link Map}.
+     */
+    public Map<Short, V> toMap() {
+        Map<Short, V> result = new HashMap<>((int) Math.ceil(size() / 0.75));
+        forEach(result::put);
+        return result;
+    }
+
+
+    @Override
+    public boolean equals(final Object o) {
+        if (this == o) {
+            return true;
+        }
+        return o instanceof ShortObjectMap &&
+                map.equals(((ShortObjectMap<?>) o).map);
+    }
+
+
+    @Override
+    public int hashCode() {
+        return map.hashCode();
+    }
+
+
+    @Override
+    public String toString() {
+        return map.toString();
+    }
+
+}
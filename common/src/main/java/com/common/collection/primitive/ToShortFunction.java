@@ -0,0 +1,14 @@
+package com.common.collection.primitive;
+
+/**
+ * Function that produces a {@code short} from the given argument, the {@code short} version of {@link java.util.function.ToIntFunction}.
+ *
+ * @param <T>
+ *    Type of the argument
+ */
+@FunctionalInterface
+public interface ToShortFunction<T> {
+
+    short applyAsShort(T value);
+
+}
@@ -1,11 +1,15 @@
 package com.common.converter;
 
+import com.common.util.CollectionUtil;
 import org.mapstruct.IterableMapping;
 import org.mapstruct.NullValueMappingStrategy;
 
 import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
+
+import static java.util.stream.Collectors.toList;
 
 /**
  * Parent interface of the all converters from Dto to Model and vice versa.
@@ -52,6 +56,44 @@ public interface BaseConverter<M, D> {
     @IterableMapping(nullValueMappingStrategy= NullValueMappingStrategy.RETURN_DEFAULT)
     List<M> fromDtosToModels(final Collection<D> dtos);
 
+    /**
+     *    Return a lazy {@link Stream} of models with the information contained in the given {@link Stream} of dtos.
+     * Every dto is converted when the returned {@link Stream} reaches it, so sources like database cursors can be
+     * converted without loading all of them in memory. The returned {@link Stream} is parallel if the given one is.
+     *
+     * @param dtos
+     *    {@link Stream} of dtos with the source information
+     *
+     * @return {@link Stream} of equivalent models, {@link Stream#empty()} if {@code dtos} is {@code null}
+     */
+    default Stream<M> fromDtoStreamToModels(final Stream<D> dtos) {
+        return null == dtos
+                ? Stream.empty()
+                : dtos.map(this::fromDtoToModel);
+    }
+
+    /**
+     *    Return a new {@link List} of models with the information contained in the given {@link Collection} of dtos,
+     * converting them in parallel if there are at least {@code parallelThreshold} ones. The order of the given
+     * {@link Collection} is kept.
+     *
+     * @param dtos
+     *    {@link Collection} of dtos with the source information
+     * @param parallelThreshold
+     *    Minimum number of dtos to convert them in parallel
+     *
+     * @return {@link List} of equivalent models
+     *
+     * @see CollectionUtil#DEFAULT_PARALLEL_THRESHOLD
+     */
+    default List<M> fromDtosToModelsInParallel(final Collection<D> dtos, final int parallelThreshold) {
+        return null == dtos || dtos.size() < parallelThreshold
+                ? this.fromDtosToModels(dtos)
+                : dtos.parallelStream()
+                      .map(this::fromDtoToModel)
+                      .collect(toList());
+    }
+
     /**
      * Create a new dto which properties match with the given model.
      *
@@ -87,4 +129,42 @@ public interface BaseConverter<M, D> {
     @IterableMapping(nullValueMappingStrategy=NullValueMappingStrategy.RETURN_DEFAULT)
     List<D> fromModelsToDtos(final Collection<M> models);
 
+    /**
+     *    Return a lazy {@link Stream} of dtos with the information contained in the given {@link Stream} of models.
+     * Every model is converted when the returned {@link Stream} reaches it, so sources like database cursors can be
+     * converted without loading all of them in memory. The returned {@link Stream} is parallel if the given one is.
+     *
+     * @param models
+     *    {@link Stream} of models with the source information
+     *
+     * @return {@link Stream} of equivalent dtos, {@link Stream#empty()} if {@code models} is {@code null}
+     */
+    default Stream<D> fromModelStreamToDtos(final Stream<M> models) {
+        return null == models
+                ? Stream.empty()
+                : models.map(this::fromModelToDto);
+    }
+
+    /**
+     *    Return a new {@link List} of dtos with the information contained in the given {@link Collection} of models,
+     * converting them in parallel if there are at least {@code parallelThreshold} ones. The order of the given
+     * {@link Collection} is kept.
+     *
+     * @param models
+     *    {@link Collection} of models with the source information
+     * @param parallelThreshold
+     *    Minimum number of models to convert them in parallel
+     *
+     * @return {@link List} of equivalent dtos
+     *
+     * @see CollectionUtil#DEFAULT_PARALLEL_THRESHOLD
+     */
+    default List<D> fromModelsToDtosInParallel(final Collection<M> models, final int parallelThreshold) {
+        return null == models || models.size() < parallelThreshold
+                ? this.fromModelsToDtos(models)
+                : models.parallelStream()
+                        .map(this::fromModelToDto)
+                        .collect(toList());
+    }
+
 }
@@ -0,0 +1,107 @@
+package com.common.converter;
+
+import org.springframework.util.Assert;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ *    Extension of {@link BaseConverter} for the microservices that use WebFlux, to convert the elements of a
+ * {@link Flux} as they are emitted, without collecting them before.
+ *
+ * @param <M>
+ *    Type of the Model to manage
+ * @param <D>
+ *    Type of the Dto to manage
+ */
+public interface ReactiveBaseConverter<M, D> extends BaseConverter<M, D> {
+
+    /**
+     *    Return a {@link Flux} of models with the information contained in the given {@link Flux} of dtos, converting
+     * every one when it is emitted.
+     *
+     * @param dtos
+     *    {@link Flux} of dtos with the source information
+     *
+     * @return {@link Flux} of equivalent models, {@link Flux#empty()} if {@code dtos} is {@code null}
+     */
+    default Flux<M> fromDtoFluxToModels(final Flux<D> dtos) {
+        return null == dtos
+                ? Flux.empty()
+                : dtos.mapNotNull(this::fromDtoToModel);
+    }
+
+    /**
+     *    Return a {@link Flux} of models with the information contained in the given {@link Flux} of dtos, converting
+     * batches of {@code batchSize} dtos in parallel on the given {@link Scheduler}. The order of the given {@link Flux}
+     * is kept.
+     *
+     * @param dtos
+     *    {@link Flux} of dtos with the source information
+     * @param batchSize
+     *    Number of dtos converted together in the same task
+     * @param scheduler
+     *    {@link Scheduler} used to convert the batches, like {@link reactor.core.scheduler.Schedulers#parallel()}
+     *
+     * @return {@link Flux} of equivalent models, {@link Flux#empty()} if {@code dtos} is {@code null}
+     *
+     * @throws IllegalArgumentException if {@code batchSize} is not positive or {@code scheduler} is {@code null}
+     */
+    default Flux<M> fromDtosToModelsInParallel(final Flux<D> dtos, final int batchSize, final Scheduler scheduler) {
+        return convertInParallel(dtos, batchSize, scheduler, this::fromDtosToModels);
+    }
+
+    /**
+     *    Return a {@link Flux} of dtos with the information contained in the given {@link Flux} of models, converting
+     * every one when it is emitted.
+     *
+     * @param models
+     *    {@link Flux} of models with the source information
+     *
+     * @return {@link Flux} of equivalent dtos, {@link Flux#empty()} if {@code models} is {@code null}
+     */
+    default Flux<D> fromModelFluxToDtos(final Flux<M> models) {
+        return null == models
+                ? Flux.empty()
+                : models.mapNotNull(this::fromModelToDto);
+    }
+
+    /**
+     *    Return a {@link Flux} of dtos with the information contained in the given {@link Flux} of models, converting
+     * batches of {@code batchSize} models in parallel on the given {@link Scheduler}. The order of the given {@link Flux}
+     * is kept.
+     *
+     * @param models
+     *    {@link Flux} of models with the source information
+     * @param batchSize
+     *    Number of models converted together in the same task
+     * @param scheduler
+     *    {@link Scheduler} used to convert the batches, like {@link reactor.core.scheduler.Schedulers#parallel()}
+     *
+     * @return {@link Flux} of equivalent dtos, {@link Flux#empty()} if {@code models} is {@code null}
+     *
+     * @throws IllegalArgumentException if {@code batchSize} is not positive or {@code scheduler} is {@code null}
+     */
+    default Flux<D> fromModelsToDtosInParallel(final Flux<M> models, final int batchSize, final Scheduler scheduler) {
+        return convertInParallel(models, batchSize, scheduler, this::fromModelsToDtos);
+    }
+
+
+    private static <S, T> Flux<T> convertInParallel(final Flux<S> source, final int batchSize, final Scheduler scheduler,
+                                                    final Function<List<S>, List<T>> batchConverter) {
+        Assert.isTrue(0 < batchSize, "batchSize must be greater than 0");
+        Assert.notNull(scheduler, "scheduler must be not null");
+        if (null == source) {
+            return Flux.empty();
+        }
+        // One task by batch, instead of by element, keeps the scheduling cost low when every conversion is cheap
+        return source.buffer(batchSize)
+                .flatMapSequential(batch -> Mono.fromCallable(() -> batchConverter.apply(batch))
+                                                .subscribeOn(scheduler))
+                .flatMapIterable(Function.identity());
+    }
+
+}
@@ -0,0 +1,27 @@
+package com.common.dto;
+
+import io.swagger.annotations.ApiModel;
+import io.swagger.annotations.ApiModelProperty;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ *    Result of validating one of the access tokens sent to the batch version of the authorization information web
+ * service: the Http status that the single version would have returned and, if the token is valid, its information.
+ */
+@AllArgsConstructor
+@Builder
+@Data
+@NoArgsConstructor
+@ApiModel(description="Authorization information of one of the given access tokens")
+public class AuthorizationInformationResultDto {
+
+    @ApiModelProperty(required = true, value = "Http status returned by the single token version of the web service")
+    private int status;
+
+    @ApiModelProperty(position = 1, value = "only included if the access token is valid")
+    private UsernameAuthoritiesDto usernameAuthorities;
+
+}
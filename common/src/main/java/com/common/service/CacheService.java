@@ -1,25 +1,86 @@
 package com.common.service;
 
+import com.common.cache.CacheMetrics;
+import com.common.cache.HazelcastCacheOperations;
+import com.common.cache.RefreshAheadTracker;
+import com.common.cache.RefreshAheadTracker.LoadKey;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.Cache;
 import org.springframework.cache.CacheManager;
 import org.springframework.context.annotation.Lazy;
 import org.springframework.stereotype.Service;
+import org.springframework.util.Assert;
+import org.springframework.util.ClassUtils;
+import org.springframework.util.CollectionUtils;
 
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
 
 import static java.util.Optional.ofNullable;
 
 /**
- * Common service used by other microservices to deal with a cache.
+ *    Common service used by other microservices to deal with a cache.
+ *
+ *    Every operation publishes the meters described in {@link CacheMetrics} using the {@link MeterRegistry} of the
+ * application (or {@link Metrics#globalRegistry} if there is no one).
  */
+@Slf4j
 @Service
-public class CacheService {
+public class CacheService implements DisposableBean {
+
+    private static final boolean IS_HAZELCAST_PRESENT =
+            ClassUtils.isPresent("com.hazelcast.spring.cache.HazelcastCache", CacheService.class.getClassLoader());
+
+    // Refreshes executed at the same time and waiting ones, the rest are discarded keeping the current value
+    private static final int REFRESH_AHEAD_THREADS = 4;
+    private static final int REFRESH_AHEAD_QUEUE_CAPACITY = 1000;
 
     private CacheManager cacheManager;
 
+    private CacheMetrics cacheMetrics;
+
+    // Loads currently in progress, shared by all the callers that ask for the same key
+    private final ConcurrentMap<LoadKey, CompletableFuture<Object>> inFlightLoads;
+
+    private final RefreshAheadTracker refreshAheadTracker;
+
+    private final ExecutorService refreshExecutor;
+
     @Autowired
-    public CacheService(@Lazy CacheManager cacheManager) {
+    public CacheService(@Lazy CacheManager cacheManager, ObjectProvider<MeterRegistry> meterRegistry) {
         this.cacheManager = cacheManager;
+        this.cacheMetrics = new CacheMetrics(meterRegistry.getIfAvailable(() -> Metrics.globalRegistry));
+        this.inFlightLoads = new ConcurrentHashMap<>();
+        this.refreshAheadTracker = new RefreshAheadTracker();
+        this.refreshExecutor = newRefreshExecutor();
+    }
+
+
+    /**
+     * Stop the refreshes in progress and discard the waiting ones.
+     */
+    @Override
+    public void destroy() {
+        refreshExecutor.shutdownNow();
     }
 
 
@@ -34,10 +95,13 @@ public class CacheService {
     public boolean clear(String cacheName) {
         return ofNullable(cacheName)
                 .map(cacheManager::getCache)
-                .map(c -> {
-                    c.clear();
-                    return true;
-                })
+                .map(c ->
+                        cacheMetrics.record(cacheName, "clear", () -> {
+                            c.clear();
+                            refreshAheadTracker.forget(cacheName);
+                            return true;
+                        })
+                )
                 .orElse(false);
     }
 
@@ -55,11 +119,49 @@ public class CacheService {
     public <K> boolean contains(String cacheName, K key) {
         return ofNullable(cacheName)
                 .map(cacheManager::getCache)
-                .map(c -> c.get(key))
+                .map(c -> getValueWrapper(cacheName, c, key, "contains"))
                 .isPresent();
     }
 
 
+    /**
+     * Return the {@code value}s related with the given {@code keys} inside the cache.
+     *
+     *    If the cache is managed by Hazelcast, all keys are requested at once (one request by member owner of the
+     * partitions), otherwise they are requested one by one.
+     *
+     * @param cacheName
+     *    Cache on which the {@code keys} will be searched
+     * @param keys
+     *    Identifiers to search in the cache
+     *
+     * @return {@link Map} with the found {@code keys} and their {@code value}s
+     */
+    public <K, V> Map<K, V> getAll(String cacheName, Collection<K> keys) {
+        if (CollectionUtils.isEmpty(keys)) {
+            return new HashMap<>();
+        }
+        return ofNullable(cacheName)
+                .map(cacheManager::getCache)
+                .map(c -> {
+                    Map<K, V> result = cacheMetrics.record(cacheName, "getAll", () -> {
+                        if (isHazelcastCache(c)) {
+                            return HazelcastCacheOperations.<K, V>getAll(c, keys);
+                        }
+                        Map<K, V> values = new HashMap<>(keys.size());
+                        for (K key : keys) {
+                            ofNullable(c.get(key))
+                                    .ifPresent(v -> values.put(key, (V) v.get()));
+                        }
+                        return values;
+                    });
+                    cacheMetrics.gets(cacheName, result.size(), keys.size() - result.size());
+                    return result;
+                })
+                .orElseGet(HashMap::new);
+    }
+
+
     /**
      * Return the {@code value} related with the given {@code key} inside the cache.
      *
@@ -73,11 +175,75 @@ public class CacheService {
     public <K, V> Optional<V> get(String cacheName, K key) {
         return ofNullable(cacheName)
                 .map(cacheManager::getCache)
-                .map(c -> c.get(key))
+                .map(c -> getValueWrapper(cacheName, c, key, "get"))
                 .map(v -> (V)v.get());
     }
 
 
+    /**
+     * Return the {@code value} related with the given {@code key} inside the cache, using {@code loader} to get and store it when it is not found.
+     *
+     * @see CacheService#getOrLoad(String, Object, Supplier, Duration)
+     */
+    public <K, V> Optional<V> getOrLoad(String cacheName, K key, Supplier<V> loader) {
+        return getOrLoad(cacheName, key, loader, null);
+    }
+
+
+    /**
+     *    Return the {@code value} related with the given {@code key} inside the cache, using {@code loader} to get and store
+     * it when it is not found.
+     *
+     *    Concurrent requests of the same missing {@code key} are coalesced: only one of them invokes {@code loader}, the
+     * other ones wait for its result (or its exception). If {@code refreshAfter} is provided, the entries found more than
+     * {@code refreshAfter} after their load are reloaded in background, returning the current value meanwhile. Using an
+     * interval lower than the expiration of the cache, the most used keys are never missed.
+     *
+     * @param cacheName
+     *    Cache on which the {@code key} will be searched
+     * @param key
+     *    Identifier to search in the cache
+     * @param loader
+     *    {@link Supplier} used to get the {@code value} when the {@code key} was not found. A {@code null} result is not stored
+     * @param refreshAfter
+     *    Time after which a loaded entry is refreshed in background. {@code null} means no refresh-ahead
+     *
+     * @return {@link Optional} with the found or loaded {@code value}, {@link Optional#empty()} if there is no one
+     *
+     * @throws IllegalArgumentException if {@code loader} is {@code null}
+     */
+    public <K, V> Optional<V> getOrLoad(String cacheName, K key, Supplier<V> loader, Duration refreshAfter) {
+        Assert.notNull(loader, "loader must be not null");
+        Cache cache = ofNullable(cacheName)
+                .map(cacheManager::getCache)
+                .orElse(null);
+        if (null == cache) {
+            return ofNullable(loader.get());
+        }
+        LoadKey loadKey = new LoadKey(cacheName, key);
+        Cache.ValueWrapper value = getValueWrapper(cacheName, cache, key, "get");
+        if (null == value) {
+            return ofNullable(loadOnce(loadKey, cache, loader, refreshAfter));
+        }
+        if (!inFlightLoads.containsKey(loadKey) && refreshAheadTracker.shouldRefresh(loadKey, refreshAfter)) {
+            try {
+                refreshExecutor.execute(() -> {
+                    try {
+                        loadOnce(loadKey, cache, loader, refreshAfter);
+                    } catch (RuntimeException e) {
+                        // The current value is kept until its expiration
+                        log.warn("Refresh-ahead of the key: {} in the cache: {} failed", key, cacheName, e);
+                    }
+                });
+            } catch (RejectedExecutionException e) {
+                // The current value is kept until its expiration or the next refresh
+                log.debug("Refresh-ahead of the key: {} in the cache: {} was discarded", key, cacheName);
+            }
+        }
+        return ofNullable((V) value.get());
+    }
+
+
     /**
      * Include a pair of {@code key} - {@code value} inside the cache.
      *
@@ -94,7 +260,46 @@ public class CacheService {
         return ofNullable(cacheName)
                 .map(cacheManager::getCache)
                 .map(c -> {
-                    c.put(key, value);
+                    cacheMetrics.record(cacheName, "put", () -> {
+                        c.put(key, value);
+                        return true;
+                    });
+                    cacheMetrics.puts(cacheName, 1);
+                    return true;
+                })
+                .orElse(false);
+    }
+
+
+    /**
+     * Include all pairs of {@code key} - {@code value} of the given {@link Map} inside the cache.
+     *
+     *    If the cache is managed by Hazelcast, all pairs are sent at once (one request by member owner of the
+     * partitions), otherwise they are stored one by one.
+     *
+     * @param cacheName
+     *    Cache on which the information will be included
+     * @param entries
+     *    Pairs of {@code key} - {@code value} to store
+     *
+     * @return {@code true} if the data was stored, {@code false} otherwise
+     */
+    public <K, V> boolean putAll(String cacheName, Map<K, V> entries) {
+        return ofNullable(cacheName)
+                .map(cacheManager::getCache)
+                .map(c -> {
+                    if (CollectionUtils.isEmpty(entries)) {
+                        return true;
+                    }
+                    cacheMetrics.record(cacheName, "putAll", () -> {
+                        if (isHazelcastCache(c)) {
+                            HazelcastCacheOperations.putAll(c, entries);
+                        } else {
+                            entries.forEach(c::put);
+                        }
+                        return true;
+                    });
+                    cacheMetrics.puts(cacheName, entries.size());
                     return true;
                 })
                 .orElse(false);
@@ -104,6 +309,8 @@ public class CacheService {
     /**
      * Include a pair of {@code key} - {@code value} inside the cache, ONLY if the provided key does not exist.
      *
+     * The operation is atomic: check and store are done in only one request to the cache.
+     *
      * @param cacheName
      *    Cache on which the information will be included
      * @param key
@@ -114,13 +321,25 @@ public class CacheService {
      * @return {@code true} if the data was stored, {@code false} otherwise
      */
     public <K, V> boolean putIfAbsent(String cacheName, K key, V value) {
-        return contains(cacheName, key) ? false: put(cacheName, key, value);
+        return ofNullable(cacheName)
+                .map(cacheManager::getCache)
+                .map(c -> {
+                    boolean isStored = cacheMetrics.record(cacheName, "putIfAbsent", () ->
+                            null == c.putIfAbsent(key, value)
+                    );
+                    cacheMetrics.puts(cacheName, isStored ? 1 : 0);
+                    return isStored;
+                })
+                .orElse(false);
     }
 
 
     /**
      * Include a pair of {@code key} - {@code value} inside the cache, ONLY if the provided key exists.
      *
+     *    If the native cache is a {@link ConcurrentMap} (like Hazelcast ones), the operation is atomic and only one
+     * request is sent to the cache. Otherwise, the existence of the key is checked first.
+     *
      * @param cacheName
      *    Cache on which the information will be included
      * @param key
@@ -131,7 +350,24 @@ public class CacheService {
      * @return {@code true} if the data was stored, {@code false} otherwise
      */
     public <K, V> boolean putIfPresent(String cacheName, K key, V value) {
-        return contains(cacheName, key) ? put(cacheName, key, value) : false;
+        return ofNullable(cacheName)
+                .map(cacheManager::getCache)
+                .map(c -> {
+                    boolean isStored = cacheMetrics.record(cacheName, "putIfPresent", () -> {
+                        Object nativeCache = c.getNativeCache();
+                        if (nativeCache instanceof ConcurrentMap && null != key && null != value) {
+                            return null != ((ConcurrentMap<K, V>) nativeCache).replace(key, value);
+                        }
+                        if (null == c.get(key)) {
+                            return false;
+                        }
+                        c.put(key, value);
+                        return true;
+                    });
+                    cacheMetrics.puts(cacheName, isStored ? 1 : 0);
+                    return isStored;
+                })
+                .orElse(false);
     }
 
 
@@ -149,10 +385,132 @@ public class CacheService {
         return ofNullable(cacheName)
                 .map(cacheManager::getCache)
                 .map(c -> {
-                    c.evict(key);
+                    cacheMetrics.record(cacheName, "remove", () -> {
+                        c.evict(key);
+                        refreshAheadTracker.forget(new LoadKey(cacheName, key));
+                        return true;
+                    });
+                    cacheMetrics.removals(cacheName, 1);
+                    return true;
+                })
+                .orElse(false);
+    }
+
+
+    /**
+     * Remove the given {@code keys} of the cache.
+     *
+     *    If the cache is managed by Hazelcast, all keys are removed at once (one request by member owner of the
+     * partitions), otherwise they are removed one by one.
+     *
+     * @param cacheName
+     *    Cache on which the information will be removed
+     * @param keys
+     *    Identifiers of the {@code value}s we want to remove
+     *
+     * @return {@code true} if no problem was found during the operation, {@code false} otherwise
+     */
+    public <K> boolean removeAll(String cacheName, Collection<K> keys) {
+        return ofNullable(cacheName)
+                .map(cacheManager::getCache)
+                .map(c -> {
+                    if (CollectionUtils.isEmpty(keys)) {
+                        return true;
+                    }
+                    cacheMetrics.record(cacheName, "removeAll", () -> {
+                        if (isHazelcastCache(c)) {
+                            HazelcastCacheOperations.removeAll(c, keys);
+                        } else {
+                            keys.forEach(c::evict);
+                        }
+                        keys.forEach(k -> refreshAheadTracker.forget(new LoadKey(cacheName, k)));
+                        return true;
+                    });
+                    cacheMetrics.removals(cacheName, keys.size());
                     return true;
                 })
                 .orElse(false);
     }
 
+
+    /**
+     * Return the {@link Cache.ValueWrapper} related with the given {@code key}, recording the operation as a hit or a miss.
+     */
+    private <K> Cache.ValueWrapper getValueWrapper(String cacheName, Cache cache, K key, String operation) {
+        Cache.ValueWrapper value = cacheMetrics.record(cacheName, operation, () -> cache.get(key));
+        cacheMetrics.gets(cacheName, null == value ? 0 : 1, null == value ? 1 : 0);
+        return value;
+    }
+
+
+    /**
+     *    Invoke {@code loader} and store its result in the cache, unless there is another load of the same key in progress.
+     * In that case, wait for its result instead of invoking {@code loader} again.
+     */
+    private <V> V loadOnce(LoadKey loadKey, Cache cache, Supplier<V> loader, Duration refreshAfter) {
+        CompletableFuture<Object> newLoad = new CompletableFuture<>();
+        CompletableFuture<Object> currentLoad = inFlightLoads.putIfAbsent(loadKey, newLoad);
+        if (null != currentLoad) {
+            return (V) join(currentLoad);
+        }
+        try {
+            V value = cacheMetrics.record(loadKey.getCacheName(), "load", loader);
+            if (null != value) {
+                cacheMetrics.record(loadKey.getCacheName(), "put", () -> {
+                    cache.put(loadKey.getKey(), value);
+                    return true;
+                });
+                cacheMetrics.puts(loadKey.getCacheName(), 1);
+                refreshAheadTracker.loaded(loadKey, refreshAfter);
+            }
+            newLoad.complete(value);
+            return value;
+        } catch (RuntimeException e) {
+            newLoad.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlightLoads.remove(loadKey, newLoad);
+        }
+    }
+
+
+    /**
+     * Wait for the given load, throwing the original exception if it failed.
+     */
+    private Object join(CompletableFuture<Object> load) {
+        try {
+            return load.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw e;
+        }
+    }
+
+
+    private boolean isHazelcastCache(Cache cache) {
+        return IS_HAZELCAST_PRESENT && HazelcastCacheOperations.isHazelcastCache(cache);
+    }
+
+
+    /**
+     *    Executor of the refresh-ahead loads. Its threads are only kept while there are refreshes to do, and the number
+     * of waiting refreshes is bounded, so a burst of expired keys does not create an unbounded number of threads.
+     */
+    private static ExecutorService newRefreshExecutor() {
+        AtomicInteger threadNumber = new AtomicInteger();
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(
+                REFRESH_AHEAD_THREADS, REFRESH_AHEAD_THREADS, 60, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(REFRESH_AHEAD_QUEUE_CAPACITY),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "cache-refresh-ahead-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                }
+        );
+        executor.allowCoreThreadTimeOut(true);
+        return executor;
+    }
+
 }
@@ -3,24 +3,41 @@ package com.common.service;
 import org.springframework.stereotype.Service;
 import org.springframework.util.Assert;
 
+import javax.crypto.AEADBadTagException;
 import javax.crypto.Cipher;
+import javax.crypto.NoSuchPaddingException;
 import javax.crypto.SecretKey;
 import javax.crypto.SecretKeyFactory;
 import javax.crypto.spec.GCMParameterSpec;
 import javax.crypto.spec.PBEKeySpec;
 import javax.crypto.spec.SecretKeySpec;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
 import java.nio.ByteBuffer;
 import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
 import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
 import java.security.SecureRandom;
 import java.security.spec.InvalidKeySpecException;
 import java.security.spec.KeySpec;
+import java.util.Arrays;
 import java.util.Base64;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
 
 /**
  * Service used to provide encryption/decryption functionality.
+ *
+ *    Deriving a key from a password is the most expensive part of the process, so every password is associated with
+ * one salt the first time it is used, and the derived keys are kept in a bounded cache. In that way, only the first
+ * encryption of every password pays the derivation, while every message keeps its own random IV.
+ *
+ *    Large contents can be encrypted using {@link InputStream}/{@link OutputStream} or {@link ByteBuffer}, splitting them
+ * in segments so no Base64 or complete intermediate copy is required.
  */
 @Service
 public class EncryptorService {
@@ -28,6 +45,7 @@ public class EncryptorService {
     private final String SYMMETRIC_ENCRYPTION_ALGORITHM = "AES";
     private final String ENCRYPTION_ALGORITHM = "AES/GCM/NoPadding";
     private final String SECRET_KEY_ALGORITHM = "PBKDF2WithHmacSHA256";
+    private final String PASSWORD_DIGEST_ALGORITHM = "SHA-256";
 
     private final int ITERATION_COUNT = 1024;
     private final int KEY_LENGTH = 256;
@@ -37,17 +55,53 @@ public class EncryptorService {
     private final int SALT_LENGTH_BYTE = 16;
     private final Charset UTF_8 = StandardCharsets.UTF_8;
 
+    // First byte of the current output formats
+    private final byte VERSION_1 = 1;
+    private final byte VERSION_STREAM_1 = 2;
+    private final int VERSION_LENGTH_BYTE = 1;
+
+    // Streaming format: content is split in segments, every one encrypted with its own nonce and auth tag
+    private final int SEGMENT_LENGTH_BYTE = 64 * 1024;
+    private final int NONCE_PREFIX_LENGTH_BYTE = 7;
+    private final int TAG_LENGTH_BYTE = TAG_LENGTH_BIT / 8;
+    private final int STREAM_HEADER_LENGTH_BYTE = VERSION_LENGTH_BYTE + SALT_LENGTH_BYTE + NONCE_PREFIX_LENGTH_BYTE;
+
+    private final int MAX_CACHED_KEYS = 256;
+
+    // Thread-safe and self-seeded on its first use
+    private final SecureRandom secureRandom;
+
+    // Cipher instances are not thread-safe, but they can be reused initializing them again
+    private final ThreadLocal<Cipher> ciphers;
+
+    // Salt used to encrypt with every password, identified by the digest of the password
+    private final Map<DigestKey, byte[]> saltByPassword;
+
+    // Keys derived from pairs of password's digest - salt
+    private final Map<DigestKey, SecretKey> secretKeys;
+
+
+    public EncryptorService() {
+        this.secureRandom = new SecureRandom();
+        this.ciphers = new ThreadLocal<>();
+        this.saltByPassword = lruMap(MAX_CACHED_KEYS);
+        this.secretKeys = lruMap(MAX_CACHED_KEYS);
+    }
+
 
     /**
-     *    Encrypt {@code toEncrypt} using the provided {@code password}. The output consist of iv, password's salt,
-     * encrypted content and auth tag in the following format:
+     *    Encrypt {@code toEncrypt} using the provided {@code password}. The output consist of version, password's salt,
+     * iv, encrypted content and auth tag in the following format:
      *
-     *   output = byte[] {i i i s s s c c c c c c ...}
+     *   output = byte[] {v s s s i i i c c c c c c ...}
      *
+     *    v = version of the format
+     *    s = Salt bytes (the same one for all encryptions with the same password)
      *    i = IV bytes
-     *    s = Salt bytes
      *    c = content bytes (encrypted content)
      *
+     *    Version and salt are authenticated too, so any change on them is detected in decryption.
+     *
      * @param toEncrypt
      *    {@link String} to encrypt.
      * @param password
@@ -62,38 +116,40 @@ public class EncryptorService {
         Assert.notNull(toEncrypt, "toEncrypt must be not null");
         Assert.notNull(password, "password must be not null");
 
-        // 16 bytes salt
-        byte[] salt = getRandomNonce(SALT_LENGTH_BYTE);
+        byte[] passwordDigest = digest(password);
+        byte[] salt = getSalt(passwordDigest);
 
         // Recommended 12 bytes iv
         byte[] iv = getRandomNonce(IV_LENGTH_BYTE);
 
-        // Secret key from password
-        SecretKey aesKeyFromPassword = getSecretKey(SYMMETRIC_ENCRYPTION_ALGORITHM, SECRET_KEY_ALGORITHM, password.toCharArray(),
-                salt, ITERATION_COUNT, KEY_LENGTH);
-
-        Cipher cipher = Cipher.getInstance(ENCRYPTION_ALGORITHM);
+        byte[] content = toEncrypt.getBytes(UTF_8);
+        int headerLength = VERSION_LENGTH_BYTE + SALT_LENGTH_BYTE + IV_LENGTH_BYTE;
+        Cipher cipher = getCipher();
 
         // ASE-GCM needs GCMParameterSpec
-        cipher.init(Cipher.ENCRYPT_MODE, aesKeyFromPassword, new GCMParameterSpec(TAG_LENGTH_BIT, iv));
+        cipher.init(Cipher.ENCRYPT_MODE, getSecretKey(password, passwordDigest, salt), new GCMParameterSpec(TAG_LENGTH_BIT, iv));
 
-        byte[] cipherText = cipher.doFinal(toEncrypt.getBytes(UTF_8));
+        // Cipher text is written just after the header, avoiding intermediate copies
+        byte[] output = new byte[headerLength + cipher.getOutputSize(content.length)];
+        output[0] = VERSION_1;
+        System.arraycopy(salt, 0, output, VERSION_LENGTH_BYTE, SALT_LENGTH_BYTE);
+        System.arraycopy(iv, 0, output, VERSION_LENGTH_BYTE + SALT_LENGTH_BYTE, IV_LENGTH_BYTE);
 
-        // Prefix IV and Salt to cipher text
-        byte[] cipherTextWithIvSalt = ByteBuffer.allocate(iv.length + salt.length + cipherText.length)
-                .put(iv)
-                .put(salt)
-                .put(cipherText)
-                .array();
+        cipher.updateAAD(output, 0, VERSION_LENGTH_BYTE + SALT_LENGTH_BYTE);
+        int cipherTextLength = cipher.doFinal(content, 0, content.length, output, headerLength);
 
         // String representation, base64, send this string to other for decryption
-        return Base64.getEncoder().encodeToString(cipherTextWithIvSalt);
+        return Base64.getEncoder().encodeToString(
+                output.length == headerLength + cipherTextLength ? output
+                                                                 : Arrays.copyOf(output, headerLength + cipherTextLength)
+        );
     }
 
 
     /**
      *    Decrypt {@code toDecrypt} using the provided {@code password}. The given {@code toDecrypt} should have been
-     * encrypted using the {@code encrypt} function, due to have to follow the output format.
+     * encrypted using the {@code encrypt} function, due to have to follow the output format. The format used by the
+     * previous versions of this service, without version and with the IV before the salt, is supported too.
      *
      * @param toDecrypt
      *    {@link String} to decrypt.
@@ -110,28 +166,355 @@ public class EncryptorService {
         Assert.notNull(password, "password must be not null");
 
         byte[] decode = Base64.getDecoder().decode(toDecrypt.getBytes(UTF_8));
+        byte[] passwordDigest = digest(password);
+
+        if (0 < decode.length && VERSION_1 == decode[0]) {
+            try {
+                return decryptVersion1(decode, password, passwordDigest);
+            } catch (AEADBadTagException e) {
+                // The first IV byte of the legacy format could match with the version
+            }
+        }
+        return decryptLegacy(decode, password, passwordDigest);
+    }
+
+
+    /**
+     *    Encrypt the content of {@code toEncrypt} using the provided {@code password}, writing the result in {@code output}.
+     * The content is read and encrypted in segments of 64 KB, so the used memory does not depend on its size. The output
+     * consist of a header and the encrypted segments in the following format:
+     *
+     *   output = byte[] {v s s s n n n c c c c t t t ... c c t t t}
+     *
+     *    v = version of the format
+     *    s = Salt bytes (the same one for all encryptions with the same password)
+     *    n = Nonce prefix bytes, random for every encryption
+     *    c = content bytes of one segment (encrypted content)
+     *    t = auth tag bytes of one segment
+     *
+     *    The IV of every segment includes the nonce prefix, the position of the segment and if it is the last one, so
+     * reordered, removed or truncated segments are detected in decryption. Neither of the given streams is closed.
+     *
+     * @param toEncrypt
+     *    {@link InputStream} with the content to encrypt.
+     * @param output
+     *    {@link OutputStream} on which the encrypted content will be written.
+     * @param password
+     *    {@link String} password used to encrypt {@code toEncrypt}.
+     *
+     * @throws IllegalArgumentException if {@code toEncrypt}, {@code output} or {@code password} are {@code null}
+     * @throws IOException if there was a problem reading {@code toEncrypt} or writing in {@code output}
+     * @throws GeneralSecurityException if there was a problem encrypting the given {@code toEncrypt}
+     */
+    public void encrypt(InputStream toEncrypt, OutputStream output, String password) throws IOException, GeneralSecurityException {
+        Assert.notNull(toEncrypt, "toEncrypt must be not null");
+        Assert.notNull(output, "output must be not null");
+        Assert.notNull(password, "password must be not null");
+
+        byte[] header = buildStreamHeader(password);
+        SecretKey secretKey = getSecretKey(password, header);
+        output.write(header);
+
+        // One extra byte is read to know if the current segment is the last one
+        byte[] plainSegment = new byte[SEGMENT_LENGTH_BYTE + 1];
+        byte[] cipherSegment = new byte[SEGMENT_LENGTH_BYTE + TAG_LENGTH_BYTE];
+        Cipher cipher = getCipher();
+
+        int length = readFully(toEncrypt, plainSegment, 0, plainSegment.length);
+        for (int segmentIndex = 0; ; segmentIndex++) {
+            boolean isLastSegment = length <= SEGMENT_LENGTH_BYTE;
+            initSegmentCipher(cipher, Cipher.ENCRYPT_MODE, secretKey, header, segmentIndex, isLastSegment);
+            int cipherSegmentLength = cipher.doFinal(plainSegment, 0, Math.min(length, SEGMENT_LENGTH_BYTE), cipherSegment, 0);
+            output.write(cipherSegment, 0, cipherSegmentLength);
+            if (isLastSegment) {
+                return;
+            }
+            // The extra byte is the first one of the next segment
+            plainSegment[0] = plainSegment[SEGMENT_LENGTH_BYTE];
+            length = 1 + readFully(toEncrypt, plainSegment, 1, SEGMENT_LENGTH_BYTE);
+        }
+    }
+
+
+    /**
+     *    Decrypt the content of {@code toDecrypt} using the provided {@code password}, writing the result in {@code output}.
+     * The given {@code toDecrypt} should have been encrypted using {@link EncryptorService#encrypt(InputStream, OutputStream, String)}
+     * or {@link EncryptorService#encrypt(ByteBuffer, String)}. Neither of the given streams is closed.
+     *
+     *    Every segment is written in {@code output} once it has been authenticated, so if an exception is thrown, the
+     * content already written must be discarded.
+     *
+     * @param toDecrypt
+     *    {@link InputStream} with the content to decrypt.
+     * @param output
+     *    {@link OutputStream} on which the decrypted content will be written.
+     * @param password
+     *    {@link String} password used to decrypt {@code toDecrypt}.
+     *
+     * @throws IllegalArgumentException if {@code toDecrypt}, {@code output} or {@code password} are {@code null}
+     * @throws IOException if there was a problem reading {@code toDecrypt} or writing in {@code output}
+     * @throws GeneralSecurityException if there was a problem decrypting the given {@code toDecrypt}
+     */
+    public void decrypt(InputStream toDecrypt, OutputStream output, String password) throws IOException, GeneralSecurityException {
+        Assert.notNull(toDecrypt, "toDecrypt must be not null");
+        Assert.notNull(output, "output must be not null");
+        Assert.notNull(password, "password must be not null");
+
+        byte[] header = new byte[STREAM_HEADER_LENGTH_BYTE];
+        checkStreamHeader(header, readFully(toDecrypt, header, 0, header.length));
+        SecretKey secretKey = getSecretKey(password, header);
+
+        // One extra byte is read to know if the current segment is the last one
+        byte[] cipherSegment = new byte[SEGMENT_LENGTH_BYTE + TAG_LENGTH_BYTE + 1];
+        byte[] plainSegment = new byte[SEGMENT_LENGTH_BYTE];
+        Cipher cipher = getCipher();
+
+        int length = readFully(toDecrypt, cipherSegment, 0, cipherSegment.length);
+        for (int segmentIndex = 0; ; segmentIndex++) {
+            boolean isLastSegment = length <= SEGMENT_LENGTH_BYTE + TAG_LENGTH_BYTE;
+            if (isLastSegment && TAG_LENGTH_BYTE > length) {
+                throw new AEADBadTagException("The given content has not a valid format");
+            }
+            initSegmentCipher(cipher, Cipher.DECRYPT_MODE, secretKey, header, segmentIndex, isLastSegment);
+            int plainSegmentLength = cipher.doFinal(cipherSegment, 0, Math.min(length, SEGMENT_LENGTH_BYTE + TAG_LENGTH_BYTE), plainSegment, 0);
+            output.write(plainSegment, 0, plainSegmentLength);
+            if (isLastSegment) {
+                return;
+            }
+            // The extra byte is the first one of the next segment
+            cipherSegment[0] = cipherSegment[SEGMENT_LENGTH_BYTE + TAG_LENGTH_BYTE];
+            length = 1 + readFully(toDecrypt, cipherSegment, 1, SEGMENT_LENGTH_BYTE + TAG_LENGTH_BYTE);
+        }
+    }
+
+
+    /**
+     *    Encrypt the remaining bytes of {@code toEncrypt} using the provided {@code password}, with the same format than
+     * {@link EncryptorService#encrypt(InputStream, OutputStream, String)}. Every segment is encrypted directly from
+     * {@code toEncrypt} into the returned {@link ByteBuffer}, which is a direct one if {@code toEncrypt} is direct too.
+     *
+     * @param toEncrypt
+     *    {@link ByteBuffer} with the content to encrypt. Its position is moved to its limit
+     * @param password
+     *    {@link String} password used to encrypt {@code toEncrypt}.
+     *
+     * @return {@link ByteBuffer} ready to be read, with the encrypted {@code toEncrypt}
+     *
+     * @throws IllegalArgumentException if {@code toEncrypt} or {@code password} are {@code null}
+     * @throws GeneralSecurityException if there was a problem encrypting the given {@code toEncrypt}
+     */
+    public ByteBuffer encrypt(ByteBuffer toEncrypt, String password) throws GeneralSecurityException {
+        Assert.notNull(toEncrypt, "toEncrypt must be not null");
+        Assert.notNull(password, "password must be not null");
+
+        byte[] header = buildStreamHeader(password);
+        SecretKey secretKey = getSecretKey(password, header);
+
+        // Empty content is stored as one segment with only the auth tag
+        int plainLength = toEncrypt.remaining();
+        int segments = Math.max(1, (plainLength + SEGMENT_LENGTH_BYTE - 1) / SEGMENT_LENGTH_BYTE);
+        int outputLength = STREAM_HEADER_LENGTH_BYTE + plainLength + segments * TAG_LENGTH_BYTE;
+        ByteBuffer output = toEncrypt.isDirect() ? ByteBuffer.allocateDirect(outputLength)
+                                                 : ByteBuffer.allocate(outputLength);
+        output.put(header);
+        return processSegments(toEncrypt, output, secretKey, header, segments, SEGMENT_LENGTH_BYTE, Cipher.ENCRYPT_MODE);
+    }
+
+
+    /**
+     *    Decrypt the remaining bytes of {@code toDecrypt} using the provided {@code password}. The given {@code toDecrypt}
+     * should have been encrypted using {@link EncryptorService#encrypt(InputStream, OutputStream, String)} or
+     * {@link EncryptorService#encrypt(ByteBuffer, String)}. Every segment is decrypted directly from {@code toDecrypt} into
+     * the returned {@link ByteBuffer}, which is a direct one if {@code toDecrypt} is direct too.
+     *
+     * @param toDecrypt
+     *    {@link ByteBuffer} with the content to decrypt. Its position is moved to its limit
+     * @param password
+     *    {@link String} password used to decrypt {@code toDecrypt}.
+     *
+     * @return {@link ByteBuffer} ready to be read, with the decrypted {@code toDecrypt}
+     *
+     * @throws IllegalArgumentException if {@code toDecrypt} or {@code password} are {@code null}
+     * @throws GeneralSecurityException if there was a problem decrypting the given {@code toDecrypt}
+     */
+    public ByteBuffer decrypt(ByteBuffer toDecrypt, String password) throws GeneralSecurityException {
+        Assert.notNull(toDecrypt, "toDecrypt must be not null");
+        Assert.notNull(password, "password must be not null");
+
+        byte[] header = new byte[STREAM_HEADER_LENGTH_BYTE];
+        int headerLength = Math.min(header.length, toDecrypt.remaining());
+        toDecrypt.get(header, 0, headerLength);
+        checkStreamHeader(header, headerLength);
+        SecretKey secretKey = getSecretKey(password, header);
+
+        int cipherLength = toDecrypt.remaining();
+        int cipherSegmentLength = SEGMENT_LENGTH_BYTE + TAG_LENGTH_BYTE;
+        int segments = Math.max(1, (cipherLength + cipherSegmentLength - 1) / cipherSegmentLength);
+        int lastSegmentLength = cipherLength - (segments - 1) * cipherSegmentLength;
+        if (TAG_LENGTH_BYTE > lastSegmentLength) {
+            throw new AEADBadTagException("The given content has not a valid format");
+        }
+        int outputLength = cipherLength - segments * TAG_LENGTH_BYTE;
+        ByteBuffer output = toDecrypt.isDirect() ? ByteBuffer.allocateDirect(outputLength)
+                                                 : ByteBuffer.allocate(outputLength);
+        return processSegments(toDecrypt, output, secretKey, header, segments, cipherSegmentLength, Cipher.DECRYPT_MODE);
+    }
+
+
+    /**
+     * Decrypt the given {@code decode} generated by {@link EncryptorService#encrypt(String, String)}
+     */
+    private String decryptVersion1(byte[] decode, String password, byte[] passwordDigest) throws GeneralSecurityException {
+        int headerLength = VERSION_LENGTH_BYTE + SALT_LENGTH_BYTE + IV_LENGTH_BYTE;
+        checkLength(decode, headerLength);
+        byte[] salt = Arrays.copyOfRange(decode, VERSION_LENGTH_BYTE, VERSION_LENGTH_BYTE + SALT_LENGTH_BYTE);
+
+        Cipher cipher = getCipher();
+        cipher.init(Cipher.DECRYPT_MODE, getSecretKey(password, passwordDigest, salt),
+                new GCMParameterSpec(TAG_LENGTH_BIT, decode, VERSION_LENGTH_BYTE + SALT_LENGTH_BYTE, IV_LENGTH_BYTE));
+        cipher.updateAAD(decode, 0, VERSION_LENGTH_BYTE + SALT_LENGTH_BYTE);
+        byte[] plainText = cipher.doFinal(decode, headerLength, decode.length - headerLength);
+
+        return new String(plainText, UTF_8);
+    }
+
+
+    /**
+     *    Decrypt the given {@code decode} generated by the previous versions of this service, using the format:
+     *
+     *   output = byte[] {i i i s s s c c c c c c ...}
+     */
+    private String decryptLegacy(byte[] decode, String password, byte[] passwordDigest) throws GeneralSecurityException {
+        int headerLength = IV_LENGTH_BYTE + SALT_LENGTH_BYTE;
+        checkLength(decode, headerLength);
 
         // Get back the iv and salt from the cipher text
-        ByteBuffer bb = ByteBuffer.wrap(decode);
+        byte[] salt = Arrays.copyOfRange(decode, IV_LENGTH_BYTE, IV_LENGTH_BYTE + SALT_LENGTH_BYTE);
+
+        // Get back the aes key from the same password and salt
+        Cipher cipher = getCipher();
+        cipher.init(Cipher.DECRYPT_MODE, getSecretKey(password, passwordDigest, salt),
+                new GCMParameterSpec(TAG_LENGTH_BIT, decode, 0, IV_LENGTH_BYTE));
+        byte[] plainText = cipher.doFinal(decode, headerLength, decode.length - headerLength);
+
+        return new String(plainText, UTF_8);
+    }
+
+
+    private void checkLength(byte[] decode, int headerLength) throws AEADBadTagException {
+        if (decode.length < headerLength + TAG_LENGTH_BIT / 8) {
+            throw new AEADBadTagException("The given content has not a valid format");
+        }
+    }
+
 
+    /**
+     *    Encrypt or decrypt the given number of {@code segments} of {@code input} into {@code output}, returning the last
+     * one ready to be read.
+     */
+    private ByteBuffer processSegments(ByteBuffer input, ByteBuffer output, SecretKey secretKey, byte[] header,
+                                       int segments, int segmentLength, int mode) throws GeneralSecurityException {
+        Cipher cipher = getCipher();
+        for (int segmentIndex = 0; segmentIndex < segments; segmentIndex++) {
+            ByteBuffer segment = input.duplicate();
+            segment.limit(segment.position() + Math.min(segmentLength, input.remaining()));
+            initSegmentCipher(cipher, mode, secretKey, header, segmentIndex, segmentIndex == segments - 1);
+            cipher.doFinal(segment, output);
+            input.position(segment.position());
+        }
+        output.flip();
+        return output;
+    }
+
+
+    /**
+     * Initialize {@code cipher} to process the segment with the given {@code segmentIndex}.
+     */
+    private void initSegmentCipher(Cipher cipher, int mode, SecretKey secretKey, byte[] header, int segmentIndex,
+                                   boolean isLastSegment) throws GeneralSecurityException {
+        if (0 > segmentIndex) {
+            throw new GeneralSecurityException("The given content exceeds the maximum number of segments");
+        }
+        // Recommended 12 bytes iv: nonce prefix + segment index + last segment flag
         byte[] iv = new byte[IV_LENGTH_BYTE];
-        bb.get(iv);
+        ByteBuffer.wrap(iv)
+                .put(header, VERSION_LENGTH_BYTE + SALT_LENGTH_BYTE, NONCE_PREFIX_LENGTH_BYTE)
+                .putInt(segmentIndex)
+                .put(isLastSegment ? (byte) 1 : (byte) 0);
 
-        byte[] salt = new byte[SALT_LENGTH_BYTE];
-        bb.get(salt);
+        cipher.init(mode, secretKey, new GCMParameterSpec(TAG_LENGTH_BIT, iv));
+        cipher.updateAAD(header);
+    }
 
-        byte[] cipherText = new byte[bb.remaining()];
-        bb.get(cipherText);
 
-        // Get back the aes key from the same password and salt
-        SecretKey aesKeyFromPassword = getSecretKey(SYMMETRIC_ENCRYPTION_ALGORITHM, SECRET_KEY_ALGORITHM, password.toCharArray(),
-                salt, ITERATION_COUNT, KEY_LENGTH);
+    /**
+     * Header of the streaming format: version, password's salt and a random nonce prefix.
+     */
+    private byte[] buildStreamHeader(String password) throws NoSuchAlgorithmException {
+        byte[] header = new byte[STREAM_HEADER_LENGTH_BYTE];
+        header[0] = VERSION_STREAM_1;
+        System.arraycopy(getSalt(digest(password)), 0, header, VERSION_LENGTH_BYTE, SALT_LENGTH_BYTE);
+        System.arraycopy(getRandomNonce(NONCE_PREFIX_LENGTH_BYTE), 0, header, VERSION_LENGTH_BYTE + SALT_LENGTH_BYTE, NONCE_PREFIX_LENGTH_BYTE);
+        return header;
+    }
 
-        Cipher cipher = Cipher.getInstance(ENCRYPTION_ALGORITHM);
-        cipher.init(Cipher.DECRYPT_MODE, aesKeyFromPassword, new GCMParameterSpec(TAG_LENGTH_BIT, iv));
-        byte[] plainText = cipher.doFinal(cipherText);
 
-        return new String(plainText, UTF_8);
+    private void checkStreamHeader(byte[] header, int headerLength) throws AEADBadTagException {
+        if (STREAM_HEADER_LENGTH_BYTE != headerLength || VERSION_STREAM_1 != header[0]) {
+            throw new AEADBadTagException("The given content has not a valid format");
+        }
+    }
+
+
+    /**
+     * Return the {@link SecretKey} derived from {@code password} and the salt included in the given streaming {@code header}.
+     */
+    private SecretKey getSecretKey(String password, byte[] header) throws NoSuchAlgorithmException, InvalidKeySpecException {
+        return getSecretKey(password, digest(password),
+                Arrays.copyOfRange(header, VERSION_LENGTH_BYTE, VERSION_LENGTH_BYTE + SALT_LENGTH_BYTE));
+    }
+
+
+    /**
+     * Read from {@code input} until filling {@code length} bytes of {@code buffer} or reaching its end.
+     *
+     * @return number of read bytes
+     */
+    private int readFully(InputStream input, byte[] buffer, int offset, int length) throws IOException {
+        int totalRead = 0;
+        while (totalRead < length) {
+            int read = input.read(buffer, offset + totalRead, length - totalRead);
+            if (0 > read) {
+                break;
+            }
+            totalRead += read;
+        }
+        return totalRead;
+    }
+
+
+    /**
+     * Return the salt used to encrypt with the password related with {@code passwordDigest}, generating it if it does not exist.
+     */
+    private byte[] getSalt(byte[] passwordDigest) {
+        // 16 bytes salt
+        return saltByPassword.computeIfAbsent(new DigestKey(passwordDigest, null), k -> getRandomNonce(SALT_LENGTH_BYTE));
+    }
+
+
+    /**
+     * Return the {@link SecretKey} derived from the given {@code password} and {@code salt}, using the cached one if it exists.
+     */
+    private SecretKey getSecretKey(String password, byte[] passwordDigest, byte[] salt) throws NoSuchAlgorithmException, InvalidKeySpecException {
+        DigestKey key = new DigestKey(passwordDigest, salt);
+        SecretKey secretKey = secretKeys.get(key);
+        if (null == secretKey) {
+            // Concurrent derivations of the same key return equal values, so no lock is required during the derivation
+            secretKey = getSecretKey(SYMMETRIC_ENCRYPTION_ALGORITHM, SECRET_KEY_ALGORITHM, password.toCharArray(),
+                    salt, ITERATION_COUNT, KEY_LENGTH);
+            secretKeys.put(key, secretKey);
+        }
+        return secretKey;
     }
 
 
@@ -167,10 +550,77 @@ public class EncryptorService {
     }
 
 
+    /**
+     * Return the {@link Cipher} of the current thread, it must be initialized before using it.
+     */
+    private Cipher getCipher() throws NoSuchAlgorithmException, NoSuchPaddingException {
+        Cipher cipher = ciphers.get();
+        if (null == cipher) {
+            cipher = Cipher.getInstance(ENCRYPTION_ALGORITHM);
+            ciphers.set(cipher);
+        }
+        return cipher;
+    }
+
+
+    /**
+     * Passwords are not kept in memory, only their digests are used to identify the related salts and keys.
+     */
+    private byte[] digest(String password) throws NoSuchAlgorithmException {
+        return MessageDigest.getInstance(PASSWORD_DIGEST_ALGORITHM)
+                .digest(password.getBytes(UTF_8));
+    }
+
+
     private byte[] getRandomNonce(int numBytes) {
         byte[] nonce = new byte[numBytes];
-        new SecureRandom().nextBytes(nonce);
+        secureRandom.nextBytes(nonce);
         return nonce;
     }
 
+
+    private static <K, V> Map<K, V> lruMap(int maxSize) {
+        return Collections.synchronizedMap(new LinkedHashMap<K, V>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<K, V> eldest) {
+                return size() > maxSize;
+            }
+        });
+    }
+
+
+    /**
+     * Key of the internal caches: digest of a password and, optionally, one salt.
+     */
+    private static final class DigestKey {
+
+        private final byte[] passwordDigest;
+        private final byte[] salt;
+        private final int hash;
+
+        private DigestKey(byte[] passwordDigest, byte[] salt) {
+            this.passwordDigest = passwordDigest;
+            this.salt = salt;
+            this.hash = 31 * Arrays.hashCode(passwordDigest) + Arrays.hashCode(salt);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof DigestKey)) {
+                return false;
+            }
+            DigestKey other = (DigestKey) o;
+            return MessageDigest.isEqual(passwordDigest, other.passwordDigest) &&
+                    Arrays.equals(salt, other.salt);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+
 }
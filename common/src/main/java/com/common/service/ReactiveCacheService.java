@@ -0,0 +1,333 @@
+package com.common.service;
+
+import com.common.cache.CacheMetrics;
+import com.common.cache.HazelcastCacheOperations;
+import com.common.cache.RefreshAheadTracker;
+import com.common.cache.RefreshAheadTracker.LoadKey;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.annotation.Condition;
+import org.springframework.context.annotation.ConditionContext;
+import org.springframework.context.annotation.Conditional;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.core.type.AnnotatedTypeMetadata;
+import org.springframework.stereotype.Service;
+import org.springframework.util.Assert;
+import org.springframework.util.ClassUtils;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import static java.util.Optional.ofNullable;
+
+/**
+ *    Common service used by the reactive microservices to deal with a cache, without blocking the threads of the event loop.
+ *
+ *    If the cache is managed by Hazelcast, the asynchronous operations of its {@code IMap} are used. Otherwise, the cache
+ * is invoked in {@link Schedulers#boundedElastic()}, because its operations could block the current thread.
+ *
+ *    Every operation publishes the meters described in {@link CacheMetrics}, measuring the time between the subscription
+ * and the termination of the returned {@link Mono}. This service is only registered if Reactor is included in the classpath.
+ */
+@Slf4j
+@Service
+@Conditional(ReactiveCacheService.ReactorPresentCondition.class)
+public class ReactiveCacheService {
+
+    private static final boolean IS_HAZELCAST_PRESENT =
+            ClassUtils.isPresent("com.hazelcast.spring.cache.HazelcastCache", ReactiveCacheService.class.getClassLoader());
+
+    private CacheManager cacheManager;
+
+    private CacheMetrics cacheMetrics;
+
+    // Loads currently in progress, shared by all the subscribers that ask for the same key
+    private final ConcurrentMap<LoadKey, Mono<Object>> inFlightLoads;
+
+    private final RefreshAheadTracker refreshAheadTracker;
+
+    @Autowired
+    public ReactiveCacheService(@Lazy CacheManager cacheManager, ObjectProvider<MeterRegistry> meterRegistry) {
+        this.cacheManager = cacheManager;
+        this.cacheMetrics = new CacheMetrics(meterRegistry.getIfAvailable(() -> Metrics.globalRegistry));
+        this.inFlightLoads = new ConcurrentHashMap<>();
+        this.refreshAheadTracker = new RefreshAheadTracker();
+    }
+
+
+    /**
+     * Remove all the elements included in the given {@code cacheName}
+     *
+     * @param cacheName
+     *    Cache to clean
+     *
+     * @return {@link Mono} with {@code true} if the {@code cacheName} exists and its elements were removed, {@code false} otherwise
+     */
+    public Mono<Boolean> clear(String cacheName) {
+        return ofNullable(cacheName)
+                .map(cacheManager::getCache)
+                .map(c ->
+                        timed(cacheName, "clear",
+                                blocking(() -> {
+                                    c.clear();
+                                    refreshAheadTracker.forget(cacheName);
+                                    return true;
+                                })
+                        )
+                )
+                .orElseGet(() -> Mono.just(false));
+    }
+
+
+    /**
+     * Check if exists the given {@code key} inside the cache.
+     *
+     * @param cacheName
+     *    Cache on which the {@code key} will be searched
+     * @param key
+     *    Identifier to search in the cache
+     *
+     * @return {@link Mono} with {@code true} if the {@code key} exists, {@code false} otherwise
+     */
+    public <K> Mono<Boolean> contains(String cacheName, K key) {
+        return ofNullable(cacheName)
+                .map(cacheManager::getCache)
+                .map(c ->
+                        getValueWrapper(cacheName, c, key, "contains")
+                                .map(v -> true)
+                                .defaultIfEmpty(false)
+                )
+                .orElseGet(() -> Mono.just(false));
+    }
+
+
+    /**
+     * Return the {@code value} related with the given {@code key} inside the cache.
+     *
+     * @param cacheName
+     *    Cache on which the {@code key} will be searched
+     * @param key
+     *    Identifier to search in the cache
+     *
+     * @return {@link Mono} with the {@code value} if it was found, {@link Mono#empty()} otherwise (or if the stored value is {@code null})
+     */
+    public <K, V> Mono<V> get(String cacheName, K key) {
+        return ofNullable(cacheName)
+                .map(cacheManager::getCache)
+                .map(c ->
+                        getValueWrapper(cacheName, c, key, "get")
+                                .flatMap(v -> Mono.justOrEmpty((V) v.get()))
+                )
+                .orElseGet(Mono::empty);
+    }
+
+
+    /**
+     * Return the {@code value} related with the given {@code key} inside the cache, using {@code loader} to get and store it when it is not found.
+     *
+     * @see ReactiveCacheService#getOrLoad(String, Object, Mono, Duration)
+     */
+    public <K, V> Mono<V> getOrLoad(String cacheName, K key, Mono<V> loader) {
+        return getOrLoad(cacheName, key, loader, null);
+    }
+
+
+    /**
+     *    Return the {@code value} related with the given {@code key} inside the cache, using {@code loader} to get and store
+     * it when it is not found.
+     *
+     *    Concurrent requests of the same missing {@code key} are coalesced: only one subscription to {@code loader} is done,
+     * and all the subscribers receive its result (or its error). If {@code refreshAfter} is provided, the entries found more
+     * than {@code refreshAfter} after their load are reloaded in background, returning the current value meanwhile. Using
+     * an interval lower than the expiration of the cache, the most used keys are never missed.
+     *
+     * @param cacheName
+     *    Cache on which the {@code key} will be searched
+     * @param key
+     *    Identifier to search in the cache
+     * @param loader
+     *    {@link Mono} used to get the {@code value} when the {@code key} was not found. An empty result is not stored
+     * @param refreshAfter
+     *    Time after which a loaded entry is refreshed in background. {@code null} means no refresh-ahead
+     *
+     * @return {@link Mono} with the found or loaded {@code value}, {@link Mono#empty()} if there is no one
+     *
+     * @throws IllegalArgumentException if {@code loader} is {@code null}
+     */
+    public <K, V> Mono<V> getOrLoad(String cacheName, K key, Mono<V> loader, Duration refreshAfter) {
+        Assert.notNull(loader, "loader must be not null");
+        return ofNullable(cacheName)
+                .map(cacheManager::getCache)
+                .map(c -> {
+                    LoadKey loadKey = new LoadKey(cacheName, key);
+                    return getValueWrapper(cacheName, c, key, "get")
+                            .map(Optional::of)
+                            .defaultIfEmpty(Optional.empty())
+                            .flatMap(v -> {
+                                if (!v.isPresent()) {
+                                    return loadOnce(loadKey, loader, refreshAfter);
+                                }
+                                refreshIfRequired(loadKey, loader, refreshAfter);
+                                return Mono.justOrEmpty((V) v.get().get());
+                            });
+                })
+                .orElse(loader);
+    }
+
+
+    /**
+     * Include a pair of {@code key} - {@code value} inside the cache.
+     *
+     * @param cacheName
+     *    Cache on which the information will be included
+     * @param key
+     *    Identifier of the {@code value} we want to store
+     * @param value
+     *    Information to store
+     *
+     * @return {@link Mono} with {@code true} if the data was stored, {@code false} otherwise
+     */
+    public <K, V> Mono<Boolean> put(String cacheName, K key, V value) {
+        return ofNullable(cacheName)
+                .map(cacheManager::getCache)
+                .map(c -> {
+                    Mono<Boolean> put = isHazelcastCache(c)
+                            ? Mono.fromFuture(() -> HazelcastCacheOperations.putAsync(c, key, value)).thenReturn(true)
+                            : blocking(() -> {
+                                  c.put(key, value);
+                                  return true;
+                              });
+                    return timed(cacheName, "put", put)
+                            .doOnNext(isStored -> cacheMetrics.puts(cacheName, 1));
+                })
+                .orElseGet(() -> Mono.just(false));
+    }
+
+
+    /**
+     * Remove the given {@code key} of the cache.
+     *
+     * @param cacheName
+     *    Cache on which the information will be removed
+     * @param key
+     *    Identifier of the {@code value} we want to remove
+     *
+     * @return {@link Mono} with {@code true} if no problem was found during the operation, {@code false} otherwise
+     */
+    public <K> Mono<Boolean> remove(String cacheName, K key) {
+        return ofNullable(cacheName)
+                .map(cacheManager::getCache)
+                .map(c -> {
+                    Mono<Boolean> remove = isHazelcastCache(c)
+                            ? Mono.fromFuture(() -> HazelcastCacheOperations.removeAsync(c, key)).thenReturn(true)
+                            : blocking(() -> {
+                                  c.evict(key);
+                                  return true;
+                              });
+                    return timed(cacheName, "remove", remove)
+                            .doOnNext(isRemoved -> {
+                                refreshAheadTracker.forget(new LoadKey(cacheName, key));
+                                cacheMetrics.removals(cacheName, 1);
+                            });
+                })
+                .orElseGet(() -> Mono.just(false));
+    }
+
+
+    /**
+     *    Return the {@link Cache.ValueWrapper} related with the given {@code key}, {@link Mono#empty()} if it was not found.
+     * The operation is recorded as a hit or a miss.
+     */
+    private <K> Mono<Cache.ValueWrapper> getValueWrapper(String cacheName, Cache cache, K key, String operation) {
+        Mono<Cache.ValueWrapper> value;
+        if (!isHazelcastCache(cache)) {
+            value = blocking(() -> cache.get(key));
+        }
+        else {
+            value = Mono.fromFuture(() -> HazelcastCacheOperations.getAsync(cache, key));
+        }
+        return timed(cacheName, operation, value)
+                .doOnSuccess(v -> cacheMetrics.gets(cacheName, null == v ? 0 : 1, null == v ? 1 : 0));
+    }
+
+
+    /**
+     *    Subscribe to {@code loader} and store its result in the cache, unless there is another load of the same key in
+     * progress. In that case, its result is shared instead of subscribing to {@code loader} again.
+     */
+    private <V> Mono<V> loadOnce(LoadKey loadKey, Mono<V> loader, Duration refreshAfter) {
+        return Mono.defer(() -> {
+            Mono<Object> newLoad = timed(loadKey.getCacheName(), "load", loader)
+                    .flatMap(v -> put(loadKey.getCacheName(), loadKey.getKey(), v).thenReturn((Object) v))
+                    .doOnNext(v -> refreshAheadTracker.loaded(loadKey, refreshAfter))
+                    // Removed before its result is sent, so the subscribers never find a finished load as in progress.
+                    // Only the load registered for loadKey can finish here, so there is no other one to keep
+                    .doOnTerminate(() -> inFlightLoads.remove(loadKey))
+                    .cache();
+            Mono<Object> currentLoad = inFlightLoads.putIfAbsent(loadKey, newLoad);
+            return (Mono<V>) (null == currentLoad ? newLoad : currentLoad);
+        });
+    }
+
+
+    /**
+     * Reload the given {@code loadKey} in background if it was loaded more than {@code refreshAfter} ago.
+     */
+    private <V> void refreshIfRequired(LoadKey loadKey, Mono<V> loader, Duration refreshAfter) {
+        if (!inFlightLoads.containsKey(loadKey) && refreshAheadTracker.shouldRefresh(loadKey, refreshAfter)) {
+            loadOnce(loadKey, loader, refreshAfter)
+                    .subscribe(
+                            v -> {},
+                            // The current value is kept until its expiration
+                            e -> log.warn("Refresh-ahead of the key: {} in the cache: {} failed",
+                                    loadKey.getKey(), loadKey.getCacheName(), e)
+                    );
+        }
+    }
+
+
+    /**
+     * Record the time between the subscription to {@code operation} and its termination.
+     */
+    private <T> Mono<T> timed(String cacheName, String operationName, Mono<T> operation) {
+        return Mono.defer(() -> {
+            Timer.Sample sample = cacheMetrics.start();
+            return operation.doFinally(signal -> cacheMetrics.stop(sample, cacheName, operationName));
+        });
+    }
+
+
+    private <T> Mono<T> blocking(Callable<T> operation) {
+        return Mono.fromCallable(operation)
+                .subscribeOn(Schedulers.boundedElastic());
+    }
+
+
+    private boolean isHazelcastCache(Cache cache) {
+        return IS_HAZELCAST_PRESENT && HazelcastCacheOperations.isHazelcastCache(cache);
+    }
+
+
+    /**
+     * Avoids registering {@link ReactiveCacheService} in the microservices that do not include Reactor.
+     */
+    static class ReactorPresentCondition implements Condition {
+
+        @Override
+        public boolean matches(ConditionContext context, AnnotatedTypeMetadata metadata) {
+            return ClassUtils.isPresent("reactor.core.publisher.Mono", context.getClassLoader());
+        }
+    }
+
+}
@@ -1,5 +1,10 @@
 package com.common.util;
 
+import com.common.collection.primitive.IntArrayList;
+import com.common.collection.primitive.IntHashSet;
+import com.common.collection.primitive.IntObjectMap;
+import com.common.collection.primitive.ShortObjectMap;
+import com.common.collection.primitive.ToShortFunction;
 import lombok.experimental.UtilityClass;
 import org.springframework.util.Assert;
 import org.springframework.util.CollectionUtils;
@@ -13,22 +18,42 @@ import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
+import java.util.RandomAccess;
+import java.util.Spliterator;
+import java.util.function.Consumer;
 import java.util.function.BiFunction;
+import java.util.function.BinaryOperator;
 import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.function.Supplier;
+import java.util.function.ToIntFunction;
 import java.util.function.UnaryOperator;
 import java.util.stream.IntStream;
 import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 import static java.util.Arrays.asList;
 import static java.util.Optional.ofNullable;
 import static java.util.stream.Collectors.toCollection;
 import static java.util.stream.Collectors.toList;
 
+/**
+ *    Operations over {@link Collection}s. Most of them include an overload with a {@code parallelThreshold}: when the
+ * number of elements to manage is equal or greater than it, the operation is executed in parallel using the common
+ * {@link java.util.concurrent.ForkJoinPool}. Otherwise, it is executed sequentially, because splitting and merging
+ * small collections costs more than the work itself.
+ */
 @UtilityClass
 public class CollectionUtil {
 
+    /**
+     * Suggested {@code parallelThreshold}, below it the parallel execution is rarely faster than the sequential one.
+     */
+    public static final int DEFAULT_PARALLEL_THRESHOLD = 10_000;
+
+    // Used by the sequential versions of the operations, so they are never executed in parallel
+    private static final int NEVER_PARALLEL = Integer.MAX_VALUE;
+
     /**
      * Return a {@link LinkedHashSet} with the provided {@code elements}.
      *
@@ -44,6 +69,36 @@ public class CollectionUtil {
     }
 
 
+    /**
+     *    Return a lazy {@link Stream} with the elements of the given {@code stream} grouped in {@link List}s of {@code size}
+     * elements, the last one could contain less. The elements of {@code stream} are consumed only when the chunks are
+     * requested and only the current chunk is kept in memory, so it can be used with unbounded sources or with cursors
+     * over large result sets. Closing the returned {@link Stream} closes {@code stream}.
+     *
+     * Examples:
+     *   [1, 2, 3, 4] with size = 2 => [[1, 2], [3, 4]]
+     *   [1, 2, 3, 4] with size = 3 => [[1, 2, 3], [4]]
+     *
+     * @param stream
+     *    {@link Stream} with the elements to group
+     * @param size
+     *    Maximum size of every chunk
+     *
+     * @return {@link Stream} of {@link List}s
+     *
+     * @throws IllegalArgumentException if {@code size} is less than 1
+     *
+     * @see CollectionUtil#split(Collection, int)
+     */
+    public static <T> Stream<List<T>> chunked(final Stream<T> stream, final int size) {
+        Assert.isTrue(0 < size, "size must be greater than 0");
+        return ofNullable(stream)
+                .map(s -> StreamSupport.stream(new ChunkedSpliterator<>(s.spliterator(), size), false)
+                                       .onClose(s::close))
+                .orElseGet(Stream::empty);
+    }
+
+
     /**
      * Return a {@link Collection} after:
      *
@@ -67,6 +122,36 @@ public class CollectionUtil {
                                                final Predicate<? super T> filterPredicate,
                                                final Function<? super T, ? extends E> mapFunction,
                                                final Supplier<Collection<E>> collectionFactory) {
+        return collect(collection, filterPredicate, mapFunction, collectionFactory, NEVER_PARALLEL);
+    }
+
+
+    /**
+     *    Return a {@link Collection} after filter and transform the elements of the given {@code collection}, in parallel
+     * if it contains {@code parallelThreshold} or more elements. The encounter order of {@code collection} is kept.
+     *
+     * @param collection
+     *    Source {@link Collection} with the elements to filter and transform.
+     * @param filterPredicate
+     *    {@link Predicate} to filter elements from the source {@code collection}.
+     * @param mapFunction
+     *    {@link Function} to transform filtered elements from the source {@code collection}.
+     * @param collectionFactory
+     *    {@link Supplier} of the {@link Collection} used to store the returned elements.
+     * @param parallelThreshold
+     *    Minimum size of {@code collection} to execute this operation in parallel
+     *
+     * @return {@link Collection}
+     *
+     * @throws IllegalArgumentException if {@code filterPredicate} or {@code mapFunction} is {@code null}
+     *
+     * @see CollectionUtil#collect(Collection, Predicate, Function, Supplier)
+     */
+    public static <T, E> Collection<E> collect(final Collection<T> collection,
+                                               final Predicate<? super T> filterPredicate,
+                                               final Function<? super T, ? extends E> mapFunction,
+                                               final Supplier<Collection<E>> collectionFactory,
+                                               final int parallelThreshold) {
         Assert.notNull(filterPredicate, "filterPredicate must be not null");
         Assert.notNull(mapFunction, "mapFunction must be not null");
 
@@ -78,8 +163,7 @@ public class CollectionUtil {
                         ? () -> new ArrayList<>()
                         : collectionFactory;
 
-        return collection
-                .stream()
+        return stream(collection, parallelThreshold)
                 .filter(filterPredicate)
                 .map(mapFunction)
                 .collect(toCollection(definitiveCollectionFactory));
@@ -139,12 +223,36 @@ public class CollectionUtil {
      */
     public static <T, E> Collection<E> collectProperty(final Collection<T> collection, Function<? super T, E> keyExtractor,
                                                        final Supplier<Collection<E>> collectionFactory) {
+        return collectProperty(collection, keyExtractor, collectionFactory, NEVER_PARALLEL);
+    }
+
+
+    /**
+     *    Return a {@link Collection} with the extracted property of the given {@code collection}, in parallel if it contains
+     * {@code parallelThreshold} or more elements. The encounter order of {@code collection} is kept.
+     *
+     * @param collection
+     *    Source {@link Collection} with the property to extract.
+     * @param keyExtractor
+     *    {@link Function} used to get the key we want to use to include in returned {@link Collection}.
+     * @param collectionFactory
+     *    {@link Supplier} of the {@link Collection} used to store the returned elements.
+     * @param parallelThreshold
+     *    Minimum size of {@code collection} to execute this operation in parallel
+     *
+     * @return {@link Collection}
+     *
+     * @see CollectionUtil#collectProperty(Collection, Function, Supplier)
+     */
+    public static <T, E> Collection<E> collectProperty(final Collection<T> collection, Function<? super T, E> keyExtractor,
+                                                       final Supplier<Collection<E>> collectionFactory,
+                                                       final int parallelThreshold) {
         return ofNullable(collection)
                 .map(c -> {
                     if (null == keyExtractor) {
                         return null;
                     }
-                    Stream<E> keyExtractedStream = collection.stream().map(keyExtractor);
+                    Stream<E> keyExtractedStream = stream(collection, parallelThreshold).map(keyExtractor);
                     return null == collectionFactory
                             ? keyExtractedStream.collect(toList())
                             : keyExtractedStream.collect(toCollection(collectionFactory));
@@ -162,10 +270,35 @@ public class CollectionUtil {
      * @return {@link LinkedHashSet}
      */
     public static <T> Set<T> concatUniqueElements(final Collection<T> ...collections) {
+        return concatUniqueElements(NEVER_PARALLEL, collections);
+    }
+
+
+    /**
+     *    Return the unique elements of the given {@link Collection}s, in parallel if together they contain
+     * {@code parallelThreshold} or more elements. The returned elements keep the order in which they appear first.
+     *
+     * @param parallelThreshold
+     *    Minimum number of elements in {@code collections} to execute this operation in parallel
+     * @param collections
+     *    {@link Collection}s to concat.
+     *
+     * @return {@link LinkedHashSet}
+     *
+     * @see CollectionUtil#concatUniqueElements(Collection[])
+     */
+    public static <T> Set<T> concatUniqueElements(final int parallelThreshold, final Collection<T> ...collections) {
         return ofNullable(collections)
-                .map(c -> Stream.of(c).filter(Objects::nonNull)
-                                      .flatMap(Collection::stream)
-                                      .collect(toCollection(LinkedHashSet::new)))
+                .map(c -> {
+                    long numberOfElements = Stream.of(c).filter(Objects::nonNull)
+                                                        .mapToLong(Collection::size)
+                                                        .sum();
+                    Stream<Collection<T>> stream = Stream.of(c);
+                    return (numberOfElements >= parallelThreshold ? stream.parallel() : stream)
+                            .filter(Objects::nonNull)
+                            .flatMap(Collection::stream)
+                            .collect(toCollection(LinkedHashSet::new));
+                })
                 .orElseGet(LinkedHashSet::new);
     }
 
@@ -205,6 +338,49 @@ public class CollectionUtil {
     }
 
 
+    /**
+     *    Folds this elements from the left, in parallel if {@code collection} contains {@code parallelThreshold} or more
+     * elements. In that case, every part of {@code collection} is folded starting with {@code initialValue}, and the
+     * partial results are merged with {@code combiner} keeping the encounter order. So, to get the same result than
+     * {@link CollectionUtil#foldLeft(Collection, Object, BiFunction)}:
+     *
+     *  - {@code initialValue} must be an identity of {@code combiner}: combiner(initialValue, e) == e
+     *  - {@code combiner} must be associative and compatible with {@code accumulator}:
+     *       combiner(e, accumulator(initialValue, t)) == accumulator(e, t)
+     *
+     * Examples:
+     *   [5, 7, 9],   1,  (a, b) -> a * b,  (a, b) -> a * b   => 315
+     *   ["a", "h"],  "", (a, b) -> a + b,  (a, b) -> a + b   => "ah"
+     *
+     * @param collection
+     *    {@link Collection} with elements to combine.
+     * @param initialValue
+     *    The initial value to start with.
+     * @param accumulator
+     *    A {@link BiFunction} which combines elements.
+     * @param combiner
+     *    An associative {@link BinaryOperator} which combines the results of {@code accumulator}.
+     * @param parallelThreshold
+     *    Minimum size of {@code collection} to execute this operation in parallel
+     *
+     * @return a folded value
+     *
+     * @throws IllegalArgumentException if {@code initialValue} or {@code combiner} is {@code null}
+     */
+    public static <T, E> E foldLeft(final Collection<T> collection, final E initialValue,
+                                    final BiFunction<E, ? super T, E> accumulator, final BinaryOperator<E> combiner,
+                                    final int parallelThreshold) {
+        Assert.notNull(initialValue, "initialValue must be not null");
+        Assert.notNull(combiner, "combiner must be not null");
+        if (null == collection || null == accumulator || collection.size() < parallelThreshold) {
+            return foldLeft(collection, initialValue, accumulator);
+        }
+        return collection
+                .parallelStream()
+                .reduce(initialValue, accumulator, combiner);
+    }
+
+
     /**
      *    Using {@code initialValue} as first element, apply {@code applyFunction} up to {@code untilPredicate} function
      * is {@code true}. The accumulated results are returned in a {@link List}.
@@ -309,6 +485,28 @@ public class CollectionUtil {
      * @return {@link List} of {@link List}s
      */
     public static <T> List<List<T>> split(final Collection<T> collectionToSplit, final int size) {
+        return split(collectionToSplit, size, NEVER_PARALLEL);
+    }
+
+
+    /**
+     *    Splits the given {@link Collection} in sublists with a size equal to the given {@code size}, copying them in
+     * parallel if {@code collectionToSplit} contains {@code parallelThreshold} or more elements. The sublists are
+     * returned in the encounter order of {@code collectionToSplit}.
+     *
+     * @param collectionToSplit
+     *    {@link Collection} to split
+     * @param size
+     *    Size of every sublist
+     * @param parallelThreshold
+     *    Minimum size of {@code collectionToSplit} to execute this operation in parallel
+     *
+     * @return {@link List} of {@link List}s
+     *
+     * @see CollectionUtil#split(Collection, int)
+     */
+    public static <T> List<List<T>> split(final Collection<T> collectionToSplit, final int size,
+                                          final int parallelThreshold) {
         if (CollectionUtils.isEmpty(collectionToSplit)) {
             return new ArrayList<>();
         }
@@ -316,6 +514,14 @@ public class CollectionUtil {
         int expectedSize = 0 == listToSplit.size() % size
                 ? listToSplit.size() / size
                 : (listToSplit.size() / size) + 1;
+        if (listToSplit.size() >= parallelThreshold) {
+            return IntStream.range(0, expectedSize)
+                    .parallel()
+                    .<List<T>>mapToObj(i -> new ArrayList<>(
+                            listToSplit.subList(i * size, Math.min(listToSplit.size(), (i + 1) * size)))
+                    )
+                    .collect(toList());
+        }
         List<List<T>> splits = new ArrayList<>(expectedSize);
         for (int i = 0; i < listToSplit.size(); i += size) {
             splits.add(new ArrayList<>(
@@ -326,6 +532,158 @@ public class CollectionUtil {
     }
 
 
+    /**
+     * Return an {@link IntArrayList} with the {@code int} values extracted from the elements of the given {@code collection}.
+     *
+     * @param collection
+     *    Source {@link Collection} with the values to extract
+     * @param valueExtractor
+     *    {@link ToIntFunction} used to get the value of every element
+     *
+     * @return {@link IntArrayList} keeping the encounter order of {@code collection}
+     *
+     * @throws IllegalArgumentException if {@code valueExtractor} is {@code null}
+     */
+    public static <T> IntArrayList toIntArrayList(final Collection<T> collection, final ToIntFunction<? super T> valueExtractor) {
+        Assert.notNull(valueExtractor, "valueExtractor must be not null");
+        if (CollectionUtils.isEmpty(collection)) {
+            return new IntArrayList();
+        }
+        IntArrayList result = new IntArrayList(collection.size());
+        for (T element : collection) {
+            result.add(valueExtractor.applyAsInt(element));
+        }
+        return result;
+    }
+
+
+    /**
+     * Return an {@link IntHashSet} with the unique {@code int} values extracted from the elements of the given {@code collection}.
+     *
+     * @param collection
+     *    Source {@link Collection} with the values to extract
+     * @param valueExtractor
+     *    {@link ToIntFunction} used to get the value of every element
+     *
+     * @return {@link IntHashSet}
+     *
+     * @throws IllegalArgumentException if {@code valueExtractor} is {@code null}
+     */
+    public static <T> IntHashSet toIntHashSet(final Collection<T> collection, final ToIntFunction<? super T> valueExtractor) {
+        Assert.notNull(valueExtractor, "valueExtractor must be not null");
+        if (CollectionUtils.isEmpty(collection)) {
+            return new IntHashSet();
+        }
+        IntHashSet result = new IntHashSet(collection.size());
+        for (T element : collection) {
+            result.add(valueExtractor.applyAsInt(element));
+        }
+        return result;
+    }
+
+
+    /**
+     *    Return an {@link IntObjectMap} with the elements of the given {@code collection}, using the {@code int} returned
+     * by {@code keyExtractor} as key. If several elements have the same key, the first one is kept.
+     *
+     * @param collection
+     *    Source {@link Collection} with the elements to include
+     * @param keyExtractor
+     *    {@link ToIntFunction} used to get the key of every element
+     *
+     * @return {@link IntObjectMap}
+     *
+     * @throws IllegalArgumentException if {@code keyExtractor} is {@code null}
+     */
+    public static <T> IntObjectMap<T> toIntObjectMap(final Collection<T> collection, final ToIntFunction<? super T> keyExtractor) {
+        return toIntObjectMap(collection, keyExtractor, Function.identity());
+    }
+
+
+    /**
+     *    Return an {@link IntObjectMap} with the values extracted from the elements of the given {@code collection}, using
+     * the {@code int} returned by {@code keyExtractor} as key. If several elements have the same key, the first one is kept.
+     *
+     * @param collection
+     *    Source {@link Collection} with the elements to include
+     * @param keyExtractor
+     *    {@link ToIntFunction} used to get the key of every element
+     * @param valueExtractor
+     *    {@link Function} used to get the value of every element
+     *
+     * @return {@link IntObjectMap}
+     *
+     * @throws IllegalArgumentException if {@code keyExtractor} or {@code valueExtractor} is {@code null}
+     */
+    public static <T, V> IntObjectMap<V> toIntObjectMap(final Collection<T> collection, final ToIntFunction<? super T> keyExtractor,
+                                                        final Function<? super T, ? extends V> valueExtractor) {
+        Assert.notNull(keyExtractor, "keyExtractor must be not null");
+        Assert.notNull(valueExtractor, "valueExtractor must be not null");
+        if (CollectionUtils.isEmpty(collection)) {
+            return new IntObjectMap<>();
+        }
+        IntObjectMap<V> result = new IntObjectMap<>(collection.size());
+        for (T element : collection) {
+            int key = keyExtractor.applyAsInt(element);
+            if (!result.containsKey(key)) {
+                result.put(key, valueExtractor.apply(element));
+            }
+        }
+        return result;
+    }
+
+
+    /**
+     *    Return a {@link ShortObjectMap} with the elements of the given {@code collection}, using the {@code short} returned
+     * by {@code keyExtractor} as key. If several elements have the same key, the first one is kept.
+     *
+     * @param collection
+     *    Source {@link Collection} with the elements to include
+     * @param keyExtractor
+     *    {@link ToShortFunction} used to get the key of every element
+     *
+     * @return {@link ShortObjectMap}
+     *
+     * @throws IllegalArgumentException if {@code keyExtractor} is {@code null}
+     */
+    public static <T> ShortObjectMap<T> toShortObjectMap(final Collection<T> collection, final ToShortFunction<? super T> keyExtractor) {
+        return toShortObjectMap(collection, keyExtractor, Function.identity());
+    }
+
+
+    /**
+     *    Return a {@link ShortObjectMap} with the values extracted from the elements of the given {@code collection}, using
+     * the {@code short} returned by {@code keyExtractor} as key. If several elements have the same key, the first one is kept.
+     *
+     * @param collection
+     *    Source {@link Collection} with the elements to include
+     * @param keyExtractor
+     *    {@link ToShortFunction} used to get the key of every element
+     * @param valueExtractor
+     *    {@link Function} used to get the value of every element
+     *
+     * @return {@link ShortObjectMap}
+     *
+     * @throws IllegalArgumentException if {@code keyExtractor} or {@code valueExtractor} is {@code null}
+     */
+    public static <T, V> ShortObjectMap<V> toShortObjectMap(final Collection<T> collection, final ToShortFunction<? super T> keyExtractor,
+                                                            final Function<? super T, ? extends V> valueExtractor) {
+        Assert.notNull(keyExtractor, "keyExtractor must be not null");
+        Assert.notNull(valueExtractor, "valueExtractor must be not null");
+        if (CollectionUtils.isEmpty(collection)) {
+            return new ShortObjectMap<>();
+        }
+        ShortObjectMap<V> result = new ShortObjectMap<>(collection.size());
+        for (T element : collection) {
+            short key = keyExtractor.applyAsShort(element);
+            if (!result.containsKey(key)) {
+                result.put(key, valueExtractor.apply(element));
+            }
+        }
+        return result;
+    }
+
+
     /**
      * Transposes the given {@code collectionsToTranspose}.
      *
@@ -341,6 +699,28 @@ public class CollectionUtil {
      * @throws IllegalArgumentException if not all {@code collectionsToTranspose} have the same size
      */
     public static <T> List<List<T>> transpose(final Collection<Collection<T>> collectionsToTranspose) {
+        return transpose(collectionsToTranspose, NEVER_PARALLEL);
+    }
+
+
+    /**
+     *    Transposes the given {@code collectionsToTranspose}, building the new rows in parallel if the total number of
+     * elements is equal or greater than {@code parallelThreshold}. The rows and their elements keep the encounter order
+     * of {@code collectionsToTranspose}.
+     *
+     * @param collectionsToTranspose
+     *    {@link Collection} of {@link Collection}s to transpose
+     * @param parallelThreshold
+     *    Minimum number of elements in {@code collectionsToTranspose} to execute this operation in parallel
+     *
+     * @return {@link List} of {@link List}s
+     *
+     * @throws IllegalArgumentException if not all {@code collectionsToTranspose} have the same size
+     *
+     * @see CollectionUtil#transpose(Collection)
+     */
+    public static <T> List<List<T>> transpose(final Collection<Collection<T>> collectionsToTranspose,
+                                              final int parallelThreshold) {
         if (CollectionUtils.isEmpty(collectionsToTranspose)) {
             return new ArrayList<>();
         }
@@ -357,6 +737,9 @@ public class CollectionUtil {
             }
             iteratorList.add(c.iterator());
         }
+        if ((long) expectedSize * collectionsToTranspose.size() >= parallelThreshold) {
+            return transposeInParallel(collectionsToTranspose, expectedSize);
+        }
         List<List<T>> result = new ArrayList<>(collectionsToTranspose.size());
         for (int i = 0; i < expectedSize; i++) {
             List<T> newRow = new ArrayList<>(expectedSize);
@@ -368,4 +751,217 @@ public class CollectionUtil {
         return result;
     }
 
+
+    /**
+     *    Return a lazy {@link Stream} with the windows of {@code size} consecutive elements of the given {@code stream},
+     * starting a new window every {@code step} elements. If {@code step} is greater than {@code size}, the elements
+     * between windows are skipped. When {@code stream} contains less than {@code size} elements, only one window with
+     * all of them is returned, like {@link CollectionUtil#sliding(Collection, int)}.
+     *
+     *    The elements of {@code stream} are consumed only when the windows are requested and at most {@code size} of them
+     * are kept in memory, so it can be used with unbounded sources or with cursors over large result sets. Closing the
+     * returned {@link Stream} closes {@code stream}.
+     *
+     * Examples:
+     *   [1, 2]             with size = 5, step = 1 => [[1, 2]]
+     *   [7, 8, 9]          with size = 2, step = 1 => [[7, 8], [8, 9]]
+     *   [1, 2, 3, 4, 5]    with size = 2, step = 2 => [[1, 2], [3, 4]]
+     *   [1, 2, 3, 4, 5, 6] with size = 2, step = 3 => [[1, 2], [4, 5]]
+     *
+     * @param stream
+     *    {@link Stream} with the elements to slide
+     * @param size
+     *    Size of every window
+     * @param step
+     *    Number of elements between the beginning of two consecutive windows
+     *
+     * @return {@link Stream} of {@link List}s
+     *
+     * @throws IllegalArgumentException if {@code size} or {@code step} are less than 1
+     *
+     * @see CollectionUtil#sliding(Collection, int)
+     */
+    public static <T> Stream<List<T>> windowed(final Stream<T> stream, final int size, final int step) {
+        Assert.isTrue(0 < size, "size must be greater than 0");
+        Assert.isTrue(0 < step, "step must be greater than 0");
+        return ofNullable(stream)
+                .map(s -> StreamSupport.stream(new WindowedSpliterator<>(s.spliterator(), size, step), false)
+                                       .onClose(s::close))
+                .orElseGet(Stream::empty);
+    }
+
+
+    /**
+     * Return a sequential or parallel {@link Stream} of {@code collection} depending on its size.
+     */
+    private static <T> Stream<T> stream(final Collection<T> collection, final int parallelThreshold) {
+        return collection.size() >= parallelThreshold
+                ? collection.parallelStream()
+                : collection.stream();
+    }
+
+
+    /**
+     *    Transposes the given {@code collectionsToTranspose}, all of them with {@code numberOfColumns} elements, building
+     * every new row in parallel. The elements are accessed by position, so the {@link Collection}s without fast random
+     * access are copied first.
+     */
+    private static <T> List<List<T>> transposeInParallel(final Collection<Collection<T>> collectionsToTranspose,
+                                                         final int numberOfColumns) {
+        List<List<T>> rows = new ArrayList<>(collectionsToTranspose.size());
+        for (Collection<T> c: collectionsToTranspose) {
+            rows.add(c instanceof List && c instanceof RandomAccess
+                    ? (List<T>) c
+                    : new ArrayList<>(c));
+        }
+        return IntStream.range(0, numberOfColumns)
+                .parallel()
+                .mapToObj(i -> {
+                    List<T> newRow = new ArrayList<>(rows.size());
+                    for (List<T> row: rows) {
+                        newRow.add(row.get(i));
+                    }
+                    return newRow;
+                })
+                .collect(toList());
+    }
+
+
+    /**
+     *    {@link Spliterator} grouping the elements of {@code source} in {@link List}s of {@code size} elements. It does not
+     * split, because every chunk depends on the previous ones.
+     */
+    private static final class ChunkedSpliterator<T> implements Spliterator<List<T>> {
+
+        private final Spliterator<T> source;
+        private final int size;
+
+        private ChunkedSpliterator(final Spliterator<T> source, final int size) {
+            this.source = source;
+            this.size = size;
+        }
+
+        @Override
+        public boolean tryAdvance(final Consumer<? super List<T>> action) {
+            List<T> chunk = new ArrayList<>(size);
+            while (chunk.size() < size && source.tryAdvance(chunk::add)) {
+                // Elements added by tryAdvance
+            }
+            if (chunk.isEmpty()) {
+                return false;
+            }
+            action.accept(chunk);
+            return true;
+        }
+
+        @Override
+        public Spliterator<List<T>> trySplit() {
+            return null;
+        }
+
+        @Override
+        public long estimateSize() {
+            long sourceSize = source.estimateSize();
+            return Long.MAX_VALUE == sourceSize
+                    ? Long.MAX_VALUE
+                    : (sourceSize + size - 1) / size;
+        }
+
+        @Override
+        public int characteristics() {
+            return ORDERED | NONNULL | (source.characteristics() & SIZED);
+        }
+    }
+
+
+    /**
+     *    {@link Spliterator} returning windows of {@code size} consecutive elements of {@code source}, every {@code step}
+     * elements. The current window is stored in a circular buffer, so {@code null} elements are allowed. It does not
+     * split, because every window depends on the previous ones.
+     */
+    private static final class WindowedSpliterator<T> implements Spliterator<List<T>> {
+
+        private final Spliterator<T> source;
+        private final int size;
+        private final int step;
+
+        private final Object[] buffer;
+        private int head;
+        private int count;
+
+        // Elements of source to discard before the next window, when step is greater than size
+        private int pendingSkip;
+        private boolean isAnyWindowReturned;
+        private boolean isSourceExhausted;
+
+        private WindowedSpliterator(final Spliterator<T> source, final int size, final int step) {
+            this.source = source;
+            this.size = size;
+            this.step = step;
+            this.buffer = new Object[size];
+            this.head = 0;
+            this.count = 0;
+            this.pendingSkip = 0;
+            this.isAnyWindowReturned = false;
+            this.isSourceExhausted = false;
+        }
+
+        @Override
+        public boolean tryAdvance(final Consumer<? super List<T>> action) {
+            while (0 < pendingSkip && !isSourceExhausted) {
+                isSourceExhausted = !source.tryAdvance(e -> {});
+                pendingSkip--;
+            }
+            while (count < size && !isSourceExhausted) {
+                isSourceExhausted = !source.tryAdvance(this::addLast);
+            }
+            // Only full windows are returned, except if the source does not contain enough elements for one of them
+            if (count == size || (!isAnyWindowReturned && 0 < count)) {
+                action.accept(currentWindow());
+                isAnyWindowReturned = true;
+                moveForward();
+                return true;
+            }
+            return false;
+        }
+
+        @Override
+        public Spliterator<List<T>> trySplit() {
+            return null;
+        }
+
+        @Override
+        public long estimateSize() {
+            return Long.MAX_VALUE;
+        }
+
+        @Override
+        public int characteristics() {
+            return ORDERED | NONNULL;
+        }
+
+        private void addLast(final T element) {
+            buffer[(head + count) % size] = element;
+            count++;
+        }
+
+        private List<T> currentWindow() {
+            List<T> window = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) {
+                window.add((T) buffer[(head + i) % size]);
+            }
+            return window;
+        }
+
+        private void moveForward() {
+            int toRemove = Math.min(step, count);
+            for (int i = 0; i < toRemove; i++) {
+                buffer[head] = null;
+                head = (head + 1) % size;
+            }
+            count -= toRemove;
+            pendingSkip = step - toRemove;
+        }
+    }
+
 }
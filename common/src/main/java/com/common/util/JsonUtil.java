@@ -3,24 +3,68 @@ package com.common.util;
 import com.common.exception.JsonException;
 import lombok.experimental.UtilityClass;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SequenceWriter;
 import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.util.ByteBufferBackedInputStream;
+import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
+import org.springframework.util.Assert;
+import org.springframework.util.ClassUtils;
 
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.PushbackInputStream;
+import java.nio.ByteBuffer;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
 
 import static java.util.Optional.ofNullable;
 
+/**
+ *    Json serialization/deserialization shared by the microservices. {@link ObjectReader} and {@link ObjectWriter} are
+ * immutable and thread-safe, so one of them is cached by {@link Class}, avoiding to search its (de)serializer every time.
+ *
+ *    Besides {@link String}, the Json can be read/written directly from/to bytes, avoiding the intermediate {@code char[]}
+ * and {@link String} copies. If {@code jackson-module-blackbird} is included in the classpath, the (de)serializers use
+ * generated bytecode instead of reflection to access to the properties.
+ */
 @UtilityClass
 public class JsonUtil {
 
+    private static final boolean IS_BLACKBIRD_PRESENT =
+            ClassUtils.isPresent("com.fasterxml.jackson.module.blackbird.BlackbirdModule", JsonUtil.class.getClassLoader());
+
+    private static final byte[] NEW_LINE = { '\n' };
+
     private static ObjectMapper mapper;
     static {
         mapper = new ObjectMapper();
         mapper.configure(SerializationFeature.WRAP_ROOT_VALUE, false);
+        if (IS_BLACKBIRD_PRESENT) {
+            BlackbirdRegistration.register(mapper);
+        }
     }
 
+    // The given streams belong to the invokers, so the readers and writers must not close them
+    private static final Map<Class<?>, ObjectReader> readers = new ConcurrentHashMap<>();
+
+    private static final Map<Class<?>, ObjectWriter> writers = new ConcurrentHashMap<>();
+
+    private static final ObjectWriter sequenceWriter = mapper.writer()
+            .without(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+
+    private static final ObjectWriter ndJsonWriter = sequenceWriter
+            .withRootValueSeparator("\n");
+
 
     /**
      * Convert the incoming object into a JSON-formatted string.
@@ -37,7 +81,7 @@ public class JsonUtil {
         return ofNullable(object)
                 .map(o -> {
                     try {
-                        return mapper.writeValueAsString(o);
+                        return writer(o.getClass()).writeValueAsString(o);
                     } catch (JsonProcessingException e) {
                         throw new JsonException(e);
                     }
@@ -45,6 +89,119 @@ public class JsonUtil {
     }
 
 
+    /**
+     * Convert the incoming object into JSON-formatted UTF-8 bytes, without creating an intermediate {@link String}.
+     *
+     * @param object
+     *    Object to map into bytes
+     *
+     * @return {@link Optional} of {@code byte[]} with JSON-formatted if the object could be converted,
+     *         {@link Optional#empty()} otherwise
+     *
+     * @throws JsonException if there was a problem trying to generate the JSON-formatted bytes
+     */
+    public static <T> Optional<byte[]> toJsonBytes(T object) {
+        return ofNullable(object)
+                .map(o -> {
+                    try {
+                        return writer(o.getClass()).writeValueAsBytes(o);
+                    } catch (JsonProcessingException e) {
+                        throw new JsonException(e);
+                    }
+                });
+    }
+
+
+    /**
+     * Convert the incoming object into a {@link ByteBuffer} with JSON-formatted UTF-8 bytes.
+     *
+     * @param object
+     *    Object to map into {@link ByteBuffer}
+     *
+     * @return {@link Optional} of {@link ByteBuffer} ready to be read if the object could be converted,
+     *         {@link Optional#empty()} otherwise
+     *
+     * @throws JsonException if there was a problem trying to generate the JSON-formatted bytes
+     */
+    public static <T> Optional<ByteBuffer> toJsonByteBuffer(T object) {
+        return toJsonBytes(object)
+                .map(ByteBuffer::wrap);
+    }
+
+
+    /**
+     * Write the incoming object as JSON-formatted UTF-8 bytes in the given {@link OutputStream}, which is not closed.
+     *
+     * @param object
+     *    Object to write. If it is {@code null} nothing is written
+     * @param output
+     *    {@link OutputStream} on which the JSON will be written
+     *
+     * @throws IllegalArgumentException if {@code output} is {@code null}
+     * @throws JsonException if there was a problem trying to write the JSON-formatted bytes
+     */
+    public static <T> void toJson(T object, OutputStream output) {
+        Assert.notNull(output, "output must be not null");
+        if (null == object) {
+            return;
+        }
+        try {
+            writer(object.getClass()).writeValue(output, object);
+        } catch (IOException e) {
+            throw new JsonException(e);
+        }
+    }
+
+
+    /**
+     *    Write the elements of the given {@link Stream} as a JSON array in {@code output}, one by one, so they are never
+     * stored all together in memory. The {@code output} is not closed.
+     *
+     * @param stream
+     *    {@link Stream} with the elements to write. If it is {@code null}, an empty array is written
+     * @param output
+     *    {@link OutputStream} on which the JSON array will be written
+     *
+     * @throws IllegalArgumentException if {@code output} is {@code null}
+     * @throws JsonException if there was a problem trying to write the JSON-formatted bytes
+     */
+    public static <T> void toJsonArray(Stream<T> stream, OutputStream output) {
+        Assert.notNull(output, "output must be not null");
+        try (SequenceWriter writer = sequenceWriter.writeValuesAsArray(output)) {
+            writeAll(stream, writer);
+        } catch (IOException e) {
+            throw new JsonException(e);
+        }
+    }
+
+
+    /**
+     *    Write the elements of the given {@link Stream} as newline delimited JSON (NDJSON) in {@code output}: one JSON by
+     * line, finished by a new line. The elements are written one by one, so they are never stored all together in memory.
+     * The {@code output} is not closed.
+     *
+     * @param stream
+     *    {@link Stream} with the elements to write. If it is {@code null}, nothing is written
+     * @param output
+     *    {@link OutputStream} on which the NDJSON will be written
+     *
+     * @throws IllegalArgumentException if {@code output} is {@code null}
+     * @throws JsonException if there was a problem trying to write the JSON-formatted bytes
+     */
+    public static <T> void toNdJson(Stream<T> stream, OutputStream output) {
+        Assert.notNull(output, "output must be not null");
+        try (SequenceWriter writer = ndJsonWriter.writeValues(output)) {
+            // The separator is only added between elements, so the last line has to be finished
+            if (writeAll(stream, writer)) {
+                writer.flush();
+                output.write(NEW_LINE);
+            }
+        } catch (IOException e) {
+            throw new JsonException(e);
+        }
+    }
+
+
     /**
      * Transform the given JSON-formatted into an instance of a given {@link Class}.
      *
@@ -62,11 +219,149 @@ public class JsonUtil {
                 .filter(j -> !j.trim().isEmpty())
                 .map(j -> {
                     try {
-                        return mapper.readValue(json, clazz);
+                        return reader(clazz).readValue(json);
+                    } catch (IOException e) {
+                        throw new JsonException(e);
+                    }
+                });
+    }
+
+
+    /**
+     * Transform the given JSON-formatted bytes into an instance of a given {@link Class}, without creating an intermediate {@link String}.
+     *
+     * @param json
+     *    Json bytes to transform
+     * @param clazz
+     *    {@link Class} of the returned object
+     *
+     * @return an instance of given {@link Class}
+     *
+     * @throws JsonException if there was a problem trying to generate the result object
+     */
+    public static <T> Optional<T> fromJson(byte[] json, Class<T> clazz) {
+        return ofNullable(json)
+                .filter(j -> 0 < j.length)
+                .map(j -> {
+                    try {
+                        return reader(clazz).readValue(j);
+                    } catch (IOException e) {
+                        throw new JsonException(e);
+                    }
+                });
+    }
+
+
+    /**
+     *    Transform the remaining JSON-formatted bytes of the given {@link ByteBuffer} into an instance of a given {@link Class}.
+     * The position of {@code json} is not modified.
+     *
+     * @param json
+     *    {@link ByteBuffer} with the Json to transform
+     * @param clazz
+     *    {@link Class} of the returned object
+     *
+     * @return an instance of given {@link Class}
+     *
+     * @throws JsonException if there was a problem trying to generate the result object
+     */
+    public static <T> Optional<T> fromJson(ByteBuffer json, Class<T> clazz) {
+        return ofNullable(json)
+                .filter(ByteBuffer::hasRemaining)
+                .map(j -> {
+                    try {
+                        // The backing array is used directly when it is accessible
+                        return j.hasArray()
+                                ? reader(clazz).readValue(j.array(), j.arrayOffset() + j.position(), j.remaining())
+                                : reader(clazz).readValue(new ByteBufferBackedInputStream(j.duplicate()));
+                    } catch (IOException e) {
+                        throw new JsonException(e);
+                    }
+                });
+    }
+
+
+    /**
+     * Transform the JSON-formatted content of the given {@link InputStream} into an instance of a given {@link Class}.
+     * The {@code json} is not closed.
+     *
+     * @param json
+     *    {@link InputStream} with the Json to transform
+     * @param clazz
+     *    {@link Class} of the returned object
+     *
+     * @return an instance of given {@link Class}, {@link Optional#empty()} if {@code json} is {@code null} or empty
+     *
+     * @throws JsonException if there was a problem trying to generate the result object
+     */
+    public static <T> Optional<T> fromJson(InputStream json, Class<T> clazz) {
+        return ofNullable(json)
+                .flatMap(j -> {
+                    try {
+                        // Checks if there is any content, returning the read byte to the stream
+                        PushbackInputStream input = new PushbackInputStream(j, 1);
+                        int firstByte = input.read();
+                        if (-1 == firstByte) {
+                            return Optional.empty();
+                        }
+                        input.unread(firstByte);
+                        return ofNullable(reader(clazz).readValue(input));
                     } catch (IOException e) {
                         throw new JsonException(e);
                     }
                 });
     }
 
+
+    /**
+     * Write all the elements of {@code stream} using the given {@link SequenceWriter}.
+     *
+     * @return {@code true} if at least one element was written, {@code false} otherwise
+     */
+    private static <T> boolean writeAll(Stream<T> stream, SequenceWriter writer) {
+        if (null == stream) {
+            return false;
+        }
+        AtomicBoolean hasElements = new AtomicBoolean(false);
+        stream.forEachOrdered(element -> {
+            try {
+                writer.write(element);
+                hasElements.set(true);
+            } catch (IOException e) {
+                throw new JsonException(e);
+            }
+        });
+        return hasElements.get();
+    }
+
+
+    private static ObjectReader reader(Class<?> clazz) {
+        Assert.notNull(clazz, "clazz must be not null");
+        return readers.computeIfAbsent(clazz, c ->
+                mapper.readerFor(c)
+                        .without(JsonParser.Feature.AUTO_CLOSE_SOURCE)
+        );
+    }
+
+
+    private static ObjectWriter writer(Class<?> clazz) {
+        return writers.computeIfAbsent(clazz, c ->
+                mapper.writerFor(c)
+                        .without(JsonGenerator.Feature.AUTO_CLOSE_TARGET)
+        );
+    }
+
+
+
+    /**
+     *    Isolates the references to {@link BlackbirdModule}, so {@link JsonUtil} can be loaded when it is not included in
+     * the classpath.
+     */
+    private static class BlackbirdRegistration {
+
+        private static void register(ObjectMapper mapper) {
+            mapper.registerModule(new BlackbirdModule());
+        }
+    }
+
 }
@@ -1,8 +1,12 @@
 package com.common.util;
 
+import com.common.collection.ScalableBloomFilter;
 import lombok.experimental.UtilityClass;
+import org.springframework.util.Assert;
 
 import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Function;
@@ -24,4 +28,69 @@ public class PredicateUtil {
         return t -> seen.add(keyExtractor.apply(t));
     }
 
+
+    /**
+     *    Used when we want to get the unique elements of a given {@link Collection} by an specific property of its objects,
+     * but only comparing with the last {@code windowSize} different keys. The memory does not grow with the number of
+     * elements, so it is suitable for long streams where the duplicates are close, like retried events.
+     *
+     *    An element is discarded if its key is one of the {@code windowSize} most recently seen ones. A key older than that
+     * is considered new again.
+     *
+     * @param keyExtractor
+     *    {@link Function} used to get the key we want to use to distinct the elements
+     * @param windowSize
+     *    Number of most recently seen keys to remember
+     *
+     * @return unique object
+     *
+     * @throws IllegalArgumentException if {@code keyExtractor} is {@code null} or {@code windowSize} is not positive
+     */
+    public static <T> Predicate<T> distinctByKeyInWindow(Function<? super T, ?> keyExtractor, int windowSize) {
+        Assert.notNull(keyExtractor, "keyExtractor must be not null");
+        Assert.isTrue(0 < windowSize, "windowSize must be greater than 0");
+        // Access order, so seeing again a key makes it the most recent one
+        Map<Object, Boolean> window = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Object, Boolean> eldest) {
+                return size() > windowSize;
+            }
+        };
+        return t -> {
+            Object key = keyExtractor.apply(t);
+            synchronized (window) {
+                return null == window.put(key, Boolean.TRUE);
+            }
+        };
+    }
+
+
+    /**
+     *    Used when we want to get the unique elements of a given {@link Collection} by an specific property of its objects,
+     * storing the seen keys in a {@link ScalableBloomFilter} instead of a {@link Set}. It uses around
+     * {@code 1.44 * log2(1 / falsePositiveProbability)} bits by key, instead of the tens of bytes required by every
+     * entry of a {@link Set}.
+     *
+     *    A duplicated element is always discarded, but a new one could also be discarded with a probability lower than
+     * {@code falsePositiveProbability}.
+     *
+     * @param keyExtractor
+     *    {@link Function} used to get the key we want to use to distinct the elements
+     * @param expectedElements
+     *    Estimation of the number of different keys, used as initial capacity
+     * @param falsePositiveProbability
+     *    Maximum probability of discarding an element whose key was not seen before
+     *
+     * @return unique object
+     *
+     * @throws IllegalArgumentException if {@code keyExtractor} is {@code null}, {@code expectedElements} is not positive
+     *                                  or {@code falsePositiveProbability} is not in (0, 1)
+     */
+    public static <T> Predicate<T> distinctByKeyApproximately(Function<? super T, ?> keyExtractor, int expectedElements,
+                                                              double falsePositiveProbability) {
+        Assert.notNull(keyExtractor, "keyExtractor must be not null");
+        ScalableBloomFilter seen = new ScalableBloomFilter(expectedElements, falsePositiveProbability);
+        return t -> seen.add(keyExtractor.apply(t));
+    }
+
 }
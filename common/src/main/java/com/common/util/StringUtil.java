@@ -1,15 +1,21 @@
 package com.common.util;
 
 import lombok.experimental.UtilityClass;
+import org.springframework.util.Assert;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Iterator;
 import java.util.List;
+import java.util.NoSuchElementException;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Spliterator;
+import java.util.Spliterators;
 import java.util.function.Function;
 import java.util.function.Supplier;
 import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 import static java.util.Arrays.asList;
 import static java.util.Optional.ofNullable;
@@ -22,6 +28,9 @@ public class StringUtil {
     private final String DEFAULT_STRING_SEPARATOR = ",";
     private final Function<String, String> DEFAULT_STRING_EXTRACTOR = String::trim;
 
+    // Characters with a special meaning in a regular expression, used by String.split
+    private final String REGEX_META_CHARACTERS = ".$|()[]{}^?*+\\";
+
 
     /**
      * Remove from the given {@code sourceString} all non-numeric characters.
@@ -33,7 +42,72 @@ public class StringUtil {
      */
     public static Optional<String> keepOnlyDigits(final String sourceString) {
         return ofNullable(sourceString)
-                .map(s -> s.replaceAll("[\\D]", ""));
+                .map(StringUtil::removeNonDigits);
+    }
+
+
+    /**
+     *    Return a lazy {@link Iterator} over the parts of the given {@code source} delimited by {@code separator}. The
+     * parts are searched when they are requested, without regular expressions nor intermediate arrays.
+     *
+     *    The result is the same one than {@link String#split(String, int)} when {@code separator} has no special meaning
+     * as regular expression:
+     *
+     * <ul>
+     *   <li>If {@code limit} is greater than 0, at most {@code limit} parts are returned, the last one with the rest of {@code source}</li>
+     *   <li>Otherwise, all the parts are returned except the empty ones at the end</li>
+     * </ul>
+     *
+     * @param source
+     *    {@link CharSequence} with the values to extract
+     * @param separator
+     *    {@link String} used literally to know how the values are splitted inside {@code source}. If it is {@code null}, "," is used
+     * @param limit
+     *    Maximum number of parts, 0 or less means no limit
+     * @param valueExtractor
+     *    {@link Function} used to convert every part
+     *
+     * @return {@link Iterator} with the converted parts, empty if {@code source} is {@code null}
+     *
+     * @throws IllegalArgumentException if {@code separator} is empty or {@code valueExtractor} is {@code null}
+     */
+    public static <T> Iterator<T> split(final CharSequence source,
+                                        final String separator,
+                                        final int limit,
+                                        final Function<String, T> valueExtractor) {
+        Assert.notNull(valueExtractor, "valueExtractor must be not null");
+        String finalSeparator = null == separator ? DEFAULT_STRING_SEPARATOR : separator;
+        Assert.hasLength(finalSeparator, "separator must be not empty");
+        return new LiteralSplitIterator<>(source, finalSeparator, limit, valueExtractor);
+    }
+
+
+    /**
+     * Return a lazy {@link Stream} over the parts of the given {@code source} delimited by {@code separator}.
+     *
+     * @param source
+     *    {@link CharSequence} with the values to extract
+     * @param separator
+     *    {@link String} used literally to know how the values are splitted inside {@code source}. If it is {@code null}, "," is used
+     * @param limit
+     *    Maximum number of parts, 0 or less means no limit
+     * @param valueExtractor
+     *    {@link Function} used to convert every part
+     *
+     * @return {@link Stream} with the converted parts, empty if {@code source} is {@code null}
+     *
+     * @throws IllegalArgumentException if {@code separator} is empty or {@code valueExtractor} is {@code null}
+     *
+     * @see StringUtil#split(CharSequence, String, int, Function)
+     */
+    public static <T> Stream<T> splitStream(final CharSequence source,
+                                            final String separator,
+                                            final int limit,
+                                            final Function<String, T> valueExtractor) {
+        return StreamSupport.stream(
+                Spliterators.spliteratorUnknownSize(split(source, separator, limit, valueExtractor), Spliterator.ORDERED),
+                false
+        );
     }
 
 
@@ -121,6 +195,9 @@ public class StringUtil {
      *    Return a {@link Collection} splitting the given {@code source} in different parts, using {@code valueExtractor}
      * to know how to do it.
      *
+     *    If {@code separator} has no special meaning as regular expression, the parts are searched literally without
+     * creating intermediate arrays or streams. Otherwise, it is managed as a regular expression by {@link String#split(String, int)}.
+     *
      * @param source
      *    Source {@link String} with the values to extract
      * @param separator
@@ -155,10 +232,19 @@ public class StringUtil {
                     if (Objects.isNull(valueExtractor)) {
                         return null;
                     }
+                    String finalSeparator = null == separator ? DEFAULT_STRING_SEPARATOR : separator;
+                    if (isLiteral(finalSeparator)) {
+                        Collection<T> result = Objects.isNull(collectionFactory)
+                                ? new ArrayList<>()
+                                : collectionFactory.get();
+                        split(s, finalSeparator, chunkLimit, valueExtractor)
+                                .forEachRemaining(result::add);
+                        return result;
+                    }
                     String[] splittedString =
                             0 >= chunkLimit
-                                    ? s.split(null == separator ? DEFAULT_STRING_SEPARATOR : separator)
-                                    : s.split(null == separator ? DEFAULT_STRING_SEPARATOR : separator, chunkLimit);
+                                    ? s.split(finalSeparator)
+                                    : s.split(finalSeparator, chunkLimit);
 
                     Stream<T> valueExtractedStream = Stream.of(splittedString)
                             .map(valueExtractor);
@@ -172,4 +258,154 @@ public class StringUtil {
                         : collectionFactory.get());
     }
 
+
+
+    /**
+     * Single pass removal of the characters not included in [0-9], returning {@code source} if all of them are digits.
+     */
+    private static String removeNonDigits(final String source) {
+        int length = source.length();
+        int firstNonDigit = 0;
+        while (firstNonDigit < length && isDigit(source.charAt(firstNonDigit))) {
+            firstNonDigit++;
+        }
+        if (firstNonDigit == length) {
+            return source;
+        }
+        StringBuilder digits = new StringBuilder(length - 1)
+                .append(source, 0, firstNonDigit);
+        for (int i = firstNonDigit + 1; i < length; i++) {
+            char c = source.charAt(i);
+            if (isDigit(c)) {
+                digits.append(c);
+            }
+        }
+        return digits.toString();
+    }
+
+
+    /**
+     * Same digits than the regular expression {@code \d}, {@link Character#isDigit(char)} includes other Unicode ones.
+     */
+    private static boolean isDigit(final char c) {
+        return '0' <= c && '9' >= c;
+    }
+
+
+    /**
+     * Check if the given {@code separator} means the same as literal {@link String} and as regular expression.
+     */
+    private static boolean isLiteral(final String separator) {
+        if (separator.isEmpty()) {
+            return false;
+        }
+        for (int i = 0; i < separator.length(); i++) {
+            if (0 <= REGEX_META_CHARACTERS.indexOf(separator.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+
+    /**
+     * Lazy {@link Iterator} over the parts of a {@link CharSequence} delimited by a literal separator.
+     */
+    private static final class LiteralSplitIterator<T> implements Iterator<T> {
+
+        private static final int FINISHED = -1;
+
+        private final CharSequence source;
+        private final String separator;
+        private final int limit;
+        private final Function<String, T> valueExtractor;
+
+        // Start of the next part, or FINISHED
+        private int position;
+        private int returnedParts;
+
+        // Start of the separators placed at the end of source, only used without limit
+        private final int trailingSeparatorsStart;
+
+        private LiteralSplitIterator(final CharSequence source, final String separator, final int limit,
+                                     final Function<String, T> valueExtractor) {
+            this.source = source;
+            this.separator = separator;
+            this.limit = limit;
+            this.valueExtractor = valueExtractor;
+            this.position = null == source ? FINISHED : 0;
+            this.returnedParts = 0;
+            this.trailingSeparatorsStart = null == source || 0 < limit ? FINISHED : trailingSeparatorsStart();
+        }
+
+        @Override
+        public boolean hasNext() {
+            if (FINISHED == position) {
+                return false;
+            }
+            // Without limit, the empty parts at the end are not returned
+            if (0 >= limit && 0 < source.length() && onlySeparatorsFrom(position)) {
+                position = FINISHED;
+                return false;
+            }
+            return true;
+        }
+
+        @Override
+        public T next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            int end = 0 < limit && returnedParts == limit - 1
+                    ? FINISHED
+                    : indexOfSeparator(position);
+
+            String part = source.subSequence(position, FINISHED == end ? source.length() : end).toString();
+            position = FINISHED == end ? FINISHED : end + separator.length();
+            returnedParts++;
+            return valueExtractor.apply(part);
+        }
+
+        private int indexOfSeparator(final int from) {
+            if (source instanceof String) {
+                return ((String) source).indexOf(separator, from);
+            }
+            for (int i = from; i <= source.length() - separator.length(); i++) {
+                if (separatorStartsAt(i)) {
+                    return i;
+                }
+            }
+            return FINISHED;
+        }
+
+        /**
+         *    Check if {@code from} is the start of one of the separators placed at the end of {@code source}. They are
+         * searched from the end, so only the positions at a multiple of the separator length from the end qualify.
+         */
+        private boolean onlySeparatorsFrom(final int from) {
+            return from >= trailingSeparatorsStart &&
+                    0 == (source.length() - from) % separator.length();
+        }
+
+        private int trailingSeparatorsStart() {
+            int start = source.length();
+            while (start >= separator.length() && separatorStartsAt(start - separator.length())) {
+                start -= separator.length();
+            }
+            return start;
+        }
+
+        private boolean separatorStartsAt(final int index) {
+            if (index + separator.length() > source.length()) {
+                return false;
+            }
+            for (int i = 0; i < separator.length(); i++) {
+                if (source.charAt(index + i) != separator.charAt(i)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+
 }
@@ -4,8 +4,14 @@ import com.common.validation.Invalid;
 import com.common.validation.Valid;
 import com.common.validation.Validation;
 import lombok.experimental.UtilityClass;
+import org.springframework.util.Assert;
 import org.springframework.util.ObjectUtils;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
 import java.util.function.Supplier;
 
 @UtilityClass
@@ -34,6 +40,53 @@ public class ValidationUtil {
     }
 
 
+    /**
+     *    Evaluates concurrently the given {@link Supplier}s of {@link Validation} using {@code executor}, and merges their
+     * results like {@link ValidationUtil#combine(Validation[])}. The errors of the returned {@link Invalid} keep the order
+     * of {@code suppliers}, independently of which one finishes first. {@code null} suppliers are ignored.
+     *
+     *    Intended for expensive validations, like the ones that require remote invocations. If one of the suppliers throws
+     * an exception, the pending ones are cancelled and that exception is rethrown.
+     *
+     * @param executor
+     *    {@link Executor} used to evaluate every {@link Supplier}
+     * @param suppliers
+     *    {@link Supplier} of {@link Validation} instances to combine
+     *
+     * @return {@link Validation}
+     *
+     * @throws IllegalArgumentException if {@code executor} is {@code null}
+     */
+    public static <T> Validation<T> combineParallel(Executor executor, Supplier<Validation<? super T>>... suppliers) {
+        Assert.notNull(executor, "executor must be not null");
+        Validation<T> result = Valid.empty();
+        if (ObjectUtils.isEmpty(suppliers)) {
+            return result;
+        }
+        List<CompletableFuture<Validation<? super T>>> futures = new ArrayList<>(suppliers.length);
+        for (Supplier<Validation<? super T>> supplier : suppliers) {
+            if (null != supplier) {
+                futures.add(CompletableFuture.supplyAsync(supplier, executor));
+            }
+        }
+        try {
+            for (CompletableFuture<Validation<? super T>> future : futures) {
+                result = (Validation<T>) result.ap(future.join());
+            }
+        } catch (CompletionException e) {
+            futures.forEach(f -> f.cancel(false));
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            if (e.getCause() instanceof Error) {
+                throw (Error) e.getCause();
+            }
+            throw e;
+        }
+        return result;
+    }
+
+
     /**
      *    Checks the given {@link Supplier} of {@link Validation}, returning a {@link Valid} instance if no {@link Invalid}
      * {@link Supplier} was given or the first {@link Invalid} one.
@@ -0,0 +1,90 @@
+package com.common.validation;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+
+/**
+ *    Immutable sequence of errors used by {@link Invalid}. Concatenating two chains only creates a new node that
+ * references both, so merging N {@link Validation}s does not copy the errors N times. The errors are copied into a
+ * {@link List} only when {@link ErrorChain#toList()} is invoked.
+ */
+final class ErrorChain {
+
+    // Only leaf nodes contain errors, the other ones have left and right chains
+    private final List<String> errors;
+    private final ErrorChain left;
+    private final ErrorChain right;
+
+    // Number of errors of a non leaf node when it was created, the leaf ones use the size of their List
+    private final int nodeSize;
+
+
+    private ErrorChain(List<String> errors, ErrorChain left, ErrorChain right, int nodeSize) {
+        this.errors = errors;
+        this.left = left;
+        this.right = right;
+        this.nodeSize = nodeSize;
+    }
+
+
+    /**
+     * Returns a chain with the given {@code errors}, that are not copied.
+     */
+    static ErrorChain of(List<String> errors) {
+        return new ErrorChain(errors, null, null, 0);
+    }
+
+
+    /**
+     * Returns a chain with the errors of {@code left} followed by the ones of {@code right}, in constant time.
+     */
+    static ErrorChain concat(ErrorChain left, ErrorChain right) {
+        if (0 == right.size()) {
+            return left;
+        }
+        if (0 == left.size()) {
+            return right;
+        }
+        return new ErrorChain(null, left, right, left.size() + right.size());
+    }
+
+
+    boolean isLeaf() {
+        return null == left;
+    }
+
+
+    int size() {
+        return isLeaf()
+                ? errors.size()
+                : nodeSize;
+    }
+
+
+    /**
+     *    Returns the errors of this chain in order. A leaf returns its own {@link List}, otherwise a new one is built
+     * traversing the nodes without recursion, because the chains created by consecutive merges are as deep as the number
+     * of merged {@link Validation}s.
+     */
+    List<String> toList() {
+        if (isLeaf()) {
+            return errors;
+        }
+        List<String> result = new ArrayList<>(nodeSize);
+        Deque<ErrorChain> pending = new ArrayDeque<>();
+        pending.push(this);
+        while (!pending.isEmpty()) {
+            ErrorChain current = pending.pop();
+            if (current.isLeaf()) {
+                result.addAll(current.errors);
+            } else {
+                pending.push(current.right);
+                pending.push(current.left);
+            }
+        }
+        return result;
+    }
+
+}
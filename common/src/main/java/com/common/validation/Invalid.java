@@ -1,5 +1,8 @@
 package com.common.validation;
 
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
 import java.io.Serializable;
 import java.util.ArrayList;
 import java.util.List;
@@ -7,24 +10,28 @@ import java.util.NoSuchElementException;
 import java.util.Objects;
 
 /**
- * An invalid {@link Validation}.
+ *    An invalid {@link Validation}. Its errors are stored in an {@link ErrorChain}, so merging several {@code Invalid}s
+ * does not copy their errors until {@link Invalid#getErrors()} is invoked.
  *
  * @param <T>
  *    Data type of the instance to validate.
  */
 public class Invalid<T> extends Validation<T> implements Serializable {
 
-    private final List<String> errors;
+    private transient ErrorChain errorChain;
+
+    // Flattened version of errorChain, calculated the first time it is required
+    private volatile List<String> errors;
 
     /**
      * Construct an {@code Invalid}.
      *
-     * @param errors
-     *    The value of this error.
+     * @param errorChain
+     *    The errors of this {@code Invalid}.
      */
-    private Invalid(List<String> errors) {
+    private Invalid(ErrorChain errorChain) {
         super();
-        this.errors = errors;
+        this.errorChain = errorChain;
     }
 
 
@@ -34,7 +41,7 @@ public class Invalid<T> extends Validation<T> implements Serializable {
      * @return an empty {@code Invalid}
      */
     public static <T> Invalid<T> empty() {
-        return new Invalid(new ArrayList<>());
+        return new Invalid(ErrorChain.of(new ArrayList<>()));
     }
 
 
@@ -49,7 +56,15 @@ public class Invalid<T> extends Validation<T> implements Serializable {
      * @throws NullPointerException if errors is {@code null}
      */
     public static <T> Invalid<T> of(List<String> errors) {
-        return new Invalid(Objects.requireNonNull(errors));
+        return new Invalid(ErrorChain.of(Objects.requireNonNull(errors)));
+    }
+
+
+    /**
+     * Returns an {@code Invalid} with the errors of {@code first} followed by the ones of {@code second}, without copying them.
+     */
+    static <T> Invalid<T> concat(Invalid<?> first, Invalid<?> second) {
+        return new Invalid(ErrorChain.concat(first.errorChain, second.errorChain));
     }
 
 
@@ -67,25 +82,45 @@ public class Invalid<T> extends Validation<T> implements Serializable {
 
     @Override
     public List<String> getErrors() {
-        return errors;
+        List<String> result = errors;
+        if (null == result) {
+            result = errorChain.toList();
+            errors = result;
+        }
+        return result;
     }
 
 
     @Override
     public boolean equals(Object obj) {
-        return (obj == this) || (obj instanceof Invalid && Objects.equals(errors, ((Invalid<?>) obj).errors));
+        return (obj == this) || (obj instanceof Invalid && Objects.equals(getErrors(), ((Invalid<?>) obj).getErrors()));
     }
 
 
     @Override
     public int hashCode() {
-        return Objects.hashCode(errors);
+        return Objects.hashCode(getErrors());
     }
 
 
     @Override
     public String toString() {
-        return "Invalid (" + errors + ")";
+        return "Invalid (" + getErrors() + ")";
+    }
+
+
+    /**
+     * Only the flattened errors are serialized, avoiding to traverse recursively the deep {@link ErrorChain}s.
+     */
+    private void writeObject(ObjectOutputStream out) throws IOException {
+        getErrors();
+        out.defaultWriteObject();
+    }
+
+
+    private void readObject(ObjectInputStream in) throws IOException, ClassNotFoundException {
+        in.defaultReadObject();
+        errorChain = ErrorChain.of(errors);
     }
 
 }
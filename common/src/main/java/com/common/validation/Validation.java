@@ -1,7 +1,6 @@
 package com.common.validation;
 
 import java.io.Serializable;
-import java.util.ArrayList;
 import java.util.List;
 import java.util.NoSuchElementException;
 import java.util.Objects;
@@ -67,7 +66,8 @@ public abstract class Validation<T> implements Serializable {
             final T value = get();
             return Validation.valid(mapper.apply(value));
         } else {
-            return Validation.invalid(getErrors());
+            // Invalid instances are immutable, so the errors do not need to be copied
+            return (Validation<U>) this;
         }
     }
 
@@ -243,6 +243,10 @@ public abstract class Validation<T> implements Serializable {
      *
      * If provided {@code validation} is {@code null}, the current instance will be returned.
      *
+     *    Both instances are immutable, so they are returned when it is possible. In the fourth case, the errors are not
+     * copied: the returned {@link Invalid} references the ones of {@code this} and {@code validation}, so merging N
+     * instances one by one only takes O(N).
+     *
      * @param validation
      *    New {@code Validation} to merge with the current one
      *
@@ -254,31 +258,31 @@ public abstract class Validation<T> implements Serializable {
         }
         // this is a Valid instance
         if (isValid()) {
-            // Only if current and given validation are Valid, a Valid instance will be returned
-            if (validation.isValid()) {
-                return valid(validation.get());
-
-            // this is Valid but validation is Invalid
-            } else {
-                final List<String> errors = validation.getErrors();
-                return invalid(errors);
-            }
+            // If given validation is Valid, a Valid instance will be returned. Otherwise, its errors
+            return (Validation<T>) validation;
         } else {
             // Due only this is Invalid, return only its errors
             if (validation.isValid()) {
-                final List<String> errors = this.getErrors();
-                return invalid(errors);
+                return (Validation<T>) this;
 
             // Add both errors of this and validation
             } else {
-                final List<String> errors = new ArrayList<>(this.getErrors());
-                errors.addAll(validation.getErrors());
-                return invalid(errors);
+                return Invalid.concat(toInvalid(this), toInvalid(validation));
             }
         }
     }
 
 
+    /**
+     * Returns the given not valid {@code validation} as {@link Invalid}, to merge its errors.
+     */
+    private static Invalid<?> toInvalid(Validation<?> validation) {
+        return validation instanceof Invalid
+                ? (Invalid<?>) validation
+                : Invalid.of(validation.getErrors());
+    }
+
+
     /**
      *    If the current {@code Validation} is an instance of {@Valid} wraps the stored value into an {@link Optional} object.
      * Otherwise return {@code Optional.empty}
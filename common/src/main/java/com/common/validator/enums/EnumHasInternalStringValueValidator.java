@@ -4,9 +4,6 @@ import org.hibernate.validator.constraintvalidation.HibernateConstraintValidator
 
 import javax.validation.ConstraintValidator;
 import javax.validation.ConstraintValidatorContext;
-import java.util.Arrays;
-import java.util.List;
-import java.util.stream.Collectors;
 
 /**
  *    Validates if the given {@link String} matches with one of the internal {@link String} property belonging to the
@@ -16,15 +13,13 @@ public class EnumHasInternalStringValueValidator implements ConstraintValidator<
 
 	private static final String ERROR_MESSAGE_PARAMETER = "values";
 
-	List<String> enumValidValues;
+	EnumInternalPropertyValueRegistry<String, ?> enumValidValues;
 	String constraintTemplate;
 	private boolean isNullAccepted;
 
 	@Override
     public void initialize(final EnumHasInternalStringValue hasInternalStringValue) {
-		enumValidValues = Arrays.stream(hasInternalStringValue.enumClass().getEnumConstants())
-				                .map(e -> ((IEnumInternalPropertyValue<String>)e).getInternalPropertyValue())
-				                .collect(Collectors.toList());
+		enumValidValues = EnumInternalPropertyValueRegistry.ofUnknownType(hasInternalStringValue.enumClass());
 		constraintTemplate = hasInternalStringValue.message();
 		isNullAccepted = hasInternalStringValue.isNullAccepted();
     }
@@ -37,7 +32,7 @@ public class EnumHasInternalStringValueValidator implements ConstraintValidator<
 		if (!isValid) {
 			HibernateConstraintValidatorContext hibernateContext = context.unwrap(HibernateConstraintValidatorContext.class);
 			hibernateContext.disableDefaultConstraintViolation();
-			hibernateContext.addMessageParameter(ERROR_MESSAGE_PARAMETER, enumValidValues)
+			hibernateContext.addMessageParameter(ERROR_MESSAGE_PARAMETER, enumValidValues.getInternalPropertyValues())
 					        .buildConstraintViolationWithTemplate(constraintTemplate)
 					        .addConstraintViolation();
 		}
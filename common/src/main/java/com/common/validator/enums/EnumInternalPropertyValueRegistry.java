@@ -0,0 +1,126 @@
+package com.common.validator.enums;
+
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static java.lang.String.format;
+import static java.util.Optional.ofNullable;
+
+/**
+ *    Immutable index of the constants of an {@link Enum} that implements {@link IEnumInternalPropertyValue} by their
+ * internal property value. It is built only once by {@link Enum} class, so searching a constant by its internal value
+ * is a hash lookup instead of iterating over {@code values()}, that allocates a new array in every invocation.
+ *
+ *    If several constants share the same internal value, the first declared one is returned, as the previous linear
+ * searches did. Constants with a {@code null} internal value are not included.
+ *
+ * @param <T>
+ *    Type of the internal property value
+ * @param <E>
+ *    Type of the {@link Enum}
+ */
+public final class EnumInternalPropertyValueRegistry<T, E extends Enum<E> & IEnumInternalPropertyValue<T>> {
+
+    private static final ClassValue<EnumInternalPropertyValueRegistry<?, ?>> REGISTRIES = new ClassValue<>() {
+        @Override
+        protected EnumInternalPropertyValueRegistry<?, ?> computeValue(Class<?> enumClass) {
+            return new EnumInternalPropertyValueRegistry<>(enumClass);
+        }
+    };
+
+    private final Map<T, E> constantByInternalPropertyValue;
+    private final List<T> internalPropertyValues;
+
+
+    private EnumInternalPropertyValueRegistry(Class<?> enumClass) {
+        Assert.isTrue(enumClass.isEnum() && IEnumInternalPropertyValue.class.isAssignableFrom(enumClass),
+                format("The given class: %s must be an Enum that implements IEnumInternalPropertyValue", enumClass.getName()));
+
+        E[] constants = (E[]) enumClass.getEnumConstants();
+        Map<T, E> constantByValue = new HashMap<>(constants.length * 2);
+        List<T> values = new ArrayList<>(constants.length);
+        for (E constant : constants) {
+            T value = constant.getInternalPropertyValue();
+            values.add(value);
+            if (null != value) {
+                constantByValue.putIfAbsent(value, constant);
+            }
+        }
+        this.constantByInternalPropertyValue = Collections.unmodifiableMap(constantByValue);
+        this.internalPropertyValues = Collections.unmodifiableList(values);
+    }
+
+
+    /**
+     * Returns the registry of the given {@code enumClass}, creating it only the first time it is requested.
+     *
+     * @param enumClass
+     *    {@link Class} of the {@link Enum} to index
+     *
+     * @return {@link EnumInternalPropertyValueRegistry}
+     *
+     * @throws IllegalArgumentException if {@code enumClass} is {@code null}
+     */
+    public static <T, E extends Enum<E> & IEnumInternalPropertyValue<T>> EnumInternalPropertyValueRegistry<T, E> of(Class<E> enumClass) {
+        Assert.notNull(enumClass, "enumClass must be not null");
+        return (EnumInternalPropertyValueRegistry<T, E>) REGISTRIES.get(enumClass);
+    }
+
+
+    /**
+     *    Version of {@link EnumInternalPropertyValueRegistry#of(Class)} used when the type of the {@link Enum} is not known
+     * at compile time, like in the {@link Class} of an annotation.
+     *
+     * @throws IllegalArgumentException if {@code enumClass} is {@code null}, not an {@link Enum} or does not implement
+     *                                  {@link IEnumInternalPropertyValue}
+     */
+    static <T> EnumInternalPropertyValueRegistry<T, ?> ofUnknownType(Class<?> enumClass) {
+        Assert.notNull(enumClass, "enumClass must be not null");
+        return (EnumInternalPropertyValueRegistry<T, ?>) REGISTRIES.get(enumClass);
+    }
+
+
+    /**
+     * Returns the constant whose internal property value is equal to the given one.
+     *
+     * @param internalPropertyValue
+     *    Value to search
+     *
+     * @return {@link Optional} with the found constant,
+     *         {@link Optional#empty()} if {@code internalPropertyValue} is {@code null} or does not exist.
+     */
+    public Optional<E> get(@Nullable T internalPropertyValue) {
+        return ofNullable(internalPropertyValue)
+                .map(constantByInternalPropertyValue::get);
+    }
+
+
+    /**
+     * Checks if there is a constant whose internal property value is equal to the given one.
+     *
+     * @param internalPropertyValue
+     *    Value to search
+     *
+     * @return {@code true} if it exists, {@code false} otherwise or if {@code internalPropertyValue} is {@code null}
+     */
+    public boolean contains(@Nullable T internalPropertyValue) {
+        return null != internalPropertyValue &&
+                constantByInternalPropertyValue.containsKey(internalPropertyValue);
+    }
+
+
+    /**
+     * Returns the internal property values of all the constants, in declaration order.
+     */
+    public List<T> getInternalPropertyValues() {
+        return internalPropertyValues;
+    }
+
+}
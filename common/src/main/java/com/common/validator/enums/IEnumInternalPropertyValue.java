@@ -1,5 +1,9 @@
 package com.common.validator.enums;
 
+import org.springframework.lang.Nullable;
+
+import java.util.Optional;
+
 /**
  * Used to get the value of an internal property in an {@link Enum}.
  */
@@ -9,4 +13,27 @@ public interface IEnumInternalPropertyValue<T> {
      * Get the value of an internal property included in the {@link Enum}.
      */
     T getInternalPropertyValue();
+
+
+    /**
+     * Get the constant of the given {@code enumClass} whose internal property value is equal to the given one.
+     *
+     * @param enumClass
+     *    {@link Class} of the {@link Enum} to search
+     * @param internalPropertyValue
+     *    Value to search
+     *
+     * @return {@link Optional} with the found constant,
+     *         {@link Optional#empty()} if {@code internalPropertyValue} is {@code null} or does not exist.
+     *
+     * @throws IllegalArgumentException if {@code enumClass} is {@code null}
+     *
+     * @see EnumInternalPropertyValueRegistry
+     */
+    static <T, E extends Enum<E> & IEnumInternalPropertyValue<T>> Optional<E> getByInternalPropertyValue(Class<E> enumClass,
+                                                                                                         @Nullable T internalPropertyValue) {
+        return EnumInternalPropertyValueRegistry.of(enumClass)
+                .get(internalPropertyValue);
+    }
+
 }
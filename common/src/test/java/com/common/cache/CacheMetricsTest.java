@@ -0,0 +1,112 @@
+package com.common.cache;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import static com.common.cache.CacheMetrics.CACHE_TAG;
+import static com.common.cache.CacheMetrics.CAUSE_TAG;
+import static com.common.cache.CacheMetrics.EVICTIONS;
+import static com.common.cache.CacheMetrics.EXPIRED_CAUSE;
+import static com.common.cache.CacheMetrics.GETS;
+import static com.common.cache.CacheMetrics.LATENCY;
+import static com.common.cache.CacheMetrics.OPERATION_TAG;
+import static com.common.cache.CacheMetrics.PUTS;
+import static com.common.cache.CacheMetrics.REMOVALS;
+import static com.common.cache.CacheMetrics.RESULT_TAG;
+import static com.common.cache.CacheMetrics.SIZE_CAUSE;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class CacheMetricsTest {
+
+    private SimpleMeterRegistry registry;
+
+    private CacheMetrics cacheMetrics;
+
+    @BeforeEach
+    public void setUp() {
+        registry = new SimpleMeterRegistry();
+        cacheMetrics = new CacheMetrics(registry);
+    }
+
+
+    @Test
+    @DisplayName("CacheMetrics: when no registry is given then an exception is thrown")
+    public void cacheMetrics_whenNoRegistryIsGiven_thenAnExceptionIsThrown() {
+        assertThrows(IllegalArgumentException.class, () -> new CacheMetrics(null));
+    }
+
+
+    @Test
+    @DisplayName("gets: when hits and misses are recorded then they are published by cache")
+    public void gets_whenHitsAndMissesAreRecorded_thenTheyArePublishedByCache() {
+        cacheMetrics.gets("cache1", 3, 1);
+        cacheMetrics.gets("cache1", 1, 0);
+        cacheMetrics.gets("cache2", 0, 2);
+
+        assertAll(
+                () -> assertEquals(4, registry.get(GETS).tags(CACHE_TAG, "cache1", RESULT_TAG, "hit").counter().count()),
+                () -> assertEquals(1, registry.get(GETS).tags(CACHE_TAG, "cache1", RESULT_TAG, "miss").counter().count()),
+                () -> assertEquals(0, registry.get(GETS).tags(CACHE_TAG, "cache2", RESULT_TAG, "hit").counter().count()),
+                () -> assertEquals(2, registry.get(GETS).tags(CACHE_TAG, "cache2", RESULT_TAG, "miss").counter().count())
+        );
+    }
+
+
+    @Test
+    @DisplayName("puts and removals: when they are recorded then they are published by cache")
+    public void putsAndRemovals_whenTheyAreRecorded_thenTheyArePublishedByCache() {
+        cacheMetrics.puts("cache1", 2);
+        cacheMetrics.puts("cache1", 0);
+        cacheMetrics.removals("cache1", 5);
+
+        assertAll(
+                () -> assertEquals(2, registry.get(PUTS).tag(CACHE_TAG, "cache1").counter().count()),
+                () -> assertEquals(5, registry.get(REMOVALS).tag(CACHE_TAG, "cache1").counter().count())
+        );
+    }
+
+
+    @Test
+    @DisplayName("bindEvictions: when the provider statistics change then the published value changes")
+    public void bindEvictions_whenTheProviderStatisticsChange_thenThePublishedValueChanges() {
+        AtomicLong evicted = new AtomicLong(4);
+        AtomicLong expired = new AtomicLong(0);
+        cacheMetrics.bindEvictions("cache1", SIZE_CAUSE, evicted, AtomicLong::get);
+        cacheMetrics.bindEvictions("cache1", EXPIRED_CAUSE, expired, AtomicLong::get);
+        assertEquals(4, registry.get(EVICTIONS).tags(CACHE_TAG, "cache1", CAUSE_TAG, SIZE_CAUSE).functionCounter().count());
+
+        evicted.addAndGet(2);
+        expired.incrementAndGet();
+
+        assertAll(
+                () -> assertEquals(6, registry.get(EVICTIONS).tags(CACHE_TAG, "cache1", CAUSE_TAG, SIZE_CAUSE).functionCounter().count()),
+                () -> assertEquals(1, registry.get(EVICTIONS).tags(CACHE_TAG, "cache1", CAUSE_TAG, EXPIRED_CAUSE).functionCounter().count())
+        );
+    }
+
+
+    @Test
+    @DisplayName("record: when an operation is executed then its result is returned and its duration is published")
+    public void record_whenAnOperationIsExecuted_thenItsResultIsReturnedAndItsDurationIsPublished() {
+        assertEquals("value", cacheMetrics.record("cache1", "get", () -> "value"));
+        assertNull(cacheMetrics.record("cache1", "get", () -> null));
+        assertThrows(IllegalStateException.class, () ->
+                cacheMetrics.record("cache1", "put", () -> {
+                    throw new IllegalStateException();
+                })
+        );
+
+        assertAll(
+                () -> assertEquals(2, registry.get(LATENCY).tags(CACHE_TAG, "cache1", OPERATION_TAG, "get").timer().count()),
+                () -> assertEquals(1, registry.get(LATENCY).tags(CACHE_TAG, "cache1", OPERATION_TAG, "put").timer().count())
+        );
+    }
+
+}
@@ -0,0 +1,117 @@
+package com.common.cache;
+
+import com.common.cache.RefreshAheadTracker.LoadKey;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class RefreshAheadTrackerTest {
+
+    private static final LoadKey KEY_1 = new LoadKey("cache1", "key1");
+    private static final LoadKey KEY_2 = new LoadKey("cache1", "key2");
+    private static final LoadKey KEY_3 = new LoadKey("cache2", "key3");
+
+    private static final Duration ONE_HOUR = Duration.ofHours(1);
+    private static final Duration ONE_MILLISECOND = Duration.ofMillis(1);
+
+
+    @Test
+    @DisplayName("RefreshAheadTracker: when capacity is not greater than 0 then an exception is thrown")
+    public void refreshAheadTracker_whenCapacityIsNotGreaterThanZero_thenAnExceptionIsThrown() {
+        assertThrows(IllegalArgumentException.class, () -> new RefreshAheadTracker(0));
+    }
+
+
+    @Test
+    @DisplayName("loaded: when no refresh interval is given then the key is not tracked")
+    public void loaded_whenNoRefreshIntervalIsGiven_thenKeyIsNotTracked() {
+        RefreshAheadTracker tracker = new RefreshAheadTracker();
+
+        tracker.loaded(KEY_1, null);
+
+        assertEquals(0, tracker.size());
+        assertFalse(tracker.shouldRefresh(KEY_1, null));
+    }
+
+
+    @Test
+    @DisplayName("shouldRefresh: when the key was loaded before the refresh interval then only one caller gets true")
+    public void shouldRefresh_whenKeyWasLoadedBeforeRefreshInterval_thenOnlyOneCallerGetsTrue() {
+        RefreshAheadTracker tracker = new RefreshAheadTracker();
+
+        tracker.loaded(KEY_1, Duration.ZERO);
+        tracker.loaded(KEY_2, ONE_HOUR);
+
+        assertTrue(tracker.shouldRefresh(KEY_1, ONE_HOUR.negated()));
+        assertFalse(tracker.shouldRefresh(KEY_1, ONE_HOUR));
+        assertFalse(tracker.shouldRefresh(KEY_2, ONE_HOUR));
+    }
+
+
+    @Test
+    @DisplayName("shouldRefresh: when the key was loaded by another instance then the refresh interval starts now")
+    public void shouldRefresh_whenKeyWasLoadedByAnotherInstance_thenRefreshIntervalStartsNow() {
+        RefreshAheadTracker tracker = new RefreshAheadTracker();
+
+        assertFalse(tracker.shouldRefresh(KEY_1, Duration.ZERO));
+        assertEquals(1, tracker.size());
+        assertTrue(tracker.shouldRefresh(KEY_1, Duration.ZERO));
+    }
+
+
+    @Test
+    @DisplayName("forget: when keys are forgotten then they are not tracked anymore")
+    public void forget_whenKeysAreForgotten_thenTheyAreNotTrackedAnymore() {
+        RefreshAheadTracker tracker = new RefreshAheadTracker();
+        tracker.loaded(KEY_1, ONE_HOUR);
+        tracker.loaded(KEY_2, ONE_HOUR);
+        tracker.loaded(KEY_3, ONE_HOUR);
+
+        tracker.forget(KEY_3);
+        assertEquals(2, tracker.size());
+
+        tracker.forget("cache1");
+        assertEquals(0, tracker.size());
+    }
+
+
+    @Test
+    @DisplayName("loaded: when the capacity is reached with keys that are not hot then they are removed")
+    public void loaded_whenCapacityIsReachedWithKeysThatAreNotHot_thenTheyAreRemoved() throws InterruptedException {
+        RefreshAheadTracker tracker = new RefreshAheadTracker(2);
+        tracker.loaded(KEY_1, ONE_MILLISECOND);
+        tracker.loaded(KEY_2, ONE_MILLISECOND);
+
+        Thread.sleep(10);
+        tracker.loaded(KEY_3, ONE_HOUR);
+
+        assertEquals(1, tracker.size());
+        assertTrue(tracker.shouldRefresh(KEY_3, ONE_HOUR.negated()));
+    }
+
+
+    @Test
+    @DisplayName("loaded: when the capacity is reached with hot keys then new keys are not tracked")
+    public void loaded_whenCapacityIsReachedWithHotKeys_thenNewKeysAreNotTracked() {
+        RefreshAheadTracker tracker = new RefreshAheadTracker(2);
+        tracker.loaded(KEY_1, ONE_HOUR);
+        tracker.loaded(KEY_2, ONE_HOUR);
+
+        tracker.loaded(KEY_3, ONE_HOUR);
+        assertFalse(tracker.shouldRefresh(KEY_3, Duration.ZERO));
+
+        assertEquals(2, tracker.size());
+        assertFalse(tracker.shouldRefresh(KEY_3, Duration.ZERO));
+
+        // Already tracked keys keep being updated
+        tracker.loaded(KEY_1, ONE_HOUR);
+        assertTrue(tracker.shouldRefresh(KEY_1, Duration.ZERO));
+    }
+
+}
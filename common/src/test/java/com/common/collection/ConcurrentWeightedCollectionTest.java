@@ -0,0 +1,175 @@
+package com.common.collection;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static java.util.function.Function.identity;
+import static java.util.stream.Collectors.counting;
+import static java.util.stream.Collectors.groupingBy;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class ConcurrentWeightedCollectionTest {
+
+    private ConcurrentWeightedCollection<String> weightedCollection;
+
+    @BeforeEach
+    public void setUp() {
+        weightedCollection = ConcurrentWeightedCollection.of();
+    }
+
+
+    static Stream<Arguments> addFailedTestCases() {
+        return Stream.of(
+                //@formatter:off
+                //            weight,   toInsert,        expectedException
+                Arguments.of( 0,        null,            IllegalArgumentException.class ),
+                Arguments.of( 0,        "DoesNotCare",   IllegalArgumentException.class ),
+                Arguments.of( 1,        null,            IllegalArgumentException.class )
+        ); //@formatter:on
+    }
+
+    @ParameterizedTest
+    @MethodSource("addFailedTestCases")
+    @DisplayName("add: failed test cases")
+    public void add_failedTestCases(int weight, String toInsert, Class<? extends Exception> expectedException) {
+        assertThrows(expectedException, () -> weightedCollection.add(weight, toInsert));
+    }
+
+
+    @Test
+    @DisplayName("addAll: when several elements are given then all of them are included")
+    public void addAll_whenSeveralElementsAreGiven_thenAllOfThemAreIncluded() {
+        Map<String, Integer> weightedElements = new LinkedHashMap<>();
+        weightedElements.put("Elto 1", 10);
+        weightedElements.put("Elto 2", 20);
+
+        weightedCollection.add(5, "Elto 1");
+        weightedCollection.addAll(weightedElements);
+
+        assertAll(
+                () -> assertEquals(2, weightedCollection.size()),
+                () -> assertEquals(Optional.of(10), weightedCollection.getWeight("Elto 1")),
+                () -> assertEquals(Optional.of(20), weightedCollection.getWeight("Elto 2"))
+        );
+    }
+
+
+    @Test
+    @DisplayName("next: when ConcurrentWeightedCollection is empty then an empty Optional is returned")
+    public void next_whenCollectionIsEmpty_thenAnEmptyOptionalIsReturned() {
+        assertFalse(weightedCollection.next().isPresent());
+    }
+
+
+    @Test
+    @DisplayName("next: when ConcurrentWeightedCollection is not empty then the returned elements follow their weights")
+    public void next_whenCollectionIsNotEmpty_thenReturnedElementsFollowTheirWeights() {
+        weightedCollection.add(1, "Elto 1");
+        weightedCollection.add(3, "Elto 2");
+        weightedCollection.add(6, "Elto 3");
+
+        int iterations = 100000;
+        Map<String, Long> occurrences = IntStream.range(0, iterations)
+                .mapToObj(it -> weightedCollection.next().get())
+                .collect(groupingBy(identity(), counting()));
+
+        assertAll(
+                () -> assertEquals(0.1, (double) occurrences.get("Elto 1") / iterations, 0.01),
+                () -> assertEquals(0.3, (double) occurrences.get("Elto 2") / iterations, 0.01),
+                () -> assertEquals(0.6, (double) occurrences.get("Elto 3") / iterations, 0.01)
+        );
+    }
+
+
+    @Test
+    @DisplayName("add: when several threads write and read at the same time then no update is lost")
+    public void add_whenSeveralThreadsWriteAndRead_thenNoUpdateIsLost() throws Exception {
+        int numberOfThreads = 4;
+        int elementsPerThread = 250;
+        ExecutorService executor = Executors.newFixedThreadPool(numberOfThreads);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < numberOfThreads; t++) {
+                int thread = t;
+                futures.add(executor.submit(() -> {
+                    for (int i = 0; i < elementsPerThread; i++) {
+                        weightedCollection.add(1 + i, thread + "-" + i);
+                        assertTrue(weightedCollection.next().isPresent());
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+        assertEquals(numberOfThreads * elementsPerThread, weightedCollection.size());
+    }
+
+
+    @Test
+    @DisplayName("remove: test cases")
+    public void remove_testCases() {
+        weightedCollection.add(5, "Elto 1");
+        weightedCollection.add(7, "Elto 2");
+
+        assertAll(
+                () -> assertFalse(weightedCollection.remove("NotFound")),
+                () -> assertTrue(weightedCollection.remove("Elto 1")),
+                () -> assertEquals(1, weightedCollection.size()),
+                () -> assertEquals(Optional.of("Elto 2"), weightedCollection.next())
+        );
+    }
+
+
+    @Test
+    @DisplayName("toSet: when ConcurrentWeightedCollection contains elements then the returned Set will contains the same ones")
+    public void toSet_whenCollectionIsNotEmpty_thenAnEquivalentSetIsReturned() {
+        weightedCollection.add(10, "Elto 1");
+        weightedCollection.add(11, "Elto 2");
+        weightedCollection.add(12, "Elto 3");
+
+        Set<String> weightedResult = weightedCollection.toSet();
+
+        assertEquals(3, weightedResult.size());
+        assertThat(weightedResult, containsInAnyOrder("Elto 1", "Elto 2", "Elto 3"));
+    }
+
+
+    @Test
+    @DisplayName("updateWeight: test cases")
+    public void updateWeight_testCases() {
+        weightedCollection.add(5, "Elto");
+
+        assertAll(
+                () -> assertThrows(IllegalArgumentException.class, () -> weightedCollection.updateWeight("Elto", 0)),
+                () -> assertFalse(weightedCollection.updateWeight("NotFound", 3)),
+                () -> assertTrue(weightedCollection.updateWeight("Elto", 3)),
+                () -> assertEquals(Optional.of(3), weightedCollection.getWeight("Elto"))
+        );
+    }
+
+}
@@ -0,0 +1,144 @@
+package com.common.collection;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.security.SecureRandom;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static java.util.function.Function.identity;
+import static java.util.stream.Collectors.counting;
+import static java.util.stream.Collectors.groupingBy;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class DynamicWeightedCollectionTest {
+
+    private DynamicWeightedCollection<String> weightedCollection;
+
+    @BeforeEach
+    public void setUp() {
+        weightedCollection = DynamicWeightedCollection.of(new SecureRandom(), 2);
+    }
+
+
+    static Stream<Arguments> addFailedTestCases() {
+        return Stream.of(
+                //@formatter:off
+                //            weight,   toInsert,        expectedException
+                Arguments.of( 0,        null,            IllegalArgumentException.class ),
+                Arguments.of( 0,        "DoesNotCare",   IllegalArgumentException.class ),
+                Arguments.of( 1,        null,            IllegalArgumentException.class )
+        ); //@formatter:on
+    }
+
+    @ParameterizedTest
+    @MethodSource("addFailedTestCases")
+    @DisplayName("add: failed test cases")
+    public void add_failedTestCases(int weight, String toInsert, Class<? extends Exception> expectedException) {
+        assertThrows(expectedException, () -> weightedCollection.add(weight, toInsert));
+    }
+
+
+    @Test
+    @DisplayName("add: when more elements than the initial capacity are added then all of them are included")
+    public void add_whenMoreElementsThanInitialCapacityAreAdded_thenAllOfThemAreIncluded() {
+        int upperLimit = 37;
+        IntStream.rangeClosed(1, upperLimit).forEach(it -> weightedCollection.add(it, String.valueOf(it)));
+
+        assertEquals(upperLimit, weightedCollection.size());
+        assertEquals((long) upperLimit * (upperLimit + 1) / 2, weightedCollection.totalWeight());
+        IntStream.rangeClosed(1, upperLimit).forEach(it ->
+                assertEquals(Optional.of(it), weightedCollection.getWeight(String.valueOf(it)))
+        );
+    }
+
+
+    @Test
+    @DisplayName("add: when the element already exists then its weight is replaced")
+    public void add_whenElementAlreadyExists_thenItsWeightIsReplaced() {
+        weightedCollection.add(10, "Elto");
+        weightedCollection.add(3, "Elto");
+
+        assertEquals(1, weightedCollection.size());
+        assertEquals(3, weightedCollection.totalWeight());
+    }
+
+
+    @Test
+    @DisplayName("next: when DynamicWeightedCollection is empty then an empty Optional is returned")
+    public void next_whenCollectionIsEmpty_thenAnEmptyOptionalIsReturned() {
+        assertFalse(weightedCollection.next().isPresent());
+    }
+
+
+    @Test
+    @DisplayName("next: when weights are updated then the returned elements follow the new ones")
+    public void next_whenWeightsAreUpdated_thenReturnedElementsFollowNewWeights() {
+        IntStream.rangeClosed(1, 20).forEach(it -> weightedCollection.add(1, String.valueOf(it)));
+        IntStream.rangeClosed(4, 20).forEach(it -> weightedCollection.remove(String.valueOf(it)));
+
+        weightedCollection.updateWeight("1", 1);
+        weightedCollection.updateWeight("2", 3);
+        weightedCollection.updateWeight("3", 6);
+
+        int iterations = 100000;
+        Map<String, Long> occurrences = IntStream.range(0, iterations)
+                .mapToObj(it -> weightedCollection.next().get())
+                .collect(groupingBy(identity(), counting()));
+
+        assertAll(
+                () -> assertEquals(3, occurrences.size()),
+                () -> assertEquals(0.1, (double) occurrences.get("1") / iterations, 0.01),
+                () -> assertEquals(0.3, (double) occurrences.get("2") / iterations, 0.01),
+                () -> assertEquals(0.6, (double) occurrences.get("3") / iterations, 0.01)
+        );
+    }
+
+
+    @Test
+    @DisplayName("remove: when the element exists then it is removed and its slot is reused")
+    public void remove_whenElementExists_thenItIsRemovedAndItsSlotIsReused() {
+        weightedCollection.add(5, "Elto 1");
+        weightedCollection.add(7, "Elto 2");
+
+        assertAll(
+                () -> assertFalse(weightedCollection.remove("NotFound")),
+                () -> assertTrue(weightedCollection.remove("Elto 1")),
+                () -> assertFalse(weightedCollection.contains("Elto 1")),
+                () -> assertEquals(1, weightedCollection.size()),
+                () -> assertEquals(7, weightedCollection.totalWeight()),
+                () -> assertEquals(Optional.of("Elto 2"), weightedCollection.next())
+        );
+        weightedCollection.add(2, "Elto 3");
+
+        assertEquals(2, weightedCollection.size());
+        assertEquals(9, weightedCollection.totalWeight());
+    }
+
+
+    @Test
+    @DisplayName("updateWeight: test cases")
+    public void updateWeight_testCases() {
+        weightedCollection.add(5, "Elto");
+
+        assertAll(
+                () -> assertThrows(IllegalArgumentException.class, () -> weightedCollection.updateWeight("Elto", 0)),
+                () -> assertFalse(weightedCollection.updateWeight("NotFound", 3)),
+                () -> assertTrue(weightedCollection.updateWeight("Elto", 3)),
+                () -> assertEquals(Optional.of(3), weightedCollection.getWeight("Elto")),
+                () -> assertEquals(3, weightedCollection.totalWeight())
+        );
+    }
+
+}
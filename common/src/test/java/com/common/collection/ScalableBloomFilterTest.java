@@ -0,0 +1,97 @@
+package com.common.collection;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class ScalableBloomFilterTest {
+
+    static Stream<Arguments> scalableBloomFilterInvalidParametersTestCases() {
+        return Stream.of(
+                //@formatter:off
+                //            initialCapacity,   falsePositiveProbability
+                Arguments.of( 0,                 0.01 ),
+                Arguments.of( -1,                0.01 ),
+                Arguments.of( 10,                0D ),
+                Arguments.of( 10,                1D ),
+                Arguments.of( 10,                -0.5 )
+        ); //@formatter:on
+    }
+
+    @ParameterizedTest
+    @MethodSource("scalableBloomFilterInvalidParametersTestCases")
+    @DisplayName("ScalableBloomFilter: when parameters are not valid then IllegalArgumentException is thrown")
+    public void scalableBloomFilter_whenParametersAreNotValid_thenIllegalArgumentExceptionIsThrown(int initialCapacity,
+                                                                                                  double falsePositiveProbability) {
+        assertThrows(IllegalArgumentException.class, () -> new ScalableBloomFilter(initialCapacity, falsePositiveProbability));
+    }
+
+
+    static Stream<Arguments> addTestCases() {
+        return Stream.of(
+                //@formatter:off
+                //            element
+                Arguments.of( (Object) null ),
+                Arguments.of( "" ),
+                Arguments.of( "order-1" ),
+                Arguments.of( 12L ),
+                Arguments.of( (short) 3 ),
+                Arguments.of( 4.5D )
+        ); //@formatter:on
+    }
+
+    @ParameterizedTest
+    @MethodSource("addTestCases")
+    @DisplayName("add: test cases")
+    public void add_testCases(Object element) {
+        ScalableBloomFilter filter = new ScalableBloomFilter(10, 0.01);
+
+        assertFalse(filter.mightContain(element));
+        assertTrue(filter.add(element));
+        assertFalse(filter.add(element));
+        assertTrue(filter.mightContain(element));
+        assertEquals(1, filter.approximateElementCount());
+    }
+
+
+    @Test
+    @DisplayName("add: when more elements than the initial capacity are added then there are no false negatives")
+    public void add_whenMoreElementsThanTheInitialCapacityAreAdded_thenThereAreNoFalseNegatives() {
+        ScalableBloomFilter filter = new ScalableBloomFilter(100, 0.01);
+        long initialBitSize = filter.bitSize();
+
+        IntStream.range(0, 50_000).forEach(i -> filter.add("key-" + i));
+
+        assertTrue(filter.bitSize() > initialBitSize);
+        IntStream.range(0, 50_000).forEach(i -> assertTrue(filter.mightContain("key-" + i)));
+    }
+
+
+    @Test
+    @DisplayName("mightContain: when more elements than the initial capacity are added then the false positive probability is kept")
+    public void mightContain_whenMoreElementsThanTheInitialCapacityAreAdded_thenTheFalsePositiveProbabilityIsKept() {
+        double falsePositiveProbability = 0.01;
+        ScalableBloomFilter filter = new ScalableBloomFilter(1_000, falsePositiveProbability);
+        IntStream.range(0, 100_000).forEach(i -> filter.add((long) i));
+
+        long falsePositives = IntStream.range(100_000, 200_000)
+                .filter(i -> filter.mightContain((long) i))
+                .count();
+
+        // Some margin to avoid flaky results, the probability is an upper bound
+        assertTrue(falsePositives < 100_000 * falsePositiveProbability * 1.5,
+                "Too many false positives: " + falsePositives);
+        assertTrue(filter.approximateElementCount() > 100_000 * (1 - falsePositiveProbability));
+    }
+
+}
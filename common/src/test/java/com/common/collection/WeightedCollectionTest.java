@@ -10,11 +10,15 @@ import org.junit.jupiter.params.provider.MethodSource;
 import java.security.SecureRandom;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.stream.IntStream;
 import java.util.stream.Stream;
 
+import static java.util.function.Function.identity;
+import static java.util.stream.Collectors.counting;
+import static java.util.stream.Collectors.groupingBy;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.containsInAnyOrder;
 import static org.junit.jupiter.api.Assertions.assertAll;
@@ -167,6 +171,61 @@ public class WeightedCollectionTest {
     }
 
 
+    @Test
+    @DisplayName("next: when WeightedCollection is not empty then the returned elements follow their weights")
+    public void next_whenCollectionIsNotEmpty_thenReturnedElementsFollowTheirWeights() {
+        weightedCollection.add(1, "Elto 1");
+        weightedCollection.add(3, "Elto 2");
+        weightedCollection.add(6, "Elto 3");
+
+        int iterations = 100000;
+        Map<String, Long> occurrences = IntStream.range(0, iterations)
+                .mapToObj(it -> weightedCollection.next().get())
+                .collect(groupingBy(identity(), counting()));
+
+        assertAll(
+                () -> assertEquals(0.1, (double) occurrences.get("Elto 1") / iterations, 0.01),
+                () -> assertEquals(0.3, (double) occurrences.get("Elto 2") / iterations, 0.01),
+                () -> assertEquals(0.6, (double) occurrences.get("Elto 3") / iterations, 0.01)
+        );
+    }
+
+
+    @Test
+    @DisplayName("next: when new elements are added after a previous invocation then they are taken into account")
+    public void next_whenElementsAreAddedAfterPreviousInvocation_thenNewElementsAreReturned() {
+        weightedCollection.add(1, "Elto 1");
+        assertEquals(Optional.of("Elto 1"), weightedCollection.next());
+
+        weightedCollection.add(1000000, "Elto 2");
+        boolean newElementFound = IntStream.range(0, 100)
+                .mapToObj(it -> weightedCollection.next().get())
+                .anyMatch("Elto 2"::equals);
+
+        assertTrue(newElementFound);
+    }
+
+
+    @Test
+    @DisplayName("toSet: when WeightedCollection contains elements then the first ones of the returned Set follow their weights")
+    public void toSet_whenCollectionIsNotEmpty_thenFirstElementsFollowTheirWeights() {
+        weightedCollection.add(1, "Elto 1");
+        weightedCollection.add(3, "Elto 2");
+        weightedCollection.add(6, "Elto 3");
+
+        int iterations = 20000;
+        Map<String, Long> firstOccurrences = IntStream.range(0, iterations)
+                .mapToObj(it -> weightedCollection.toSet().iterator().next())
+                .collect(groupingBy(identity(), counting()));
+
+        assertAll(
+                () -> assertEquals(0.1, (double) firstOccurrences.get("Elto 1") / iterations, 0.02),
+                () -> assertEquals(0.3, (double) firstOccurrences.get("Elto 2") / iterations, 0.02),
+                () -> assertEquals(0.6, (double) firstOccurrences.get("Elto 3") / iterations, 0.02)
+        );
+    }
+
+
     static Stream<Arguments> removeAndThenTestCases() {
         WeightedCollection<String> emptyCollection = WeightedCollection.of(new SecureRandom());
         WeightedCollection<String> notEmptyCollection = emptyCollection.addAndThen(10, "Elto");
@@ -0,0 +1,130 @@
+package com.common.collection.primitive;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.util.List;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static java.util.stream.Collectors.toList;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class IntArrayListTest {
+
+    @Test
+    @DisplayName("IntArrayList: when initial capacity is negative then IllegalArgumentException is thrown")
+    public void intArrayList_whenInitialCapacityIsNegative_thenIllegalArgumentExceptionIsThrown() {
+        assertThrows(IllegalArgumentException.class, () -> new IntArrayList(-1));
+    }
+
+
+    static Stream<Arguments> ofTestCases() {
+        return Stream.of(
+                //@formatter:off
+                //            elements,                  expectedResult
+                Arguments.of( null,                      List.of() ),
+                Arguments.of( new int[] {},              List.of() ),
+                Arguments.of( new int[] { 3, 1, 3 },     List.of(3, 1, 3) )
+        ); //@formatter:on
+    }
+
+    @ParameterizedTest
+    @MethodSource("ofTestCases")
+    @DisplayName("of: test cases")
+    public void of_testCases(int[] elements, List<Integer> expectedResult) {
+        IntArrayList result = IntArrayList.of(elements);
+
+        assertEquals(expectedResult, result.toList());
+        assertEquals(expectedResult.hashCode(), result.hashCode());
+        assertEquals(expectedResult.toString(), result.toString());
+    }
+
+
+    @Test
+    @DisplayName("add: when more elements than the initial capacity are added then all of them are included in order")
+    public void add_whenMoreElementsThanTheInitialCapacityAreAdded_thenAllOfThemAreIncludedInOrder() {
+        IntArrayList list = new IntArrayList(0);
+        IntStream.range(0, 100).forEach(list::add);
+        list.addAll(100, 101);
+        list.addAll(null);
+
+        assertEquals(102, list.size());
+        assertArrayEquals(IntStream.range(0, 102).toArray(), list.toArray());
+        assertEquals(IntStream.range(0, 102).boxed().collect(toList()), list.stream().boxed().collect(toList()));
+    }
+
+
+    static Stream<Arguments> indexOutOfRangeTestCases() {
+        return Stream.of(
+                //@formatter:off
+                //            index
+                Arguments.of( -1 ),
+                Arguments.of( 2 )
+        ); //@formatter:on
+    }
+
+    @ParameterizedTest
+    @MethodSource("indexOutOfRangeTestCases")
+    @DisplayName("get, set and removeAt: when the index is out of range then IndexOutOfBoundsException is thrown")
+    public void getSetAndRemoveAt_whenTheIndexIsOutOfRange_thenIndexOutOfBoundsExceptionIsThrown(int index) {
+        IntArrayList list = IntArrayList.of(1, 2);
+
+        assertThrows(IndexOutOfBoundsException.class, () -> list.get(index));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.set(index, 0));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.removeAt(index));
+    }
+
+
+    @Test
+    @DisplayName("set and removeAt: when the index is valid then the previous element is returned")
+    public void setAndRemoveAt_whenTheIndexIsValid_thenThePreviousElementIsReturned() {
+        IntArrayList list = IntArrayList.of(5, 6, 7);
+
+        assertEquals(6, list.set(1, 9));
+        assertEquals(5, list.removeAt(0));
+        assertEquals(IntArrayList.of(9, 7), list);
+    }
+
+
+    @Test
+    @DisplayName("indexOf and contains: test cases")
+    public void indexOfAndContains_testCases() {
+        IntArrayList list = IntArrayList.of(4, 8, 4);
+
+        assertEquals(0, list.indexOf(4));
+        assertEquals(1, list.indexOf(8));
+        assertEquals(-1, list.indexOf(5));
+        assertTrue(list.contains(8));
+        assertFalse(list.contains(5));
+    }
+
+
+    @Test
+    @DisplayName("sort and clear: test cases")
+    public void sortAndClear_testCases() {
+        IntArrayList list = IntArrayList.of(3, -1, 2);
+
+        list.sort();
+        assertArrayEquals(new int[] { -1, 2, 3 }, list.toArray());
+
+        list.clear();
+        assertTrue(list.isEmpty());
+        assertEquals(new IntArrayList(), list);
+    }
+
+
+    @Test
+    @DisplayName("forEach: when action is null then IllegalArgumentException is thrown")
+    public void forEach_whenActionIsNull_thenIllegalArgumentExceptionIsThrown() {
+        assertThrows(IllegalArgumentException.class, () -> new IntArrayList().forEach(null));
+    }
+
+}
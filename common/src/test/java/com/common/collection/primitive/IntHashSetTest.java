@@ -0,0 +1,115 @@
+package com.common.collection.primitive;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.util.HashSet;
+import java.util.Random;
+import java.util.Set;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static java.util.stream.Collectors.toSet;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class IntHashSetTest {
+
+    static Stream<Arguments> ofTestCases() {
+        return Stream.of(
+                //@formatter:off
+                //            elements,                   expectedResult
+                Arguments.of( null,                       Set.of() ),
+                Arguments.of( new int[] {},               Set.of() ),
+                Arguments.of( new int[] { 0, 0, 1 },      Set.of(0, 1) ),
+                Arguments.of( new int[] { -4, 9, -4 },    Set.of(-4, 9) )
+        ); //@formatter:on
+    }
+
+    @ParameterizedTest
+    @MethodSource("ofTestCases")
+    @DisplayName("of: test cases")
+    public void of_testCases(int[] elements, Set<Integer> expectedResult) {
+        IntHashSet result = IntHashSet.of(elements);
+
+        assertEquals(expectedResult.size(), result.size());
+        assertEquals(expectedResult, result.stream().boxed().collect(toSet()));
+        assertEquals(expectedResult.hashCode(), result.hashCode());
+    }
+
+
+    @Test
+    @DisplayName("add: when the element already exists then false is returned")
+    public void add_whenTheElementAlreadyExists_thenFalseIsReturned() {
+        IntHashSet set = new IntHashSet();
+
+        assertTrue(set.add(0));
+        assertFalse(set.add(0));
+        assertTrue(set.add(5));
+        assertFalse(set.add(5));
+        assertEquals(2, set.size());
+    }
+
+
+    @Test
+    @DisplayName("add and remove: when elements are added and removed randomly then it behaves like HashSet")
+    public void addAndRemove_whenElementsAreAddedAndRemovedRandomly_thenItBehavesLikeHashSet() {
+        Random random = new Random(7);
+        Set<Integer> expected = new HashSet<>();
+        IntHashSet set = new IntHashSet(0);
+        for (int i = 0; i < 50_000; i++) {
+            int element = random.nextInt(300) - 30;
+            if (random.nextBoolean()) {
+                assertEquals(expected.add(element), set.add(element));
+            }
+            else {
+                assertEquals(expected.remove(element), set.remove(element));
+            }
+            assertEquals(expected.size(), set.size());
+        }
+        assertEquals(expected, set.stream().boxed().collect(toSet()));
+        expected.forEach(e -> assertTrue(set.contains(e)));
+    }
+
+
+    @Test
+    @DisplayName("clear: when it is invoked then the set is empty")
+    public void clear_whenItIsInvoked_thenTheSetIsEmpty() {
+        IntHashSet set = IntHashSet.of(0, 1, 2);
+
+        set.clear();
+
+        assertTrue(set.isEmpty());
+        assertFalse(set.contains(0));
+        assertFalse(set.contains(2));
+    }
+
+
+    @Test
+    @DisplayName("forEach: when action is null then IllegalArgumentException is thrown")
+    public void forEach_whenActionIsNull_thenIllegalArgumentExceptionIsThrown() {
+        assertThrows(IllegalArgumentException.class, () -> new IntHashSet().forEach(null));
+    }
+
+
+    @Test
+    @DisplayName("equals: when both sets contain the same elements then they are equal")
+    public void equals_whenBothSetsContainTheSameElements_thenTheyAreEqual() {
+        IntHashSet set = new IntHashSet();
+        IntStream.range(0, 100).forEach(set::add);
+        IntHashSet other = IntHashSet.of(IntStream.range(0, 100).map(i -> 99 - i).toArray());
+
+        assertEquals(set, other);
+        assertEquals(set.hashCode(), other.hashCode());
+
+        other.remove(0);
+        other.add(100);
+        assertFalse(set.equals(other));
+    }
+
+}
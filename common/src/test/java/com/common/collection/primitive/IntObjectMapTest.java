@@ -0,0 +1,208 @@
+package com.common.collection.primitive;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+import java.util.function.IntFunction;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static java.util.stream.Collectors.toSet;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class IntObjectMapTest {
+
+    private IntObjectMap<String> map;
+
+    @BeforeEach
+    public void setUp() {
+        map = new IntObjectMap<>();
+    }
+
+
+    @Test
+    @DisplayName("IntObjectMap: when expected size is negative then IllegalArgumentException is thrown")
+    public void intObjectMap_whenExpectedSizeIsNegative_thenIllegalArgumentExceptionIsThrown() {
+        assertThrows(IllegalArgumentException.class, () -> new IntObjectMap<>(-1));
+    }
+
+
+    static Stream<Arguments> putTestCases() {
+        return Stream.of(
+                //@formatter:off
+                //            key,                 value,   expectedSize
+                Arguments.of( 0,                   "0",     1 ),
+                Arguments.of( 1,                   "1",     1 ),
+                Arguments.of( -1,                  null,    1 ),
+                Arguments.of( Integer.MIN_VALUE,   "min",   1 ),
+                Arguments.of( Integer.MAX_VALUE,   "max",   1 )
+        ); //@formatter:on
+    }
+
+    @ParameterizedTest
+    @MethodSource("putTestCases")
+    @DisplayName("put: test cases")
+    public void put_testCases(int key, String value, int expectedSize) {
+        assertNull(map.put(key, value));
+
+        assertEquals(expectedSize, map.size());
+        assertTrue(map.containsKey(key));
+        assertEquals(value, map.get(key));
+        assertEquals(value, map.put(key, "replaced"));
+        assertEquals("replaced", map.get(key));
+        assertEquals(expectedSize, map.size());
+    }
+
+
+    @Test
+    @DisplayName("put: when more elements than the initial capacity are added then all of them are included")
+    public void put_whenMoreElementsThanInitialCapacityAreAdded_thenAllOfThemAreIncluded() {
+        IntStream.range(-500, 500).forEach(i -> map.put(i, String.valueOf(i)));
+
+        assertEquals(1_000, map.size());
+        IntStream.range(-500, 500).forEach(i -> assertEquals(String.valueOf(i), map.get(i)));
+        assertFalse(map.containsKey(500));
+    }
+
+
+    @Test
+    @DisplayName("putIfAbsent: when the key exists then the value is not replaced")
+    public void putIfAbsent_whenTheKeyExists_thenTheValueIsNotReplaced() {
+        assertNull(map.putIfAbsent(3, "first"));
+        assertEquals("first", map.putIfAbsent(3, "second"));
+        assertEquals("first", map.get(3));
+    }
+
+
+    static Stream<Arguments> computeIfAbsentTestCases() {
+        IntFunction<String> toString = String::valueOf;
+        IntFunction<String> toNull = k -> null;
+        return Stream.of(
+                //@formatter:off
+                //            initialValue,   key,   mappingFunction,   expectedException,                expectedResult,   expectedContainsKey
+                Arguments.of( null,           1,     null,              IllegalArgumentException.class,   null,             false ),
+                Arguments.of( null,           1,     toString,          null,                             "1",              true ),
+                Arguments.of( null,           1,     toNull,            null,                             null,             false ),
+                Arguments.of( "existing",     1,     toString,          null,                             "existing",       true )
+        ); //@formatter:on
+    }
+
+    @ParameterizedTest
+    @MethodSource("computeIfAbsentTestCases")
+    @DisplayName("computeIfAbsent: test cases")
+    public void computeIfAbsent_testCases(String initialValue, int key, IntFunction<String> mappingFunction,
+                                          Class<? extends Exception> expectedException, String expectedResult,
+                                          boolean expectedContainsKey) {
+        if (null != initialValue) {
+            map.put(key, initialValue);
+        }
+        if (null != expectedException) {
+            assertThrows(expectedException, () -> map.computeIfAbsent(key, mappingFunction));
+        }
+        else {
+            assertEquals(expectedResult, map.computeIfAbsent(key, mappingFunction));
+            assertEquals(expectedContainsKey, map.containsKey(key));
+        }
+    }
+
+
+    @Test
+    @DisplayName("getOrDefault: when the key does not exist then default value is returned")
+    public void getOrDefault_whenTheKeyDoesNotExist_thenDefaultValueIsReturned() {
+        map.put(1, "1");
+
+        assertEquals("1", map.getOrDefault(1, "default"));
+        assertEquals("default", map.getOrDefault(2, "default"));
+        assertEquals("default", map.getOrDefault(0, "default"));
+    }
+
+
+    @Test
+    @DisplayName("remove: when keys are removed and added randomly then it behaves like HashMap")
+    public void remove_whenKeysAreRemovedAndAddedRandomly_thenItBehavesLikeHashMap() {
+        // Few different keys, so the clusters of the linear probing are continuously moved back
+        Random random = new Random(11);
+        Map<Integer, String> expected = new HashMap<>();
+        for (int i = 0; i < 50_000; i++) {
+            int key = random.nextInt(200) - 20;
+            if (random.nextBoolean()) {
+                assertEquals(expected.put(key, "v" + i), map.put(key, "v" + i));
+            }
+            else {
+                assertEquals(expected.remove(key), map.remove(key));
+            }
+            assertEquals(expected.size(), map.size());
+        }
+        assertEquals(expected, map.toMap());
+    }
+
+
+    @Test
+    @DisplayName("clear: when it is invoked then the map is empty")
+    public void clear_whenItIsInvoked_thenTheMapIsEmpty() {
+        map.put(0, "0");
+        map.put(1, "1");
+
+        map.clear();
+
+        assertTrue(map.isEmpty());
+        assertFalse(map.containsKey(0));
+        assertFalse(map.containsKey(1));
+    }
+
+
+    @Test
+    @DisplayName("forEach: when action is null then IllegalArgumentException is thrown")
+    public void forEach_whenActionIsNull_thenIllegalArgumentExceptionIsThrown() {
+        assertThrows(IllegalArgumentException.class, () -> map.forEach(null));
+    }
+
+
+    @Test
+    @DisplayName("keys and values: when there are entries then all of them are returned in the same order")
+    public void keysAndValues_whenThereAreEntries_thenAllOfThemAreReturnedInTheSameOrder() {
+        IntStream.range(0, 20).forEach(i -> map.put(i, String.valueOf(i)));
+
+        int[] keys = map.keys();
+        assertEquals(IntStream.range(0, 20).boxed().collect(toSet()), IntStream.of(keys).boxed().collect(toSet()));
+        for (int i = 0; i < keys.length; i++) {
+            assertEquals(String.valueOf(keys[i]), map.values().get(i));
+        }
+    }
+
+
+    @Test
+    @DisplayName("equals and hashCode: when both maps contain the same entries then they are equal")
+    public void equalsAndHashCode_whenBothMapsContainTheSameEntries_thenTheyAreEqual() {
+        IntObjectMap<String> other = new IntObjectMap<>(100);
+        IntStream.range(0, 20).forEach(i -> map.put(i, String.valueOf(i)));
+        IntStream.range(0, 20).map(i -> 19 - i).forEach(i -> other.put(i, String.valueOf(i)));
+
+        assertEquals(map, other);
+        assertEquals(map.hashCode(), other.hashCode());
+
+        other.put(3, "other");
+        assertFalse(map.equals(other));
+    }
+
+
+    @Test
+    @DisplayName("toString: when there is one entry then it is returned like a Map")
+    public void toString_whenThereIsOneEntry_thenItIsReturnedLikeAMap() {
+        map.put(7, "seven");
+
+        assertEquals("{7=seven}", map.toString());
+    }
+
+}
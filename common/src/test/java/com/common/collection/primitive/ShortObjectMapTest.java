@@ -0,0 +1,97 @@
+package com.common.collection.primitive;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class ShortObjectMapTest {
+
+    private ShortObjectMap<String> map;
+
+    @BeforeEach
+    public void setUp() {
+        map = new ShortObjectMap<>();
+    }
+
+
+    @Test
+    @DisplayName("put: when all the short values are added then all of them are included")
+    public void put_whenAllTheShortValuesAreAdded_thenAllOfThemAreIncluded() {
+        for (int i = Short.MIN_VALUE; i <= Short.MAX_VALUE; i++) {
+            assertNull(map.put((short) i, String.valueOf(i)));
+        }
+        assertEquals(1 << 16, map.size());
+        for (int i = Short.MIN_VALUE; i <= Short.MAX_VALUE; i++) {
+            assertEquals(String.valueOf(i), map.get((short) i));
+        }
+    }
+
+
+    @Test
+    @DisplayName("remove: when the key exists then its value is returned")
+    public void remove_whenTheKeyExists_thenItsValueIsReturned() {
+        map.put((short) 1, "1");
+
+        assertEquals("1", map.remove((short) 1));
+        assertNull(map.remove((short) 1));
+        assertTrue(map.isEmpty());
+    }
+
+
+    @Test
+    @DisplayName("putIfAbsent and computeIfAbsent: when the key exists then the value is not replaced")
+    public void putIfAbsentAndComputeIfAbsent_whenTheKeyExists_thenTheValueIsNotReplaced() {
+        assertNull(map.putIfAbsent((short) 2, "first"));
+        assertEquals("first", map.putIfAbsent((short) 2, "second"));
+        assertEquals("first", map.computeIfAbsent((short) 2, String::valueOf));
+        assertEquals("3", map.computeIfAbsent((short) 3, String::valueOf));
+        assertEquals("default", map.getOrDefault((short) 4, "default"));
+    }
+
+
+    @Test
+    @DisplayName("forEach: when action is null then IllegalArgumentException is thrown")
+    public void forEach_whenActionIsNull_thenIllegalArgumentExceptionIsThrown() {
+        assertThrows(IllegalArgumentException.class, () -> map.forEach(null));
+    }
+
+
+    @Test
+    @DisplayName("forEach, keys and toMap: when there are negative keys then they are returned as short")
+    public void forEachKeysAndToMap_whenThereAreNegativeKeys_thenTheyAreReturnedAsShort() {
+        map.put((short) -3, "-3");
+        Map<Short, String> visited = new HashMap<>();
+
+        map.forEach(visited::put);
+
+        assertEquals(Map.of((short) -3, "-3"), visited);
+        assertEquals(visited, map.toMap());
+        assertArrayEquals(new short[] { -3 }, map.keys());
+    }
+
+
+    @Test
+    @DisplayName("equals and hashCode: when both maps contain the same entries then they are equal")
+    public void equalsAndHashCode_whenBothMapsContainTheSameEntries_thenTheyAreEqual() {
+        ShortObjectMap<String> other = new ShortObjectMap<>(10);
+        map.put((short) 1, "1");
+        other.put((short) 1, "1");
+
+        assertEquals(map, other);
+        assertEquals(map.hashCode(), other.hashCode());
+
+        map.clear();
+        assertFalse(map.equals(other));
+    }
+
+}
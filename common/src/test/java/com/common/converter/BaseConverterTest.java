@@ -0,0 +1,139 @@
+package com.common.converter;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static java.util.Arrays.asList;
+import static java.util.stream.Collectors.toList;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class BaseConverterTest {
+
+    private final BaseConverter<Integer, String> converter = new IntegerStringConverter();
+
+
+    static Stream<Arguments> fromDtoStreamToModelsTestCases() {
+        return Stream.of(
+                //@formatter:off
+                //            dtos,                              expectedResult
+                Arguments.of( null,                              List.of() ),
+                Arguments.of( Stream.of(),                       List.of() ),
+                Arguments.of( Stream.of("1", "2", "3"),          List.of(1, 2, 3) ),
+                Arguments.of( Stream.of("3", "1").parallel(),    List.of(3, 1) )
+        ); //@formatter:on
+    }
+
+    @ParameterizedTest
+    @MethodSource("fromDtoStreamToModelsTestCases")
+    @DisplayName("fromDtoStreamToModels: test cases")
+    public void fromDtoStreamToModels_testCases(Stream<String> dtos, List<Integer> expectedResult) {
+        assertEquals(expectedResult, converter.fromDtoStreamToModels(dtos).collect(toList()));
+    }
+
+
+    static Stream<Arguments> fromModelStreamToDtosTestCases() {
+        return Stream.of(
+                //@formatter:off
+                //            models,                       expectedResult
+                Arguments.of( null,                         List.of() ),
+                Arguments.of( Stream.of(),                  List.of() ),
+                Arguments.of( Stream.of(1, null, 3),        asList("1", null, "3") )
+        ); //@formatter:on
+    }
+
+    @ParameterizedTest
+    @MethodSource("fromModelStreamToDtosTestCases")
+    @DisplayName("fromModelStreamToDtos: test cases")
+    public void fromModelStreamToDtos_testCases(Stream<Integer> models, List<String> expectedResult) {
+        assertEquals(expectedResult, converter.fromModelStreamToDtos(models).collect(toList()));
+    }
+
+
+    static Stream<Arguments> fromDtosToModelsInParallelTestCases() {
+        List<String> manyDtos = IntStream.range(0, 5_000).mapToObj(String::valueOf).collect(toList());
+        List<Integer> manyModels = IntStream.range(0, 5_000).boxed().collect(toList());
+        return Stream.of(
+                //@formatter:off
+                //            dtos,                  parallelThreshold,   expectedResult
+                Arguments.of( null,                  1,                   List.of() ),
+                Arguments.of( List.of(),             1,                   List.of() ),
+                Arguments.of( List.of("2", "1"),     10,                  List.of(2, 1) ),
+                Arguments.of( List.of("2", "1"),     1,                   List.of(2, 1) ),
+                Arguments.of( manyDtos,              100,                 manyModels )
+        ); //@formatter:on
+    }
+
+    @ParameterizedTest
+    @MethodSource("fromDtosToModelsInParallelTestCases")
+    @DisplayName("fromDtosToModelsInParallel: test cases")
+    public void fromDtosToModelsInParallel_testCases(Collection<String> dtos, int parallelThreshold, List<Integer> expectedResult) {
+        assertEquals(expectedResult, converter.fromDtosToModelsInParallel(dtos, parallelThreshold));
+    }
+
+
+    static Stream<Arguments> fromModelsToDtosInParallelTestCases() {
+        List<Integer> manyModels = IntStream.range(0, 5_000).boxed().collect(toList());
+        List<String> manyDtos = IntStream.range(0, 5_000).mapToObj(String::valueOf).collect(toList());
+        return Stream.of(
+                //@formatter:off
+                //            models,                parallelThreshold,   expectedResult
+                Arguments.of( null,                  1,                   List.of() ),
+                Arguments.of( asList(1, null),       10,                  asList("1", null) ),
+                Arguments.of( asList(1, null),       1,                   asList("1", null) ),
+                Arguments.of( manyModels,            100,                 manyDtos )
+        ); //@formatter:on
+    }
+
+    @ParameterizedTest
+    @MethodSource("fromModelsToDtosInParallelTestCases")
+    @DisplayName("fromModelsToDtosInParallel: test cases")
+    public void fromModelsToDtosInParallel_testCases(Collection<Integer> models, int parallelThreshold, List<String> expectedResult) {
+        assertEquals(expectedResult, converter.fromModelsToDtosInParallel(models, parallelThreshold));
+    }
+
+
+
+    /**
+     * Simple converter with the behaviour of the ones generated by MapStruct: {@code null} is converted to {@code null}
+     * and a {@code null} {@link Collection} to an empty {@link List}.
+     */
+    static class IntegerStringConverter implements ReactiveBaseConverter<Integer, String> {
+
+        @Override
+        public Integer fromDtoToModel(String dto) {
+            return null == dto ? null : Integer.valueOf(dto);
+        }
+
+        @Override
+        public List<Integer> fromDtosToModels(Collection<String> dtos) {
+            List<Integer> models = new ArrayList<>();
+            if (null != dtos) {
+                dtos.forEach(dto -> models.add(fromDtoToModel(dto)));
+            }
+            return models;
+        }
+
+        @Override
+        public String fromModelToDto(Integer model) {
+            return null == model ? null : String.valueOf(model);
+        }
+
+        @Override
+        public List<String> fromModelsToDtos(Collection<Integer> models) {
+            List<String> dtos = new ArrayList<>();
+            if (null != models) {
+                models.forEach(model -> dtos.add(fromModelToDto(model)));
+            }
+            return dtos;
+        }
+    }
+
+}
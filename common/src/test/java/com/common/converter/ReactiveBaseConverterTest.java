@@ -0,0 +1,110 @@
+package com.common.converter;
+
+import com.common.converter.BaseConverterTest.IntegerStringConverter;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import reactor.core.publisher.Flux;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+import reactor.test.StepVerifier;
+
+import java.util.List;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static java.util.stream.Collectors.toList;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class ReactiveBaseConverterTest {
+
+    private final ReactiveBaseConverter<Integer, String> converter = new IntegerStringConverter();
+
+
+    static Stream<Arguments> fromDtoFluxToModelsTestCases() {
+        return Stream.of(
+                //@formatter:off
+                //            dtos,                          expectedResult
+                Arguments.of( null,                          List.of() ),
+                Arguments.of( Flux.empty(),                  List.of() ),
+                Arguments.of( Flux.just("1", "2", "3"),      List.of(1, 2, 3) )
+        ); //@formatter:on
+    }
+
+    @ParameterizedTest
+    @MethodSource("fromDtoFluxToModelsTestCases")
+    @DisplayName("fromDtoFluxToModels: test cases")
+    public void fromDtoFluxToModels_testCases(Flux<String> dtos, List<Integer> expectedResult) {
+        StepVerifier.create(converter.fromDtoFluxToModels(dtos))
+                .expectNextSequence(expectedResult)
+                .verifyComplete();
+    }
+
+
+    static Stream<Arguments> fromModelFluxToDtosTestCases() {
+        return Stream.of(
+                //@formatter:off
+                //            models,                  expectedResult
+                Arguments.of( null,                    List.of() ),
+                Arguments.of( Flux.empty(),            List.of() ),
+                Arguments.of( Flux.just(3, 1),         List.of("3", "1") )
+        ); //@formatter:on
+    }
+
+    @ParameterizedTest
+    @MethodSource("fromModelFluxToDtosTestCases")
+    @DisplayName("fromModelFluxToDtos: test cases")
+    public void fromModelFluxToDtos_testCases(Flux<Integer> models, List<String> expectedResult) {
+        StepVerifier.create(converter.fromModelFluxToDtos(models))
+                .expectNextSequence(expectedResult)
+                .verifyComplete();
+    }
+
+
+    static Stream<Arguments> inParallelInvalidParametersTestCases() {
+        return Stream.of(
+                //@formatter:off
+                //            batchSize,   scheduler
+                Arguments.of( 0,           Schedulers.parallel() ),
+                Arguments.of( 10,          null )
+        ); //@formatter:on
+    }
+
+    @ParameterizedTest
+    @MethodSource("inParallelInvalidParametersTestCases")
+    @DisplayName("fromDtosToModelsInParallel and fromModelsToDtosInParallel: when parameters are not valid then IllegalArgumentException is thrown")
+    public void inParallel_whenParametersAreNotValid_thenIllegalArgumentExceptionIsThrown(int batchSize, Scheduler scheduler) {
+        assertThrows(IllegalArgumentException.class, () -> converter.fromDtosToModelsInParallel(Flux.just("1"), batchSize, scheduler));
+        assertThrows(IllegalArgumentException.class, () -> converter.fromModelsToDtosInParallel(Flux.just(1), batchSize, scheduler));
+    }
+
+
+    @Test
+    @DisplayName("fromDtosToModelsInParallel: when there are several batches then the order is kept")
+    public void fromDtosToModelsInParallel_whenThereAreSeveralBatches_thenTheOrderIsKept() {
+        List<Integer> models = IntStream.range(0, 1_000).boxed().collect(toList());
+        Flux<String> dtos = Flux.fromIterable(models).map(String::valueOf);
+
+        StepVerifier.create(converter.fromDtosToModelsInParallel(dtos, 7, Schedulers.parallel()))
+                .expectNextSequence(models)
+                .verifyComplete();
+
+        StepVerifier.create(converter.fromDtosToModelsInParallel(null, 7, Schedulers.parallel()))
+                .verifyComplete();
+    }
+
+
+    @Test
+    @DisplayName("fromModelsToDtosInParallel: when there are several batches then the order is kept")
+    public void fromModelsToDtosInParallel_whenThereAreSeveralBatches_thenTheOrderIsKept() {
+        List<String> dtos = IntStream.range(0, 1_000).mapToObj(String::valueOf).collect(toList());
+        Flux<Integer> models = Flux.range(0, 1_000);
+
+        StepVerifier.create(converter.fromModelsToDtosInParallel(models, 7, Schedulers.parallel()))
+                .expectNextSequence(dtos)
+                .verifyComplete();
+    }
+
+}
@@ -1,24 +1,56 @@
 package com.common.service;
 
+import com.hazelcast.core.IMap;
+import com.hazelcast.spring.cache.HazelcastCache;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mockito;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.cache.Cache;
 import org.springframework.cache.CacheManager;
+import org.springframework.cache.concurrent.ConcurrentMapCache;
 import org.springframework.cache.support.SimpleValueWrapper;
 
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Stream;
 
+import static java.util.Arrays.asList;
 import static java.util.Optional.empty;
 import static java.util.Optional.of;
+import static org.junit.jupiter.api.Assertions.assertAll;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doNothing;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @SpringBootTest(classes = CacheService.class)
@@ -119,6 +151,144 @@ public class CacheServiceTest {
     }
 
 
+    static Stream<Arguments> getOrLoadTestCases() {
+        return Stream.of(
+                //@formatter:off
+                //            cacheName,         storedValue,     loaderResult,    expectedResult,        expectedStoredValue
+                Arguments.of( null,              null,            "Loaded",        of("Loaded"),          null ),
+                Arguments.of( "NotFoundCache",   null,            "Loaded",        of("Loaded"),          null ),
+                Arguments.of( "FoundCache",      "Stored",        "Loaded",        of("Stored"),          "Stored" ),
+                Arguments.of( "FoundCache",      null,            "Loaded",        of("Loaded"),          "Loaded" ),
+                Arguments.of( "FoundCache",      null,            null,            empty(),               null )
+        ); //@formatter:on
+    }
+
+    @ParameterizedTest
+    @MethodSource("getOrLoadTestCases")
+    @DisplayName("getOrLoad: test cases")
+    public void getOrLoad_testCases(String cacheName, String storedValue, String loaderResult, Optional<String> expectedResult,
+                                    String expectedStoredValue) {
+        Cache cache = new ConcurrentMapCache("FoundCache");
+        if (null != storedValue) {
+            cache.put("key", storedValue);
+        }
+        // When
+        when(mockCacheManager.getCache("FoundCache")).thenReturn(cache);
+
+        Optional<String> operationResult = service.getOrLoad(cacheName, "key", () -> loaderResult);
+
+        // Then
+        assertEquals(expectedResult, operationResult);
+        assertEquals(expectedStoredValue, cache.get("key", String.class));
+    }
+
+
+    @Test
+    @DisplayName("getOrLoad: when the loader fails then its exception is thrown and nothing is stored")
+    public void getOrLoad_whenTheLoaderFails_thenItsExceptionIsThrownAndNothingIsStored() {
+        Cache cache = new ConcurrentMapCache("FoundCache");
+
+        // When
+        when(mockCacheManager.getCache("FoundCache")).thenReturn(cache);
+
+        // Then
+        assertThrows(IllegalStateException.class, () ->
+                service.getOrLoad("FoundCache", "key", () -> {
+                    throw new IllegalStateException();
+                })
+        );
+        assertNull(cache.get("key"));
+        assertEquals(of("Loaded"), service.getOrLoad("FoundCache", "key", () -> "Loaded"));
+    }
+
+
+    @Test
+    @DisplayName("getOrLoad: when several threads ask for the same missing key then the loader is invoked only once")
+    public void getOrLoad_whenSeveralThreadsAskForTheSameMissingKey_thenTheLoaderIsInvokedOnlyOnce() throws Exception {
+        Cache cache = new ConcurrentMapCache("FoundCache");
+        int threads = 8;
+        AtomicInteger loaderInvocations = new AtomicInteger();
+        CountDownLatch allStarted = new CountDownLatch(threads);
+        CountDownLatch loaderReleased = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+
+        // When
+        when(mockCacheManager.getCache("FoundCache")).thenReturn(cache);
+
+        List<Future<Optional<String>>> results = new ArrayList<>();
+        for (int i = 0; i < threads; i++) {
+            results.add(executor.submit(() -> {
+                allStarted.countDown();
+                return service.getOrLoad("FoundCache", "key", () -> {
+                    loaderInvocations.incrementAndGet();
+                    try {
+                        loaderReleased.await(5, TimeUnit.SECONDS);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                    return "Loaded";
+                });
+            }));
+        }
+        allStarted.await(5, TimeUnit.SECONDS);
+        // Gives time to the other threads to wait for the in progress load
+        Thread.sleep(100);
+        loaderReleased.countDown();
+
+        // Then
+        for (Future<Optional<String>> result : results) {
+            assertEquals(of("Loaded"), result.get(5, TimeUnit.SECONDS));
+        }
+        executor.shutdown();
+        assertEquals(1, loaderInvocations.get());
+    }
+
+
+    @Test
+    @DisplayName("getOrLoad: when refresh-ahead is required then the current value is returned and the new one is loaded in background")
+    public void getOrLoad_whenRefreshAheadIsRequired_thenCurrentValueIsReturnedAndNewOneIsLoadedInBackground() throws Exception {
+        Cache cache = new ConcurrentMapCache("FoundCache");
+        AtomicInteger loaderInvocations = new AtomicInteger();
+
+        // When
+        when(mockCacheManager.getCache("FoundCache")).thenReturn(cache);
+
+        // Then
+        assertEquals(of(1), service.getOrLoad("FoundCache", "key", loaderInvocations::incrementAndGet, Duration.ZERO));
+        assertEquals(of(1), service.getOrLoad("FoundCache", "key", loaderInvocations::incrementAndGet, Duration.ZERO));
+
+        long timeout = System.currentTimeMillis() + 5000;
+        while (!Integer.valueOf(2).equals(cache.get("key", Integer.class)) && System.currentTimeMillis() < timeout) {
+            Thread.sleep(10);
+        }
+        assertEquals(2, cache.get("key", Integer.class));
+        assertEquals(2, loaderInvocations.get());
+    }
+
+
+    @Test
+    @DisplayName("getOrLoad: when the service was shut down then the current value is returned without refreshing it")
+    public void getOrLoad_whenServiceWasShutDown_thenCurrentValueIsReturnedWithoutRefreshingIt() throws Exception {
+        Cache cache = new ConcurrentMapCache("FoundCache");
+        AtomicInteger loaderInvocations = new AtomicInteger();
+        ObjectProvider<MeterRegistry> meterRegistry = Mockito.mock(ObjectProvider.class);
+
+        // When
+        when(mockCacheManager.getCache("FoundCache")).thenReturn(cache);
+        when(meterRegistry.getIfAvailable(any())).thenReturn(new SimpleMeterRegistry());
+        CacheService shutDownService = new CacheService(mockCacheManager, meterRegistry);
+
+        // Then
+        assertEquals(of(1), shutDownService.getOrLoad("FoundCache", "key", loaderInvocations::incrementAndGet, Duration.ZERO));
+        shutDownService.destroy();
+        assertEquals(of(1), shutDownService.getOrLoad("FoundCache", "key", loaderInvocations::incrementAndGet, Duration.ZERO));
+
+        Thread.sleep(100);
+        assertEquals(1, cache.get("key", Integer.class));
+        assertEquals(1, loaderInvocations.get());
+    }
+
+
     static Stream<Arguments> putTestCases() {
         Cache mockCache = Mockito.mock(Cache.class);
         return Stream.of(
@@ -169,8 +339,7 @@ public class CacheServiceTest {
         // When
         when(mockCacheManager.getCache(cacheName)).thenReturn(cacheManagerResult);
         if (null != cacheManagerResult) {
-            when(cacheManagerResult.get(key)).thenReturn(cacheResult);
-            doNothing().when(cacheManagerResult).put(key, value);
+            when(cacheManagerResult.putIfAbsent(key, value)).thenReturn(cacheResult);
         }
 
         boolean operationResult = service.putIfAbsent(cacheName, key, value);
@@ -213,6 +382,154 @@ public class CacheServiceTest {
     }
 
 
+    @Test
+    @DisplayName("putIfPresent: when the native cache is a ConcurrentMap then only one atomic operation is used")
+    public void putIfPresent_whenNativeCacheIsConcurrentMap_thenAtomicReplaceIsUsed() {
+        Cache cache = new ConcurrentMapCache("FoundCache");
+        cache.put("FoundKey", "OldValue");
+
+        // When
+        when(mockCacheManager.getCache("FoundCache")).thenReturn(cache);
+
+        // Then
+        assertAll(
+                () -> assertFalse(service.putIfPresent("FoundCache", "NotFoundKey", "NewValue")),
+                () -> assertNull(cache.get("NotFoundKey")),
+                () -> assertTrue(service.putIfPresent("FoundCache", "FoundKey", "NewValue")),
+                () -> assertEquals("NewValue", cache.get("FoundKey").get())
+        );
+    }
+
+
+    static Stream<Arguments> getAllTestCases() {
+        Cache cache = new ConcurrentMapCache("FoundCache");
+        cache.put("FoundKey1", "FoundValue1");
+        cache.put("FoundKey2", "FoundValue2");
+        Map<String, String> foundValues = new HashMap<>();
+        foundValues.put("FoundKey1", "FoundValue1");
+        foundValues.put("FoundKey2", "FoundValue2");
+        return Stream.of(
+                //@formatter:off
+                //            cacheName,         keys,                                                  cacheManagerResult,   expectedResult
+                Arguments.of( null,              null,                                                  null,                 new HashMap<>() ),
+                Arguments.of( "NotFoundCache",   asList("FoundKey1"),                                   null,                 new HashMap<>() ),
+                Arguments.of( "FoundCache",      asList(),                                              cache,                new HashMap<>() ),
+                Arguments.of( "FoundCache",      asList("FoundKey1", "NotFoundKey", "FoundKey2"),       cache,                foundValues )
+        ); //@formatter:on
+    }
+
+    @ParameterizedTest
+    @MethodSource("getAllTestCases")
+    @DisplayName("getAll: test cases")
+    public void getAll_testCases(String cacheName, List<String> keys, Cache cacheManagerResult, Map<String, String> expectedResult) {
+        // When
+        when(mockCacheManager.getCache(cacheName)).thenReturn(cacheManagerResult);
+        Map<String, String> operationResult = service.getAll(cacheName, keys);
+
+        // Then
+        assertEquals(expectedResult, operationResult);
+    }
+
+
+    @Test
+    @DisplayName("getAll: when the cache is a Hazelcast one then all keys are requested at once")
+    public void getAll_whenCacheIsHazelcastOne_thenAllKeysAreRequestedAtOnce() {
+        IMap<Object, Object> mockMap = Mockito.mock(IMap.class);
+        Cache cache = new HazelcastCache(mockMap);
+        Map<Object, Object> storedValues = new HashMap<>();
+        storedValues.put("FoundKey", "FoundValue");
+        storedValues.put("NullKey", hazelcastNullValue());
+
+        Map<String, String> expectedResult = new HashMap<>();
+        expectedResult.put("FoundKey", "FoundValue");
+        expectedResult.put("NullKey", null);
+
+        // When
+        when(mockCacheManager.getCache("FoundCache")).thenReturn(cache);
+        when(mockMap.getAll(new LinkedHashSet<>(asList("FoundKey", "NullKey", "NotFoundKey")))).thenReturn(storedValues);
+
+        Map<String, String> operationResult = service.getAll("FoundCache", asList("FoundKey", "NullKey", "NotFoundKey"));
+
+        // Then
+        assertEquals(expectedResult, operationResult);
+        verify(mockMap, never()).get(any());
+    }
+
+
+    @Test
+    @DisplayName("putAll: test cases")
+    public void putAll_testCases() {
+        Cache cache = new ConcurrentMapCache("FoundCache");
+        Map<String, String> entries = new HashMap<>();
+        entries.put("Key1", "Value1");
+        entries.put("Key2", "Value2");
+
+        // When
+        when(mockCacheManager.getCache("FoundCache")).thenReturn(cache);
+
+        // Then
+        assertAll(
+                () -> assertFalse(service.putAll(null, entries)),
+                () -> assertFalse(service.putAll("NotFoundCache", entries)),
+                () -> assertTrue(service.putAll("FoundCache", entries)),
+                () -> assertEquals("Value1", cache.get("Key1").get()),
+                () -> assertEquals("Value2", cache.get("Key2").get())
+        );
+    }
+
+
+    @Test
+    @DisplayName("putAll: when the cache is a Hazelcast one then all entries are sent at once")
+    public void putAll_whenCacheIsHazelcastOne_thenAllEntriesAreSentAtOnce() {
+        IMap<Object, Object> mockMap = Mockito.mock(IMap.class);
+        Cache cache = new HazelcastCache(mockMap);
+        Map<String, String> entries = new HashMap<>();
+        entries.put("Key1", "Value1");
+        entries.put("NullKey", null);
+        ArgumentCaptor<Map<Object, Object>> storedEntries = ArgumentCaptor.forClass(Map.class);
+
+        // When
+        when(mockCacheManager.getCache("FoundCache")).thenReturn(cache);
+
+        // Then
+        assertTrue(service.putAll("FoundCache", entries));
+        verify(mockMap, times(1)).putAll(storedEntries.capture());
+        verify(mockMap, never()).set(any(), any());
+
+        // The stored null is read as null by the operations of the cache
+        when(mockMap.get("Key1")).thenReturn(storedEntries.getValue().get("Key1"));
+        when(mockMap.get("NullKey")).thenReturn(storedEntries.getValue().get("NullKey"));
+        assertAll(
+                () -> assertEquals("Value1", cache.get("Key1").get()),
+                () -> assertNotNull(cache.get("NullKey")),
+                () -> assertNull(cache.get("NullKey").get())
+        );
+    }
+
+
+    @Test
+    @DisplayName("removeAll: test cases")
+    public void removeAll_testCases() {
+        Cache cache = new ConcurrentMapCache("FoundCache");
+        cache.put("Key1", "Value1");
+        cache.put("Key2", "Value2");
+        cache.put("Key3", "Value3");
+
+        // When
+        when(mockCacheManager.getCache("FoundCache")).thenReturn(cache);
+
+        // Then
+        assertAll(
+                () -> assertFalse(service.removeAll(null, asList("Key1"))),
+                () -> assertFalse(service.removeAll("NotFoundCache", asList("Key1"))),
+                () -> assertTrue(service.removeAll("FoundCache", asList("Key1", "Key2"))),
+                () -> assertNull(cache.get("Key1")),
+                () -> assertNull(cache.get("Key2")),
+                () -> assertEquals("Value3", cache.get("Key3").get())
+        );
+    }
+
+
     static Stream<Arguments> removeTestCases() {
         Cache mockCache = Mockito.mock(Cache.class);
         return Stream.of(
@@ -237,4 +554,17 @@ public class CacheServiceTest {
         assertEquals(expectedResult, operationResult);
     }
 
+
+
+    /**
+     * Return the value stored by {@link HazelcastCache} when {@code null} is included in the cache.
+     */
+    private static Object hazelcastNullValue() {
+        IMap<Object, Object> mockMap = Mockito.mock(IMap.class);
+        ArgumentCaptor<Object> storedValue = ArgumentCaptor.forClass(Object.class);
+        new HazelcastCache(mockMap).put("NullKey", null);
+        verify(mockMap).set(eq("NullKey"), storedValue.capture());
+        return storedValue.getValue();
+    }
+
 }
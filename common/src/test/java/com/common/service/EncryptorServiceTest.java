@@ -2,17 +2,29 @@ package com.common.service;
 
 import lombok.SneakyThrows;
 import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.security.GeneralSecurityException;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Random;
 import java.util.stream.Stream;
 
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 @SpringBootTest(classes = EncryptorService.class)
 public class EncryptorServiceTest {
@@ -42,21 +54,49 @@ public class EncryptorServiceTest {
             assertThrows(expectedException, () -> service.encrypt(toEncrypt, password));
         }
         else {
-            assertNotNull(service.encrypt(toEncrypt, password));
+            String encrypted = service.encrypt(toEncrypt, password);
+            assertNotNull(encrypted);
+            assertEquals(toEncrypt, service.decrypt(encrypted, password));
         }
     }
 
 
+    @SneakyThrows
+    @Test
+    @DisplayName("encrypt: when the same content is encrypted twice then the password's salt is reused but not the IV")
+    public void encrypt_whenTheSameContentIsEncryptedTwice_thenPasswordSaltIsReusedButNotTheIV() {
+        String toEncrypt = "Raw information to encrypt";
+        String password = "23Rhf(@_2-Poas";
+
+        byte[] first = Base64.getDecoder().decode(service.encrypt(toEncrypt, password));
+        byte[] second = Base64.getDecoder().decode(service.encrypt(toEncrypt, password));
+        byte[] otherPassword = Base64.getDecoder().decode(service.encrypt(toEncrypt, "other password"));
+
+        assertAll(
+                () -> assertEquals(1, first[0]),
+                () -> assertArrayEquals(Arrays.copyOfRange(first, 1, 17), Arrays.copyOfRange(second, 1, 17)),
+                () -> assertFalse(Arrays.equals(Arrays.copyOfRange(first, 17, 29), Arrays.copyOfRange(second, 17, 29))),
+                () -> assertFalse(Arrays.equals(Arrays.copyOfRange(first, 1, 17), Arrays.copyOfRange(otherPassword, 1, 17)))
+        );
+    }
+
+
     static Stream<Arguments> decryptTestCases() {
-        String toDecrypt = "SGB2pnNj1NUZ7IKV6RpEes/cv76rwV/0fNopGgnIuVeyuy1wdOomylv4i0geFJBHQe0B4VAyjcWGD6gpCEtszrGwcDiu1w==";
+        String legacyToDecrypt = "SGB2pnNj1NUZ7IKV6RpEes/cv76rwV/0fNopGgnIuVeyuy1wdOomylv4i0geFJBHQe0B4VAyjcWGD6gpCEtszrGwcDiu1w==";
+        String toDecrypt = "AT4EoCMRoNKu82p640coAs9nkFqzvzj4VkoaFhoTU719P7eBaQ/2W3XX2ovE/V61gZZpAQRuEyAdVkFS69gdPliBm2EHxcg=";
+        String tamperedToDecrypt = "AT4EoCMRoNKu82p640coAs9nkFqzvzj4VkoaFhoTU719P7eBaQ/2W3XX2ovE/V61gZZpAQRuEyAdVkFS69gdPliBm2EHxck=";
         String password = "23Rhf(@_2-Poas";
         String decrypted = "Raw information to encrypt";
         return Stream.of(
                 //@formatter:off
-                //            toDecrypt,   password,   expectedException,                expectedResult
-                Arguments.of( null,        null,       IllegalArgumentException.class,   null ),
-                Arguments.of( toDecrypt,   null,       IllegalArgumentException.class,   null ),
-                Arguments.of( toDecrypt,   password,   null,                             decrypted )
+                //            toDecrypt,           password,           expectedException,                 expectedResult
+                Arguments.of( null,                null,               IllegalArgumentException.class,    null ),
+                Arguments.of( toDecrypt,           null,               IllegalArgumentException.class,    null ),
+                Arguments.of( "",                  password,           GeneralSecurityException.class,    null ),
+                Arguments.of( toDecrypt,           "wrong password",   GeneralSecurityException.class,    null ),
+                Arguments.of( tamperedToDecrypt,   password,           GeneralSecurityException.class,    null ),
+                Arguments.of( legacyToDecrypt,     password,           null,                              decrypted ),
+                Arguments.of( toDecrypt,           password,           null,                              decrypted )
         ); //@formatter:on
     }
 
@@ -74,4 +114,114 @@ public class EncryptorServiceTest {
         }
     }
 
+
+
+    static Stream<Arguments> streamTestCases() {
+        int segmentLength = 64 * 1024;
+        return Stream.of(
+                //@formatter:off
+                //            contentLength
+                Arguments.of( 0 ),
+                Arguments.of( 1 ),
+                Arguments.of( segmentLength - 1 ),
+                Arguments.of( segmentLength ),
+                Arguments.of( segmentLength + 1 ),
+                Arguments.of( 3 * segmentLength + 5 )
+        ); //@formatter:on
+    }
+
+    @SneakyThrows
+    @ParameterizedTest
+    @MethodSource("streamTestCases")
+    @DisplayName("encrypt and decrypt of streams: test cases")
+    public void encryptAndDecryptOfStreams_testCases(int contentLength) {
+        String password = "23Rhf(@_2-Poas";
+        byte[] content = randomContent(contentLength);
+
+        ByteArrayOutputStream encrypted = new ByteArrayOutputStream();
+        service.encrypt(new ByteArrayInputStream(content), encrypted, password);
+
+        ByteArrayOutputStream decrypted = new ByteArrayOutputStream();
+        service.decrypt(new ByteArrayInputStream(encrypted.toByteArray()), decrypted, password);
+
+        // Both formats are the same one
+        ByteBuffer decryptedBuffer = service.decrypt(ByteBuffer.wrap(encrypted.toByteArray()), password);
+
+        assertAll(
+                () -> assertArrayEquals(content, decrypted.toByteArray()),
+                () -> assertEquals(ByteBuffer.wrap(content), decryptedBuffer)
+        );
+    }
+
+
+    @SneakyThrows
+    @ParameterizedTest
+    @MethodSource("streamTestCases")
+    @DisplayName("encrypt and decrypt of ByteBuffers: test cases")
+    public void encryptAndDecryptOfByteBuffers_testCases(int contentLength) {
+        String password = "23Rhf(@_2-Poas";
+        byte[] content = randomContent(contentLength);
+        ByteBuffer directContent = ByteBuffer.allocateDirect(contentLength).put(content);
+        directContent.flip();
+
+        ByteBuffer encrypted = service.encrypt(directContent, password);
+        byte[] encryptedBytes = new byte[encrypted.remaining()];
+        encrypted.duplicate().get(encryptedBytes);
+        ByteBuffer decrypted = service.decrypt(encrypted, password);
+
+        ByteArrayOutputStream decryptedStream = new ByteArrayOutputStream();
+        service.decrypt(new ByteArrayInputStream(encryptedBytes), decryptedStream, password);
+
+        assertAll(
+                () -> assertFalse(directContent.hasRemaining()),
+                () -> assertTrue(decrypted.isDirect()),
+                () -> assertEquals(ByteBuffer.wrap(content), decrypted),
+                () -> assertArrayEquals(content, decryptedStream.toByteArray())
+        );
+    }
+
+
+    @SneakyThrows
+    @Test
+    @DisplayName("decrypt of streams: when the content is not valid then an exception is thrown")
+    public void decryptOfStreams_whenTheContentIsNotValid_thenAnExceptionIsThrown() {
+        String password = "23Rhf(@_2-Poas";
+        int segmentLength = 64 * 1024;
+        byte[] content = randomContent(2 * segmentLength + 10);
+
+        ByteArrayOutputStream encryptedStream = new ByteArrayOutputStream();
+        service.encrypt(new ByteArrayInputStream(content), encryptedStream, password);
+        byte[] encrypted = encryptedStream.toByteArray();
+
+        byte[] tampered = encrypted.clone();
+        tampered[tampered.length - 1] ^= 1;
+
+        // Removes the last segment, so the previous one is not marked as the last one
+        byte[] truncated = Arrays.copyOf(encrypted, encrypted.length - 10 - 16);
+
+        assertAll(
+                () -> assertThrows(GeneralSecurityException.class, () ->
+                        service.decrypt(new ByteArrayInputStream(encrypted), new ByteArrayOutputStream(), "wrong password")),
+                () -> assertThrows(GeneralSecurityException.class, () ->
+                        service.decrypt(new ByteArrayInputStream(tampered), new ByteArrayOutputStream(), password)),
+                () -> assertThrows(GeneralSecurityException.class, () ->
+                        service.decrypt(new ByteArrayInputStream(truncated), new ByteArrayOutputStream(), password)),
+                () -> assertThrows(GeneralSecurityException.class, () ->
+                        service.decrypt(new ByteArrayInputStream(new byte[5]), new ByteArrayOutputStream(), password)),
+                () -> assertThrows(GeneralSecurityException.class, () ->
+                        service.decrypt(ByteBuffer.wrap(truncated), password)),
+                () -> assertThrows(IllegalArgumentException.class, () ->
+                        service.encrypt(null, new ByteArrayOutputStream(), password)),
+                () -> assertThrows(IllegalArgumentException.class, () ->
+                        service.decrypt((ByteBuffer) null, password))
+        );
+    }
+
+
+    private static byte[] randomContent(int length) {
+        byte[] content = new byte[length];
+        new Random(length).nextBytes(content);
+        return content;
+    }
+
 }
@@ -0,0 +1,370 @@
+package com.common.service;
+
+import com.hazelcast.core.ExecutionCallback;
+import com.hazelcast.core.ICompletableFuture;
+import com.hazelcast.core.IMap;
+import com.hazelcast.spring.cache.HazelcastCache;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mockito;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.concurrent.ConcurrentMapCache;
+import org.springframework.cache.support.SimpleValueWrapper;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+
+import static java.util.Arrays.asList;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@SpringBootTest(classes = ReactiveCacheService.class)
+public class ReactiveCacheServiceTest {
+
+    @MockBean
+    private CacheManager mockCacheManager;
+
+    @Autowired
+    private ReactiveCacheService service;
+
+
+    static Stream<Arguments> clearTestCases() {
+        Cache mockCache = Mockito.mock(Cache.class);
+        return Stream.of(
+                //@formatter:off
+                //            cacheName,         cacheManagerResult,   expectedResult
+                Arguments.of( null,              null,                 false ),
+                Arguments.of( null,              mockCache,            false ),
+                Arguments.of( "NotFoundCache",   null,                 false ),
+                Arguments.of( "FoundCache",      mockCache,            true )
+        ); //@formatter:on
+    }
+
+    @ParameterizedTest
+    @MethodSource("clearTestCases")
+    @DisplayName("clear: test cases")
+    public void clear_testCases(String cacheName, Cache cacheManagerResult, boolean expectedResult) {
+        // When
+        when(mockCacheManager.getCache(cacheName)).thenReturn(cacheManagerResult);
+
+        // Then
+        StepVerifier.create(service.clear(cacheName))
+                .expectNext(expectedResult)
+                .verifyComplete();
+    }
+
+
+    static Stream<Arguments> containsTestCases() {
+        Cache mockCache = Mockito.mock(Cache.class);
+        SimpleValueWrapper returnedValue = new SimpleValueWrapper("FoundValue");
+        return Stream.of(
+                //@formatter:off
+                //            cacheName,         key,           cacheManagerResult,   cacheResult,     expectedResult
+                Arguments.of( null,              null,          null,                 null,            false ),
+                Arguments.of( "NotFoundCache",   "ItDoesNot",   null,                 null,            false ),
+                Arguments.of( "FoundCache",      "NotFound",    mockCache,            null,            false ),
+                Arguments.of( "FoundCache",      "Found",       mockCache,            returnedValue,   true )
+        ); //@formatter:on
+    }
+
+    @ParameterizedTest
+    @MethodSource("containsTestCases")
+    @DisplayName("contains: test cases")
+    public void contains_testCases(String cacheName, String key, Cache cacheManagerResult, SimpleValueWrapper cacheResult, boolean expectedResult) {
+        // When
+        when(mockCacheManager.getCache(cacheName)).thenReturn(cacheManagerResult);
+        if (null != cacheManagerResult)
+            when(cacheManagerResult.get(key)).thenReturn(cacheResult);
+
+        // Then
+        StepVerifier.create(service.contains(cacheName, key))
+                .expectNext(expectedResult)
+                .verifyComplete();
+    }
+
+
+    static Stream<Arguments> getTestCases() {
+        Cache mockCache = Mockito.mock(Cache.class);
+        SimpleValueWrapper returnedValue = new SimpleValueWrapper("FoundValue");
+        return Stream.of(
+                //@formatter:off
+                //            cacheName,         key,           cacheManagerResult,   cacheResult,     expectedResult
+                Arguments.of( null,              null,          null,                 null,            null ),
+                Arguments.of( "NotFoundCache",   "ItDoesNot",   null,                 null,            null ),
+                Arguments.of( "FoundCache",      "NotFound",    mockCache,            null,            null ),
+                Arguments.of( "FoundCache",      "Found",       mockCache,            returnedValue,   returnedValue.get() )
+        ); //@formatter:on
+    }
+
+    @ParameterizedTest
+    @MethodSource("getTestCases")
+    @DisplayName("get: test cases")
+    public void get_testCases(String cacheName, String key, Cache cacheManagerResult, SimpleValueWrapper cacheResult, String expectedResult) {
+        // When
+        when(mockCacheManager.getCache(cacheName)).thenReturn(cacheManagerResult);
+        if (null != cacheManagerResult)
+            when(cacheManagerResult.get(key)).thenReturn(cacheResult);
+
+        // Then
+        if (null == expectedResult) {
+            StepVerifier.create(service.get(cacheName, key))
+                    .verifyComplete();
+        }
+        else {
+            StepVerifier.create(service.get(cacheName, key))
+                    .expectNext(expectedResult)
+                    .verifyComplete();
+        }
+    }
+
+
+    @Test
+    @DisplayName("get: when the cache is a Hazelcast one then its asynchronous operation is used")
+    public void get_whenCacheIsHazelcastOne_thenAsynchronousOperationIsUsed() {
+        IMap<Object, Object> mockMap = Mockito.mock(IMap.class);
+        Cache cache = new HazelcastCache(mockMap);
+
+        ICompletableFuture<Object> foundValue = completedFuture("FoundValue");
+        ICompletableFuture<Object> nullValue = completedFuture(hazelcastNullValue());
+
+        // When
+        when(mockCacheManager.getCache("FoundCache")).thenReturn(cache);
+        when(mockMap.getAsync("Found")).thenReturn(foundValue);
+        when(mockMap.getAsync("NullValue")).thenReturn(nullValue);
+
+        // Then
+        StepVerifier.create(service.get("FoundCache", "Found"))
+                .expectNext("FoundValue")
+                .verifyComplete();
+
+        StepVerifier.create(service.get("FoundCache", "NullValue"))
+                .verifyComplete();
+
+        StepVerifier.create(service.contains("FoundCache", "NullValue"))
+                .expectNext(true)
+                .verifyComplete();
+
+        verify(mockMap, never()).get(any());
+    }
+
+
+    static Stream<Arguments> getOrLoadTestCases() {
+        return Stream.of(
+                //@formatter:off
+                //            cacheName,         storedValue,     loaderResult,    expectedResult,   expectedStoredValue
+                Arguments.of( null,              null,            "Loaded",        "Loaded",         null ),
+                Arguments.of( "NotFoundCache",   null,            "Loaded",        "Loaded",         null ),
+                Arguments.of( "FoundCache",      "Stored",        "Loaded",        "Stored",         "Stored" ),
+                Arguments.of( "FoundCache",      null,            "Loaded",        "Loaded",         "Loaded" ),
+                Arguments.of( "FoundCache",      null,            null,            null,             null )
+        ); //@formatter:on
+    }
+
+    @ParameterizedTest
+    @MethodSource("getOrLoadTestCases")
+    @DisplayName("getOrLoad: test cases")
+    public void getOrLoad_testCases(String cacheName, String storedValue, String loaderResult, String expectedResult,
+                                    String expectedStoredValue) {
+        Cache cache = new ConcurrentMapCache("FoundCache");
+        if (null != storedValue) {
+            cache.put("key", storedValue);
+        }
+        // When
+        when(mockCacheManager.getCache("FoundCache")).thenReturn(cache);
+
+        // Then
+        assertEquals(expectedResult, service.getOrLoad(cacheName, "key", Mono.justOrEmpty(loaderResult)).block());
+        assertEquals(expectedStoredValue, cache.get("key", String.class));
+    }
+
+
+    @Test
+    @DisplayName("getOrLoad: when several subscribers ask for the same missing key then the loader is subscribed only once")
+    public void getOrLoad_whenSeveralSubscribersAskForTheSameMissingKey_thenTheLoaderIsSubscribedOnlyOnce() {
+        Cache cache = new ConcurrentMapCache("FoundCache");
+        AtomicInteger loaderSubscriptions = new AtomicInteger();
+        Mono<Integer> loader = Mono.delay(Duration.ofMillis(300))
+                .map(t -> loaderSubscriptions.incrementAndGet());
+
+        // When
+        when(mockCacheManager.getCache("FoundCache")).thenReturn(cache);
+
+        // Then
+        StepVerifier.create(
+                Flux.range(0, 5)
+                        .flatMap(i -> service.getOrLoad("FoundCache", "key", loader))
+                        .collectList()
+                )
+                .expectNext(asList(1, 1, 1, 1, 1))
+                .verifyComplete();
+
+        assertEquals(1, loaderSubscriptions.get());
+        assertEquals(1, cache.get("key", Integer.class));
+    }
+
+
+    @Test
+    @DisplayName("getOrLoad: when the loader fails then its error is propagated and nothing is stored")
+    public void getOrLoad_whenTheLoaderFails_thenItsErrorIsPropagatedAndNothingIsStored() {
+        Cache cache = new ConcurrentMapCache("FoundCache");
+
+        // When
+        when(mockCacheManager.getCache("FoundCache")).thenReturn(cache);
+
+        // Then
+        StepVerifier.create(service.getOrLoad("FoundCache", "key", Mono.error(new IllegalStateException())))
+                .expectError(IllegalStateException.class)
+                .verify();
+
+        assertNull(cache.get("key"));
+        StepVerifier.create(service.getOrLoad("FoundCache", "key", Mono.just("Loaded")))
+                .expectNext("Loaded")
+                .verifyComplete();
+    }
+
+
+    @Test
+    @DisplayName("getOrLoad: when refresh-ahead is required then the current value is returned and the new one is loaded in background")
+    public void getOrLoad_whenRefreshAheadIsRequired_thenCurrentValueIsReturnedAndNewOneIsLoadedInBackground() throws Exception {
+        Cache cache = new ConcurrentMapCache("FoundCache");
+        AtomicInteger loaderSubscriptions = new AtomicInteger();
+        Mono<Integer> loader = Mono.fromCallable(loaderSubscriptions::incrementAndGet);
+
+        // When
+        when(mockCacheManager.getCache("FoundCache")).thenReturn(cache);
+
+        // Then
+        assertEquals(1, service.getOrLoad("FoundCache", "key", loader, Duration.ZERO).block());
+        assertEquals(1, service.getOrLoad("FoundCache", "key", loader, Duration.ZERO).block());
+
+        long timeout = System.currentTimeMillis() + 5000;
+        while (!Integer.valueOf(2).equals(cache.get("key", Integer.class)) && System.currentTimeMillis() < timeout) {
+            Thread.sleep(10);
+        }
+        assertEquals(2, cache.get("key", Integer.class));
+        assertEquals(2, loaderSubscriptions.get());
+    }
+
+
+    static Stream<Arguments> putTestCases() {
+        Cache mockCache = Mockito.mock(Cache.class);
+        return Stream.of(
+                //@formatter:off
+                //            cacheName,         key,    value,   cacheManagerResult,   expectedResult
+                Arguments.of( null,              null,   null,    null,                 false ),
+                Arguments.of( "NotFoundCache",   "k",    "v",     null,                 false ),
+                Arguments.of( "FoundCache",      "k",    "v",     mockCache,            true )
+        ); //@formatter:on
+    }
+
+    @ParameterizedTest
+    @MethodSource("putTestCases")
+    @DisplayName("put: test cases")
+    public void put_testCases(String cacheName, String key, String value, Cache cacheManagerResult, boolean expectedResult) {
+        // When
+        when(mockCacheManager.getCache(cacheName)).thenReturn(cacheManagerResult);
+
+        // Then
+        StepVerifier.create(service.put(cacheName, key, value))
+                .expectNext(expectedResult)
+                .verifyComplete();
+    }
+
+
+    @Test
+    @DisplayName("put: when the cache is a Hazelcast one then its asynchronous operation is used")
+    public void put_whenCacheIsHazelcastOne_thenAsynchronousOperationIsUsed() {
+        IMap<Object, Object> mockMap = Mockito.mock(IMap.class);
+        Cache cache = new HazelcastCache(mockMap);
+        ICompletableFuture<Void> stored = completedFuture(null);
+        ArgumentCaptor<Object> storedNullValue = ArgumentCaptor.forClass(Object.class);
+
+        // When
+        when(mockCacheManager.getCache("FoundCache")).thenReturn(cache);
+        when(mockMap.setAsync(any(), any())).thenReturn(stored);
+
+        // Then
+        StepVerifier.create(service.put("FoundCache", "k", "v"))
+                .expectNext(true)
+                .verifyComplete();
+
+        StepVerifier.create(service.put("FoundCache", "NullKey", null))
+                .expectNext(true)
+                .verifyComplete();
+
+        verify(mockMap, times(1)).setAsync("k", "v");
+        verify(mockMap, times(1)).setAsync(eq("NullKey"), storedNullValue.capture());
+        verify(mockMap, never()).set(any(), any());
+
+        // The stored null is read as null by the synchronous operations of the cache
+        when(mockMap.get("NullKey")).thenReturn(storedNullValue.getValue());
+        assertNull(cache.get("NullKey").get());
+    }
+
+
+    static Stream<Arguments> removeTestCases() {
+        Cache mockCache = Mockito.mock(Cache.class);
+        return Stream.of(
+                //@formatter:off
+                //            cacheName,         key,           cacheManagerResult,   expectedResult
+                Arguments.of( null,              null,          null,                 false ),
+                Arguments.of( "NotFoundCache",   "ItDoesNot",   null,                 false ),
+                Arguments.of( "FoundCache",      "k",           mockCache,            true )
+        ); //@formatter:on
+    }
+
+    @ParameterizedTest
+    @MethodSource("removeTestCases")
+    @DisplayName("remove: test cases")
+    public void remove_testCases(String cacheName, String key, Cache cacheManagerResult, boolean expectedResult) {
+        // When
+        when(mockCacheManager.getCache(cacheName)).thenReturn(cacheManagerResult);
+
+        // Then
+        StepVerifier.create(service.remove(cacheName, key))
+                .expectNext(expectedResult)
+                .verifyComplete();
+    }
+
+
+    /**
+     * Return the value stored by {@link HazelcastCache} when {@code null} is included in the cache.
+     */
+    private static Object hazelcastNullValue() {
+        IMap<Object, Object> mockMap = Mockito.mock(IMap.class);
+        ArgumentCaptor<Object> storedValue = ArgumentCaptor.forClass(Object.class);
+        new HazelcastCache(mockMap).put("NullKey", null);
+        verify(mockMap).set(eq("NullKey"), storedValue.capture());
+        return storedValue.getValue();
+    }
+
+
+    private static <T> ICompletableFuture<T> completedFuture(T value) {
+        ICompletableFuture<T> future = Mockito.mock(ICompletableFuture.class);
+        doAnswer(invocation -> {
+            ((ExecutionCallback<T>) invocation.getArgument(0)).onResponse(value);
+            return null;
+        }).when(future).andThen(any(ExecutionCallback.class));
+        return future;
+    }
+
+}
@@ -1,6 +1,11 @@
 package com.common.util;
 
 import com.common.PizzaDto;
+import com.common.collection.primitive.IntArrayList;
+import com.common.collection.primitive.IntHashSet;
+import com.common.collection.primitive.IntObjectMap;
+import com.common.collection.primitive.ShortObjectMap;
+import com.common.collection.primitive.ToShortFunction;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
@@ -15,17 +20,25 @@ import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.BiFunction;
+import java.util.function.BinaryOperator;
 import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.function.Supplier;
+import java.util.function.ToIntFunction;
 import java.util.function.UnaryOperator;
+import java.util.stream.IntStream;
 import java.util.stream.Stream;
 
 import static com.common.util.CollectionUtil.asSet;
 import static java.util.Arrays.asList;
+import static java.util.stream.Collectors.toCollection;
+import static java.util.stream.Collectors.toList;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 public class CollectionUtilTest {
 
@@ -43,6 +56,64 @@ public class CollectionUtilTest {
     }
 
 
+    static Stream<Arguments> chunkedTestCases() {
+        return Stream.of(
+                //@formatter:off
+                //            stream,                             size,   expectedException,                expectedResult
+                Arguments.of( Stream.of(1, 2),                    0,      IllegalArgumentException.class,   null ),
+                Arguments.of( null,                               2,      null,                             asList() ),
+                Arguments.of( Stream.empty(),                     2,      null,                             asList() ),
+                Arguments.of( Stream.of(1, 2, 3, 4),              2,      null,                             asList(asList(1, 2), asList(3, 4)) ),
+                Arguments.of( Stream.of(1, 2, 3, 4),              3,      null,                             asList(asList(1, 2, 3), asList(4)) ),
+                Arguments.of( Stream.of(1, 2, 3, 4),              5,      null,                             asList(asList(1, 2, 3, 4)) ),
+                Arguments.of( Stream.of("a", null, "c"),          2,      null,                             asList(asList("a", null), asList("c")) )
+        ); //@formatter:on
+    }
+
+    @ParameterizedTest
+    @MethodSource("chunkedTestCases")
+    @DisplayName("chunked: test cases")
+    public <T> void chunked_testCases(Stream<T> stream, int size, Class<? extends Exception> expectedException,
+                                      List<List<T>> expectedResult) {
+        if (null != expectedException) {
+            assertThrows(expectedException, () -> CollectionUtil.chunked(stream, size));
+        }
+        else {
+            assertEquals(expectedResult, CollectionUtil.chunked(stream, size).collect(toList()));
+        }
+    }
+
+
+    @Test
+    @DisplayName("chunked: when the source is unbounded then only the required elements are consumed")
+    public void chunked_whenTheSourceIsUnbounded_thenOnlyTheRequiredElementsAreConsumed() {
+        AtomicInteger consumedElements = new AtomicInteger(0);
+        Stream<Integer> unbounded = Stream.iterate(0, i -> i + 1)
+                .peek(i -> consumedElements.incrementAndGet());
+
+        List<List<Integer>> result = CollectionUtil.chunked(unbounded, 3)
+                .limit(2)
+                .collect(toList());
+
+        assertEquals(asList(asList(0, 1, 2), asList(3, 4, 5)), result);
+        assertEquals(6, consumedElements.get());
+    }
+
+
+    @Test
+    @DisplayName("chunked: when the returned stream is closed then the source is closed")
+    public void chunked_whenTheReturnedStreamIsClosed_thenTheSourceIsClosed() {
+        AtomicBoolean isSourceClosed = new AtomicBoolean(false);
+        Stream<Integer> source = Stream.of(1, 2, 3)
+                .onClose(() -> isSourceClosed.set(true));
+
+        try (Stream<List<Integer>> chunks = CollectionUtil.chunked(source, 2)) {
+            chunks.findFirst();
+        }
+        assertTrue(isSourceClosed.get());
+    }
+
+
     static Stream<Arguments> collectNoCollectionFactoryTestCases() {
         Set<Integer> ints = new LinkedHashSet<>(asList(1, 2, 3, 6));
         Predicate<Integer> isEven = i -> i % 2 == 0;
@@ -165,6 +236,58 @@ public class CollectionUtilTest {
     }
 
 
+    static Stream<Arguments> collectWithParallelThresholdTestCases() {
+        List<Integer> integers = IntStream.range(0, 10_000).boxed().collect(toList());
+        Predicate<Integer> isEven = i -> 0 == i % 2;
+        Function<Integer, String> toString = String::valueOf;
+        List<String> expectedResult = IntStream.range(0, 10_000).filter(i -> 0 == i % 2).mapToObj(String::valueOf).collect(toList());
+        return Stream.of(
+                //@formatter:off
+                //            collection,   filterPredicate,   mapFunction,   parallelThreshold,   expectedResult
+                Arguments.of( null,         isEven,            toString,      1,                   asList() ),
+                Arguments.of( asList(),     isEven,            toString,      1,                   asList() ),
+                Arguments.of( integers,     isEven,            toString,      1,                   expectedResult ),
+                Arguments.of( integers,     isEven,            toString,      Integer.MAX_VALUE,   expectedResult )
+        ); //@formatter:on
+    }
+
+    @ParameterizedTest
+    @MethodSource("collectWithParallelThresholdTestCases")
+    @DisplayName("collect: with parallel threshold test cases")
+    public void collectWithParallelThreshold_testCases(List<Integer> collection, Predicate<Integer> filterPredicate,
+                                                       Function<Integer, String> mapFunction, int parallelThreshold,
+                                                       List<String> expectedResult) {
+        Collection<String> result = CollectionUtil.collect(collection, filterPredicate, mapFunction, ArrayList::new, parallelThreshold);
+        assertEquals(expectedResult, result);
+    }
+
+
+    static Stream<Arguments> collectPropertyWithParallelThresholdTestCases() {
+        List<Integer> integers = IntStream.range(0, 10_000).boxed().collect(toList());
+        Function<Integer, Integer> modulo = i -> i % 100;
+        Supplier<Collection<Integer>> setSupplier = LinkedHashSet::new;
+        Supplier<Collection<Integer>> listSupplier = ArrayList::new;
+        return Stream.of(
+                //@formatter:off
+                //            collection,   keyExtractor,   collectionFactory,   parallelThreshold,   expectedResult
+                Arguments.of( null,         modulo,         listSupplier,        1,                   asList() ),
+                Arguments.of( integers,     modulo,         setSupplier,         1,                   IntStream.range(0, 100).boxed().collect(toList()) ),
+                Arguments.of( integers,     modulo,         listSupplier,        1,                   integers.stream().map(modulo).collect(toList()) ),
+                Arguments.of( integers,     modulo,         listSupplier,        Integer.MAX_VALUE,   integers.stream().map(modulo).collect(toList()) )
+        ); //@formatter:on
+    }
+
+    @ParameterizedTest
+    @MethodSource("collectPropertyWithParallelThresholdTestCases")
+    @DisplayName("collectProperty: with parallel threshold test cases")
+    public void collectPropertyWithParallelThreshold_testCases(List<Integer> collection, Function<Integer, Integer> keyExtractor,
+                                                               Supplier<Collection<Integer>> collectionFactory, int parallelThreshold,
+                                                               List<Integer> expectedResult) {
+        Collection<Integer> result = CollectionUtil.collectProperty(collection, keyExtractor, collectionFactory, parallelThreshold);
+        assertEquals(expectedResult, new ArrayList<>(result));
+    }
+
+
     static Stream<Arguments> concatUniqueElementsTestCases() {
         return Stream.of(
                 //@formatter:off
@@ -186,6 +309,32 @@ public class CollectionUtilTest {
     }
 
 
+    static Stream<Arguments> concatUniqueElementsWithParallelThresholdTestCases() {
+        List<Integer> descending = IntStream.range(0, 10_000).map(i -> 9_999 - i).boxed().collect(toList());
+        List<Integer> ascending = IntStream.range(5_000, 15_000).boxed().collect(toList());
+        List<Integer> expectedResult = IntStream.concat(IntStream.range(0, 10_000).map(i -> 9_999 - i), IntStream.range(10_000, 15_000))
+                .boxed()
+                .collect(toList());
+        return Stream.of(
+                //@formatter:off
+                //            collection1ToConcat,   collection2ToConcat,   parallelThreshold,   expectedResult
+                Arguments.of( null,                  null,                  1,                   asList() ),
+                Arguments.of( asList(1, 2),          asList(2, 3),          1,                   asList(1, 2, 3) ),
+                Arguments.of( descending,            ascending,             1,                   expectedResult ),
+                Arguments.of( descending,            ascending,             Integer.MAX_VALUE,   expectedResult )
+        ); //@formatter:on
+    }
+
+    @ParameterizedTest
+    @MethodSource("concatUniqueElementsWithParallelThresholdTestCases")
+    @DisplayName("concatUniqueElements: with parallel threshold test cases")
+    public void concatUniqueElementsWithParallelThreshold_testCases(List<Integer> collection1ToConcat, List<Integer> collection2ToConcat,
+                                                                    int parallelThreshold, List<Integer> expectedResult) {
+        Set<Integer> concatedValues = CollectionUtil.concatUniqueElements(parallelThreshold, collection1ToConcat, collection2ToConcat);
+        assertEquals(expectedResult, new ArrayList<>(concatedValues));
+    }
+
+
     static Stream<Arguments> foldLeftTestCases() {
         List<Integer> integers = asList(1, 3, 5);
         List<String> strings = asList("AB", "E", "GMT");
@@ -216,6 +365,41 @@ public class CollectionUtilTest {
     }
 
 
+    static Stream<Arguments> foldLeftWithParallelThresholdTestCases() {
+        List<Integer> integers = IntStream.rangeClosed(1, 10_000).boxed().collect(toList());
+        List<String> strings = IntStream.range(0, 10_000).mapToObj(i -> String.valueOf((char) ('a' + i % 26))).collect(toList());
+        BiFunction<Long, Integer, Long> sum = (a, b) -> a + b;
+        BinaryOperator<Long> sumCombiner = Long::sum;
+        BiFunction<String, String, String> concat = (a, b) -> a + b;
+        BinaryOperator<String> concatCombiner = (a, b) -> a + b;
+        return Stream.of(
+                //@formatter:off
+                //            collection,   initialValue,   accumulator,   combiner,         parallelThreshold,   expectedException,                expectedResult
+                Arguments.of( integers,     null,           sum,           sumCombiner,      1,                   IllegalArgumentException.class,   null ),
+                Arguments.of( integers,     0L,             sum,           null,             1,                   IllegalArgumentException.class,   null ),
+                Arguments.of( null,         0L,             sum,           sumCombiner,      1,                   null,                             0L ),
+                Arguments.of( integers,     0L,             null,          sumCombiner,      1,                   null,                             0L ),
+                Arguments.of( integers,     0L,             sum,           sumCombiner,      1,                   null,                             50_005_000L ),
+                Arguments.of( integers,     0L,             sum,           sumCombiner,      Integer.MAX_VALUE,   null,                             50_005_000L ),
+                Arguments.of( strings,      "",             concat,        concatCombiner,   1,                   null,                             String.join("", strings) )
+        ); //@formatter:on
+    }
+
+    @ParameterizedTest
+    @MethodSource("foldLeftWithParallelThresholdTestCases")
+    @DisplayName("foldLeft: with parallel threshold test cases")
+    public <T, E> void foldLeftWithParallelThreshold_testCases(Collection<T> collection, E initialValue, BiFunction<E, ? super T, E> accumulator,
+                                                               BinaryOperator<E> combiner, int parallelThreshold,
+                                                               Class<? extends Exception> expectedException, E expectedResult) {
+        if (null != expectedException) {
+            assertThrows(expectedException, () -> CollectionUtil.foldLeft(collection, initialValue, accumulator, combiner, parallelThreshold));
+        }
+        else {
+            assertEquals(expectedResult, CollectionUtil.foldLeft(collection, initialValue, accumulator, combiner, parallelThreshold));
+        }
+    }
+
+
     static Stream<Arguments> iterateTestCases() {
         UnaryOperator<Integer> divisionBy10 = a -> a / 10;
         Predicate<Integer> untilLowerOrEqualTo50 = a -> 50 >= a;
@@ -331,6 +515,31 @@ public class CollectionUtilTest {
     }
 
 
+    static Stream<Arguments> splitWithParallelThresholdTestCases() {
+        List<Integer> integers = IntStream.range(0, 10_001).boxed().collect(toList());
+        List<List<Integer>> expectedResult = IntStream.range(0, 101)
+                .mapToObj(i -> integers.subList(i * 100, Math.min(integers.size(), (i + 1) * 100)))
+                .collect(toList());
+        return Stream.of(
+                //@formatter:off
+                //            collectionToSplit,   size,   parallelThreshold,   expectedResult
+                Arguments.of( null,                5,      1,                   new ArrayList<>() ),
+                Arguments.of( asList(1, 3, 5),     2,      1,                   asList(asList(1, 3), asList(5)) ),
+                Arguments.of( integers,            100,    1,                   expectedResult ),
+                Arguments.of( integers,            100,    Integer.MAX_VALUE,   expectedResult )
+        ); //@formatter:on
+    }
+
+    @ParameterizedTest
+    @MethodSource("splitWithParallelThresholdTestCases")
+    @DisplayName("split: with parallel threshold test cases")
+    public <T> void splitWithParallelThreshold_testCases(Collection<T> collectionToSplit, int size, int parallelThreshold,
+                                                         List<List<T>> expectedResult) {
+        List<List<T>> splittedList = CollectionUtil.split(collectionToSplit, size, parallelThreshold);
+        assertEquals(expectedResult, splittedList);
+    }
+
+
     static Stream<Arguments> transposeTestCases() {
         List<List<Integer>> emptyLists = asList(asList(), asList());
         List<List<Integer>> invalidList = asList(asList(1), asList(2, 3));
@@ -376,4 +585,198 @@ public class CollectionUtilTest {
         }
     }
 
+
+    static Stream<Arguments> transposeWithParallelThresholdTestCases() {
+        List<List<Integer>> invalidList = asList(asList(1), asList(2, 3));
+        List<Collection<Integer>> matrix = IntStream.range(0, 10)
+                .mapToObj(row -> IntStream.range(0, 1_000).mapToObj(column -> row * 1_000 + column).collect(toCollection(LinkedHashSet::new)))
+                .collect(toList());
+        List<List<Integer>> expectedResult = IntStream.range(0, 1_000)
+                .mapToObj(column -> IntStream.range(0, 10).mapToObj(row -> row * 1_000 + column).collect(toList()))
+                .collect(toList());
+        return Stream.of(
+                //@formatter:off
+                //            collectionsToTranspose,   parallelThreshold,   expectedException,                expectedResult
+                Arguments.of( null,                     1,                   null,                             new ArrayList<>() ),
+                Arguments.of( invalidList,              1,                   IllegalArgumentException.class,   null ),
+                Arguments.of( matrix,                   1,                   null,                             expectedResult ),
+                Arguments.of( matrix,                   Integer.MAX_VALUE,   null,                             expectedResult )
+        ); //@formatter:on
+    }
+
+    @ParameterizedTest
+    @MethodSource("transposeWithParallelThresholdTestCases")
+    @DisplayName("transpose: with parallel threshold test cases")
+    public <T> void transposeWithParallelThreshold_testCases(Collection<Collection<T>> collectionsToTranspose, int parallelThreshold,
+                                                             Class<? extends Exception> expectedException, List<List<T>> expectedResult) {
+        if (null != expectedException) {
+            assertThrows(expectedException, () -> CollectionUtil.transpose(collectionsToTranspose, parallelThreshold));
+        }
+        else {
+            assertEquals(expectedResult, CollectionUtil.transpose(collectionsToTranspose, parallelThreshold));
+        }
+    }
+
+
+    static Stream<Arguments> windowedTestCases() {
+        return Stream.of(
+                //@formatter:off
+                //            stream,                             size,   step,   expectedException,                expectedResult
+                Arguments.of( Stream.of(1, 2),                    0,      1,      IllegalArgumentException.class,   null ),
+                Arguments.of( Stream.of(1, 2),                    2,      0,      IllegalArgumentException.class,   null ),
+                Arguments.of( null,                               2,      1,      null,                             asList() ),
+                Arguments.of( Stream.empty(),                     2,      1,      null,                             asList() ),
+                Arguments.of( Stream.of(1, 2),                    5,      1,      null,                             asList(asList(1, 2)) ),
+                Arguments.of( Stream.of(7, 8, 9),                 2,      1,      null,                             asList(asList(7, 8), asList(8, 9)) ),
+                Arguments.of( Stream.of(1, 2, 3, 4, 5),           2,      2,      null,                             asList(asList(1, 2), asList(3, 4)) ),
+                Arguments.of( Stream.of(1, 2, 3, 4, 5, 6),        2,      3,      null,                             asList(asList(1, 2), asList(4, 5)) ),
+                Arguments.of( Stream.of(1, 2, 3, 4, 5, 6, 7),     3,      2,      null,                             asList(asList(1, 2, 3), asList(3, 4, 5), asList(5, 6, 7)) ),
+                Arguments.of( Stream.of("a", null, "c"),          2,      1,      null,                             asList(asList("a", null), asList(null, "c")) )
+        ); //@formatter:on
+    }
+
+    @ParameterizedTest
+    @MethodSource("windowedTestCases")
+    @DisplayName("windowed: test cases")
+    public <T> void windowed_testCases(Stream<T> stream, int size, int step, Class<? extends Exception> expectedException,
+                                       List<List<T>> expectedResult) {
+        if (null != expectedException) {
+            assertThrows(expectedException, () -> CollectionUtil.windowed(stream, size, step));
+        }
+        else {
+            assertEquals(expectedResult, CollectionUtil.windowed(stream, size, step).collect(toList()));
+        }
+    }
+
+
+    @Test
+    @DisplayName("windowed: when the source is unbounded then only the required elements are consumed")
+    public void windowed_whenTheSourceIsUnbounded_thenOnlyTheRequiredElementsAreConsumed() {
+        AtomicInteger consumedElements = new AtomicInteger(0);
+        Stream<Integer> unbounded = Stream.iterate(0, i -> i + 1)
+                .peek(i -> consumedElements.incrementAndGet());
+
+        List<List<Integer>> result = CollectionUtil.windowed(unbounded, 3, 1)
+                .limit(3)
+                .collect(toList());
+
+        assertEquals(asList(asList(0, 1, 2), asList(1, 2, 3), asList(2, 3, 4)), result);
+        assertEquals(5, consumedElements.get());
+    }
+
+
+    static Stream<Arguments> toIntArrayListTestCases() {
+        ToIntFunction<String> length = String::length;
+        return Stream.of(
+                //@formatter:off
+                //            collection,               valueExtractor,   expectedException,                expectedResult
+                Arguments.of( asList("a"),              null,             IllegalArgumentException.class,   null ),
+                Arguments.of( null,                     length,           null,                             IntArrayList.of() ),
+                Arguments.of( asList("ab", "c", "ab"),  length,           null,                             IntArrayList.of(2, 1, 2) )
+        ); //@formatter:on
+    }
+
+    @ParameterizedTest
+    @MethodSource("toIntArrayListTestCases")
+    @DisplayName("toIntArrayList: test cases")
+    public void toIntArrayList_testCases(Collection<String> collection, ToIntFunction<String> valueExtractor,
+                                         Class<? extends Exception> expectedException, IntArrayList expectedResult) {
+        if (null != expectedException) {
+            assertThrows(expectedException, () -> CollectionUtil.toIntArrayList(collection, valueExtractor));
+        }
+        else {
+            assertEquals(expectedResult, CollectionUtil.toIntArrayList(collection, valueExtractor));
+        }
+    }
+
+
+    static Stream<Arguments> toIntHashSetTestCases() {
+        ToIntFunction<String> length = String::length;
+        return Stream.of(
+                //@formatter:off
+                //            collection,               valueExtractor,   expectedException,                expectedResult
+                Arguments.of( asList("a"),              null,             IllegalArgumentException.class,   null ),
+                Arguments.of( null,                     length,           null,                             IntHashSet.of() ),
+                Arguments.of( asList("ab", "c", "ab"),  length,           null,                             IntHashSet.of(1, 2) )
+        ); //@formatter:on
+    }
+
+    @ParameterizedTest
+    @MethodSource("toIntHashSetTestCases")
+    @DisplayName("toIntHashSet: test cases")
+    public void toIntHashSet_testCases(Collection<String> collection, ToIntFunction<String> valueExtractor,
+                                       Class<? extends Exception> expectedException, IntHashSet expectedResult) {
+        if (null != expectedException) {
+            assertThrows(expectedException, () -> CollectionUtil.toIntHashSet(collection, valueExtractor));
+        }
+        else {
+            assertEquals(expectedResult, CollectionUtil.toIntHashSet(collection, valueExtractor));
+        }
+    }
+
+
+    static Stream<Arguments> toIntObjectMapTestCases() {
+        PizzaDto carbonara = new PizzaDto("Carbonara", 7.50);
+        PizzaDto margherita = new PizzaDto("Margherita", 7.50);
+        PizzaDto hawaiian = new PizzaDto("Hawaiian", 8D);
+        ToIntFunction<PizzaDto> cost = p -> p.getCost().intValue();
+        IntObjectMap<PizzaDto> expectedResult = new IntObjectMap<>();
+        expectedResult.put(7, carbonara);
+        expectedResult.put(8, hawaiian);
+        return Stream.of(
+                //@formatter:off
+                //            collection,                                  keyExtractor,   expectedException,                expectedResult
+                Arguments.of( asList(carbonara),                           null,           IllegalArgumentException.class,   null ),
+                Arguments.of( null,                                        cost,           null,                             new IntObjectMap<>() ),
+                Arguments.of( asList(carbonara, margherita, hawaiian),     cost,           null,                             expectedResult )
+        ); //@formatter:on
+    }
+
+    @ParameterizedTest
+    @MethodSource("toIntObjectMapTestCases")
+    @DisplayName("toIntObjectMap: test cases")
+    public void toIntObjectMap_testCases(Collection<PizzaDto> collection, ToIntFunction<PizzaDto> keyExtractor,
+                                         Class<? extends Exception> expectedException, IntObjectMap<PizzaDto> expectedResult) {
+        if (null != expectedException) {
+            assertThrows(expectedException, () -> CollectionUtil.toIntObjectMap(collection, keyExtractor));
+        }
+        else {
+            assertEquals(expectedResult, CollectionUtil.toIntObjectMap(collection, keyExtractor));
+        }
+    }
+
+
+    static Stream<Arguments> toShortObjectMapTestCases() {
+        PizzaDto carbonara = new PizzaDto("Carbonara", 7.50);
+        PizzaDto margherita = new PizzaDto("Margherita", 7.50);
+        PizzaDto hawaiian = new PizzaDto("Hawaiian", 8D);
+        ToShortFunction<PizzaDto> cost = p -> p.getCost().shortValue();
+        Function<PizzaDto, String> name = PizzaDto::getName;
+        ShortObjectMap<String> expectedResult = new ShortObjectMap<>();
+        expectedResult.put((short) 7, "Carbonara");
+        expectedResult.put((short) 8, "Hawaiian");
+        return Stream.of(
+                //@formatter:off
+                //            collection,                                  keyExtractor,   valueExtractor,   expectedException,                expectedResult
+                Arguments.of( asList(carbonara),                           null,           name,             IllegalArgumentException.class,   null ),
+                Arguments.of( asList(carbonara),                           cost,           null,             IllegalArgumentException.class,   null ),
+                Arguments.of( null,                                        cost,           name,             null,                             new ShortObjectMap<>() ),
+                Arguments.of( asList(carbonara, margherita, hawaiian),     cost,           name,             null,                             expectedResult )
+        ); //@formatter:on
+    }
+
+    @ParameterizedTest
+    @MethodSource("toShortObjectMapTestCases")
+    @DisplayName("toShortObjectMap: test cases")
+    public void toShortObjectMap_testCases(Collection<PizzaDto> collection, ToShortFunction<PizzaDto> keyExtractor,
+                                           Function<PizzaDto, String> valueExtractor, Class<? extends Exception> expectedException,
+                                           ShortObjectMap<String> expectedResult) {
+        if (null != expectedException) {
+            assertThrows(expectedException, () -> CollectionUtil.toShortObjectMap(collection, keyExtractor, valueExtractor));
+        }
+        else {
+            assertEquals(expectedResult, CollectionUtil.toShortObjectMap(collection, keyExtractor, valueExtractor));
+        }
+    }
+
 }
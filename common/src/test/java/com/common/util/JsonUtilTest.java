@@ -8,15 +8,27 @@ import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.util.List;
 import java.util.Optional;
 import java.util.stream.Stream;
 
 import static com.common.PizzaEnum.CARBONARA;
 import static com.common.util.JsonUtil.fromJson;
 import static com.common.util.JsonUtil.toJson;
+import static com.common.util.JsonUtil.toJsonArray;
+import static com.common.util.JsonUtil.toJsonByteBuffer;
+import static com.common.util.JsonUtil.toJsonBytes;
+import static com.common.util.JsonUtil.toNdJson;
+import static java.nio.charset.StandardCharsets.UTF_8;
 import static java.util.Optional.empty;
 import static java.util.Optional.of;
+import static java.util.stream.Collectors.toList;
 import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
@@ -70,4 +82,127 @@ public class JsonUtilTest {
         assertEquals(expectedResult, fromJson(stringToConvert, clazz));
     }
 
+
+
+    static Stream<Arguments> toJsonBytesTestCases() {
+        return Stream.of(
+                //@formatter:off
+                //            objectToConvert,                                             expectedResult
+                Arguments.of( null,                                                        null ),
+                Arguments.of( new PizzaDto(),                                              "{\"name\":null,\"cost\":null}" ),
+                Arguments.of( new PizzaDto(CARBONARA.getInternalPropertyValue(), 5D),      "{\"name\":\"Carbonara\",\"cost\":5.0}" )
+        ); //@formatter:on
+    }
+
+    @ParameterizedTest
+    @MethodSource("toJsonBytesTestCases")
+    @DisplayName("toJsonBytes, toJsonByteBuffer and toJson with OutputStream: test cases")
+    public void toJsonBytes_testCases(PizzaDto objectToConvert, String expectedResult) {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        toJson(objectToConvert, output);
+
+        if (null == expectedResult) {
+            assertAll(
+                    () -> assertEquals(empty(), toJsonBytes(objectToConvert)),
+                    () -> assertEquals(empty(), toJsonByteBuffer(objectToConvert)),
+                    () -> assertEquals(0, output.size())
+            );
+        }
+        else {
+            byte[] expectedBytes = expectedResult.getBytes(UTF_8);
+            assertAll(
+                    () -> assertArrayEquals(expectedBytes, toJsonBytes(objectToConvert).get()),
+                    () -> assertEquals(ByteBuffer.wrap(expectedBytes), toJsonByteBuffer(objectToConvert).get()),
+                    () -> assertArrayEquals(expectedBytes, output.toByteArray())
+            );
+        }
+    }
+
+
+    static Stream<Arguments> fromJsonBytesTestCases() {
+        return Stream.of(
+                //@formatter:off
+                //            jsonToConvert,                             expectedResult
+                Arguments.of( null,                                      empty() ),
+                Arguments.of( "",                                        empty() ),
+                Arguments.of( "{\"name\":null,\"cost\":null}",           of(new PizzaDto()) ),
+                Arguments.of( "{\"name\":\"Carbonara\",\"cost\":5.0}",   of(new PizzaDto(CARBONARA.getInternalPropertyValue(), 5D)) )
+        ); //@formatter:on
+    }
+
+    @ParameterizedTest
+    @MethodSource("fromJsonBytesTestCases")
+    @DisplayName("fromJson with bytes, ByteBuffer and InputStream: test cases")
+    public void fromJsonBytes_testCases(String jsonToConvert, Optional<PizzaDto> expectedResult) {
+        byte[] bytes = null == jsonToConvert ? null : jsonToConvert.getBytes(UTF_8);
+        ByteBuffer heapBuffer = null == bytes ? null : ByteBuffer.wrap(bytes);
+        ByteBuffer directBuffer = null == bytes ? null : (ByteBuffer) ByteBuffer.allocateDirect(bytes.length).put(bytes).flip();
+        InputStream inputStream = null == bytes ? null : new ByteArrayInputStream(bytes);
+
+        assertAll(
+                () -> assertEquals(expectedResult, fromJson(bytes, PizzaDto.class)),
+                () -> assertEquals(expectedResult, fromJson(heapBuffer, PizzaDto.class)),
+                () -> assertEquals(expectedResult, fromJson(directBuffer, PizzaDto.class)),
+                () -> assertEquals(expectedResult, fromJson(inputStream, PizzaDto.class))
+        );
+        if (null != heapBuffer) {
+            assertEquals(bytes.length, heapBuffer.remaining());
+            assertEquals(bytes.length, directBuffer.remaining());
+        }
+    }
+
+
+    @Test
+    @DisplayName("fromJson with bytes: when given bytes are not a well format json then JsonException is thrown")
+    public void fromJsonBytes_whenGivenBytesAreNotAWellFormatJson_thenJsonExceptionIsThrown() {
+        byte[] json = "{$}".getBytes(UTF_8);
+        assertAll(
+                () -> assertThrows(JsonException.class, () -> fromJson(json, PizzaDto.class)),
+                () -> assertThrows(JsonException.class, () -> fromJson(ByteBuffer.wrap(json), PizzaDto.class)),
+                () -> assertThrows(JsonException.class, () -> fromJson(new ByteArrayInputStream(json), PizzaDto.class))
+        );
+    }
+
+
+    static Stream<Arguments> toJsonArrayTestCases() {
+        PizzaDto carbonara = new PizzaDto(CARBONARA.getInternalPropertyValue(), 5D);
+        return Stream.of(
+                //@formatter:off
+                //            streamToConvert,                            expectedArray,                                                        expectedNdJson
+                Arguments.of( null,                                       "[]",                                                                 "" ),
+                Arguments.of( Stream.empty(),                             "[]",                                                                 "" ),
+                Arguments.of( Stream.of(carbonara),                       "[{\"name\":\"Carbonara\",\"cost\":5.0}]",                            "{\"name\":\"Carbonara\",\"cost\":5.0}\n" ),
+                Arguments.of( Stream.of(carbonara, new PizzaDto()),       "[{\"name\":\"Carbonara\",\"cost\":5.0},{\"name\":null,\"cost\":null}]",   "{\"name\":\"Carbonara\",\"cost\":5.0}\n{\"name\":null,\"cost\":null}\n" )
+        ); //@formatter:on
+    }
+
+    @ParameterizedTest
+    @MethodSource("toJsonArrayTestCases")
+    @DisplayName("toJsonArray and toNdJson: test cases")
+    public void toJsonArrayAndToNdJson_testCases(Stream<PizzaDto> streamToConvert, String expectedArray, String expectedNdJson) {
+        List<PizzaDto> elements = null == streamToConvert ? null : streamToConvert.collect(toList());
+
+        ByteArrayOutputStream arrayOutput = new ByteArrayOutputStream();
+        toJsonArray(null == elements ? null : elements.stream(), arrayOutput);
+
+        ByteArrayOutputStream ndJsonOutput = new ByteArrayOutputStream();
+        toNdJson(null == elements ? null : elements.stream(), ndJsonOutput);
+
+        assertAll(
+                () -> assertEquals(expectedArray, arrayOutput.toString(UTF_8)),
+                () -> assertEquals(expectedNdJson, ndJsonOutput.toString(UTF_8))
+        );
+    }
+
+
+    @Test
+    @DisplayName("toJsonArray: when the output is null then IllegalArgumentException is thrown")
+    public void toJsonArray_whenTheOutputIsNull_thenIllegalArgumentExceptionIsThrown() {
+        assertAll(
+                () -> assertThrows(IllegalArgumentException.class, () -> toJsonArray(Stream.empty(), null)),
+                () -> assertThrows(IllegalArgumentException.class, () -> toNdJson(Stream.empty(), null)),
+                () -> assertThrows(IllegalArgumentException.class, () -> toJson(new PizzaDto(), null))
+        );
+    }
+
 }
@@ -2,12 +2,14 @@ package com.common.util;
 
 import com.common.PizzaDto;
 import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
 
 import java.util.List;
 import java.util.function.Function;
+import java.util.stream.IntStream;
 import java.util.stream.Stream;
 
 import static com.common.PizzaEnum.CARBONARA;
@@ -15,6 +17,8 @@ import static com.common.PizzaEnum.MARGUERITA;
 import static java.util.Arrays.asList;
 import static java.util.stream.Collectors.toList;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 public class PredicateUtilTest {
 
@@ -44,4 +48,100 @@ public class PredicateUtilTest {
         assertEquals(expectedResult, distinctCollection);
     }
 
+
+    static Stream<Arguments> distinctByKeyInWindowInvalidParametersTestCases() {
+        Function<PizzaDto, String> getName = PizzaDto::getName;
+        return Stream.of(
+                //@formatter:off
+                //            keyExtractor,   windowSize
+                Arguments.of( null,           1 ),
+                Arguments.of( getName,        0 ),
+                Arguments.of( getName,        -1 )
+        ); //@formatter:on
+    }
+
+    @ParameterizedTest
+    @MethodSource("distinctByKeyInWindowInvalidParametersTestCases")
+    @DisplayName("distinctByKeyInWindow: when parameters are not valid then IllegalArgumentException is thrown")
+    public void distinctByKeyInWindow_whenParametersAreNotValid_thenIllegalArgumentExceptionIsThrown(Function<PizzaDto, String> keyExtractor,
+                                                                                                    int windowSize) {
+        assertThrows(IllegalArgumentException.class, () -> PredicateUtil.distinctByKeyInWindow(keyExtractor, windowSize));
+    }
+
+
+    static Stream<Arguments> distinctByKeyInWindowTestCases() {
+        return Stream.of(
+                //@formatter:off
+                //            initialCollection,                 windowSize,   expectedResult
+                Arguments.of( asList(),                          2,            asList() ),
+                Arguments.of( asList(1, 1, 2, 2),                1,            asList(1, 2) ),
+                Arguments.of( asList(1, 2, 1, 2),                1,            asList(1, 2, 1, 2) ),
+                Arguments.of( asList(1, 2, 1, 2),                2,            asList(1, 2) ),
+                Arguments.of( asList(1, 2, 3, 1, 2, 3),          2,            asList(1, 2, 3, 1, 2, 3) ),
+                // Seeing 1 again refreshes it, so 3 evicts 2 instead of 1
+                Arguments.of( asList(1, 2, 1, 3, 1, 2),          2,            asList(1, 2, 3, 2) ),
+                Arguments.of( asList(null, 1, null),             2,            asList(null, 1) )
+        ); //@formatter:on
+    }
+
+    @ParameterizedTest
+    @MethodSource("distinctByKeyInWindowTestCases")
+    @DisplayName("distinctByKeyInWindow: test cases")
+    public void distinctByKeyInWindow_testCases(List<Integer> initialCollection, int windowSize, List<Integer> expectedResult) {
+        List<Integer> distinctCollection = initialCollection.stream()
+                .filter(PredicateUtil.distinctByKeyInWindow(Function.identity(), windowSize))
+                .collect(toList());
+        assertEquals(expectedResult, distinctCollection);
+    }
+
+
+    static Stream<Arguments> distinctByKeyApproximatelyInvalidParametersTestCases() {
+        Function<PizzaDto, String> getName = PizzaDto::getName;
+        return Stream.of(
+                //@formatter:off
+                //            keyExtractor,   expectedElements,   falsePositiveProbability
+                Arguments.of( null,           10,                 0.01 ),
+                Arguments.of( getName,        0,                  0.01 ),
+                Arguments.of( getName,        10,                 0D ),
+                Arguments.of( getName,        10,                 1D )
+        ); //@formatter:on
+    }
+
+    @ParameterizedTest
+    @MethodSource("distinctByKeyApproximatelyInvalidParametersTestCases")
+    @DisplayName("distinctByKeyApproximately: when parameters are not valid then IllegalArgumentException is thrown")
+    public void distinctByKeyApproximately_whenParametersAreNotValid_thenIllegalArgumentExceptionIsThrown(Function<PizzaDto, String> keyExtractor,
+                                                                                                         int expectedElements,
+                                                                                                         double falsePositiveProbability) {
+        assertThrows(IllegalArgumentException.class,
+                () -> PredicateUtil.distinctByKeyApproximately(keyExtractor, expectedElements, falsePositiveProbability));
+    }
+
+
+    @ParameterizedTest
+    @MethodSource("distinctByKeyTestCases")
+    @DisplayName("distinctByKeyApproximately: test cases")
+    public void distinctByKeyApproximately_testCases(List<PizzaDto> initialCollection, Function<PizzaDto, String> keyExtractor,
+                                                     List<PizzaDto> expectedResult) {
+        List<PizzaDto> distinctCollection = initialCollection.stream()
+                .filter(PredicateUtil.distinctByKeyApproximately(keyExtractor, 10, 0.01))
+                .collect(toList());
+        assertEquals(expectedResult, distinctCollection);
+    }
+
+
+    @Test
+    @DisplayName("distinctByKeyApproximately: when there are more keys than expected then duplicates are removed and few unique ones are lost")
+    public void distinctByKeyApproximately_whenThereAreMoreKeysThanExpected_thenDuplicatesAreRemovedAndFewUniqueOnesAreLost() {
+        double falsePositiveProbability = 0.01;
+        long distinctCount = IntStream.range(0, 200_000)
+                .mapToObj(i -> "order-" + (i % 100_000))
+                .filter(PredicateUtil.distinctByKeyApproximately(Function.identity(), 1_000, falsePositiveProbability))
+                .count();
+
+        assertTrue(distinctCount <= 100_000);
+        assertTrue(distinctCount > 100_000 * (1 - falsePositiveProbability),
+                "Too many unique keys discarded: " + (100_000 - distinctCount));
+    }
+
 }
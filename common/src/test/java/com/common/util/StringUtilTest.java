@@ -1,12 +1,17 @@
 package com.common.util;
 
 import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
 
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Iterator;
 import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.NoSuchElementException;
 import java.util.Optional;
 import java.util.function.Function;
 import java.util.function.Supplier;
@@ -15,9 +20,12 @@ import java.util.stream.Stream;
 import static com.common.util.CollectionUtil.asSet;
 import static com.common.util.StringUtil.splitFromString;
 import static java.util.Arrays.asList;
+import static java.util.stream.Collectors.toList;
 import static java.util.Optional.empty;
 import static java.util.Optional.of;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 
 public class StringUtilTest {
 
@@ -30,7 +38,10 @@ public class StringUtilTest {
                 Arguments.of( "  ",             of("") ),
                 Arguments.of( "123",            of("123") ),
                 Arguments.of( "373-030-9447",   of("3730309447") ),
-                Arguments.of( "12-34 56",       of("123456") )
+                Arguments.of( "12-34 56",       of("123456") ),
+                Arguments.of( "a1b2c3",         of("123") ),
+                Arguments.of( "abc",            of("") ),
+                Arguments.of( "12\u0663",        of("12") )
         ); //@formatter:on
     }
 
@@ -169,4 +180,104 @@ public class StringUtilTest {
         assertEquals(expectedResult, splittedValues);
     }
 
+
+    static Stream<Arguments> splitFromStringWithRegularExpressionSeparatorTestCases() {
+        return Stream.of(
+                //@formatter:off
+                //            source,        separator,   expectedResult
+                Arguments.of( "1|2|3",       "\\|",      asList("1", "2", "3") ),
+                Arguments.of( "1, 2,3",      ",\\s*",    asList("1", "2", "3") ),
+                Arguments.of( "1a2bb3",      "[ab]+",     asList("1", "2", "3") )
+        ); //@formatter:on
+    }
+
+    @ParameterizedTest
+    @MethodSource("splitFromStringWithRegularExpressionSeparatorTestCases")
+    @DisplayName("splitFromString: with regular expression separator test cases")
+    public void splitFromStringWithRegularExpressionSeparator_testCases(String source, String separator,
+                                                                        List<String> expectedResult) {
+        assertEquals(expectedResult, splitFromString(source, separator, -1, String::toString, null));
+    }
+
+
+    static Stream<Arguments> splitTestCases() {
+        Function<String, Integer> fromStringToInteger = Integer::parseInt;
+        Function<String, String> fromStringToString = String::toString;
+        Function<String, String> fromToStringWithTrim = String::trim;
+        return Stream.of(
+                //@formatter:off
+                //            source,                              separator,   limit,   valueExtractor,         expectedResult
+                Arguments.of( null,                                ",",         -1,      fromStringToString,     asList() ),
+                Arguments.of( "",                                  ",",         -1,      fromStringToString,     asList("") ),
+                Arguments.of( ",",                                 ",",         -1,      fromStringToString,     asList() ),
+                Arguments.of( ",,,",                               ",",         -1,      fromStringToString,     asList() ),
+                Arguments.of( ",a",                                ",",         -1,      fromStringToString,     asList("", "a") ),
+                Arguments.of( "a,,b,,",                            ",",         -1,      fromStringToString,     asList("a", "", "b") ),
+                Arguments.of( "a,,b,,",                            ",",          0,      fromStringToString,     asList("a", "", "b") ),
+                Arguments.of( "a,,b,,",                            ",",         10,      fromStringToString,     asList("a", "", "b", "", "") ),
+                Arguments.of( "a,b,c",                             ",",          1,      fromStringToString,     asList("a,b,c") ),
+                Arguments.of( "a,b,c",                             ",",          2,      fromStringToString,     asList("a", "b,c") ),
+                Arguments.of( "1,2,3,2",                           null,        -1,      fromStringToInteger,    asList(1, 2, 3, 2) ),
+                Arguments.of( "R1;; R2;;R3 ",                      ";;",        -1,      fromToStringWithTrim,   asList("R1", "R2", "R3") ),
+                Arguments.of( "R1;;;R2",                           ";;",        -1,      fromStringToString,     asList("R1", ";R2") ),
+                Arguments.of( "xaaa",                              "aa",        -1,      fromStringToString,     asList("x", "a") ),
+                Arguments.of( "xaaaa",                             "aa",        -1,      fromStringToString,     asList("x") ),
+                Arguments.of( new StringBuilder("xaaa"),           "aa",        -1,      fromStringToString,     asList("x", "a") ),
+                Arguments.of( "1.5.7",                             ".",         -1,      fromStringToInteger,    asList(1, 5, 7) ),
+                Arguments.of( new StringBuilder("a--b--c----"),    "--",        -1,      fromStringToString,     asList("a", "b", "c") )
+        ); //@formatter:on
+    }
+
+    @ParameterizedTest
+    @MethodSource("splitTestCases")
+    @DisplayName("split: test cases")
+    public <T> void split_testCases(CharSequence source, String separator, int limit, Function<String, T> valueExtractor,
+                                    List<T> expectedResult) {
+        List<T> result = new ArrayList<>();
+        StringUtil.split(source, separator, limit, valueExtractor)
+                .forEachRemaining(result::add);
+
+        assertEquals(expectedResult, result);
+        assertEquals(expectedResult, StringUtil.splitStream(source, separator, limit, valueExtractor).collect(toList()));
+    }
+
+
+    static Stream<Arguments> splitInvalidParametersTestCases() {
+        return Stream.of(
+                //@formatter:off
+                //            source,   separator,   valueExtractor
+                Arguments.of( "a,b",    ",",         null ),
+                Arguments.of( "a,b",    "",          (Function<String, String>) String::toString )
+        ); //@formatter:on
+    }
+
+    @ParameterizedTest
+    @MethodSource("splitInvalidParametersTestCases")
+    @DisplayName("split: invalid parameters test cases")
+    public void splitInvalidParameters_testCases(String source, String separator, Function<String, String> valueExtractor) {
+        assertThrows(IllegalArgumentException.class, () -> StringUtil.split(source, separator, -1, valueExtractor));
+    }
+
+
+    @Test
+    @DisplayName("split: when there are no more parts then NoSuchElementException is thrown")
+    public void split_whenThereAreNoMoreParts_thenNoSuchElementExceptionIsThrown() {
+        Iterator<String> iterator = StringUtil.split("a,", ",", -1, String::toString);
+
+        assertEquals("a", iterator.next());
+        assertFalse(iterator.hasNext());
+        assertThrows(NoSuchElementException.class, iterator::next);
+    }
+
+
+    @Test
+    @DisplayName("splitStream: when only some parts are consumed then the value extractor is not applied to the rest")
+    public void splitStream_whenOnlySomePartsAreConsumed_thenValueExtractorIsNotAppliedToTheRest() {
+        // The third part is not a number, so it would fail if it was converted
+        Optional<Integer> first = StringUtil.splitStream("1,2,not a number", ",", -1, Integer::parseInt)
+                .findFirst();
+
+        assertEquals(of(1), first);
+    }
+
 }
@@ -3,6 +3,7 @@ package com.common.util;
 import com.common.validation.Valid;
 import com.common.validation.Validation;
 import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
@@ -10,11 +11,14 @@ import org.junit.jupiter.params.provider.MethodSource;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.function.Supplier;
 import java.util.stream.Stream;
 
 import static java.util.Arrays.asList;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 
 public class ValidationUtilTest {
 
@@ -96,4 +100,76 @@ public class ValidationUtilTest {
         assertEquals(expectedResult, result);
     }
 
+
+    static Stream<Arguments> combineParallelTestCases() {
+        Supplier<Validation<? super Integer>> supValidInt1 = () -> Validation.valid(1);
+        Supplier<Validation<? super Integer>> supValidInt4 = () -> Validation.valid(4);
+        // The first invalid one finishes later, to verify the order of the errors does not change
+        Supplier<Validation<? super Integer>> supSlowInvalidProb1 = () -> {
+            sleep(100);
+            return Validation.invalid(asList("problem1"));
+        };
+        Supplier<Validation<? super Integer>> supInvalidProb2 = () -> Validation.invalid(asList("problem2"));
+        Validation<Integer> validInt4 = Validation.valid(4);
+        Validation<Integer> invalidProb1 = Validation.invalid(asList("problem1"));
+        Validation<Integer> invalidAll = Validation.invalid(asList("problem1", "problem2"));
+        return Stream.of(
+                //@formatter:off
+                //            suppliers,                                                                     expectedResult
+                Arguments.of( null,                                                                          Valid.empty() ),
+                Arguments.of( new Supplier[] {},                                                             Valid.empty() ),
+                Arguments.of( new Supplier[] { supValidInt1, null, supValidInt4 },                           validInt4 ),
+                Arguments.of( new Supplier[] { supValidInt1, supSlowInvalidProb1, supValidInt4 },            invalidProb1 ),
+                Arguments.of( new Supplier[] { supSlowInvalidProb1, supValidInt1, supInvalidProb2 },         invalidAll )
+        ); //@formatter:on
+    }
+
+    @ParameterizedTest
+    @MethodSource("combineParallelTestCases")
+    @DisplayName("combineParallel: test cases")
+    public <T> void combineParallel_testCases(Supplier<Validation<? super T>>[] suppliers, Validation<T> expectedResult) {
+        ExecutorService executor = Executors.newFixedThreadPool(3);
+        try {
+            assertEquals(expectedResult, ValidationUtil.combineParallel(executor, suppliers));
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+
+    @Test
+    @DisplayName("combineParallel: when executor is null then IllegalArgumentException is thrown")
+    public void combineParallel_whenExecutorIsNull_thenIllegalArgumentExceptionIsThrown() {
+        Supplier<Validation<? super Integer>> supValidInt1 = () -> Validation.valid(1);
+
+        assertThrows(IllegalArgumentException.class, () -> ValidationUtil.combineParallel(null, supValidInt1));
+    }
+
+
+    @Test
+    @DisplayName("combineParallel: when a supplier throws an exception then it is rethrown")
+    public void combineParallel_whenASupplierThrowsAnException_thenItIsRethrown() {
+        Supplier<Validation<? super Integer>> supValidInt1 = () -> Validation.valid(1);
+        Supplier<Validation<? super Integer>> supFailed = () -> {
+            throw new IllegalStateException("remote validation failed");
+        };
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            IllegalStateException exception = assertThrows(IllegalStateException.class,
+                    () -> ValidationUtil.combineParallel(executor, supValidInt1, supFailed));
+            assertEquals("remote validation failed", exception.getMessage());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
 }
@@ -1,10 +1,15 @@
 package com.common.validation;
 
 import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
@@ -19,6 +24,7 @@ import static java.util.stream.Collectors.toList;
 import static java.util.Optional.empty;
 import static java.util.Optional.of;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
 public class ValidationTest {
@@ -350,6 +356,46 @@ public class ValidationTest {
     }
 
 
+    @Test
+    @DisplayName("ap: when a lot of Invalid instances are merged then all the errors are returned in order")
+    public void ap_whenALotOfInvalidInstancesAreMerged_thenAllTheErrorsAreReturnedInOrder() {
+        int numberOfInvalids = 100_000;
+        Validation<Integer> result = Valid.empty();
+        for (int i = 0; i < numberOfInvalids; i++) {
+            result = result.ap(Validation.invalid(asList("problem" + i, "other" + i)))
+                           .ap(Validation.valid(i));
+        }
+        List<String> errors = result.getErrors();
+
+        assertEquals(2 * numberOfInvalids, errors.size());
+        assertEquals("problem0", errors.get(0));
+        assertEquals("other0", errors.get(1));
+        assertEquals("other" + (numberOfInvalids - 1), errors.get(errors.size() - 1));
+        assertSame(errors, result.getErrors());
+    }
+
+
+    @Test
+    @DisplayName("ap: when merged Invalid instances are serialized then the errors are kept")
+    public void ap_whenMergedInvalidInstancesAreSerialized_thenTheErrorsAreKept() throws Exception {
+        Validation<Integer> merged = Validation.<Integer>invalid(new ArrayList<>(asList("problem1")))
+                .ap(Validation.invalid(new ArrayList<>(asList("problem2"))));
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream output = new ObjectOutputStream(bytes)) {
+            output.writeObject(merged);
+        }
+        Validation<Integer> deserialized;
+        try (ObjectInputStream input = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+            deserialized = (Validation<Integer>) input.readObject();
+        }
+
+        assertEquals(merged, deserialized);
+        assertEquals(Validation.invalid(asList("problem1", "problem2", "problem3")),
+                     deserialized.ap(Validation.invalid(asList("problem3"))));
+    }
+
+
     static Stream<Arguments> toOptionalTestCases() {
         Validation<Integer> validEmpty = Valid.empty();
         Validation<Integer> validNotEmpty = Validation.valid(1);
@@ -0,0 +1,87 @@
+package com.common.validator.enums;
+
+import com.common.PizzaEnum;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import static com.common.PizzaEnum.CARBONARA;
+import static com.common.PizzaEnum.MARGUERITA;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class EnumInternalPropertyValueRegistryTest {
+
+    @Test
+    @DisplayName("of: when enumClass is null then IllegalArgumentException is thrown")
+    public void of_whenEnumClassIsNull_thenIllegalArgumentExceptionIsThrown() {
+        assertThrows(IllegalArgumentException.class, () -> EnumInternalPropertyValueRegistry.of(null));
+    }
+
+
+    @Test
+    @DisplayName("of: when it is invoked several times then the same registry is returned")
+    public void of_whenItIsInvokedSeveralTimes_thenTheSameRegistryIsReturned() {
+        assertSame(EnumInternalPropertyValueRegistry.of(PizzaEnum.class), EnumInternalPropertyValueRegistry.of(PizzaEnum.class));
+    }
+
+
+    static Stream<Arguments> ofUnknownTypeInvalidClassTestCases() {
+        return Stream.of(
+                //@formatter:off
+                //            enumClass
+                Arguments.of( (Class<?>) null ),
+                Arguments.of( String.class ),
+                Arguments.of( Thread.State.class )
+        ); //@formatter:on
+    }
+
+    @ParameterizedTest
+    @MethodSource("ofUnknownTypeInvalidClassTestCases")
+    @DisplayName("ofUnknownType: when enumClass is not an Enum implementing IEnumInternalPropertyValue then IllegalArgumentException is thrown")
+    public void ofUnknownType_whenEnumClassIsNotAnEnumImplementingIEnumInternalPropertyValue_thenIllegalArgumentExceptionIsThrown(Class<?> enumClass) {
+        assertThrows(IllegalArgumentException.class, () -> EnumInternalPropertyValueRegistry.ofUnknownType(enumClass));
+    }
+
+
+    static Stream<Arguments> getAndContainsTestCases() {
+        return Stream.of(
+                //@formatter:off
+                //            internalPropertyValue,                 expectedResult
+                Arguments.of( null,                                  Optional.empty() ),
+                Arguments.of( "NotFound",                            Optional.empty() ),
+                Arguments.of( CARBONARA.name(),                      Optional.empty() ),
+                Arguments.of( CARBONARA.getInternalPropertyValue(),  Optional.of(CARBONARA) ),
+                Arguments.of( MARGUERITA.getInternalPropertyValue(), Optional.of(MARGUERITA) )
+        ); //@formatter:on
+    }
+
+    @ParameterizedTest
+    @MethodSource("getAndContainsTestCases")
+    @DisplayName("get and contains: test cases")
+    public void getAndContains_testCases(String internalPropertyValue, Optional<PizzaEnum> expectedResult) {
+        EnumInternalPropertyValueRegistry<String, PizzaEnum> registry = EnumInternalPropertyValueRegistry.of(PizzaEnum.class);
+
+        assertEquals(expectedResult, registry.get(internalPropertyValue));
+        assertEquals(expectedResult.isPresent(), registry.contains(internalPropertyValue));
+        assertEquals(expectedResult, IEnumInternalPropertyValue.getByInternalPropertyValue(PizzaEnum.class, internalPropertyValue));
+    }
+
+
+    @Test
+    @DisplayName("getInternalPropertyValues: when it is invoked then the values are returned in declaration order and cannot be modified")
+    public void getInternalPropertyValues_whenItIsInvoked_thenTheValuesAreReturnedInDeclarationOrderAndCannotBeModified() {
+        List<String> values = EnumInternalPropertyValueRegistry.of(PizzaEnum.class).getInternalPropertyValues();
+
+        assertEquals(List.of(MARGUERITA.getInternalPropertyValue(), CARBONARA.getInternalPropertyValue()), values);
+        assertThrows(UnsupportedOperationException.class, () -> values.add("Hawaiian"));
+    }
+
+}
@@ -29,6 +29,7 @@ import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.context.request.ServletWebRequest;
 import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.method.annotation.MethodArgumentTypeMismatchException;
 
 import javax.servlet.http.HttpServletRequest;
 import java.util.stream.Collectors;
@@ -73,6 +74,13 @@ public class GlobalErrorWebExceptionHandler {
     }
 
 
+    @ExceptionHandler(MethodArgumentTypeMismatchException.class)
+    public ResponseEntity<ErrorResponseDto> methodArgumentTypeMismatchException(MethodArgumentTypeMismatchException exception, WebRequest request) {
+        log.error(getErrorMessageUsingHttpRequest(request), exception);
+        return buildErrorResponse(VALIDATION, asList("Error in parameter '" + exception.getName() + "' due to: it has not a valid value"), BAD_REQUEST);
+    }
+
+
     @ExceptionHandler(Throwable.class)
     public ResponseEntity<ErrorResponseDto> throwable(Throwable exception, WebRequest request) {
         log.error(getErrorMessageUsingHttpRequest(request), exception);
@@ -0,0 +1,121 @@
+package com.order.configuration.rest;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.Getter;
+import org.apache.http.client.config.RequestConfig;
+import org.apache.http.impl.client.CloseableHttpClient;
+import org.apache.http.impl.client.HttpClients;
+import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
+import org.apache.http.pool.PoolStats;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.web.client.RestTemplateBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.web.client.RestTemplate;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.ToIntFunction;
+
+/**
+ *    Http client used to invoke other services: persistent connections are reused from a pool with a global and a per
+ * route limit, and every phase of a request has a timeout, so a slow service cannot block an unlimited number of threads.
+ *
+ *    Besides the {@code http.client.requests} timers added by Spring Boot to the {@link RestTemplate} built with
+ * {@link RestTemplateBuilder}, the state of the pool is published in the {@code http.client.pool.*} gauges.
+ */
+@Getter
+@Configuration
+public class RestClientConfiguration {
+
+    public static final String POOL_METRICS_PREFIX = "http.client.pool.";
+
+    @Value("${rest.client.maxConnections:200}")
+    private int maxConnections;
+
+    @Value("${rest.client.maxConnectionsPerRoute:50}")
+    private int maxConnectionsPerRoute;
+
+    @Value("${rest.client.connectTimeoutInMilliseconds:1000}")
+    private int connectTimeoutInMilliseconds;
+
+    // Maximum time waiting for a free connection of the pool
+    @Value("${rest.client.connectionRequestTimeoutInMilliseconds:500}")
+    private int connectionRequestTimeoutInMilliseconds;
+
+    @Value("${rest.client.readTimeoutInMilliseconds:3000}")
+    private int readTimeoutInMilliseconds;
+
+    // Maximum lifetime of a persistent connection, to balance the requests when the instances of a service change
+    @Value("${rest.client.connectionTimeToLiveInSeconds:60}")
+    private int connectionTimeToLiveInSeconds;
+
+    @Value("${rest.client.idleConnectionTimeoutInSeconds:30}")
+    private int idleConnectionTimeoutInSeconds;
+
+    // Idle connections are checked before being reused after this time, because the server could have closed them
+    @Value("${rest.client.validateAfterInactivityInMilliseconds:2000}")
+    private int validateAfterInactivityInMilliseconds;
+
+
+    @Bean
+    public PoolingHttpClientConnectionManager httpClientConnectionManager() {
+        PoolingHttpClientConnectionManager connectionManager = new PoolingHttpClientConnectionManager(
+                connectionTimeToLiveInSeconds, TimeUnit.SECONDS
+        );
+        connectionManager.setMaxTotal(maxConnections);
+        connectionManager.setDefaultMaxPerRoute(maxConnectionsPerRoute);
+        connectionManager.setValidateAfterInactivity(validateAfterInactivityInMilliseconds);
+        return connectionManager;
+    }
+
+
+    @Bean
+    public CloseableHttpClient httpClient(PoolingHttpClientConnectionManager httpClientConnectionManager) {
+        RequestConfig requestConfig = RequestConfig.custom()
+                .setConnectTimeout(connectTimeoutInMilliseconds)
+                .setConnectionRequestTimeout(connectionRequestTimeoutInMilliseconds)
+                .setSocketTimeout(readTimeoutInMilliseconds)
+                .build();
+
+        return HttpClients.custom()
+                .setConnectionManager(httpClientConnectionManager)
+                .setDefaultRequestConfig(requestConfig)
+                // Closes the expired and idle connections in a background thread
+                .evictExpiredConnections()
+                .evictIdleConnections(idleConnectionTimeoutInSeconds, TimeUnit.SECONDS)
+                .build();
+    }
+
+
+    @Bean
+    public RestTemplate restTemplate(RestTemplateBuilder restTemplateBuilder, CloseableHttpClient httpClient) {
+        return restTemplateBuilder
+                .requestFactory(() -> new HttpComponentsClientHttpRequestFactory(httpClient))
+                .build();
+    }
+
+
+    /**
+     * Gauges with the number of leased, available and pending (waiting for a free one) connections of the pool.
+     */
+    @Bean
+    public MeterBinder httpClientConnectionPoolMetrics(PoolingHttpClientConnectionManager httpClientConnectionManager) {
+        return registry -> {
+            poolGauge("leased", "Connections in use", httpClientConnectionManager, PoolStats::getLeased).register(registry);
+            poolGauge("available", "Idle persistent connections", httpClientConnectionManager, PoolStats::getAvailable).register(registry);
+            poolGauge("pending", "Requests waiting for a connection", httpClientConnectionManager, PoolStats::getPending).register(registry);
+            poolGauge("max", "Maximum number of connections", httpClientConnectionManager, PoolStats::getMax).register(registry);
+        };
+    }
+
+
+    private static Gauge.Builder<PoolingHttpClientConnectionManager> poolGauge(String name, String description,
+                                                                               PoolingHttpClientConnectionManager connectionManager,
+                                                                               ToIntFunction<PoolStats> statistic) {
+        return Gauge.builder(POOL_METRICS_PREFIX + name, connectionManager, cm -> statistic.applyAsInt(cm.getTotalStats()))
+                .description(description);
+    }
+
+}
@@ -8,6 +8,7 @@ public final class RestRoutes {
     public static final class ORDER {
         public static final String ROOT = "/order";
         public static final String WITH_ORDERLINES = "/withOrderlines";
+        public static final String PAGE = "/page";
     }
 
 }
@@ -0,0 +1,281 @@
+package com.order.configuration.security;
+
+import com.common.util.JsonUtil;
+import com.order.dto.UsernameAuthoritiesDto;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+import static java.util.Optional.ofNullable;
+import static java.util.stream.Collectors.toUnmodifiableList;
+
+/**
+ *    Bounded local cache of the authentication information related with access tokens, so a token already validated
+ * by the security service is not sent to it again until it expires.
+ *
+ * <ul>
+ *   <li>The key is the SHA-256 digest of the token, the tokens themselves are not kept in memory.</li>
+ *   <li>A valid token expires at its {@code exp} claim, but never later than {@code expireInSeconds}. Encrypted tokens,
+ *       whose claims cannot be read, use {@code expireInSeconds}.</li>
+ *   <li>A token rejected by the security service is cached {@code rejectedExpireInSeconds}, the errors connecting with
+ *       it are not cached.</li>
+ *   <li>Once {@code entryCapacity} is exceeded, the entry with the earliest expiration among a small sample is discarded.</li>
+ * </ul>
+ *
+ *    {@link AuthenticationCache#evict(String)}, {@link AuthenticationCache#evictByUsername(String)} and
+ * {@link AuthenticationCache#evictAll()} must be used when a token is revoked or a user blacklisted.
+ */
+@Component
+@Log4j2
+public class AuthenticationCache {
+
+    private static final String DIGEST_ALGORITHM = "SHA-256";
+
+    // Number of entries checked to choose the one to discard when entryCapacity is exceeded
+    private static final int EVICTION_SAMPLE_SIZE = 8;
+
+    // Number of parts of a signed token (JWS): header, payload and signature
+    private static final int JWS_PARTS = 3;
+
+    private static final String EXPIRATION_CLAIM = "exp";
+
+    private final int entryCapacity;
+    private final long expireInNanos;
+    private final long rejectedExpireInNanos;
+    private final ConcurrentMap<String, Entry> entries;
+
+    // Increased in every eviction, used to avoid storing results obtained before a concurrent eviction
+    private final AtomicLong evictions;
+
+
+    public AuthenticationCache(SecurityConfiguration securityConfiguration) {
+        this.entryCapacity = securityConfiguration.getAuthenticationCacheEntryCapacity();
+        this.expireInNanos = TimeUnit.SECONDS.toNanos(securityConfiguration.getAuthenticationCacheExpireInSeconds());
+        this.rejectedExpireInNanos = TimeUnit.SECONDS.toNanos(securityConfiguration.getAuthenticationCacheRejectedExpireInSeconds());
+        this.entries = new ConcurrentHashMap<>();
+        this.evictions = new AtomicLong();
+    }
+
+
+    /**
+     *    Return the {@link Authentication} related with the given {@code token}, using {@code loader} only if it is not
+     * cached or it has expired.
+     *
+     * @param token
+     *    Access token (without Http authentication scheme)
+     * @param loader
+     *    Gets the authentication information from the security service: {@link Optional#empty()} if the token was
+     *    rejected, an exception if it could not be verified
+     *
+     * @return {@link Optional} of {@link Authentication} if the token is valid,
+     *         {@link Optional#empty()} otherwise.
+     */
+    public Optional<Authentication> get(String token, Function<String, Optional<UsernameAuthoritiesDto>> loader) {
+        if (null == token) {
+            return Optional.empty();
+        }
+        String key = digest(token);
+        long now = System.nanoTime();
+        Entry entry = entries.get(key);
+        if (null != entry) {
+            if (!entry.isExpired(now)) {
+                return entry.toAuthentication();
+            }
+            entries.remove(key, entry);
+        }
+        long version = evictions.get();
+        Optional<UsernameAuthoritiesDto> usernameAuthorities;
+        try {
+            usernameAuthorities = loader.apply(token);
+        } catch (Exception e) {
+            log.error("There was an error trying to validate the authentication token", e);
+            return Optional.empty();
+        }
+        Entry loadedEntry = usernameAuthorities
+                .map(ua -> Entry.valid(ua, now + getTimeToLive(token)))
+                .orElseGet(() -> Entry.rejected(now + rejectedExpireInNanos));
+
+        store(key, loadedEntry, version, now);
+        return loadedEntry.toAuthentication();
+    }
+
+
+    /**
+     * Remove the cached information of the given {@code token}.
+     *
+     * @param token
+     *    Access token (without Http authentication scheme)
+     */
+    public void evict(String token) {
+        evictions.incrementAndGet();
+        ofNullable(token)
+                .map(this::digest)
+                .ifPresent(entries::remove);
+    }
+
+
+    /**
+     * Remove the cached information of all the tokens of the given {@code username}.
+     *
+     * @param username
+     *    User whose tokens were revoked
+     */
+    public void evictByUsername(String username) {
+        evictions.incrementAndGet();
+        if (null != username) {
+            entries.values().removeIf(e -> username.equals(e.username));
+        }
+    }
+
+
+    /**
+     * Remove all the cached information.
+     */
+    public void evictAll() {
+        evictions.incrementAndGet();
+        entries.clear();
+    }
+
+
+    /**
+     * Return the number of cached entries (including the expired ones not discarded yet).
+     */
+    public int size() {
+        return entries.size();
+    }
+
+
+    private void store(String key, Entry entry, long version, long now) {
+        if (entry.isExpired(now) || version != evictions.get()) {
+            return;
+        }
+        entries.put(key, entry);
+
+        // An eviction could take place between the previous check and the put
+        if (version != evictions.get()) {
+            entries.remove(key, entry);
+            return;
+        }
+        while (entries.size() > entryCapacity) {
+            evictEarliestExpirationOfSample();
+        }
+    }
+
+
+    /**
+     * Discard the entry with the earliest expiration among a small sample.
+     */
+    private void evictEarliestExpirationOfSample() {
+        Map.Entry<String, Entry> earliest = null;
+        Iterator<Map.Entry<String, Entry>> iterator = entries.entrySet().iterator();
+        for (int i = 0; i < EVICTION_SAMPLE_SIZE && iterator.hasNext(); i++) {
+            Map.Entry<String, Entry> candidate = iterator.next();
+            if (null == earliest || candidate.getValue().expiresAt - earliest.getValue().expiresAt < 0) {
+                earliest = candidate;
+            }
+        }
+        if (null != earliest) {
+            entries.remove(earliest.getKey(), earliest.getValue());
+        }
+    }
+
+
+    /**
+     *    Nanoseconds the given valid {@code token} can be cached: until its {@code exp} claim if it is a signed token,
+     * limited by {@code expireInSeconds}. The claims are read without verifying the signature, that is safe because the
+     * security service has already accepted this exact token.
+     */
+    private long getTimeToLive(String token) {
+        return getExpirationInEpochSeconds(token)
+                .map(exp -> TimeUnit.SECONDS.toNanos(exp) - TimeUnit.MILLISECONDS.toNanos(System.currentTimeMillis()))
+                .map(ttl -> Math.min(ttl, expireInNanos))
+                .orElse(expireInNanos);
+    }
+
+
+    private Optional<Long> getExpirationInEpochSeconds(String token) {
+        String[] parts = token.split("\\.");
+        if (JWS_PARTS != parts.length) {
+            return Optional.empty();
+        }
+        try {
+            byte[] payload = Base64.getUrlDecoder().decode(parts[1]);
+            return JsonUtil.fromJson(payload, Map.class)
+                    .map(claims -> claims.get(EXPIRATION_CLAIM))
+                    .filter(exp -> exp instanceof Number)
+                    .map(exp -> ((Number) exp).longValue());
+        } catch (Exception e) {
+            return Optional.empty();
+        }
+    }
+
+
+    private String digest(String token) {
+        try {
+            byte[] digest = MessageDigest.getInstance(DIGEST_ALGORITHM)
+                    .digest(token.getBytes(StandardCharsets.UTF_8));
+            return Base64.getEncoder().withoutPadding().encodeToString(digest);
+        } catch (NoSuchAlgorithmException e) {
+            // Every Java platform must support SHA-256
+            throw new IllegalStateException(DIGEST_ALGORITHM + " is not available", e);
+        }
+    }
+
+
+    private static final class Entry {
+
+        // null when the token was rejected
+        private final String username;
+        private final List<GrantedAuthority> authorities;
+        private final long expiresAt;
+
+        private Entry(String username, List<GrantedAuthority> authorities, long expiresAt) {
+            this.username = username;
+            this.authorities = authorities;
+            this.expiresAt = expiresAt;
+        }
+
+        private static Entry valid(UsernameAuthoritiesDto usernameAuthorities, long expiresAt) {
+            List<GrantedAuthority> authorities = ofNullable(usernameAuthorities.getAuthorities())
+                    .map(a -> a.stream()
+                               .<GrantedAuthority>map(SimpleGrantedAuthority::new)
+                               .collect(toUnmodifiableList()))
+                    .orElseGet(List::of);
+            return new Entry(usernameAuthorities.getUsername(), authorities, expiresAt);
+        }
+
+        private static Entry rejected(long expiresAt) {
+            return new Entry(null, List.of(), expiresAt);
+        }
+
+        private boolean isExpired(long now) {
+            return now - expiresAt >= 0;
+        }
+
+        /**
+         * A new instance every time, because {@link Authentication}s are mutable and belong to a single request.
+         */
+        private Optional<Authentication> toAuthentication() {
+            return ofNullable(username)
+                    .map(u -> new UsernamePasswordAuthenticationToken(u, null, authorities));
+        }
+    }
+
+}
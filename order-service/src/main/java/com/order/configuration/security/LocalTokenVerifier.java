@@ -0,0 +1,135 @@
+package com.order.configuration.security;
+
+import com.nimbusds.jose.JOSEException;
+import com.nimbusds.jose.crypto.MACVerifier;
+import com.nimbusds.jwt.JWT;
+import com.nimbusds.jwt.JWTClaimsSet;
+import com.nimbusds.jwt.JWTParser;
+import com.nimbusds.jwt.PlainJWT;
+import com.nimbusds.jwt.SignedJWT;
+import com.order.dto.UsernameAuthoritiesDto;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+import java.text.ParseException;
+import java.util.Date;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Function;
+
+/**
+ *    Verifies access tokens without invoking the security service: checks the signature of JWS tokens with the signature
+ * secret of the client, their expiration and that they are not refresh tokens, and extracts the username and authorities
+ * in the same way the security service does.
+ *
+ *    The tokens that cannot be verified locally are sent to the security service: encrypted ones (JWE), signed with an
+ * algorithm different from HMAC, whose signature does not match with the configured secret (for example, after the
+ * secret was changed in the security service) or without the configured username claim.
+ */
+@Component
+@Log4j2
+public class LocalTokenVerifier {
+
+    // Claim included only in refresh tokens
+    private static final String REFRESH_JWT_ID_KEY = "ati";
+
+    private final String usernameKey;
+    private final String rolesKey;
+
+    // null if there is no valid signature secret, so every token is verified by the security service
+    private final MACVerifier verifier;
+
+
+    public LocalTokenVerifier(SecurityConfiguration securityConfiguration) {
+        this.usernameKey = securityConfiguration.getLocalVerificationUsernameKey();
+        this.rolesKey = securityConfiguration.getLocalVerificationRolesKey();
+        this.verifier = buildVerifier(securityConfiguration);
+    }
+
+
+    /**
+     * Get the authorization information included in the given {@code token}.
+     *
+     * @param token
+     *    Access token (without Http authentication scheme)
+     * @param fallback
+     *    Used when {@code token} cannot be verified locally, usually asking the security service
+     *
+     * @return {@link Optional} of {@link UsernameAuthoritiesDto} if {@code token} is valid,
+     *         {@link Optional#empty()} otherwise.
+     */
+    public Optional<UsernameAuthoritiesDto> verify(String token, Function<String, Optional<UsernameAuthoritiesDto>> fallback) {
+        if (null == verifier || !StringUtils.hasText(token)) {
+            return fallback.apply(token);
+        }
+        JWT jwt;
+        try {
+            jwt = JWTParser.parse(token);
+        } catch (ParseException e) {
+            log.debug("The authentication token could not be parsed", e);
+            return Optional.empty();
+        }
+        // Unsigned tokens are never accepted
+        if (jwt instanceof PlainJWT) {
+            return Optional.empty();
+        }
+        if (!(jwt instanceof SignedJWT) ||
+                !MACVerifier.SUPPORTED_ALGORITHMS.contains(((SignedJWT) jwt).getHeader().getAlgorithm())) {
+            return fallback.apply(token);
+        }
+        SignedJWT signedJWT = (SignedJWT) jwt;
+        try {
+            if (!signedJWT.verify(verifier)) {
+                return fallback.apply(token);
+            }
+            return getUsernameAuthorities(token, signedJWT.getJWTClaimsSet(), fallback);
+        } catch (JOSEException | ParseException e) {
+            log.debug("The authentication token could not be verified", e);
+            return Optional.empty();
+        }
+    }
+
+
+    /**
+     *    Extract the authorization information of the given {@code claims} if they belong to a non expired access token.
+     * If there is no username claim, the layout of {@code token} is not the expected one, so {@code fallback} is used.
+     */
+    private Optional<UsernameAuthoritiesDto> getUsernameAuthorities(String token, JWTClaimsSet claims,
+                                                                    Function<String, Optional<UsernameAuthoritiesDto>> fallback) throws ParseException {
+        Date expirationTime = claims.getExpirationTime();
+        if (null == expirationTime || expirationTime.before(new Date()) ||
+                null != claims.getClaim(REFRESH_JWT_ID_KEY)) {
+            return Optional.empty();
+        }
+        String username = claims.getStringClaim(usernameKey);
+        if (null == username) {
+            log.debug("The authentication token does not contain the claim: {}, so it will be verified by the security service", usernameKey);
+            return fallback.apply(token);
+        }
+        List<String> roles = claims.getStringListClaim(rolesKey);
+        return Optional.of(
+                new UsernameAuthoritiesDto(username, null == roles ? new HashSet<>() : new HashSet<>(roles))
+        );
+    }
+
+
+    private static MACVerifier buildVerifier(SecurityConfiguration securityConfiguration) {
+        if (!securityConfiguration.isLocalVerificationEnabled()) {
+            return null;
+        }
+        String secret = securityConfiguration.getLocalVerificationSignatureSecret();
+        if (!StringUtils.hasText(secret)) {
+            log.warn("Local verification is enabled but there is no signature secret, all tokens will be verified by the security service");
+            return null;
+        }
+        try {
+            return new MACVerifier(secret);
+        } catch (JOSEException e) {
+            log.warn("The signature secret is not valid for HMAC, all tokens will be verified by the security service", e);
+            return null;
+        }
+    }
+
+}
@@ -22,4 +22,30 @@ public class SecurityConfiguration {
     @Value("${security.restApi.clientPassword}")
     private String clientPassword;
 
+    @Value("${security.authenticationCache.entryCapacity:10000}")
+    private int authenticationCacheEntryCapacity;
+
+    // Upper limit of the time a valid token is cached, even if its expiration is later
+    @Value("${security.authenticationCache.expireInSeconds:300}")
+    private int authenticationCacheExpireInSeconds;
+
+    // Time a rejected token is cached
+    @Value("${security.authenticationCache.rejectedExpireInSeconds:5}")
+    private int authenticationCacheRejectedExpireInSeconds;
+
+    // If true, the signature and expiration of JWS tokens are verified locally instead of using the security service
+    @Value("${security.localVerification.enabled:false}")
+    private boolean localVerificationEnabled;
+
+    // Secret used by the security service to sign the tokens of clientId
+    @Value("${security.localVerification.signatureSecret:}")
+    private String localVerificationSignatureSecret;
+
+    // Claim with the username in the tokens of security-oauth-service, the same used by UsernameAuthoritiesDto
+    @Value("${security.localVerification.usernameKey:user_name}")
+    private String localVerificationUsernameKey;
+
+    @Value("${security.localVerification.rolesKey:authorities}")
+    private String localVerificationRolesKey;
+
 }
@@ -1,8 +1,9 @@
 package com.order.configuration.security;
 
 import com.order.dto.UsernameAuthoritiesDto;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.extern.log4j.Log4j2;
-import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpEntity;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpMethod;
@@ -10,14 +11,12 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.GrantedAuthority;
-import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.stereotype.Component;
+import org.springframework.web.client.HttpClientErrorException;
 import org.springframework.web.client.RestTemplate;
 
-import java.util.Base64;
-import java.util.Collection;
+import java.nio.charset.StandardCharsets;
 import java.util.Optional;
-import java.util.stream.Collectors;
 
 /**
  *    Manages the validation of the token related with a logged user, using the {@link Authentication}
@@ -28,16 +27,71 @@ import java.util.stream.Collectors;
 @Log4j2
 public class SecurityManager {
 
-    @Autowired
-    private SecurityConfiguration securityConfiguration;
+    public static final String AUTHENTICATION_INFORMATION_TIMER = "security.authentication.information";
+    public static final String OUTCOME_TAG = "outcome";
 
-    @Autowired
-    private RestTemplate restTemplate;
+    private final SecurityConfiguration securityConfiguration;
+    private final RestTemplate restTemplate;
+    private final AuthenticationCache authenticationCache;
+    private final LocalTokenVerifier localTokenVerifier;
 
+    // The credentials of the client do not change, so the request is built only once
+    private final HttpEntity<Void> authenticationInformationRequest;
 
+    // Duration of the requests to the security service by result
+    private final Timer acceptedTimer;
+    private final Timer rejectedTimer;
+    private final Timer errorTimer;
+
+
+    public SecurityManager(SecurityConfiguration securityConfiguration, RestTemplate restTemplate,
+                           AuthenticationCache authenticationCache, LocalTokenVerifier localTokenVerifier,
+                           MeterRegistry meterRegistry) {
+        this.securityConfiguration = securityConfiguration;
+        this.restTemplate = restTemplate;
+        this.authenticationCache = authenticationCache;
+        this.localTokenVerifier = localTokenVerifier;
+        this.authenticationInformationRequest = new HttpEntity<>(
+                createHeaders(securityConfiguration.getClientId(), securityConfiguration.getClientPassword())
+        );
+        this.acceptedTimer = authenticationInformationTimer("accepted", meterRegistry);
+        this.rejectedTimer = authenticationInformationTimer("rejected", meterRegistry);
+        this.errorTimer = authenticationInformationTimer("error", meterRegistry);
+    }
+
+
+    /**
+     *    Return the {@link Authentication} related with the given token, when it is not in {@link AuthenticationCache}:
+     * verifying it with {@link LocalTokenVerifier} if local verification is enabled, asking the security service otherwise
+     * or if the token cannot be verified locally.
+     *
+     * @param authToken
+     *    Token (without Http authentication scheme)
+     *
+     * @return {@link Optional} of {@link Authentication} if the token is valid,
+     *         {@link Optional#empty()} otherwise.
+     */
     public Optional<Authentication> authenticate(String authToken) {
-        return getAuthenticationInformation(securityConfiguration.getAuthenticationInformationWebService(), authToken)
-                .map(au -> getFromUsernameAuthoritiesDto(au));
+        return authenticationCache.get(authToken,
+                token -> securityConfiguration.isLocalVerificationEnabled()
+                        ? localTokenVerifier.verify(token, this::getAuthenticationInformation)
+                        : getAuthenticationInformation(token));
+    }
+
+
+    /**
+     * Using the given token gets the authentication information related with the logged user from the security service.
+     *
+     * @param token
+     *    Token (without Http authentication scheme)
+     *
+     * @return {@link Optional} of {@link UsernameAuthoritiesDto},
+     *         {@link Optional#empty()} if the security service rejected the token.
+     *
+     * @throws org.springframework.web.client.RestClientException if the token could not be verified
+     */
+    private Optional<UsernameAuthoritiesDto> getAuthenticationInformation(String token) {
+        return getAuthenticationInformation(securityConfiguration.getAuthenticationInformationWebService(), token);
     }
 
 
@@ -49,37 +103,29 @@ public class SecurityManager {
      * @param token
      *    Token (included Http authentication scheme)
      *
-     * @return {@link Optional} of {@link UsernameAuthoritiesDto}
+     * @return {@link Optional} of {@link UsernameAuthoritiesDto},
+     *         {@link Optional#empty()} if the security service rejected the token.
+     *
+     * @throws org.springframework.web.client.RestClientException if the token could not be verified
      */
     private Optional<UsernameAuthoritiesDto> getAuthenticationInformation(String authenticationInformationWebService, String token) {
+        Timer.Sample sample = Timer.start();
+        Timer timer = errorTimer;
         try {
-            HttpEntity<String> request = new HttpEntity<>(createHeaders(securityConfiguration.getClientId(), securityConfiguration.getClientPassword()));
             ResponseEntity<UsernameAuthoritiesDto> restResponse = restTemplate.exchange(authenticationInformationWebService, HttpMethod.GET,
-                    request, UsernameAuthoritiesDto.class, token);
-            return Optional.of(restResponse.getBody());
-        } catch(Exception ex) {
-            log.error("There was an error trying to validate the authentication token", ex);
+                    authenticationInformationRequest, UsernameAuthoritiesDto.class, token);
+            timer = acceptedTimer;
+            return Optional.ofNullable(restResponse.getBody());
+        } catch(HttpClientErrorException ex) {
+            timer = rejectedTimer;
+            log.debug("The authentication token was rejected with status: {}", ex.getStatusCode());
             return Optional.empty();
+        } finally {
+            sample.stop(timer);
         }
     }
 
 
-    /**
-     * Converts a given {@link UsernameAuthoritiesDto} into an {@link UsernamePasswordAuthenticationToken}
-     *
-     * @param usernameAuthoritiesDto
-     *    {@link UsernameAuthoritiesDto} to convert
-     *
-     * @return {@link UsernamePasswordAuthenticationToken}
-     */
-    private UsernamePasswordAuthenticationToken getFromUsernameAuthoritiesDto(UsernameAuthoritiesDto usernameAuthoritiesDto) {
-        Collection<? extends GrantedAuthority> authorities = usernameAuthoritiesDto.getAuthorities()
-                .stream()
-                .map(a -> new SimpleGrantedAuthority(a))
-                .collect(Collectors.toList());
-        return new UsernamePasswordAuthenticationToken(usernameAuthoritiesDto.getUsername(), null, authorities);
-    }
-
     /**
      * Build the required Basic Authentication to send requests to the Oauth 2.0 security server
      *
@@ -90,13 +136,20 @@ public class SecurityManager {
      *
      * @return {@link HttpHeaders}
      */
-    private HttpHeaders createHeaders(String username, String password){
-        return new HttpHeaders() {{
-            String auth = username + ":" + password;
-            byte[] encodedAuth = Base64.getEncoder().encode(auth.getBytes());
-            String authHeader = "Basic " + new String(encodedAuth);
-            set("Authorization", authHeader);
-        }};
+    private static HttpHeaders createHeaders(String username, String password){
+        HttpHeaders headers = new HttpHeaders();
+        headers.setBasicAuth(username, password, StandardCharsets.UTF_8);
+        // Shared by all the requests
+        return HttpHeaders.readOnlyHttpHeaders(headers);
+    }
+
+
+    private static Timer authenticationInformationTimer(String outcome, MeterRegistry meterRegistry) {
+        return Timer.builder(AUTHENTICATION_INFORMATION_TIMER)
+                .description("Requests to the security service to get the authentication information of a token")
+                .tag(OUTCOME_TAG, outcome)
+                .publishPercentileHistogram()
+                .register(meterRegistry);
     }
 
 }
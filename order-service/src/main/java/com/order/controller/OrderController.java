@@ -3,8 +3,10 @@ package com.order.controller;
 import com.order.annotation.RoleAdmin;
 import com.order.annotation.RoleAdminOrUser;
 import com.order.configuration.rest.RestRoutes;
+import com.order.dto.OrderCursorDto;
 import com.order.dto.OrderDto;
 import com.order.dto.OrderLineDto;
+import com.order.dto.OrderPageDto;
 import com.order.model.Order;
 import com.order.model.OrderLine;
 import com.order.service.OrderService;
@@ -23,9 +25,11 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 import javax.validation.Valid;
+import javax.validation.constraints.Max;
 import javax.validation.constraints.Positive;
 
 import static org.springframework.http.HttpStatus.CREATED;
@@ -42,6 +46,8 @@ import static org.springframework.http.HttpStatus.UNPROCESSABLE_ENTITY;
 @Validated
 public class OrderController {
 
+    public static final int MAX_PAGE_LIMIT = 100;
+
     @Lazy
     private final OrderService orderService;
 
@@ -104,6 +110,40 @@ public class OrderController {
     }
 
 
+    /**
+     *    Return a page of {@link OrderDto} and its {@link OrderLineDto} information, ordered by {@link OrderDto#getCreated()}
+     * desc and {@link OrderDto#getId()} desc. The pages are requested using the cursors of the previous one, so the
+     * cost of every request does not grow with the number of skipped orders.
+     *
+     * @param after
+     *    Cursor of the last order of the previous page ({@link OrderPageDto#getNextCursor()})
+     * @param before
+     *    Cursor of the first order of the next page ({@link OrderPageDto#getPreviousCursor()})
+     * @param limit
+     *    Maximum number of {@link OrderDto}s included in the page
+     *
+     * @return {@link HttpStatus#OK} and {@link OrderPageDto} with the found {@link OrderDto}s and the cursors of its
+     *         previous and next pages
+     */
+    @ApiOperation(value = "Find a page of orders",
+            notes = "Find the orders after or before the given cursor, the first ones if no cursor is given (only allowed to user with role admin/user)",
+            response = OrderPageDto.class)
+    @ApiResponses(value = {
+            @ApiResponse(code = 200, message = "Orders of the requested page", response = OrderPageDto.class),
+            @ApiResponse(code = 400, message = "There was a problem in the given request, the given parameters have not passed the required validations"),
+            @ApiResponse(code = 401, message = "The user has not authorization to execute this request"),
+            @ApiResponse(code = 412, message = "The provided authorization information has expired"),
+            @ApiResponse(code = 500, message = "There was an internal problem in the server")
+    })
+    @GetMapping(RestRoutes.ORDER.PAGE)
+    @RoleAdminOrUser
+    public ResponseEntity<OrderPageDto> findPageWithOrderLines(@RequestParam(value = "after", required = false) OrderCursorDto after,
+                                                               @RequestParam(value = "before", required = false) OrderCursorDto before,
+                                                               @RequestParam(value = "limit", defaultValue = "20") @Positive @Max(MAX_PAGE_LIMIT) int limit) {
+        return new ResponseEntity(orderService.findPageByCursorOrderedByCreatedWithOrderLines(after, before, limit), OK);
+    }
+
+
     /**
      * Used to update an existing {@link OrderDto}
      *
@@ -1,5 +1,6 @@
 package com.order.dao;
 
+import com.order.dto.OrderCursorDto;
 import com.order.dto.OrderDto;
 import com.order.dto.OrderLineDto;
 import com.order.dto.PizzaDto;
@@ -12,6 +13,9 @@ import com.order.model.jooq.tables.records.OrderRecord;
 
 import java.sql.ResultSet;
 import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Optional;
@@ -25,9 +29,12 @@ import org.simpleflatmapper.jdbc.JdbcMapper;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Repository;
 
+import static java.util.Arrays.asList;
 import static java.util.Optional.ofNullable;
 import static org.jooq.impl.DSL.denseRank;
+import static org.jooq.impl.DSL.noCondition;
 import static org.jooq.impl.DSL.orderBy;
+import static org.jooq.impl.DSL.row;
 
 @Repository
 public class OrderDao extends ParentDao<OrderRecord, Order, Integer> {
@@ -179,6 +186,117 @@ public class OrderDao extends ParentDao<OrderRecord, Order, Integer> {
     }
 
 
+    /**
+     *    Return the {@link OrderCursorDto}s of the {@link Order}s placed after the given {@link OrderCursorDto}, ordered by
+     * {@link Order#created} desc and {@link Order#id} desc.
+     *
+     *    Unlike {@link OrderDao#fetchPageToOrderDtoByIdWithOrderLineDto(int, int)}, the cost does not depend on the number
+     * of previous pages: the {@link Order}s are found seeking on the index of {@link Order#created} and {@link Order#id},
+     * and only then {@link OrderDao#fetchToOrderDtoByIdsWithOrderLineDto(Collection)} gets their {@link OrderLine}s.
+     *
+     * @param cursor
+     *    {@link OrderCursorDto} of the last {@link Order} of the previous page, {@code null} to get the first one
+     * @param limit
+     *    Maximum number of {@link OrderCursorDto}s to return
+     *
+     * @return {@link List} of {@link OrderCursorDto} ordered by {@link Order#created} desc and {@link Order#id} desc
+     *
+     * @throws DataAccessException if there is an error executing the query
+     */
+    public List<OrderCursorDto> fetchCursorsAfterCursor(OrderCursorDto cursor, int limit) {
+        OrderTable ORDER = OrderTable.ORDER_TABLE;
+        Condition afterCursor = null == cursor
+                ? noCondition()
+                : row(ORDER.CREATED, ORDER.ID).lt(cursor.getCreated(), cursor.getId());
+
+        return fetchCursors(afterCursor, asList(ORDER.CREATED.desc(), ORDER.ID.desc()), limit);
+    }
+
+
+    /**
+     *    Return the {@link OrderCursorDto}s of the {@link Order}s placed just before the given {@link OrderCursorDto},
+     * ordered by {@link Order#created} desc and {@link Order#id} desc.
+     *
+     * @param cursor
+     *    {@link OrderCursorDto} of the first {@link Order} of the next page
+     * @param limit
+     *    Maximum number of {@link OrderCursorDto}s to return
+     *
+     * @return {@link List} of {@link OrderCursorDto} ordered by {@link Order#created} desc and {@link Order#id} desc
+     *
+     * @throws DataAccessException if there is an error executing the query
+     */
+    public List<OrderCursorDto> fetchCursorsBeforeCursor(OrderCursorDto cursor, int limit) {
+        if (null == cursor)
+            return new ArrayList<>();
+
+        OrderTable ORDER = OrderTable.ORDER_TABLE;
+        Condition beforeCursor = row(ORDER.CREATED, ORDER.ID).gt(cursor.getCreated(), cursor.getId());
+
+        // The closest ones are found in ascending order, then the page is sorted as the other ones
+        List<OrderCursorDto> cursors = new ArrayList<>(
+                fetchCursors(beforeCursor, asList(ORDER.CREATED.asc(), ORDER.ID.asc()), limit)
+        );
+        Collections.reverse(cursors);
+        return cursors;
+    }
+
+
+    /**
+     *    Return the {@link OrderDto}s (with its {@link OrderLineDto} and related {@link PizzaDto}) of the given identifiers,
+     * ordered by {@link Order#created} desc and {@link Order#id} desc.
+     *
+     * @param ids
+     *    {@link Order#id}s to search
+     *
+     * @return {@link List} of {@link OrderDto} ordered by {@link Order#created} desc and {@link Order#id} desc
+     *
+     * @throws DataAccessException if there is an error executing the query
+     */
+    public List<OrderDto> fetchToOrderDtoByIdsWithOrderLineDto(Collection<Integer> ids) {
+        if (null == ids || ids.isEmpty())
+            return new ArrayList<>();
+
+        OrderTable ORDER = OrderTable.ORDER_TABLE;
+        try (ResultSet rs = getOrderWithLinesQuery().where(ORDER.ID.in(ids))
+                                                    .orderBy(ORDER.CREATED.desc(), ORDER.ID.desc(), OrderLineTable.ORDER_LINE_TABLE.ID)
+                                                    .fetchResultSet()) {
+
+            JdbcMapper<OrderDto> jdbcMapper = getJdbcMapper(OrderDto.class, "id", "order_lines_id", "pizza_id");
+            return jdbcMapper.stream(rs).collect(Collectors.toList());
+
+        } catch (Exception e) {
+            throw new DataAccessException(String.format("There was an error trying to find the orders: %s", ids), e);
+        }
+    }
+
+
+    /**
+     * Fetch the {@link OrderCursorDto}s of the {@link Order}s defined by the given {@code seekCondition}, {@code seekOrder} and {@code limit}.
+     *
+     * @param seekCondition
+     *    {@link Condition} used to skip the {@link Order}s of previous pages
+     * @param seekOrder
+     *    Order used to choose the first {@code limit} {@link Order}s that verify {@code seekCondition}
+     * @param limit
+     *    Maximum number of {@link OrderCursorDto}s to return
+     *
+     * @return {@link List} of {@link OrderCursorDto} ordered by {@code seekOrder}
+     */
+    private List<OrderCursorDto> fetchCursors(Condition seekCondition, List<SortField<?>> seekOrder, int limit) {
+        if (0 >= limit)
+            return new ArrayList<>();
+
+        OrderTable ORDER = OrderTable.ORDER_TABLE;
+        return dsl.select(ORDER.CREATED, ORDER.ID)
+                  .from(ORDER)
+                  .where(seekCondition)
+                  .orderBy(seekOrder)
+                  .limit(limit)
+                  .fetch(r -> new OrderCursorDto(r.value1(), r.value2()));
+    }
+
+
     /**
      * Build the query used to get the information related with {@link Order}s and its {@link OrderLine}s
      *
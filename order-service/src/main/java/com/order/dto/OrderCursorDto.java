@@ -0,0 +1,84 @@
+package com.order.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import org.springframework.util.Assert;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Optional;
+
+import static java.util.Optional.ofNullable;
+
+/**
+ *    Position of an {@link OrderDto} in the list of orders ordered by {@link OrderDto#getCreated()} desc and
+ * {@link OrderDto#getId()} desc, used to get the pages placed after or before it.
+ *
+ *    Its text version is: {@code <created>_<id>}, where {@code created} uses the ISO-8601 format without time zone,
+ * for example: {@code 2019-01-02T18:00_2}.
+ */
+@AllArgsConstructor
+@Data
+public class OrderCursorDto {
+
+    private static final String SEPARATOR = "_";
+
+    private Timestamp created;
+
+    private Integer id;
+
+
+    /**
+     * Returns the position of the given {@link OrderDto}.
+     *
+     * @param orderDto
+     *    {@link OrderDto} to use
+     *
+     * @return {@link Optional} of {@link OrderCursorDto} if {@code orderDto} contains {@code created} and {@code id},
+     *         {@link Optional#empty()} otherwise.
+     */
+    public static Optional<OrderCursorDto> of(OrderDto orderDto) {
+        return ofNullable(orderDto)
+                .filter(dto -> null != dto.getCreated() && null != dto.getId())
+                .map(dto -> new OrderCursorDto(
+                        // Keeps the fractions of second lower than milliseconds, otherwise some orders could be skipped
+                        dto.getCreated() instanceof Timestamp
+                                ? (Timestamp) dto.getCreated()
+                                : new Timestamp(dto.getCreated().getTime()),
+                        dto.getId()));
+    }
+
+
+    /**
+     *    Build the {@link OrderCursorDto} included in the given text, used by Spring to convert the request parameters
+     * of this type.
+     *
+     * @param cursor
+     *    Text version of an {@link OrderCursorDto}
+     *
+     * @return {@link OrderCursorDto}
+     *
+     * @throws IllegalArgumentException if {@code cursor} does not contain a valid {@link OrderCursorDto}
+     */
+    public static OrderCursorDto valueOf(String cursor) {
+        Assert.hasText(cursor, "cursor must be not empty");
+        int separatorPosition = cursor.lastIndexOf(SEPARATOR);
+        Assert.isTrue(0 < separatorPosition, "cursor must follow the format: <created>_<id>");
+        try {
+            return new OrderCursorDto(
+                    Timestamp.valueOf(LocalDateTime.parse(cursor.substring(0, separatorPosition))),
+                    Integer.valueOf(cursor.substring(separatorPosition + 1))
+            );
+        } catch (DateTimeParseException | NumberFormatException e) {
+            throw new IllegalArgumentException("cursor must follow the format: <created>_<id>", e);
+        }
+    }
+
+
+    @Override
+    public String toString() {
+        return created.toLocalDateTime() + SEPARATOR + id;
+    }
+
+}
@@ -0,0 +1,28 @@
+package com.order.dto;
+
+import io.swagger.annotations.ApiModel;
+import io.swagger.annotations.ApiModelProperty;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@AllArgsConstructor
+@Builder
+@Data
+@NoArgsConstructor
+@ApiModel(description="Page of orders ordered by created and id desc")
+public class OrderPageDto {
+
+    @ApiModelProperty(value = "Orders of the page with their order lines", required = true)
+    private List<OrderDto> orders;
+
+    @ApiModelProperty(position = 1, value = "Cursor used to get the previous page (null if it is the first page)")
+    private String previousCursor;
+
+    @ApiModelProperty(position = 2, value = "Cursor used to get the next page (null if there are no older orders)")
+    private String nextCursor;
+
+}
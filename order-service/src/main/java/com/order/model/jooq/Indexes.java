@@ -15,7 +15,9 @@ public class Indexes {
     // -------------------------------------------------------------------------
 
     public static final Index ORDER_CODE_UINDEX = Indexes0.ORDER_CODE_UINDEX;
+    public static final Index ORDER_CREATED_ID_INDEX = Indexes0.ORDER_CREATED_ID_INDEX;
     public static final Index ORDER_PK = Indexes0.ORDER_PK;
+    public static final Index ORDER_LINE_ORDER_ID_INDEX = Indexes0.ORDER_LINE_ORDER_ID_INDEX;
     public static final Index ORDER_LINE_PK = Indexes0.ORDER_LINE_PK;
     public static final Index PIZZA_NAME_UINDEX = Indexes0.PIZZA_NAME_UINDEX;
     public static final Index PIZZA_PK = Indexes0.PIZZA_PK;
@@ -26,7 +28,9 @@ public class Indexes {
 
     private static class Indexes0 {
         public static Index ORDER_CODE_UINDEX = Internal.createIndex("order_code_uindex", OrderTable.ORDER_TABLE, new OrderField[] { OrderTable.ORDER_TABLE.CODE }, true);
+        public static Index ORDER_CREATED_ID_INDEX = Internal.createIndex("order_created_id_index", OrderTable.ORDER_TABLE, new OrderField[] { OrderTable.ORDER_TABLE.CREATED.desc(), OrderTable.ORDER_TABLE.ID.desc() }, false);
         public static Index ORDER_PK = Internal.createIndex("order_pk", OrderTable.ORDER_TABLE, new OrderField[] { OrderTable.ORDER_TABLE.ID }, true);
+        public static Index ORDER_LINE_ORDER_ID_INDEX = Internal.createIndex("order_line_order_id_index", OrderLineTable.ORDER_LINE_TABLE, new OrderField[] { OrderLineTable.ORDER_LINE_TABLE.ORDER_ID }, false);
         public static Index ORDER_LINE_PK = Internal.createIndex("order_line_pk", OrderLineTable.ORDER_LINE_TABLE, new OrderField[] { OrderLineTable.ORDER_LINE_TABLE.ID }, true);
         public static Index PIZZA_NAME_UINDEX = Internal.createIndex("pizza_name_uindex", PizzaTable.PIZZA_TABLE, new OrderField[] { PizzaTable.PIZZA_TABLE.NAME }, true);
         public static Index PIZZA_PK = Internal.createIndex("pizza_pk", PizzaTable.PIZZA_TABLE, new OrderField[] { PizzaTable.PIZZA_TABLE.ID }, true);
@@ -104,7 +104,7 @@ public class OrderLineTable extends TableImpl<OrderLineRecord> {
      */
     @Override
     public List<Index> getIndexes() {
-        return Arrays.<Index>asList(Indexes.ORDER_LINE_PK);
+        return Arrays.<Index>asList(Indexes.ORDER_LINE_ORDER_ID_INDEX, Indexes.ORDER_LINE_PK);
     }
 
     /**
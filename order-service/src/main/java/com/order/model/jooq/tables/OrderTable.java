@@ -100,7 +100,7 @@ public class OrderTable extends TableImpl<OrderRecord> {
      */
     @Override
     public List<Index> getIndexes() {
-        return Arrays.<Index>asList(Indexes.ORDER_CODE_UINDEX, Indexes.ORDER_PK);
+        return Arrays.<Index>asList(Indexes.ORDER_CODE_UINDEX, Indexes.ORDER_CREATED_ID_INDEX, Indexes.ORDER_PK);
     }
 
     /**
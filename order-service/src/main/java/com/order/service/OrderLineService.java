@@ -1,5 +1,7 @@
 package com.order.service;
 
+import com.common.collection.primitive.ShortObjectMap;
+import com.common.util.CollectionUtil;
 import com.order.dao.OrderLineDao;
 import com.order.dto.OrderLineDto;
 import com.order.dto.PizzaDto;
@@ -14,9 +16,6 @@ import org.springframework.util.Assert;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
-import java.util.Map;
-import java.util.function.Function;
-import java.util.stream.Collectors;
 
 import static java.util.Optional.ofNullable;
 
@@ -71,10 +70,9 @@ public class OrderLineService {
     private void mergePizzaInformation(Collection<OrderLineDto> dtosWithPizzaInformation,
                                        Collection<OrderLineDto> dtosWithoutPizzaInformation) {
 
-        Map<Short, PizzaDto> pizzaDtoMap = dtosWithPizzaInformation.stream()
-                                                                   .map(OrderLineDto::getPizza)
-                                                                   .collect(Collectors.toMap(PizzaDto::getId, Function.identity()
-                                                                                            ,(id1, id2) -> id1));
+        ShortObjectMap<PizzaDto> pizzaDtoMap = CollectionUtil.toShortObjectMap(dtosWithPizzaInformation,
+                                                                               dto -> dto.getPizza().getId(),
+                                                                               OrderLineDto::getPizza);
         dtosWithoutPizzaInformation.forEach(dto -> {
             if (null != dto.getPizza())
                 dto.setPizza(pizzaDtoMap.get(dto.getPizza().getId()));
@@ -1,8 +1,10 @@
 package com.order.service;
 
 import com.order.dao.OrderDao;
+import com.order.dto.OrderCursorDto;
 import com.order.dto.OrderDto;
 import com.order.dto.OrderLineDto;
+import com.order.dto.OrderPageDto;
 import com.order.model.Order;
 import com.order.util.converter.OrderConverter;
 import lombok.AllArgsConstructor;
@@ -10,11 +12,13 @@ import org.jooq.exception.DataAccessException;
 import org.springframework.context.annotation.Lazy;
 import org.springframework.stereotype.Service;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
 
 import static java.util.Optional.ofNullable;
+import static java.util.stream.Collectors.toList;
 
 @AllArgsConstructor
 @Service
@@ -64,6 +68,39 @@ public class OrderService {
     }
 
 
+    /**
+     *    Return a page of {@link OrderDto} and its {@link OrderLineDto} information, ordered by {@link Order#created}
+     * desc and {@link Order#id} desc, placed just after or before the given cursors (the first page if none is given).
+     *
+     * @param after
+     *    {@link OrderCursorDto} of the last {@link OrderDto} of the previous page
+     * @param before
+     *    {@link OrderCursorDto} of the first {@link OrderDto} of the next page, used instead of {@code after} if both are given
+     * @param limit
+     *    Maximum number of {@link OrderDto}s included in the page
+     *
+     * @return {@link OrderPageDto} with the {@link OrderDto}s and the cursors to get the previous and next pages
+     *
+     * @throws DataAccessException if there is an error executing the query
+     */
+    public OrderPageDto findPageByCursorOrderedByCreatedWithOrderLines(OrderCursorDto after, OrderCursorDto before, int limit) {
+        if (0 >= limit)
+            return new OrderPageDto(new ArrayList<>(), null, null);
+
+        // One more order is sought to know if there is another page in the same direction
+        if (null != before) {
+            List<OrderCursorDto> cursors = orderDao.fetchCursorsBeforeCursor(before, limit + 1);
+            boolean hasPrevious = cursors.size() > limit;
+            List<OrderCursorDto> page = hasPrevious ? cursors.subList(1, cursors.size()) : cursors;
+            return buildOrderPage(page, hasPrevious, true);
+        }
+        List<OrderCursorDto> cursors = orderDao.fetchCursorsAfterCursor(after, limit + 1);
+        boolean hasNext = cursors.size() > limit;
+        List<OrderCursorDto> page = hasNext ? cursors.subList(0, limit) : cursors;
+        return buildOrderPage(page, null != after, hasNext);
+    }
+
+
     /**
      * Persist the information included in the given {@link OrderDto}
      *
@@ -84,4 +121,25 @@ public class OrderService {
                 });
     }
 
+
+    /**
+     *    Build the page with the {@link OrderDto}s of the given {@link OrderCursorDto}s. Its cursors are the positions of
+     * the {@link Order}s found, not of the returned {@link OrderDto}s, so an {@link Order} without {@link OrderLineDto}s
+     * does not change the pages placed after or before it.
+     */
+    private OrderPageDto buildOrderPage(List<OrderCursorDto> cursors, boolean hasPrevious, boolean hasNext) {
+        if (cursors.isEmpty())
+            return new OrderPageDto(new ArrayList<>(), null, null);
+
+        List<Integer> ids = cursors.stream()
+                .map(OrderCursorDto::getId)
+                .collect(toList());
+
+        return new OrderPageDto(
+                orderDao.fetchToOrderDtoByIdsWithOrderLineDto(ids),
+                hasPrevious ? cursors.get(0).toString() : null,
+                hasNext ? cursors.get(cursors.size() - 1).toString() : null
+        );
+    }
+
 }
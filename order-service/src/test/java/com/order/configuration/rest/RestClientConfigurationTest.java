@@ -0,0 +1,104 @@
+package com.order.configuration.rest;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.apache.http.client.config.RequestConfig;
+import org.apache.http.client.methods.Configurable;
+import org.apache.http.impl.client.CloseableHttpClient;
+import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.autoconfigure.AutoConfigurations;
+import org.springframework.boot.autoconfigure.web.client.RestTemplateAutoConfiguration;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.web.client.RestTemplate;
+
+import static com.order.configuration.rest.RestClientConfiguration.POOL_METRICS_PREFIX;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class RestClientConfigurationTest {
+
+    private final ApplicationContextRunner contextRunner = new ApplicationContextRunner()
+            .withConfiguration(AutoConfigurations.of(RestTemplateAutoConfiguration.class))
+            .withUserConfiguration(RestClientConfiguration.class);
+
+
+    @Test
+    @DisplayName("restTemplate: when no property is given then the pooled http client uses the default limits and timeouts")
+    public void restTemplate_whenNoPropertyIsGiven_thenPooledHttpClientUsesDefaultLimitsAndTimeouts() {
+        contextRunner.run(context -> {
+            PoolingHttpClientConnectionManager connectionManager = context.getBean(PoolingHttpClientConnectionManager.class);
+            assertEquals(200, connectionManager.getMaxTotal());
+            assertEquals(50, connectionManager.getDefaultMaxPerRoute());
+            assertEquals(2000, connectionManager.getValidateAfterInactivity());
+
+            RequestConfig requestConfig = getRequestConfig(context.getBean(RestTemplate.class), context.getBean(CloseableHttpClient.class));
+            assertEquals(1000, requestConfig.getConnectTimeout());
+            assertEquals(500, requestConfig.getConnectionRequestTimeout());
+            assertEquals(3000, requestConfig.getSocketTimeout());
+        });
+    }
+
+
+    @Test
+    @DisplayName("restTemplate: when properties are given then the pooled http client uses them")
+    public void restTemplate_whenPropertiesAreGiven_thenPooledHttpClientUsesThem() {
+        contextRunner
+                .withPropertyValues(
+                        "rest.client.maxConnections=20",
+                        "rest.client.maxConnectionsPerRoute=5",
+                        "rest.client.connectTimeoutInMilliseconds=100",
+                        "rest.client.connectionRequestTimeoutInMilliseconds=50",
+                        "rest.client.readTimeoutInMilliseconds=300")
+                .run(context -> {
+                    PoolingHttpClientConnectionManager connectionManager = context.getBean(PoolingHttpClientConnectionManager.class);
+                    assertEquals(20, connectionManager.getMaxTotal());
+                    assertEquals(5, connectionManager.getDefaultMaxPerRoute());
+
+                    RequestConfig requestConfig = getRequestConfig(context.getBean(RestTemplate.class), context.getBean(CloseableHttpClient.class));
+                    assertEquals(100, requestConfig.getConnectTimeout());
+                    assertEquals(50, requestConfig.getConnectionRequestTimeout());
+                    assertEquals(300, requestConfig.getSocketTimeout());
+                });
+    }
+
+
+    @Test
+    @DisplayName("httpClientConnectionPoolMetrics: when it is bound then the pool gauges are registered")
+    public void httpClientConnectionPoolMetrics_whenItIsBound_thenPoolGaugesAreRegistered() {
+        contextRunner
+                .withPropertyValues("rest.client.maxConnections=20")
+                .run(context -> {
+                    MeterRegistry meterRegistry = new SimpleMeterRegistry();
+                    context.getBean(MeterBinder.class).bindTo(meterRegistry);
+
+                    assertEquals(0, gaugeValue(meterRegistry, "leased"));
+                    assertEquals(0, gaugeValue(meterRegistry, "available"));
+                    assertEquals(0, gaugeValue(meterRegistry, "pending"));
+                    assertEquals(20, gaugeValue(meterRegistry, "max"));
+                });
+    }
+
+
+    /**
+     * Check the {@link RestTemplate} sends its requests through {@code httpClient} and return its default {@link RequestConfig}.
+     */
+    private static RequestConfig getRequestConfig(RestTemplate restTemplate, CloseableHttpClient httpClient) {
+        assertTrue(restTemplate.getRequestFactory() instanceof HttpComponentsClientHttpRequestFactory);
+        assertSame(httpClient, ((HttpComponentsClientHttpRequestFactory) restTemplate.getRequestFactory()).getHttpClient());
+        assertTrue(httpClient instanceof Configurable);
+        return ((Configurable) httpClient).getConfig();
+    }
+
+
+    private static double gaugeValue(MeterRegistry meterRegistry, String name) {
+        return meterRegistry.get(POOL_METRICS_PREFIX + name)
+                .gauge()
+                .value();
+    }
+
+}
@@ -0,0 +1,345 @@
+package com.order.configuration.security;
+
+import com.order.dto.UsernameAuthoritiesDto;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import static java.util.stream.Collectors.toSet;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.when;
+
+public class AuthenticationCacheTest {
+
+    @Test
+    @DisplayName("get: when no token is given then the loader is not used")
+    public void get_whenNoTokenIsGiven_thenLoaderIsNotUsed() {
+        AuthenticationCache cache = buildCache(10, 300, 5);
+        CountingLoader loader = new CountingLoader(token -> Optional.of(usernameAuthorities("user1")));
+
+        assertFalse(cache.get(null, loader).isPresent());
+        assertEquals(0, loader.invocations());
+    }
+
+
+    @Test
+    @DisplayName("get: when a valid token is cached then the loader is used only once")
+    public void get_whenValidTokenIsCached_thenLoaderIsUsedOnlyOnce() {
+        AuthenticationCache cache = buildCache(10, 300, 5);
+        CountingLoader loader = new CountingLoader(token -> Optional.of(usernameAuthorities("user1", "admin")));
+        String token = token(epochSecondsFromNow(300));
+
+        Optional<Authentication> first = cache.get(token, loader);
+        Optional<Authentication> second = cache.get(token, loader);
+
+        assertTrue(first.isPresent());
+        assertEquals("user1", first.get().getPrincipal());
+        assertEquals(Set.of("admin"), first.get().getAuthorities().stream().map(GrantedAuthority::getAuthority).collect(toSet()));
+        assertTrue(second.isPresent());
+        assertEquals(first.get(), second.get());
+        assertEquals(1, loader.invocations());
+    }
+
+
+    @Test
+    @DisplayName("get: when the exp claim of the token is reached then the loader is used again")
+    public void get_whenExpClaimIsReached_thenLoaderIsUsedAgain() throws InterruptedException {
+        AuthenticationCache cache = buildCache(10, 300, 5);
+        CountingLoader loader = new CountingLoader(token -> Optional.of(usernameAuthorities("user1")));
+        String token = token(epochSecondsFromNow(1));
+
+        cache.get(token, loader);
+        Thread.sleep(2000);
+        cache.get(token, loader);
+
+        assertEquals(2, loader.invocations());
+    }
+
+
+    @Test
+    @DisplayName("get: when the exp claim of the token is later than expireInSeconds then the last one is used")
+    public void get_whenExpClaimIsLaterThanExpireInSeconds_thenExpireInSecondsIsUsed() throws InterruptedException {
+        AuthenticationCache cache = buildCache(10, 1, 5);
+        CountingLoader loader = new CountingLoader(token -> Optional.of(usernameAuthorities("user1")));
+        String token = token(epochSecondsFromNow(3600));
+
+        cache.get(token, loader);
+        cache.get(token, loader);
+        assertEquals(1, loader.invocations());
+
+        Thread.sleep(1100);
+        cache.get(token, loader);
+        assertEquals(2, loader.invocations());
+    }
+
+
+    @Test
+    @DisplayName("get: when the token has no readable exp claim then expireInSeconds is used")
+    public void get_whenTokenHasNoReadableExpClaim_thenExpireInSecondsIsUsed() throws InterruptedException {
+        AuthenticationCache cache = buildCache(10, 1, 5);
+        CountingLoader loader = new CountingLoader(token -> Optional.of(usernameAuthorities("user1")));
+        String encryptedToken = "header.key.iv.cipherText.tag";
+
+        cache.get(encryptedToken, loader);
+        cache.get(encryptedToken, loader);
+        assertEquals(1, loader.invocations());
+
+        Thread.sleep(1100);
+        cache.get(encryptedToken, loader);
+        assertEquals(2, loader.invocations());
+    }
+
+
+    @Test
+    @DisplayName("get: when the token was already expired then it is not cached")
+    public void get_whenTokenWasAlreadyExpired_thenItIsNotCached() {
+        AuthenticationCache cache = buildCache(10, 300, 5);
+        CountingLoader loader = new CountingLoader(token -> Optional.of(usernameAuthorities("user1")));
+        String token = token(epochSecondsFromNow(-10));
+
+        cache.get(token, loader);
+        cache.get(token, loader);
+
+        assertEquals(2, loader.invocations());
+        assertEquals(0, cache.size());
+    }
+
+
+    @Test
+    @DisplayName("get: when a token is rejected then it is cached rejectedExpireInSeconds")
+    public void get_whenTokenIsRejected_thenItIsCachedRejectedExpireInSeconds() throws InterruptedException {
+        AuthenticationCache cache = buildCache(10, 300, 1);
+        CountingLoader loader = new CountingLoader(token -> Optional.empty());
+        String token = token(epochSecondsFromNow(300));
+
+        assertFalse(cache.get(token, loader).isPresent());
+        assertFalse(cache.get(token, loader).isPresent());
+        assertEquals(1, loader.invocations());
+
+        Thread.sleep(1100);
+        assertFalse(cache.get(token, loader).isPresent());
+        assertEquals(2, loader.invocations());
+    }
+
+
+    @Test
+    @DisplayName("get: when a token is rejected with the default configuration then it is cached 5 seconds")
+    public void get_whenTokenIsRejectedWithDefaultConfiguration_thenItIsCachedFiveSeconds() throws InterruptedException {
+        AuthenticationCache cache = buildCache(10, 300, 5);
+        CountingLoader loader = new CountingLoader(token -> Optional.empty());
+        String token = token(epochSecondsFromNow(300));
+
+        cache.get(token, loader);
+        Thread.sleep(1100);
+        cache.get(token, loader);
+
+        assertEquals(1, loader.invocations());
+    }
+
+
+    @Test
+    @DisplayName("get: when the loader throws an exception then the result is not cached")
+    public void get_whenLoaderThrowsAnException_thenResultIsNotCached() {
+        AuthenticationCache cache = buildCache(10, 300, 5);
+        CountingLoader loader = new CountingLoader(token -> {
+            throw new IllegalStateException("Security service is not available");
+        });
+        String token = token(epochSecondsFromNow(300));
+
+        assertFalse(cache.get(token, loader).isPresent());
+        assertFalse(cache.get(token, loader).isPresent());
+
+        assertEquals(2, loader.invocations());
+        assertEquals(0, cache.size());
+    }
+
+
+    @Test
+    @DisplayName("get: when the token is evicted while it is being loaded then the result is not cached")
+    public void get_whenTokenIsEvictedWhileItIsBeingLoaded_thenResultIsNotCached() {
+        AuthenticationCache cache = buildCache(10, 300, 5);
+        String token = token(epochSecondsFromNow(300));
+        CountingLoader loader = new CountingLoader(t -> {
+            // A revocation received while the security service was answering
+            cache.evict(t);
+            return Optional.of(usernameAuthorities("user1"));
+        });
+
+        assertTrue(cache.get(token, loader).isPresent());
+        assertEquals(0, cache.size());
+
+        cache.get(token, loader);
+        assertEquals(2, loader.invocations());
+    }
+
+
+    @Test
+    @DisplayName("get: when the user is evicted while one of its tokens is being loaded then the result is not cached")
+    public void get_whenUserIsEvictedWhileItsTokenIsBeingLoaded_thenResultIsNotCached() {
+        AuthenticationCache cache = buildCache(10, 300, 5);
+        String token = token(epochSecondsFromNow(300));
+        CountingLoader loader = new CountingLoader(t -> {
+            cache.evictByUsername("user1");
+            return Optional.of(usernameAuthorities("user1"));
+        });
+
+        cache.get(token, loader);
+
+        assertEquals(0, cache.size());
+    }
+
+
+    @Test
+    @DisplayName("get: when entryCapacity is exceeded then the entry with the earliest expiration is discarded")
+    public void get_whenEntryCapacityIsExceeded_thenEntryWithEarliestExpirationIsDiscarded() {
+        AuthenticationCache cache = buildCache(2, 3600, 5);
+        CountingLoader loader = new CountingLoader(token -> Optional.of(usernameAuthorities("user1")));
+        String earliestToken = token(epochSecondsFromNow(100));
+        String middleToken = token(epochSecondsFromNow(200));
+        String latestToken = token(epochSecondsFromNow(300));
+
+        cache.get(middleToken, loader);
+        cache.get(earliestToken, loader);
+        cache.get(latestToken, loader);
+        assertEquals(2, cache.size());
+        assertEquals(3, loader.invocations());
+
+        cache.get(middleToken, loader);
+        cache.get(latestToken, loader);
+        assertEquals(3, loader.invocations());
+
+        cache.get(earliestToken, loader);
+        assertEquals(4, loader.invocations());
+        assertEquals(2, cache.size());
+    }
+
+
+    @Test
+    @DisplayName("evict: when a token is evicted then only its information is removed")
+    public void evict_whenTokenIsEvicted_thenOnlyItsInformationIsRemoved() {
+        AuthenticationCache cache = buildCache(10, 300, 5);
+        CountingLoader loader = new CountingLoader(token -> Optional.of(usernameAuthorities("user1")));
+        String token1 = token(epochSecondsFromNow(300));
+        String token2 = token(epochSecondsFromNow(301));
+        cache.get(token1, loader);
+        cache.get(token2, loader);
+
+        cache.evict(null);
+        cache.evict(token1);
+
+        assertEquals(1, cache.size());
+        cache.get(token2, loader);
+        assertEquals(2, loader.invocations());
+    }
+
+
+    @Test
+    @DisplayName("evictByUsername: when a user is evicted then only the information of its tokens is removed")
+    public void evictByUsername_whenUserIsEvicted_thenOnlyInformationOfItsTokensIsRemoved() {
+        AuthenticationCache cache = buildCache(10, 300, 5);
+        String user1Token1 = token(epochSecondsFromNow(300));
+        String user1Token2 = token(epochSecondsFromNow(301));
+        String user2Token = token(epochSecondsFromNow(302));
+        String rejectedToken = token(epochSecondsFromNow(303));
+        CountingLoader loader = new CountingLoader(token ->
+                rejectedToken.equals(token)
+                        ? Optional.empty()
+                        : Optional.of(usernameAuthorities(user2Token.equals(token) ? "user2" : "user1"))
+        );
+        cache.get(user1Token1, loader);
+        cache.get(user1Token2, loader);
+        cache.get(user2Token, loader);
+        cache.get(rejectedToken, loader);
+
+        cache.evictByUsername(null);
+        assertEquals(4, cache.size());
+
+        cache.evictByUsername("user1");
+        assertEquals(2, cache.size());
+
+        assertEquals("user2", cache.get(user2Token, loader).get().getPrincipal());
+        assertFalse(cache.get(rejectedToken, loader).isPresent());
+        assertEquals(4, loader.invocations());
+
+        assertEquals("user1", cache.get(user1Token1, loader).get().getPrincipal());
+        assertEquals(5, loader.invocations());
+    }
+
+
+    @Test
+    @DisplayName("evictAll: when it is invoked then all the information is removed")
+    public void evictAll_whenItIsInvoked_thenAllInformationIsRemoved() {
+        AuthenticationCache cache = buildCache(10, 300, 5);
+        CountingLoader loader = new CountingLoader(token -> Optional.of(usernameAuthorities("user1")));
+        cache.get(token(epochSecondsFromNow(300)), loader);
+        cache.get(token(epochSecondsFromNow(301)), loader);
+
+        cache.evictAll();
+
+        assertEquals(0, cache.size());
+    }
+
+
+    private static AuthenticationCache buildCache(int entryCapacity, int expireInSeconds, int rejectedExpireInSeconds) {
+        SecurityConfiguration securityConfiguration = Mockito.mock(SecurityConfiguration.class);
+        when(securityConfiguration.getAuthenticationCacheEntryCapacity()).thenReturn(entryCapacity);
+        when(securityConfiguration.getAuthenticationCacheExpireInSeconds()).thenReturn(expireInSeconds);
+        when(securityConfiguration.getAuthenticationCacheRejectedExpireInSeconds()).thenReturn(rejectedExpireInSeconds);
+        return new AuthenticationCache(securityConfiguration);
+    }
+
+
+    private static UsernameAuthoritiesDto usernameAuthorities(String username, String... authorities) {
+        return new UsernameAuthoritiesDto(username, Set.of(authorities));
+    }
+
+
+    private static long epochSecondsFromNow(long seconds) {
+        return System.currentTimeMillis() / 1000 + seconds;
+    }
+
+
+    /**
+     * Signed token (JWS) whose payload only contains the given {@code exp} claim, the signature is not verified by the cache.
+     */
+    private static String token(long exp) {
+        Base64.Encoder encoder = Base64.getUrlEncoder().withoutPadding();
+        return encoder.encodeToString("{\"alg\":\"HS256\"}".getBytes(StandardCharsets.UTF_8)) + "." +
+               encoder.encodeToString(("{\"exp\":" + exp + "}").getBytes(StandardCharsets.UTF_8)) + "." +
+               "signature";
+    }
+
+
+    private static final class CountingLoader implements Function<String, Optional<UsernameAuthoritiesDto>> {
+
+        private final Function<String, Optional<UsernameAuthoritiesDto>> loader;
+        private final AtomicInteger invocations;
+
+        private CountingLoader(Function<String, Optional<UsernameAuthoritiesDto>> loader) {
+            this.loader = loader;
+            this.invocations = new AtomicInteger();
+        }
+
+        @Override
+        public Optional<UsernameAuthoritiesDto> apply(String token) {
+            invocations.incrementAndGet();
+            return loader.apply(token);
+        }
+
+        private int invocations() {
+            return invocations.get();
+        }
+    }
+
+}
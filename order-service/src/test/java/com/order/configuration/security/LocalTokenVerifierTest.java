@@ -0,0 +1,217 @@
+package com.order.configuration.security;
+
+import com.nimbusds.jose.EncryptionMethod;
+import com.nimbusds.jose.JOSEException;
+import com.nimbusds.jose.JWEAlgorithm;
+import com.nimbusds.jose.JWEHeader;
+import com.nimbusds.jose.JWSAlgorithm;
+import com.nimbusds.jose.JWSHeader;
+import com.nimbusds.jose.crypto.DirectEncrypter;
+import com.nimbusds.jose.crypto.MACSigner;
+import com.nimbusds.jose.crypto.RSASSASigner;
+import com.nimbusds.jwt.EncryptedJWT;
+import com.nimbusds.jwt.JWTClaimsSet;
+import com.nimbusds.jwt.PlainJWT;
+import com.nimbusds.jwt.SignedJWT;
+import com.order.dto.UsernameAuthoritiesDto;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.mockito.Mockito;
+
+import java.security.KeyPairGenerator;
+import java.security.NoSuchAlgorithmException;
+import java.util.Date;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class LocalTokenVerifierTest {
+
+    private static final String SECRET = "secretKey-with-at-least-256-bits-length";
+    private static final String FOREIGN_SECRET = "anotherSecretKey-with-at-least-256-bits-length";
+
+    private static final UsernameAuthoritiesDto FALLBACK_RESULT = new UsernameAuthoritiesDto("fallbackUser", Set.of("user"));
+
+    private Function<String, Optional<UsernameAuthoritiesDto>> mockFallback;
+
+
+    @BeforeEach
+    public void init() {
+        mockFallback = Mockito.mock(Function.class);
+        when(mockFallback.apply(any())).thenReturn(Optional.of(FALLBACK_RESULT));
+    }
+
+
+    @Test
+    @DisplayName("verify: when a valid HS256 token is given then its username and authorities are returned")
+    public void verify_whenValidHS256TokenIsGiven_thenItsUsernameAndAuthoritiesAreReturned() throws JOSEException {
+        LocalTokenVerifier verifier = buildVerifier(true, SECRET);
+        String token = hmacToken(SECRET, validClaims().build());
+
+        Optional<UsernameAuthoritiesDto> result = verifier.verify(token, mockFallback);
+
+        assertEquals(Optional.of(new UsernameAuthoritiesDto("user1", Set.of("admin", "user"))), result);
+        assertEquals(Set.of("admin", "user"), result.get().getAuthorities());
+        verify(mockFallback, never()).apply(any());
+    }
+
+
+    @Test
+    @DisplayName("verify: when a valid token without authorities is given then an empty set of authorities is returned")
+    public void verify_whenValidTokenWithoutAuthoritiesIsGiven_thenEmptyAuthoritiesAreReturned() throws JOSEException {
+        LocalTokenVerifier verifier = buildVerifier(true, SECRET);
+        String token = hmacToken(SECRET, validClaims().claim("authorities", null).build());
+
+        Optional<UsernameAuthoritiesDto> result = verifier.verify(token, mockFallback);
+
+        assertEquals("user1", result.get().getUsername());
+        assertEquals(Set.of(), result.get().getAuthorities());
+    }
+
+
+    static Stream<Arguments> verifyRejectedTokensTestCases() throws JOSEException {
+        return Stream.of(
+                //@formatter:off
+                //            token
+                Arguments.of( hmacToken(SECRET, validClaims().expirationTime(new Date(System.currentTimeMillis() - 1000)).build()) ),
+                Arguments.of( hmacToken(SECRET, validClaims().expirationTime(null).build()) ),
+                Arguments.of( hmacToken(SECRET, refreshTokenClaims().build()) ),
+                Arguments.of( new PlainJWT(validClaims().build()).serialize() ),
+                Arguments.of( "malformed" ),
+                Arguments.of( "mal.formed.token" )
+        ); //@formatter:on
+    }
+
+    @ParameterizedTest
+    @MethodSource("verifyRejectedTokensTestCases")
+    @DisplayName("verify: when the token is not valid then it is rejected without using the fallback")
+    public void verify_whenTokenIsNotValid_thenItIsRejectedWithoutUsingFallback(String token) {
+        LocalTokenVerifier verifier = buildVerifier(true, SECRET);
+
+        assertFalse(verifier.verify(token, mockFallback).isPresent());
+        verify(mockFallback, never()).apply(any());
+    }
+
+
+    static Stream<Arguments> verifyFallbackTokensTestCases() throws Exception {
+        return Stream.of(
+                //@formatter:off
+                //            token
+                Arguments.of( encryptedToken(validClaims().build()) ),
+                Arguments.of( rsaToken(validClaims().build()) ),
+                Arguments.of( hmacToken(FOREIGN_SECRET, validClaims().build()) ),
+                Arguments.of( hmacToken(SECRET, validClaims().claim("user_name", null).build()) ),
+                Arguments.of( hmacToken(SECRET, validClaims().claim("user_name", null).claim("username", "user1").build()) ),
+                Arguments.of( (String) null ),
+                Arguments.of( "" )
+        ); //@formatter:on
+    }
+
+    @ParameterizedTest
+    @MethodSource("verifyFallbackTokensTestCases")
+    @DisplayName("verify: when the token cannot be verified locally then the fallback is used")
+    public void verify_whenTokenCannotBeVerifiedLocally_thenFallbackIsUsed(String token) {
+        LocalTokenVerifier verifier = buildVerifier(true, SECRET);
+
+        assertEquals(Optional.of(FALLBACK_RESULT), verifier.verify(token, mockFallback));
+        verify(mockFallback, times(1)).apply(token);
+    }
+
+
+    static Stream<Arguments> verifyWithoutLocalVerificationTestCases() {
+        return Stream.of(
+                //@formatter:off
+                //            enabled,   secret
+                Arguments.of( false,     SECRET ),
+                Arguments.of( true,      null ),
+                Arguments.of( true,      "  " ),
+                Arguments.of( true,      "tooShortSecret" )
+        ); //@formatter:on
+    }
+
+    @ParameterizedTest
+    @MethodSource("verifyWithoutLocalVerificationTestCases")
+    @DisplayName("verify: when local verification is not available then the fallback is always used")
+    public void verify_whenLocalVerificationIsNotAvailable_thenFallbackIsAlwaysUsed(boolean enabled, String secret) throws JOSEException {
+        LocalTokenVerifier verifier = buildVerifier(enabled, secret);
+        String validToken = hmacToken(SECRET, validClaims().build());
+        String expiredToken = hmacToken(SECRET, validClaims().expirationTime(new Date(System.currentTimeMillis() - 1000)).build());
+
+        assertEquals(Optional.of(FALLBACK_RESULT), verifier.verify(validToken, mockFallback));
+        assertEquals(Optional.of(FALLBACK_RESULT), verifier.verify(expiredToken, mockFallback));
+        assertEquals(Optional.of(FALLBACK_RESULT), verifier.verify("malformed", mockFallback));
+        verify(mockFallback, times(3)).apply(any());
+    }
+
+
+    private static LocalTokenVerifier buildVerifier(boolean enabled, String secret) {
+        SecurityConfiguration securityConfiguration = Mockito.mock(SecurityConfiguration.class);
+        when(securityConfiguration.isLocalVerificationEnabled()).thenReturn(enabled);
+        when(securityConfiguration.getLocalVerificationSignatureSecret()).thenReturn(secret);
+        when(securityConfiguration.getLocalVerificationUsernameKey()).thenReturn("user_name");
+        when(securityConfiguration.getLocalVerificationRolesKey()).thenReturn("authorities");
+        return new LocalTokenVerifier(securityConfiguration);
+    }
+
+
+    /**
+     * Claims of the access tokens issued by security-oauth-service.
+     */
+    private static JWTClaimsSet.Builder validClaims() {
+        return new JWTClaimsSet.Builder()
+                .claim("user_name", "user1")
+                .claim("authorities", List.of("admin", "user"))
+                .claim("client_id", "Spring5Microservices")
+                .jwtID("accessTokenId")
+                .expirationTime(new Date(System.currentTimeMillis() + 60_000));
+    }
+
+
+    /**
+     * Claims of the refresh tokens issued by security-oauth-service: without authorities but with the access token identifier.
+     */
+    private static JWTClaimsSet.Builder refreshTokenClaims() {
+        return validClaims()
+                .claim("authorities", null)
+                .claim("ati", "accessTokenId")
+                .jwtID("refreshTokenId");
+    }
+
+
+    private static String hmacToken(String secret, JWTClaimsSet claims) throws JOSEException {
+        SignedJWT jwt = new SignedJWT(new JWSHeader(JWSAlgorithm.HS256), claims);
+        jwt.sign(new MACSigner(secret));
+        return jwt.serialize();
+    }
+
+
+    private static String rsaToken(JWTClaimsSet claims) throws JOSEException, NoSuchAlgorithmException {
+        KeyPairGenerator keyPairGenerator = KeyPairGenerator.getInstance("RSA");
+        keyPairGenerator.initialize(2048);
+        SignedJWT jwt = new SignedJWT(new JWSHeader(JWSAlgorithm.RS256), claims);
+        jwt.sign(new RSASSASigner(keyPairGenerator.generateKeyPair().getPrivate()));
+        return jwt.serialize();
+    }
+
+
+    private static String encryptedToken(JWTClaimsSet claims) throws JOSEException {
+        EncryptedJWT jwt = new EncryptedJWT(new JWEHeader(JWEAlgorithm.DIR, EncryptionMethod.A128GCM), claims);
+        jwt.encrypt(new DirectEncrypter(new byte[16]));
+        return jwt.serialize();
+    }
+
+}
@@ -0,0 +1,225 @@
+package com.order.configuration.security;
+
+import com.order.dto.UsernameAuthoritiesDto;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mockito;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.test.web.client.ExpectedCount;
+import org.springframework.test.web.client.MockRestServiceServer;
+import org.springframework.test.web.client.ResponseActions;
+import org.springframework.test.web.client.ResponseCreator;
+import org.springframework.web.client.HttpServerErrorException;
+import org.springframework.web.client.ResourceAccessException;
+import org.springframework.web.client.RestTemplate;
+
+import java.net.SocketTimeoutException;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+import static com.order.configuration.security.SecurityManager.AUTHENTICATION_INFORMATION_TIMER;
+import static com.order.configuration.security.SecurityManager.OUTCOME_TAG;
+import static java.util.stream.Collectors.toSet;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.client.ExpectedCount.once;
+import static org.springframework.test.web.client.ExpectedCount.times;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.header;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.method;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.requestTo;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withException;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withStatus;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withSuccess;
+
+public class SecurityManagerTest {
+
+    private static final String AUTHENTICATION_INFORMATION_WEB_SERVICE = "http://security/oauth/check_token?token={token}";
+    private static final String CLIENT_ID = "TestClient";
+    private static final String CLIENT_PASSWORD = "TestPassword";
+    private static final String TOKEN = "accessToken";
+
+    private SecurityConfiguration mockSecurityConfiguration;
+
+    private RestTemplate restTemplate;
+
+    private MockRestServiceServer mockServer;
+
+    private MeterRegistry meterRegistry;
+
+    private SecurityManager securityManager;
+
+
+    @BeforeEach
+    public void init() {
+        mockSecurityConfiguration = Mockito.mock(SecurityConfiguration.class);
+        when(mockSecurityConfiguration.getAuthenticationInformationWebService()).thenReturn(AUTHENTICATION_INFORMATION_WEB_SERVICE);
+        when(mockSecurityConfiguration.getClientId()).thenReturn(CLIENT_ID);
+        when(mockSecurityConfiguration.getClientPassword()).thenReturn(CLIENT_PASSWORD);
+        when(mockSecurityConfiguration.getAuthenticationCacheEntryCapacity()).thenReturn(100);
+        when(mockSecurityConfiguration.getAuthenticationCacheExpireInSeconds()).thenReturn(300);
+        when(mockSecurityConfiguration.getAuthenticationCacheRejectedExpireInSeconds()).thenReturn(5);
+        when(mockSecurityConfiguration.isLocalVerificationEnabled()).thenReturn(false);
+
+        restTemplate = new RestTemplate();
+        mockServer = MockRestServiceServer.bindTo(restTemplate).build();
+        meterRegistry = new SimpleMeterRegistry();
+        securityManager = new SecurityManager(mockSecurityConfiguration, restTemplate,
+                new AuthenticationCache(mockSecurityConfiguration), new LocalTokenVerifier(mockSecurityConfiguration),
+                meterRegistry);
+    }
+
+
+    @Test
+    @DisplayName("authenticate: when the security service accepts the token then its authentication is returned and cached")
+    public void authenticate_whenSecurityServiceAcceptsTheToken_thenItsAuthenticationIsReturnedAndCached() {
+        expectAuthenticationInformationRequest(once())
+                .andRespond(withSuccess("{\"user_name\":\"user1\",\"authorities\":[\"admin\",\"user\"]}", MediaType.APPLICATION_JSON));
+
+        Optional<Authentication> result = securityManager.authenticate(TOKEN);
+        Optional<Authentication> cachedResult = securityManager.authenticate(TOKEN);
+
+        mockServer.verify();
+        assertTrue(result.isPresent());
+        assertEquals("user1", result.get().getPrincipal());
+        assertEquals(Set.of("admin", "user"), result.get().getAuthorities().stream().map(GrantedAuthority::getAuthority).collect(toSet()));
+        assertEquals(result, cachedResult);
+        assertOutcomeCounts(1, 0, 0);
+    }
+
+
+    static Stream<Arguments> authenticateRejectedTokenTestCases() {
+        return Stream.of(
+                //@formatter:off
+                //            status
+                Arguments.of( HttpStatus.BAD_REQUEST ),
+                Arguments.of( HttpStatus.UNAUTHORIZED ),
+                Arguments.of( HttpStatus.FORBIDDEN )
+        ); //@formatter:on
+    }
+
+    @ParameterizedTest
+    @MethodSource("authenticateRejectedTokenTestCases")
+    @DisplayName("authenticate: when the security service rejects the token then empty is returned and cached")
+    public void authenticate_whenSecurityServiceRejectsTheToken_thenEmptyIsReturnedAndCached(HttpStatus status) {
+        expectAuthenticationInformationRequest(once())
+                .andRespond(withStatus(status));
+
+        assertFalse(securityManager.authenticate(TOKEN).isPresent());
+        assertFalse(securityManager.authenticate(TOKEN).isPresent());
+
+        mockServer.verify();
+        assertOutcomeCounts(0, 1, 0);
+    }
+
+
+    static Stream<Arguments> authenticateErrorTestCases() {
+        return Stream.of(
+                //@formatter:off
+                //            response
+                Arguments.of( withStatus(HttpStatus.INTERNAL_SERVER_ERROR) ),
+                Arguments.of( withStatus(HttpStatus.SERVICE_UNAVAILABLE) ),
+                Arguments.of( withException(new SocketTimeoutException("Read timed out")) )
+        ); //@formatter:on
+    }
+
+    @ParameterizedTest
+    @MethodSource("authenticateErrorTestCases")
+    @DisplayName("authenticate: when the token cannot be verified then empty is returned but not cached")
+    public void authenticate_whenTokenCannotBeVerified_thenEmptyIsReturnedButNotCached(ResponseCreator response) {
+        expectAuthenticationInformationRequest(times(2))
+                .andRespond(response);
+
+        assertFalse(securityManager.authenticate(TOKEN).isPresent());
+        assertFalse(securityManager.authenticate(TOKEN).isPresent());
+
+        mockServer.verify();
+        assertOutcomeCounts(0, 0, 2);
+    }
+
+
+    @Test
+    @DisplayName("authenticate: when the security service fails then the error is propagated to the authentication cache")
+    public void authenticate_whenSecurityServiceFails_thenErrorIsPropagatedToAuthenticationCache() {
+        AuthenticationCache mockAuthenticationCache = Mockito.mock(AuthenticationCache.class);
+        SecurityManager managerWithMockCache = new SecurityManager(mockSecurityConfiguration, restTemplate,
+                mockAuthenticationCache, new LocalTokenVerifier(mockSecurityConfiguration), meterRegistry);
+        ArgumentCaptor<Function<String, Optional<UsernameAuthoritiesDto>>> loaderCaptor = ArgumentCaptor.forClass(Function.class);
+        when(mockAuthenticationCache.get(eq(TOKEN), loaderCaptor.capture())).thenReturn(Optional.empty());
+
+        managerWithMockCache.authenticate(TOKEN);
+
+        expectAuthenticationInformationRequest(once())
+                .andRespond(withStatus(HttpStatus.INTERNAL_SERVER_ERROR));
+        assertThrows(HttpServerErrorException.class, () -> loaderCaptor.getValue().apply(TOKEN));
+        mockServer.verify();
+
+        mockServer.reset();
+        expectAuthenticationInformationRequest(once())
+                .andRespond(withException(new SocketTimeoutException("Read timed out")));
+        assertThrows(ResourceAccessException.class, () -> loaderCaptor.getValue().apply(TOKEN));
+        mockServer.verify();
+    }
+
+
+    @Test
+    @DisplayName("authenticate: when the token is null then the security service is not invoked")
+    public void authenticate_whenTokenIsNull_thenSecurityServiceIsNotInvoked() {
+        LocalTokenVerifier mockLocalTokenVerifier = Mockito.mock(LocalTokenVerifier.class);
+        SecurityManager managerWithMockVerifier = new SecurityManager(mockSecurityConfiguration, restTemplate,
+                new AuthenticationCache(mockSecurityConfiguration), mockLocalTokenVerifier, meterRegistry);
+
+        assertFalse(managerWithMockVerifier.authenticate(null).isPresent());
+
+        mockServer.verify();
+        verify(mockLocalTokenVerifier, never()).verify(any(), any());
+        assertOutcomeCounts(0, 0, 0);
+    }
+
+
+    private ResponseActions expectAuthenticationInformationRequest(ExpectedCount count) {
+        String basicAuthentication = "Basic " + Base64.getEncoder()
+                .encodeToString((CLIENT_ID + ":" + CLIENT_PASSWORD).getBytes(StandardCharsets.UTF_8));
+        return mockServer.expect(count, requestTo("http://security/oauth/check_token?token=" + TOKEN))
+                .andExpect(method(HttpMethod.GET))
+                .andExpect(header(HttpHeaders.AUTHORIZATION, basicAuthentication));
+    }
+
+
+    private void assertOutcomeCounts(long accepted, long rejected, long error) {
+        assertEquals(accepted, outcomeCount("accepted"));
+        assertEquals(rejected, outcomeCount("rejected"));
+        assertEquals(error, outcomeCount("error"));
+    }
+
+
+    private long outcomeCount(String outcome) {
+        return meterRegistry.get(AUTHENTICATION_INFORMATION_TIMER)
+                .tag(OUTCOME_TAG, outcome)
+                .timer()
+                .count();
+    }
+
+}
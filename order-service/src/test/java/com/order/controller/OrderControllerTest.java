@@ -3,8 +3,10 @@ package com.order.controller;
 import com.order.configuration.Constants;
 import com.order.configuration.rest.RestRoutes;
 import com.order.configuration.security.SecurityManager;
+import com.order.dto.OrderCursorDto;
 import com.order.dto.OrderDto;
 import com.order.dto.OrderLineDto;
+import com.order.dto.OrderPageDto;
 import com.order.dto.PizzaDto;
 import com.order.service.OrderService;
 import com.common.dto.ErrorResponseDto;
@@ -241,6 +243,78 @@ public class OrderControllerTest {
     }
 
 
+    @Test
+    @SneakyThrows
+    @DisplayName("findPageWithOrderLines: when no logged user is given then unauthorized Http code is returned")
+    public void findPageWithOrderLines_whenNoLoggedUserIsGiven_thenUnauthorizedHttpCodeIsReturned() {
+        mockMvc.perform(get(RestRoutes.ORDER.ROOT + RestRoutes.ORDER.PAGE))
+                .andExpect(status().isUnauthorized());
+    }
+
+
+    @Test
+    @SneakyThrows
+    @WithMockUser(authorities = {"NOT_EXISTING"})
+    @DisplayName("findPageWithOrderLines: when no valid authority is given then forbidden Http code is returned")
+    public void findPageWithOrderLines_whenNotValidAuthorityIsGiven_thenForbiddenHttpCodeIsReturned() {
+        mockMvc.perform(get(RestRoutes.ORDER.ROOT + RestRoutes.ORDER.PAGE))
+                .andExpect(status().isForbidden());
+    }
+
+
+    static Stream<Arguments> findPageWithOrderLines_invalidParametersTestCases() {
+        return Stream.of(
+                //@formatter:off
+                //            parameter,   value,                   expectedError
+                Arguments.of( "limit",     "0",                     "Error in path 'findPageWithOrderLines.limit' due to: must be greater than 0" ),
+                Arguments.of( "limit",     "101",                   "Error in path 'findPageWithOrderLines.limit' due to: must be less than or equal to 100" ),
+                Arguments.of( "after",     "notValid",              "Error in parameter 'after' due to: it has not a valid value" ),
+                Arguments.of( "before",    "2019-13-02T18:00_2",    "Error in parameter 'before' due to: it has not a valid value" )
+        ); //@formatter:on
+    }
+
+    @ParameterizedTest
+    @SneakyThrows
+    @WithMockUser(authorities = {Constants.ROLE_USER})
+    @MethodSource("findPageWithOrderLines_invalidParametersTestCases")
+    @DisplayName("findPageWithOrderLines: when given parameters do not verify validations then bad request Http code is returned")
+    public void findPageWithOrderLines_whenGivenParametersDoNotVerifyValidations_thenBadRequestHttpCodeAndValidationErrorsAreReturned(String parameter,
+                                                 String value, String expectedError) {
+        // Given
+        ErrorResponseDto expectedResponse = new ErrorResponseDto(VALIDATION, asList(expectedError));
+
+        // When/Then
+        ResultActions result = mockMvc.perform(get(RestRoutes.ORDER.ROOT + RestRoutes.ORDER.PAGE).param(parameter, value));
+
+        thenHttpErrorIsReturned(result, BAD_REQUEST, expectedResponse);
+        verifyNoInteractions(mockOrderService);
+    }
+
+
+    @Test
+    @SneakyThrows
+    @WithMockUser(authorities = {Constants.ROLE_ADMIN})
+    @DisplayName("findPageWithOrderLines: when given parameters verify validations then Ok Http code and the page are returned")
+    public void findPageWithOrderLines_whenGivenParametersVerifyValidations_thenOkHttpCodeAndThePageAreReturned() {
+        // Given
+        PizzaDto pizzaDto = new PizzaDto((short)1, "Carbonara", 7.50);
+        OrderLineDto orderLineDto = new OrderLineDto(10, 1, pizzaDto, (short)2, 15D);
+        OrderDto dto = new OrderDto(1, "Order 1", new Date(), asList(orderLineDto));
+        OrderPageDto page = new OrderPageDto(asList(dto), "2019-01-02T18:00_2", null);
+        OrderCursorDto after = OrderCursorDto.valueOf("2019-01-02T18:00_2");
+
+        // When
+        when(mockOrderService.findPageByCursorOrderedByCreatedWithOrderLines(after, null, 20)).thenReturn(page);
+
+        ResultActions result = mockMvc.perform(get(RestRoutes.ORDER.ROOT + RestRoutes.ORDER.PAGE).param("after", after.toString()));
+
+        // Then
+        result.andExpect(status().isOk());
+        assertEquals(page, fromJson(result.andReturn().getResponse().getContentAsString(), OrderPageDto.class));
+        verify(mockOrderService, times(1)).findPageByCursorOrderedByCreatedWithOrderLines(after, null, 20);
+    }
+
+
     @Test
     @SneakyThrows
     @DisplayName("update: when no logged user is given then unauthorized Http code is returned")
@@ -1,5 +1,6 @@
 package com.order.dao;
 
+import com.order.dto.OrderCursorDto;
 import com.order.dto.OrderDto;
 import com.order.dto.OrderLineDto;
 import com.order.dto.PizzaDto;
@@ -22,6 +23,7 @@ import java.util.List;
 import java.util.Optional;
 import java.util.Set;
 
+import static java.util.Arrays.asList;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.contains;
 import static org.hamcrest.Matchers.containsInAnyOrder;
@@ -397,4 +399,125 @@ public class OrderDaoTest {
         assertEquals(orderdsPage.size(), ordersFound.size());
     }
 
+
+    @Test
+    public void fetchCursorsAfterCursor_whenZeroLimitIsGiven_thenEmptyListIsReturned() {
+        // When
+        List<OrderCursorDto> cursors = orderDao.fetchCursorsAfterCursor(null, 0);
+
+        // Then
+        assertNotNull(cursors);
+        assertTrue(cursors.isEmpty());
+    }
+
+
+    @Test
+    public void fetchCursorsAfterCursor_whenNoCursorIsGiven_thenTheNewestOrdersAreReturned() {
+        // When
+        List<OrderCursorDto> cursors = orderDao.fetchCursorsAfterCursor(null, 1);
+
+        // Then
+        assertNotNull(cursors);
+        assertEquals(asList(new OrderCursorDto(order2.getCreated(), order2.getId())), cursors);
+    }
+
+
+    @Test
+    public void fetchCursorsAfterCursor_whenACursorIsGiven_thenTheOlderOrdersAreReturned() {
+        // Given
+        OrderCursorDto cursor = new OrderCursorDto(order2.getCreated(), order2.getId());
+
+        // When
+        List<OrderCursorDto> cursors = orderDao.fetchCursorsAfterCursor(cursor, 2);
+
+        // Then
+        assertNotNull(cursors);
+        assertEquals(asList(new OrderCursorDto(order1.getCreated(), order1.getId())), cursors);
+    }
+
+
+    @Test
+    public void fetchCursorsAfterCursor_whenAllDatabaseRowsAreRequired_thenAllCursorsAreReturnedInOrder() {
+        // When
+        List<OrderCursorDto> cursors = orderDao.fetchCursorsAfterCursor(null, 10);
+
+        // Then
+        assertNotNull(cursors);
+        assertEquals(orderDao.count(), cursors.size());
+        assertEquals(order2.getId(), cursors.get(0).getId());
+        assertEquals(order1.getId(), cursors.get(1).getId());
+    }
+
+
+    @Test
+    public void fetchCursorsBeforeCursor_whenNullCursorIsGiven_thenEmptyListIsReturned() {
+        // When
+        List<OrderCursorDto> cursors = orderDao.fetchCursorsBeforeCursor(null, 2);
+
+        // Then
+        assertNotNull(cursors);
+        assertTrue(cursors.isEmpty());
+    }
+
+
+    @Test
+    public void fetchCursorsBeforeCursor_whenTheNewestOrderIsGiven_thenEmptyListIsReturned() {
+        // Given
+        OrderCursorDto cursor = new OrderCursorDto(order2.getCreated(), order2.getId());
+
+        // When
+        List<OrderCursorDto> cursors = orderDao.fetchCursorsBeforeCursor(cursor, 2);
+
+        // Then
+        assertNotNull(cursors);
+        assertTrue(cursors.isEmpty());
+    }
+
+
+    @Test
+    public void fetchCursorsBeforeCursor_whenACursorIsGiven_thenTheNewerOrdersAreReturned() {
+        // Given
+        OrderCursorDto cursor = new OrderCursorDto(order1.getCreated(), order1.getId());
+
+        // When
+        List<OrderCursorDto> cursors = orderDao.fetchCursorsBeforeCursor(cursor, 2);
+
+        // Then
+        assertNotNull(cursors);
+        assertEquals(asList(new OrderCursorDto(order2.getCreated(), order2.getId())), cursors);
+    }
+
+
+    @Test
+    public void fetchToOrderDtoByIdsWithOrderLineDto_whenNoIdsAreGiven_thenEmptyListIsReturned() {
+        // When
+        List<OrderDto> ordersOfNull = orderDao.fetchToOrderDtoByIdsWithOrderLineDto(null);
+        List<OrderDto> ordersOfEmpty = orderDao.fetchToOrderDtoByIdsWithOrderLineDto(asList());
+
+        // Then
+        assertNotNull(ordersOfNull);
+        assertTrue(ordersOfNull.isEmpty());
+        assertNotNull(ordersOfEmpty);
+        assertTrue(ordersOfEmpty.isEmpty());
+    }
+
+
+    @Test
+    public void fetchToOrderDtoByIdsWithOrderLineDto_whenIdsAreGiven_thenTheirOrdersAreReturnedInOrder() {
+        // Given
+        OrderDto orderDto1 = orderDao.fetchToOrderDtoByIdWithOrderLineDto(order1.getId()).get();
+        OrderDto orderDto2 = orderDao.fetchToOrderDtoByIdWithOrderLineDto(order2.getId()).get();
+
+        // When
+        List<OrderDto> orders = orderDao.fetchToOrderDtoByIdsWithOrderLineDto(asList(order1.getId(), order2.getId()));
+
+        // Then
+        assertNotNull(orders);
+        assertEquals(2, orders.size());
+        assertThat(orders.get(0), samePropertyValuesAs(orderDto2));
+        assertEquals(3, orders.get(0).getOrderLines().size());
+        assertThat(orders.get(1), samePropertyValuesAs(orderDto1));
+        assertEquals(2, orders.get(1).getOrderLines().size());
+    }
+
 }
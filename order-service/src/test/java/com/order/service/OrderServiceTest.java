@@ -1,8 +1,10 @@
 package com.order.service;
 
 import com.order.dao.OrderDao;
+import com.order.dto.OrderCursorDto;
 import com.order.dto.OrderDto;
 import com.order.dto.OrderLineDto;
+import com.order.dto.OrderPageDto;
 import com.order.model.Order;
 import com.order.util.converter.OrderConverter;
 import org.junit.jupiter.api.DisplayName;
@@ -15,6 +17,7 @@ import org.springframework.boot.test.mock.mockito.MockBean;
 
 import java.sql.Timestamp;
 import java.util.Date;
+import java.util.List;
 import java.util.Optional;
 import java.util.Set;
 import java.util.stream.Stream;
@@ -97,6 +100,51 @@ public class OrderServiceTest {
     }
 
 
+    static Stream<Arguments> findPageByCursorOrderedByCreatedWithOrderLinesTestCases() {
+        OrderDto dto1 = buildOrderDto(3, "Order3", Timestamp.valueOf("2019-01-03 10:00:00"), asList());
+        OrderDto dto2 = buildOrderDto(2, "Order2", Timestamp.valueOf("2019-01-02 18:00:00"), asList());
+        OrderDto dto3 = buildOrderDto(1, "Order1", Timestamp.valueOf("2018-12-31 16:00:00"), asList());
+        OrderCursorDto cursor1 = OrderCursorDto.of(dto1).get();
+        OrderCursorDto cursor2 = OrderCursorDto.of(dto2).get();
+        OrderCursorDto cursor3 = OrderCursorDto.of(dto3).get();
+        OrderPageDto emptyPage = new OrderPageDto(asList(), null, null);
+        return Stream.of(
+                //@formatter:off
+                //            after,     before,    limit,   repositoryAfterResult,              repositoryBeforeResult,    pageIds,          repositoryOrdersResult,   expectedResult
+                Arguments.of( null,      null,      0,       asList(cursor1),                    asList(),                  asList(),         asList(),                 emptyPage ),
+                Arguments.of( null,      null,      2,       asList(),                           asList(),                  asList(),         asList(),                 emptyPage ),
+                Arguments.of( null,      null,      2,       asList(cursor1),                    asList(),                  asList(3),        asList(dto1),             new OrderPageDto(asList(dto1), null, null) ),
+                Arguments.of( null,      null,      2,       asList(cursor1, cursor2, cursor3),  asList(),                  asList(3, 2),     asList(dto1, dto2),       new OrderPageDto(asList(dto1, dto2), null, "2019-01-02T18:00_2") ),
+                Arguments.of( null,      null,      2,       asList(cursor1, cursor2, cursor3),  asList(),                  asList(3, 2),     asList(dto1),             new OrderPageDto(asList(dto1), null, "2019-01-02T18:00_2") ),
+                Arguments.of( cursor1,   null,      2,       asList(cursor2, cursor3),           asList(),                  asList(2, 1),     asList(dto2, dto3),       new OrderPageDto(asList(dto2, dto3), "2019-01-02T18:00_2", null) ),
+                Arguments.of( cursor1,   null,      2,       asList(cursor2, cursor3),           asList(),                  asList(2, 1),     asList(),                 new OrderPageDto(asList(), "2019-01-02T18:00_2", null) ),
+                Arguments.of( cursor3,   null,      2,       asList(),                           asList(),                  asList(),         asList(),                 emptyPage ),
+                Arguments.of( null,      cursor1,   2,       asList(),                           asList(),                  asList(),         asList(),                 emptyPage ),
+                Arguments.of( null,      cursor2,   2,       asList(),                           asList(cursor1),           asList(3),        asList(dto1),             new OrderPageDto(asList(dto1), null, "2019-01-03T10:00_3") ),
+                Arguments.of( null,      cursor3,   1,       asList(),                           asList(cursor1, cursor2),  asList(2),        asList(dto2),             new OrderPageDto(asList(dto2), "2019-01-02T18:00_2", "2019-01-02T18:00_2") ),
+                Arguments.of( null,      cursor3,   1,       asList(),                           asList(cursor1, cursor2),  asList(2),        asList(),                 new OrderPageDto(asList(), "2019-01-02T18:00_2", "2019-01-02T18:00_2") ),
+                Arguments.of( cursor1,   cursor3,   1,       asList(cursor2, cursor3),           asList(cursor1, cursor2),  asList(2),        asList(dto2),             new OrderPageDto(asList(dto2), "2019-01-02T18:00_2", "2019-01-02T18:00_2") )
+        ); //@formatter:on
+    }
+
+    @ParameterizedTest
+    @MethodSource("findPageByCursorOrderedByCreatedWithOrderLinesTestCases")
+    @DisplayName("findPageByCursorOrderedByCreatedWithOrderLines: test cases")
+    public void findPageByCursorOrderedByCreatedWithOrderLines_testCases(OrderCursorDto after, OrderCursorDto before, int limit,
+                                                                        List<OrderCursorDto> repositoryAfterResult, List<OrderCursorDto> repositoryBeforeResult,
+                                                                        List<Integer> pageIds, List<OrderDto> repositoryOrdersResult,
+                                                                        OrderPageDto expectedResult) {
+        // One more order is always sought in the repository
+        when(mockOrderDao.fetchCursorsAfterCursor(after, limit + 1)).thenReturn(repositoryAfterResult);
+        when(mockOrderDao.fetchCursorsBeforeCursor(before, limit + 1)).thenReturn(repositoryBeforeResult);
+        when(mockOrderDao.fetchToOrderDtoByIdsWithOrderLineDto(pageIds)).thenReturn(repositoryOrdersResult);
+
+        OrderPageDto result = service.findPageByCursorOrderedByCreatedWithOrderLines(after, before, limit);
+
+        assertEquals(expectedResult, result);
+    }
+
+
     static Stream<Arguments> saveTestCases() {
         OrderDto dto = buildOrderDto(null, "Order1", new Date(), asList());
         Order model = buildOrder(dto.getId(), dto.getCode(), new Timestamp(dto.getCreated().getTime()));
@@ -1,14 +1,24 @@
 package com.pizza.configuration.cache;
 
+import com.common.cache.CacheMetrics;
+import com.common.cache.HazelcastEvictionListener;
 import com.hazelcast.config.Config;
+import com.hazelcast.config.EvictionConfig;
 import com.hazelcast.config.EvictionPolicy;
+import com.hazelcast.config.InMemoryFormat;
 import com.hazelcast.config.MapConfig;
 import com.hazelcast.config.MaxSizeConfig;
+import com.hazelcast.config.NearCacheConfig;
 import com.hazelcast.core.Hazelcast;
 import com.hazelcast.core.HazelcastInstance;
+import com.hazelcast.core.IMap;
+import com.hazelcast.map.listener.EntryExpiredListener;
 import com.hazelcast.spring.cache.HazelcastCacheManager;
 import com.pizza.configuration.Constants;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
 import lombok.Getter;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.cache.CacheManager;
 import org.springframework.cache.annotation.EnableCaching;
@@ -33,6 +43,15 @@ public class CacheConfiguration {
     @Getter
     private String userBlacklistCacheName;
 
+    @Value("${cache.userBlacklist.nearCache.enabled:false}")
+    private boolean userBlacklistNearCacheEnabled;
+
+    @Value("${cache.userBlacklist.nearCache.entryCapacity:1000}")
+    private int userBlacklistNearCacheEntryCapacity;
+
+    @Value("${cache.userBlacklist.nearCache.expireInSeconds:5}")
+    private int userBlacklistNearCacheExpireInSeconds;
+
 
     /**
      * Centralized cache configuration to manage the information we want to cache
@@ -40,10 +59,11 @@ public class CacheConfiguration {
      * @return {@link CacheManager}
      */
     @Bean
-    public CacheManager cacheManager() {
+    public CacheManager cacheManager(ObjectProvider<MeterRegistry> meterRegistry) {
         HazelcastInstance existingInstance = Hazelcast.getHazelcastInstanceByName(CACHE_INSTANCE_NAME);
-        HazelcastInstance hazelcastInstance = null != existingInstance ? existingInstance
-                                                                       : Hazelcast.newHazelcastInstance(hazelCastConfig());
+        HazelcastInstance hazelcastInstance = null != existingInstance
+                ? existingInstance
+                : newHazelcastInstance(hazelCastConfig(), new CacheMetrics(meterRegistry.getIfAvailable(() -> Metrics.globalRegistry)));
         return new HazelcastCacheManager(hazelcastInstance);
     }
 
@@ -52,15 +72,64 @@ public class CacheConfiguration {
      *
      * @return {@link Config}
      */
-    private Config hazelCastConfig(){
+    Config hazelCastConfig(){
+        MapConfig userBlacklistMapConfig = new MapConfig()
+                .setName(userBlacklistCacheName)
+                .setMaxSizeConfig(new MaxSizeConfig(userBlacklistCacheEntryCapacity, MaxSizeConfig.MaxSizePolicy.FREE_HEAP_SIZE))
+                .setEvictionPolicy(EvictionPolicy.LRU)
+                .setTimeToLiveSeconds(userBlacklistCacheExpireInSeconds);
+        if (userBlacklistNearCacheEnabled) {
+            userBlacklistMapConfig.setNearCacheConfig(nearCacheConfig(userBlacklistNearCacheEntryCapacity, userBlacklistNearCacheExpireInSeconds));
+        }
         Config config = new Config();
         config.setInstanceName(CACHE_INSTANCE_NAME)
-                .addMapConfig(new MapConfig()
-                        .setName(userBlacklistCacheName)
-                        .setMaxSizeConfig(new MaxSizeConfig(userBlacklistCacheEntryCapacity, MaxSizeConfig.MaxSizePolicy.FREE_HEAP_SIZE))
-                        .setEvictionPolicy(EvictionPolicy.LRU)
-                        .setTimeToLiveSeconds(userBlacklistCacheExpireInSeconds));
+                .addMapConfig(userBlacklistMapConfig);
         return config;
     }
 
+
+    /**
+     *    Start a new Hazelcast member using the given {@link Config}, publishing the entries evicted from its maps in
+     * {@code cacheMetrics}. Hazelcast does not invalidate the near cache when an entry expires, so the expired entries
+     * are evicted to remove their local copies in all the members.
+     *
+     * @param config
+     *    {@link Config} of the new member
+     * @param cacheMetrics
+     *    {@link CacheMetrics} used to publish the evictions
+     *
+     * @return {@link HazelcastInstance}
+     */
+    HazelcastInstance newHazelcastInstance(Config config, CacheMetrics cacheMetrics) {
+        HazelcastInstance hazelcastInstance = Hazelcast.newHazelcastInstance(config);
+        IMap<Object, Object> userBlacklistMap = hazelcastInstance.getMap(userBlacklistCacheName);
+        userBlacklistMap.addLocalEntryListener(new HazelcastEvictionListener(cacheMetrics, userBlacklistCacheName));
+        if (userBlacklistNearCacheEnabled) {
+            userBlacklistMap.addLocalEntryListener((EntryExpiredListener<Object, Object>) event -> userBlacklistMap.evict(event.getKey()));
+        }
+        return hazelcastInstance;
+    }
+
+
+    /**
+     *    Local copy of the most used entries of a map, absent keys included. Hazelcast invalidates them when the entries
+     * change or are evicted in any member of the cluster. The entries owned by this member are cached too, because a
+     * service usually runs an embedded member with all the partitions.
+     *
+     * @param entryCapacity
+     *    Maximum number of entries stored locally
+     * @param expireInSeconds
+     *    Maximum time an entry will be stored locally
+     *
+     * @return {@link NearCacheConfig}
+     */
+    private NearCacheConfig nearCacheConfig(int entryCapacity, int expireInSeconds) {
+        return new NearCacheConfig()
+                .setInMemoryFormat(InMemoryFormat.OBJECT)
+                .setCacheLocalEntries(true)
+                .setInvalidateOnChange(true)
+                .setTimeToLiveSeconds(expireInSeconds)
+                .setEvictionConfig(new EvictionConfig(entryCapacity, EvictionConfig.MaxSizePolicy.ENTRY_COUNT, EvictionPolicy.LRU));
+    }
+
 }
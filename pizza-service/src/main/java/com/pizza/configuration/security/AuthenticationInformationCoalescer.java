@@ -0,0 +1,217 @@
+package com.pizza.configuration.security;
+
+import com.common.dto.AuthorizationInformationResultDto;
+import com.common.dto.UsernameAuthoritiesDto;
+import com.common.enums.ExtendedHttpStatus;
+import com.common.exception.TokenExpiredException;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static java.util.Arrays.asList;
+import static org.springframework.http.HttpStatus.BAD_REQUEST;
+import static org.springframework.http.HttpStatus.FORBIDDEN;
+import static org.springframework.http.HttpStatus.NOT_FOUND;
+import static org.springframework.http.HttpStatus.OK;
+import static org.springframework.http.HttpStatus.UNAUTHORIZED;
+
+/**
+ *    Groups the token validations requested at the same time in one request to the batch version of the authorization
+ * information web service: the first token waits up to {@code windowInMilliseconds} for other ones, or less if
+ * {@code maxSize} tokens are received before. A token requested several times in the same window is sent only once.
+ *
+ *    Every validation receives the same result as using the single version of the web service: the information of the
+ * user if the token is valid, an empty {@link Mono} if it was rejected or a {@link TokenExpiredException} if it has
+ * expired. If the whole request fails, all its validations receive the error.
+ */
+@Component
+@Log4j2
+public class AuthenticationInformationCoalescer {
+
+    // Maximum number of tokens accepted by the batch web service (SecurityController of security-jwt-service)
+    public static final int MAX_BATCH_SIZE = 500;
+
+    private static final ParameterizedTypeReference<Map<String, AuthorizationInformationResultDto>> RESULTS_TYPE =
+            new ParameterizedTypeReference<>() {};
+
+    // Http statuses of the whole request managed as the rejection of all its tokens
+    private static final List<HttpStatus> REJECTED_STATUSES = asList(BAD_REQUEST, UNAUTHORIZED, FORBIDDEN, NOT_FOUND);
+
+    private final WebClient webClient;
+    private final Scheduler scheduler;
+    private final String batchWebService;
+    private final String authorizationHeader;
+    private final long windowInMilliseconds;
+    private final int maxSize;
+
+    // Tokens waiting to be sent, guarded by this
+    private Map<String, Sinks.One<AuthorizationInformationResultDto>> pending;
+
+
+    @Autowired
+    public AuthenticationInformationCoalescer(SecurityConfiguration securityConfiguration, WebClient webClient) {
+        this(securityConfiguration, webClient, Schedulers.parallel());
+    }
+
+
+    AuthenticationInformationCoalescer(SecurityConfiguration securityConfiguration, WebClient webClient, Scheduler scheduler) {
+        this.webClient = webClient;
+        this.scheduler = scheduler;
+        this.batchWebService = securityConfiguration.getAuthenticationInformationBatchWebService();
+        this.authorizationHeader = buildAuthorizationHeader(securityConfiguration.getClientId(), securityConfiguration.getClientPassword());
+        this.windowInMilliseconds = securityConfiguration.getAuthenticationInformationBatchWindowInMilliseconds();
+        this.maxSize = getMaxSize(securityConfiguration.getAuthenticationInformationBatchMaxSize());
+        this.pending = new LinkedHashMap<>();
+    }
+
+
+    /**
+     * Returns {@code true} if the batch web service is configured, so the validations can be grouped.
+     */
+    public boolean isEnabled() {
+        return StringUtils.hasText(batchWebService);
+    }
+
+
+    /**
+     * Get the authentication information related with the given {@code token}, grouping its validation with other ones.
+     *
+     * @param token
+     *    Access token (without Http authentication scheme)
+     *
+     * @return {@link Mono} of {@link UsernameAuthoritiesDto} if the token is valid,
+     *         {@link Mono#empty()} if it was rejected
+     *
+     * @throws TokenExpiredException if the given {@code token} has expired
+     */
+    public Mono<UsernameAuthoritiesDto> getAuthenticationInformation(String token) {
+        return Mono.defer(() -> enqueue(token).asMono())
+                .flatMap(result -> {
+                    if (OK.value() == result.getStatus()) {
+                        return Mono.justOrEmpty(result.getUsernameAuthorities());
+                    }
+                    if (ExtendedHttpStatus.TOKEN_EXPIRED.value() == result.getStatus()) {
+                        return Mono.error(new TokenExpiredException("The provided authentication token has expired"));
+                    }
+                    return Mono.empty();
+                });
+    }
+
+
+    /**
+     * Add the given {@code token} to the pending ones, sending them if the maximum size has been reached.
+     */
+    private Sinks.One<AuthorizationInformationResultDto> enqueue(String token) {
+        Sinks.One<AuthorizationInformationResultDto> sink;
+        Map<String, Sinks.One<AuthorizationInformationResultDto>> batch = null;
+        synchronized (this) {
+            sink = pending.get(token);
+            if (null == sink) {
+                sink = Sinks.one();
+                pending.put(token, sink);
+                if (pending.size() >= maxSize) {
+                    batch = takePending();
+                } else if (1 == pending.size()) {
+                    scheduler.schedule(this::sendPending, windowInMilliseconds, TimeUnit.MILLISECONDS);
+                }
+            }
+        }
+        if (null != batch) {
+            send(batch);
+        }
+        return sink;
+    }
+
+
+    /**
+     *    Send the pending tokens once the window has finished. If they were already sent because the maximum size was
+     * reached, the following ones (if any) are sent earlier than their own window.
+     */
+    private void sendPending() {
+        Map<String, Sinks.One<AuthorizationInformationResultDto>> batch;
+        synchronized (this) {
+            batch = takePending();
+        }
+        if (!batch.isEmpty()) {
+            send(batch);
+        }
+    }
+
+
+    private Map<String, Sinks.One<AuthorizationInformationResultDto>> takePending() {
+        Map<String, Sinks.One<AuthorizationInformationResultDto>> batch = pending;
+        pending = new LinkedHashMap<>();
+        return batch;
+    }
+
+
+    /**
+     *    Ask for the given tokens to the security service and notify the result of every one. As with the single version
+     * of the web service, the rejection of the whole request is managed as the rejection of all its tokens.
+     */
+    private void send(Map<String, Sinks.One<AuthorizationInformationResultDto>> batch) {
+        log.debug("Sending {} tokens to the authorization information batch web service", batch.size());
+        webClient.post()
+                .uri(batchWebService)
+                .header(HttpHeaders.AUTHORIZATION, authorizationHeader)
+                .bodyValue(new ArrayList<>(batch.keySet()))
+                .retrieve()
+                .bodyToMono(RESULTS_TYPE)
+                .onErrorResume(WebClientResponseException.class,
+                        e -> REJECTED_STATUSES.contains(HttpStatus.resolve(e.getRawStatusCode()))
+                                ? Mono.empty()
+                                : Mono.error(e))
+                .defaultIfEmpty(Collections.emptyMap())
+                .subscribe(
+                        results -> batch.forEach((token, sink) -> {
+                            AuthorizationInformationResultDto result = results.get(token);
+                            if (null == result) {
+                                sink.tryEmitEmpty();
+                            } else {
+                                sink.tryEmitValue(result);
+                            }
+                        }),
+                        error -> batch.values().forEach(sink -> sink.tryEmitError(error))
+                );
+    }
+
+
+    private static String buildAuthorizationHeader(String username, String password) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setBasicAuth(username, password, StandardCharsets.UTF_8);
+        return headers.getFirst(HttpHeaders.AUTHORIZATION);
+    }
+
+
+    /**
+     *    Adjust the configured maximum number of tokens of a request to the range accepted by the batch web service,
+     * otherwise a bigger request would be rejected and none of its tokens validated.
+     */
+    private static int getMaxSize(int configuredMaxSize) {
+        if (MAX_BATCH_SIZE < configuredMaxSize) {
+            log.warn("The maximum size of the authentication information batch: {} is greater than the allowed one: {}, so the allowed one will be used",
+                    configuredMaxSize, MAX_BATCH_SIZE);
+            return MAX_BATCH_SIZE;
+        }
+        return Math.max(1, configuredMaxSize);
+    }
+
+}
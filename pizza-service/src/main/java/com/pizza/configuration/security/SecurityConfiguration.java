@@ -20,4 +20,16 @@ public class SecurityConfiguration {
     @Value("${security.restApi.clientPassword}")
     private String clientPassword;
 
+    // Batch version of authenticationInformation, if it is not empty concurrent validations are grouped in one request
+    @Value("${security.restApi.authenticationInformationBatch:}")
+    private String authenticationInformationBatchWebService;
+
+    // Time a validation waits for other ones to be sent in the same request
+    @Value("${security.authenticationInformationBatch.windowInMilliseconds:5}")
+    private int authenticationInformationBatchWindowInMilliseconds;
+
+    // A request is sent without waiting for the window when it includes this number of tokens
+    @Value("${security.authenticationInformationBatch.maxSize:100}")
+    private int authenticationInformationBatchMaxSize;
+
 }
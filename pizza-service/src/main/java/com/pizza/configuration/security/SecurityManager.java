@@ -48,12 +48,18 @@ public class SecurityManager implements ReactiveAuthenticationManager {
     @Autowired
     private WebClient webClient;
 
+    @Autowired
+    private AuthenticationInformationCoalescer authenticationInformationCoalescer;
+
 
     @Override
     public Mono<Authentication> authenticate(Authentication authentication) {
         String authToken = authentication.getCredentials().toString();
-        return getAuthenticationInformation(securityConfiguration.getAuthenticationInformationWebService(), authToken)
-                        .map(au -> getFromUsernameAuthoritiesDto(au));
+        Mono<UsernameAuthoritiesDto> authenticationInformation = authenticationInformationCoalescer.isEnabled()
+                ? authenticationInformationCoalescer.getAuthenticationInformation(authToken)
+                : getAuthenticationInformation(securityConfiguration.getAuthenticationInformationWebService(), authToken);
+        return authenticationInformation
+                        .flatMap(au -> getFromUsernameAuthoritiesDto(au));
     }
 
 
@@ -89,15 +95,30 @@ public class SecurityManager implements ReactiveAuthenticationManager {
      * @param usernameAuthoritiesDto
      *    {@link UsernameAuthoritiesDto} to convert
      *
-     * @return {@link UsernamePasswordAuthenticationToken}
+     * @return {@link Mono} of {@link UsernamePasswordAuthenticationToken}
      *
      * @throws UnauthorizedException is the given {@code username} has been included in the black list.
      */
-    private UsernamePasswordAuthenticationToken getFromUsernameAuthoritiesDto(UsernameAuthoritiesDto usernameAuthoritiesDto) {
-        if (userBlacklistCacheService.contains(usernameAuthoritiesDto.getUsername())) {
-            throw new UnauthorizedException(format("The given username: %s has been included in the blacklist",
-                    usernameAuthoritiesDto.getUsername()));
-        }
+    private Mono<UsernamePasswordAuthenticationToken> getFromUsernameAuthoritiesDto(UsernameAuthoritiesDto usernameAuthoritiesDto) {
+        return userBlacklistCacheService.contains(usernameAuthoritiesDto.getUsername())
+                .map(isBlacklisted -> {
+                    if (isBlacklisted) {
+                        throw new UnauthorizedException(format("The given username: %s has been included in the blacklist",
+                                usernameAuthoritiesDto.getUsername()));
+                    }
+                    return buildAuthenticationToken(usernameAuthoritiesDto);
+                });
+    }
+
+    /**
+     * Build the {@link UsernamePasswordAuthenticationToken} with the information included in the given {@link UsernameAuthoritiesDto}
+     *
+     * @param usernameAuthoritiesDto
+     *    {@link UsernameAuthoritiesDto} to convert
+     *
+     * @return {@link UsernamePasswordAuthenticationToken}
+     */
+    private UsernamePasswordAuthenticationToken buildAuthenticationToken(UsernameAuthoritiesDto usernameAuthoritiesDto) {
         Collection<? extends GrantedAuthority> authorities = usernameAuthoritiesDto.getAuthorities()
                 .stream()
                 .map(a -> new SimpleGrantedAuthority(a))
@@ -69,8 +69,11 @@ public class UserController {
     @RoleAdmin
     public Mono<ResponseEntity<String>> addToBlacklist(@PathVariable @Size(min = 1) String username) {
         return userBlackListCacheService.put(username)
-                ? Mono.just(new ResponseEntity(username, OK))
-                : Mono.just(new ResponseEntity(UNPROCESSABLE_ENTITY));
+                .map(isStored ->
+                        isStored
+                                ? new ResponseEntity(username, OK)
+                                : new ResponseEntity(UNPROCESSABLE_ENTITY)
+                );
     }
 
 
@@ -99,8 +102,11 @@ public class UserController {
     @RoleAdmin
     public Mono<ResponseEntity<String>> removeFromBlacklist(@PathVariable @Size(min = 1) String username) {
         return userBlackListCacheService.remove(username)
-                ? Mono.just(new ResponseEntity(username, OK))
-                : Mono.just(new ResponseEntity(NOT_FOUND));
+                .map(isRemoved ->
+                        isRemoved
+                                ? new ResponseEntity(username, OK)
+                                : new ResponseEntity(NOT_FOUND)
+                );
     }
 
 }
@@ -1,9 +1,9 @@
 package com.pizza.enums;
 
 import com.pizza.model.Pizza;
+import com.common.validator.enums.EnumInternalPropertyValueRegistry;
 import com.common.validator.enums.IEnumInternalPropertyValue;
 
-import java.util.Arrays;
 import java.util.Optional;
 
 /**
@@ -38,10 +38,8 @@ public enum PizzaEnum implements IEnumInternalPropertyValue<String> {
      *         An empty {@link Optional} otherwise.
      */
     public static Optional<PizzaEnum> getFromDatabaseValue(String databaseValue) {
-        return Optional.ofNullable(databaseValue)
-                       .flatMap(dv -> Arrays.stream(PizzaEnum.values())
-                                            .filter(ev -> dv.equals(ev.databaseValue))
-                                            .findFirst());
+        return EnumInternalPropertyValueRegistry.of(PizzaEnum.class)
+                                                .get(databaseValue);
     }
 
 }
@@ -1,10 +1,11 @@
 package com.pizza.service.cache;
 
 import com.pizza.configuration.cache.CacheConfiguration;
-import com.common.service.CacheService;
+import com.common.service.ReactiveCacheService;
 import lombok.AllArgsConstructor;
 import org.springframework.context.annotation.Lazy;
 import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
 
 import static java.util.Optional.ofNullable;
 
@@ -18,7 +19,7 @@ public class UserBlacklistCacheService {
     private final CacheConfiguration cacheConfiguration;
 
     @Lazy
-    private final CacheService cacheService;
+    private final ReactiveCacheService cacheService;
 
 
     /**
@@ -27,12 +28,12 @@ public class UserBlacklistCacheService {
      * @param username
      *    {@code username} to search
      *
-     * @return {@code true} if the {@code username} exists, {@code false} otherwise
+     * @return {@link Mono} with {@code true} if the {@code username} exists, {@code false} otherwise
      */
-    public boolean contains(String username) {
+    public Mono<Boolean> contains(String username) {
         return ofNullable(username)
                 .map(id -> cacheService.contains(cacheConfiguration.getUserBlacklistCacheName(), username))
-                .orElse(false);
+                .orElseGet(() -> Mono.just(false));
     }
 
 
@@ -42,9 +43,9 @@ public class UserBlacklistCacheService {
      * @param username
      *    {@code username} to store
      *
-     * @return {@code true} if the data was stored, {@code false} otherwise
+     * @return {@link Mono} with {@code true} if the data was stored, {@code false} otherwise
      */
-    public boolean put(String username) {
+    public Mono<Boolean> put(String username) {
         return cacheService.put(cacheConfiguration.getUserBlacklistCacheName(), username, DEFAULT_VALUE);
     }
 
@@ -55,9 +56,9 @@ public class UserBlacklistCacheService {
      * @param username
      *    {@code username} to remove
      *
-     * @return {@code true} if the data was removed, {@code false} otherwise
+     * @return {@link Mono} with {@code true} if the data was removed, {@code false} otherwise
      */
-    public boolean remove(String username) {
+    public Mono<Boolean> remove(String username) {
         return cacheService.remove(cacheConfiguration.getUserBlacklistCacheName(), username);
     }
 
@@ -2,11 +2,11 @@ package com.pizza.util.converter;
 
 import com.pizza.dto.IngredientDto;
 import com.pizza.model.Ingredient;
-import com.common.converter.BaseConverter;
+import com.common.converter.ReactiveBaseConverter;
 import org.mapstruct.Mapper;
 
 /**
  * Utility class to convert from {@link Ingredient} to {@link IngredientDto} and vice versa.
  */
 @Mapper
-public interface IngredientConverter extends BaseConverter<Ingredient, IngredientDto> {}
+public interface IngredientConverter extends ReactiveBaseConverter<Ingredient, IngredientDto> {}
@@ -0,0 +1,253 @@
+package com.pizza.configuration.cache;
+
+import com.common.cache.CacheMetrics;
+import com.hazelcast.config.Config;
+import com.hazelcast.config.EvictionConfig;
+import com.hazelcast.config.EvictionPolicy;
+import com.hazelcast.config.InMemoryFormat;
+import com.hazelcast.config.NearCacheConfig;
+import com.hazelcast.core.HazelcastInstance;
+import com.hazelcast.core.IMap;
+import com.hazelcast.monitor.NearCacheStats;
+import com.hazelcast.spring.cache.HazelcastCacheManager;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.Cache;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.UUID;
+
+import static com.common.cache.CacheMetrics.CACHE_TAG;
+import static com.common.cache.CacheMetrics.CAUSE_TAG;
+import static com.common.cache.CacheMetrics.EVICTIONS;
+import static com.common.cache.CacheMetrics.EXPIRED_CAUSE;
+import static com.common.cache.CacheMetrics.SIZE_CAUSE;
+import static java.util.Optional.ofNullable;
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class CacheConfigurationTest {
+
+    private static final String CACHE_NAME = "UserBlacklistCache";
+
+    private CacheConfiguration cacheConfiguration;
+
+    private HazelcastInstance hazelcastInstance;
+
+    private SimpleMeterRegistry meterRegistry;
+
+
+    @BeforeEach
+    public void init() {
+        cacheConfiguration = new CacheConfiguration();
+        ReflectionTestUtils.setField(cacheConfiguration, "userBlacklistCacheEntryCapacity", 85);
+        ReflectionTestUtils.setField(cacheConfiguration, "userBlacklistCacheExpireInSeconds", 3600);
+        ReflectionTestUtils.setField(cacheConfiguration, "userBlacklistCacheName", CACHE_NAME);
+        ReflectionTestUtils.setField(cacheConfiguration, "userBlacklistNearCacheEnabled", true);
+        ReflectionTestUtils.setField(cacheConfiguration, "userBlacklistNearCacheEntryCapacity", 100);
+        ReflectionTestUtils.setField(cacheConfiguration, "userBlacklistNearCacheExpireInSeconds", 60);
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+
+    @AfterEach
+    public void shutdown() {
+        if (null != hazelcastInstance) {
+            hazelcastInstance.shutdown();
+        }
+    }
+
+
+    @Test
+    @DisplayName("hazelCastConfig: when the near cache is disabled then the map has no near cache")
+    public void hazelCastConfig_whenNearCacheIsDisabled_thenMapHasNoNearCache() {
+        ReflectionTestUtils.setField(cacheConfiguration, "userBlacklistNearCacheEnabled", false);
+
+        Config config = cacheConfiguration.hazelCastConfig();
+
+        assertNull(config.getMapConfig(CACHE_NAME).getNearCacheConfig());
+    }
+
+
+    @Test
+    @DisplayName("hazelCastConfig: when the near cache is enabled then the map has a near cache with the given configuration")
+    public void hazelCastConfig_whenNearCacheIsEnabled_thenMapHasConfiguredNearCache() {
+        NearCacheConfig nearCacheConfig = cacheConfiguration.hazelCastConfig()
+                .getMapConfig(CACHE_NAME)
+                .getNearCacheConfig();
+
+        assertNotNull(nearCacheConfig);
+        assertEquals(InMemoryFormat.OBJECT, nearCacheConfig.getInMemoryFormat());
+        assertTrue(nearCacheConfig.isCacheLocalEntries());
+        assertTrue(nearCacheConfig.isInvalidateOnChange());
+        assertEquals(60, nearCacheConfig.getTimeToLiveSeconds());
+        assertEquals(100, nearCacheConfig.getEvictionConfig().getSize());
+        assertEquals(EvictionConfig.MaxSizePolicy.ENTRY_COUNT, nearCacheConfig.getEvictionConfig().getMaximumSizePolicy());
+        assertEquals(EvictionPolicy.LRU, nearCacheConfig.getEvictionConfig().getEvictionPolicy());
+    }
+
+
+    @Test
+    @DisplayName("nearCache: when the same key is read twice then the second read uses the local copy")
+    public void nearCache_whenSameKeyIsReadTwice_thenLocalCopyIsUsed() {
+        Cache cache = startCache();
+        cache.put("key", "value");
+
+        assertEquals("value", cache.get("key").get());
+        assertEquals("value", cache.get("key").get());
+
+        assertEquals(1, getNearCacheStats().getHits());
+    }
+
+
+    @Test
+    @DisplayName("nearCache: when a key cached as absent is added then next read returns the new value")
+    public void nearCache_whenAbsentKeyIsAdded_thenNextReadReturnsIt() {
+        Cache cache = startCache();
+
+        assertNull(cache.get("key"));
+        assertNull(cache.get("key"));
+        assertEquals(1, getNearCacheStats().getHits());
+
+        cache.put("key", "value");
+
+        assertEquals("value", cache.get("key").get());
+    }
+
+
+    @Test
+    @DisplayName("nearCache: when a key is updated then next read returns the new value")
+    public void nearCache_whenKeyIsUpdated_thenNextReadReturnsNewValue() {
+        Cache cache = startCache();
+        cache.put("key", "value");
+        assertEquals("value", cache.get("key").get());
+
+        cache.put("key", "newValue");
+
+        assertEquals("newValue", cache.get("key").get());
+    }
+
+
+    @Test
+    @DisplayName("nearCache: when a key is removed then next read does not find it")
+    public void nearCache_whenKeyIsRemoved_thenNextReadDoesNotFindIt() {
+        Cache cache = startCache();
+        cache.put("key", "value");
+        assertEquals("value", cache.get("key").get());
+
+        cache.evict("key");
+
+        assertNull(cache.get("key"));
+    }
+
+
+    @Test
+    @DisplayName("nearCache: when a key is evicted from the map then next read does not find it")
+    public void nearCache_whenKeyIsEvictedFromMap_thenNextReadDoesNotFindIt() {
+        Cache cache = startCache();
+        cache.put("key", "value");
+        assertEquals("value", cache.get("key").get());
+
+        getMap().evict("key");
+
+        assertNull(cache.get("key"));
+    }
+
+
+    @Test
+    @DisplayName("nearCache: when a key expires in the map then next read does not find it")
+    public void nearCache_whenKeyExpiresInMap_thenNextReadDoesNotFindIt() throws InterruptedException {
+        // Entries expire in the background task, whose period is reduced here
+        Config config = cacheConfiguration.hazelCastConfig()
+                .setProperty("hazelcast.internal.map.expiration.task.period.seconds", "1");
+        Cache cache = startCache(config);
+        getMap().put("key", "value", 1, SECONDS);
+        assertEquals("value", cache.get("key").get());
+
+        long timeout = System.currentTimeMillis() + 10_000;
+        while (null != cache.get("key") && System.currentTimeMillis() < timeout) {
+            Thread.sleep(100);
+        }
+        assertNull(cache.get("key"));
+        assertFalse(getMap().containsKey("key"));
+    }
+
+
+    @Test
+    @DisplayName("evictions: when an entry expires then only one expiration is published")
+    public void evictions_whenAnEntryExpires_thenOnlyOneExpirationIsPublished() throws InterruptedException {
+        Config config = cacheConfiguration.hazelCastConfig()
+                .setProperty("hazelcast.internal.map.expiration.task.period.seconds", "1");
+        startCache(config);
+        getMap().put("key", "value", 1, SECONDS);
+
+        long timeout = System.currentTimeMillis() + 10_000;
+        while (0 == evictions(EXPIRED_CAUSE) && System.currentTimeMillis() < timeout) {
+            Thread.sleep(100);
+        }
+        // The eviction used to invalidate the near cache must not be published as another one
+        Thread.sleep(500);
+        assertEquals(1, evictions(EXPIRED_CAUSE));
+        assertEquals(0, evictions(SIZE_CAUSE));
+    }
+
+
+    @Test
+    @DisplayName("evictions: when an entry is evicted then it is published but the removals are not")
+    public void evictions_whenAnEntryIsEvicted_thenItIsPublishedButTheRemovalsAreNot() throws InterruptedException {
+        Cache cache = startCache();
+        cache.put("key1", "value1");
+        cache.put("key2", "value2");
+
+        getMap().evict("key1");
+        cache.evict("key2");
+        cache.clear();
+
+        long timeout = System.currentTimeMillis() + 10_000;
+        while (0 == evictions(SIZE_CAUSE) && System.currentTimeMillis() < timeout) {
+            Thread.sleep(100);
+        }
+        Thread.sleep(500);
+        assertEquals(1, evictions(SIZE_CAUSE));
+        assertEquals(0, evictions(EXPIRED_CAUSE));
+    }
+
+
+    private Cache startCache() {
+        return startCache(cacheConfiguration.hazelCastConfig());
+    }
+
+
+    private Cache startCache(Config config) {
+        config.setInstanceName("CacheConfigurationTest-" + UUID.randomUUID());
+        config.getNetworkConfig().getJoin().getMulticastConfig().setEnabled(false);
+        hazelcastInstance = cacheConfiguration.newHazelcastInstance(config, new CacheMetrics(meterRegistry));
+        return new HazelcastCacheManager(hazelcastInstance).getCache(CACHE_NAME);
+    }
+
+
+    private IMap<Object, Object> getMap() {
+        return hazelcastInstance.getMap(CACHE_NAME);
+    }
+
+
+    private double evictions(String cause) {
+        return ofNullable(meterRegistry.find(EVICTIONS).tags(CACHE_TAG, CACHE_NAME, CAUSE_TAG, cause).functionCounter())
+                .map(FunctionCounter::count)
+                .orElse(0D);
+    }
+
+
+    private NearCacheStats getNearCacheStats() {
+        return getMap().getLocalMapStats().getNearCacheStats();
+    }
+
+}
@@ -0,0 +1,180 @@
+package com.pizza.configuration.security;
+
+import com.common.dto.UsernameAuthoritiesDto;
+import com.common.exception.TokenExpiredException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+import reactor.test.scheduler.VirtualTimeScheduler;
+
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static com.pizza.configuration.security.AuthenticationInformationCoalescer.MAX_BATCH_SIZE;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.springframework.http.HttpStatus.INTERNAL_SERVER_ERROR;
+import static org.springframework.http.HttpStatus.OK;
+import static org.springframework.http.HttpStatus.UNAUTHORIZED;
+
+public class AuthenticationInformationCoalescerTest {
+
+    private static final int WINDOW_IN_MILLISECONDS = 5;
+
+    private static final String RESULTS = "{"
+            + "\"valid\": {\"status\": 200, \"usernameAuthorities\": {\"username\": \"user\", \"authorities\": [\"admin\"]}},"
+            + "\"expired\": {\"status\": 440},"
+            + "\"invalid\": {\"status\": 403}"
+            + "}";
+
+    private VirtualTimeScheduler scheduler;
+
+    private AtomicInteger numberOfRequests;
+
+
+    @BeforeEach
+    public void init() {
+        scheduler = VirtualTimeScheduler.create();
+        numberOfRequests = new AtomicInteger(0);
+    }
+
+
+    @Test
+    @DisplayName("isEnabled: when there is no batch web service then false is returned")
+    public void isEnabled_whenThereIsNoBatchWebService_thenFalseIsReturned() {
+        assertFalse(buildCoalescer("", 10, OK, RESULTS).isEnabled());
+        assertTrue(buildCoalescer("batchWebService", 10, OK, RESULTS).isEnabled());
+    }
+
+
+    @Test
+    @DisplayName("getAuthenticationInformation: when several tokens are requested in the same window then they are sent in one request")
+    public void getAuthenticationInformation_whenSeveralTokensAreRequestedInTheSameWindow_thenTheyAreSentInOneRequest() {
+        AuthenticationInformationCoalescer coalescer = buildCoalescer("batchWebService", 10, OK, RESULTS);
+
+        Mono<UsernameAuthoritiesDto> valid = coalescer.getAuthenticationInformation("valid").cache();
+        Mono<UsernameAuthoritiesDto> repeatedValid = coalescer.getAuthenticationInformation("valid").cache();
+        Mono<UsernameAuthoritiesDto> expired = coalescer.getAuthenticationInformation("expired").cache();
+        Mono<UsernameAuthoritiesDto> invalid = coalescer.getAuthenticationInformation("invalid").cache();
+        Mono<UsernameAuthoritiesDto> notIncluded = coalescer.getAuthenticationInformation("notIncluded").cache();
+        Stream.of(valid, repeatedValid, expired, invalid, notIncluded)
+                .forEach(mono -> mono.subscribe(ua -> {}, e -> {}));
+
+        assertEquals(0, numberOfRequests.get());
+        scheduler.advanceTimeBy(Duration.ofMillis(WINDOW_IN_MILLISECONDS));
+        assertEquals(1, numberOfRequests.get());
+
+        UsernameAuthoritiesDto expectedUsernameAuthorities = new UsernameAuthoritiesDto("user", Set.of("admin"), null);
+        StepVerifier.create(valid).expectNext(expectedUsernameAuthorities).verifyComplete();
+        StepVerifier.create(repeatedValid).expectNext(expectedUsernameAuthorities).verifyComplete();
+        StepVerifier.create(expired).verifyError(TokenExpiredException.class);
+        StepVerifier.create(invalid).verifyComplete();
+        StepVerifier.create(notIncluded).verifyComplete();
+    }
+
+
+    @Test
+    @DisplayName("getAuthenticationInformation: when the maximum size is reached then the tokens are sent without waiting")
+    public void getAuthenticationInformation_whenTheMaximumSizeIsReached_thenTheTokensAreSentWithoutWaiting() {
+        AuthenticationInformationCoalescer coalescer = buildCoalescer("batchWebService", 2, OK, RESULTS);
+
+        coalescer.getAuthenticationInformation("valid").subscribe(ua -> {}, e -> {});
+        assertEquals(0, numberOfRequests.get());
+
+        StepVerifier.create(coalescer.getAuthenticationInformation("invalid")).verifyComplete();
+        assertEquals(1, numberOfRequests.get());
+
+        // The tokens were already sent, so the window finishes without new requests
+        scheduler.advanceTimeBy(Duration.ofMillis(WINDOW_IN_MILLISECONDS));
+        assertEquals(1, numberOfRequests.get());
+    }
+
+
+    @Test
+    @DisplayName("getAuthenticationInformation: when the configured maximum size is too big then the allowed one is used")
+    public void getAuthenticationInformation_whenTheConfiguredMaximumSizeIsTooBig_thenTheAllowedOneIsUsed() {
+        AuthenticationInformationCoalescer coalescer = buildCoalescer("batchWebService", 2 * MAX_BATCH_SIZE, OK, RESULTS);
+
+        IntStream.range(1, MAX_BATCH_SIZE)
+                .forEach(i -> coalescer.getAuthenticationInformation("token" + i).subscribe(ua -> {}, e -> {}));
+        assertEquals(0, numberOfRequests.get());
+
+        StepVerifier.create(coalescer.getAuthenticationInformation("valid")).expectNextCount(1).verifyComplete();
+        assertEquals(1, numberOfRequests.get());
+    }
+
+
+    static Stream<Arguments> getAuthenticationInformationWhenTheRequestFailsTestCases() {
+        return Stream.of(
+                //@formatter:off
+                //            responseStatus,          expectedException
+                Arguments.of( UNAUTHORIZED,            null ),
+                Arguments.of( INTERNAL_SERVER_ERROR,   WebClientResponseException.class )
+        ); //@formatter:on
+    }
+
+    @ParameterizedTest
+    @MethodSource("getAuthenticationInformationWhenTheRequestFailsTestCases")
+    @DisplayName("getAuthenticationInformation: when the whole request fails then all its tokens receive the same result")
+    public void getAuthenticationInformation_whenTheWholeRequestFails_thenAllItsTokensReceiveTheSameResult(HttpStatus responseStatus,
+                                                                                                          Class<? extends Exception> expectedException) {
+        AuthenticationInformationCoalescer coalescer = buildCoalescer("batchWebService", 2, responseStatus, "{}");
+
+        Mono<UsernameAuthoritiesDto> valid = coalescer.getAuthenticationInformation("valid").cache();
+        Mono<UsernameAuthoritiesDto> expired = coalescer.getAuthenticationInformation("expired").cache();
+        Stream.of(valid, expired)
+                .forEach(mono -> mono.subscribe(ua -> {}, e -> {}));
+
+        Stream.of(valid, expired)
+                .forEach(mono -> {
+                    if (null == expectedException) {
+                        StepVerifier.create(mono).verifyComplete();
+                    } else {
+                        StepVerifier.create(mono).verifyError(expectedException);
+                    }
+                });
+        assertEquals(1, numberOfRequests.get());
+    }
+
+
+    private AuthenticationInformationCoalescer buildCoalescer(String batchWebService, int maxSize,
+                                                              HttpStatus responseStatus, String responseBody) {
+        SecurityConfiguration securityConfiguration = mock(SecurityConfiguration.class);
+        when(securityConfiguration.getAuthenticationInformationBatchWebService()).thenReturn(batchWebService);
+        when(securityConfiguration.getAuthenticationInformationBatchWindowInMilliseconds()).thenReturn(WINDOW_IN_MILLISECONDS);
+        when(securityConfiguration.getAuthenticationInformationBatchMaxSize()).thenReturn(maxSize);
+        when(securityConfiguration.getClientId()).thenReturn("TestClient");
+        when(securityConfiguration.getClientPassword()).thenReturn("TestPassword");
+
+        WebClient webClient = WebClient.builder()
+                .exchangeFunction(request -> {
+                    numberOfRequests.incrementAndGet();
+                    return Mono.just(
+                            ClientResponse.create(responseStatus)
+                                    .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                                    .body(responseBody)
+                                    .build()
+                    );
+                })
+                .build();
+        return new AuthenticationInformationCoalescer(securityConfiguration, webClient, scheduler);
+    }
+
+}
@@ -15,6 +15,7 @@ import org.springframework.http.HttpStatus;
 import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.test.web.reactive.server.WebTestClient;
 import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
 
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.times;
@@ -67,7 +68,7 @@ public class UserControllerTest {
     @WithMockUser(authorities = {Constants.ROLE_ADMIN})
     public void addToBlacklist_whenPutInCacheReturnsFalse_thenUnprocessableEntityHttpCodeAndEmptyBodyAreReturned() {
         // When
-        when(mockUserBlacklistCacheService.put(anyString())).thenReturn(false);
+        when(mockUserBlacklistCacheService.put(anyString())).thenReturn(Mono.just(false));
 
         // Then
         webTestClient.post()
@@ -87,7 +88,7 @@ public class UserControllerTest {
         String username = "username";
 
         // When
-        when(mockUserBlacklistCacheService.put(anyString())).thenReturn(true);
+        when(mockUserBlacklistCacheService.put(anyString())).thenReturn(Mono.just(true));
 
         // Then
         webTestClient.post()
@@ -127,7 +128,7 @@ public class UserControllerTest {
     @WithMockUser(authorities = {Constants.ROLE_ADMIN})
     public void removeFromBlacklist_whenRemoveInCacheReturnsFalse_thenUnprocessableEntityHttpCodeAndEmptyBodyAreReturned() {
         // When
-        when(mockUserBlacklistCacheService.remove(anyString())).thenReturn(false);
+        when(mockUserBlacklistCacheService.remove(anyString())).thenReturn(Mono.just(false));
 
         // Then
         webTestClient.delete()
@@ -147,7 +148,7 @@ public class UserControllerTest {
         String username = "username";
 
         // When
-        when(mockUserBlacklistCacheService.remove(anyString())).thenReturn(true);
+        when(mockUserBlacklistCacheService.remove(anyString())).thenReturn(Mono.just(true));
 
         // Then
         webTestClient.delete()
@@ -1,12 +1,13 @@
 package com.pizza.service.cache;
 
 import com.pizza.configuration.cache.CacheConfiguration;
-import com.common.service.CacheService;
+import com.common.service.ReactiveCacheService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import reactor.core.publisher.Mono;
 
 import java.util.List;
 
@@ -24,7 +25,7 @@ public class UserBlacklistCacheServiceTest {
     private CacheConfiguration mockCacheConfiguration;
 
     @MockBean
-    private CacheService mockCacheService;
+    private ReactiveCacheService mockCacheService;
 
     @Autowired
     private UserBlacklistCacheService userBlacklistCacheService;
@@ -47,8 +48,8 @@ public class UserBlacklistCacheServiceTest {
     @Test
     public void contains_testCases() {
         for (Object[] parameters: containsTestCases()) {
-            when(mockCacheService.contains(anyString(), eq((String)parameters[0]))).thenReturn((boolean)parameters[1]);
-            boolean operationResult = userBlacklistCacheService.contains((String)parameters[0]);
+            when(mockCacheService.contains(anyString(), eq((String)parameters[0]))).thenReturn(Mono.just((boolean)parameters[1]));
+            boolean operationResult = userBlacklistCacheService.contains((String)parameters[0]).block();
             assertEquals((boolean)parameters[2], operationResult);
         }
     }
@@ -66,8 +67,8 @@ public class UserBlacklistCacheServiceTest {
     @Test
     public void put_testCases() {
         for (Object[] parameters: putTestCases()) {
-            when(mockCacheService.put(anyString(), eq((String)parameters[0]), anyBoolean())).thenReturn((boolean)parameters[1]);
-            boolean operationResult = userBlacklistCacheService.put((String)parameters[0]);
+            when(mockCacheService.put(anyString(), eq((String)parameters[0]), anyBoolean())).thenReturn(Mono.just((boolean)parameters[1]));
+            boolean operationResult = userBlacklistCacheService.put((String)parameters[0]).block();
             assertEquals((boolean)parameters[2], operationResult);
         }
     }
@@ -85,8 +86,8 @@ public class UserBlacklistCacheServiceTest {
     @Test
     public void remove_testCases() {
         for (Object[] parameters: removeTestCases()) {
-            when(mockCacheService.remove(anyString(), eq((String)parameters[0]))).thenReturn((boolean)parameters[1]);
-            boolean operationResult = userBlacklistCacheService.remove((String)parameters[0]);
+            when(mockCacheService.remove(anyString(), eq((String)parameters[0]))).thenReturn(Mono.just((boolean)parameters[1]));
+            boolean operationResult = userBlacklistCacheService.remove((String)parameters[0]).block();
             assertEquals((boolean)parameters[2], operationResult);
         }
     }
@@ -1,14 +1,24 @@
 package com.security.jwt.configuration.cache;
 
+import com.common.cache.CacheMetrics;
+import com.common.cache.HazelcastEvictionListener;
 import com.hazelcast.config.Config;
+import com.hazelcast.config.EvictionConfig;
 import com.hazelcast.config.EvictionPolicy;
+import com.hazelcast.config.InMemoryFormat;
 import com.hazelcast.config.MapConfig;
 import com.hazelcast.config.MaxSizeConfig;
+import com.hazelcast.config.NearCacheConfig;
 import com.hazelcast.core.Hazelcast;
 import com.hazelcast.core.HazelcastInstance;
+import com.hazelcast.core.IMap;
+import com.hazelcast.map.listener.EntryExpiredListener;
 import com.hazelcast.spring.cache.HazelcastCacheManager;
 import com.security.jwt.configuration.Constants;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
 import lombok.Getter;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.cache.CacheManager;
 import org.springframework.cache.annotation.EnableCaching;
@@ -16,6 +26,8 @@ import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.ComponentScan;
 import org.springframework.context.annotation.Configuration;
 
+import java.time.Duration;
+
 import static com.security.jwt.configuration.Constants.CACHE_INSTANCE_NAME;
 
 @Configuration
@@ -33,6 +45,30 @@ public class CacheConfiguration {
     @Getter
     private String jwtConfigurationCacheName;
 
+    // 0 disables the refresh of the entries before their expiration
+    @Value("${cache.jwtConfiguration.refreshAheadInSeconds:0}")
+    private int jwtConfigurationCacheRefreshAheadInSeconds;
+
+    @Value("${cache.jwtConfiguration.nearCache.enabled:false}")
+    private boolean jwtConfigurationNearCacheEnabled;
+
+    @Value("${cache.jwtConfiguration.nearCache.entryCapacity:1000}")
+    private int jwtConfigurationNearCacheEntryCapacity;
+
+    @Value("${cache.jwtConfiguration.nearCache.expireInSeconds:5}")
+    private int jwtConfigurationNearCacheExpireInSeconds;
+
+
+    /**
+     * Time after which the loaded {@link com.security.jwt.model.JwtClientDetails} are refreshed in background.
+     *
+     * @return {@link Duration} or {@code null} if refresh-ahead is disabled
+     */
+    public Duration getJwtConfigurationCacheRefreshAhead() {
+        return 0 < jwtConfigurationCacheRefreshAheadInSeconds ? Duration.ofSeconds(jwtConfigurationCacheRefreshAheadInSeconds)
+                                                              : null;
+    }
+
 
     /**
      * Centralized cache configuration to manage the information we want to cache
@@ -40,10 +76,11 @@ public class CacheConfiguration {
      * @return {@link CacheManager}
      */
     @Bean
-    public CacheManager cacheManager() {
+    public CacheManager cacheManager(ObjectProvider<MeterRegistry> meterRegistry) {
         HazelcastInstance existingInstance = Hazelcast.getHazelcastInstanceByName(CACHE_INSTANCE_NAME);
-        HazelcastInstance hazelcastInstance = null != existingInstance ? existingInstance
-                                                                       : Hazelcast.newHazelcastInstance(hazelCastConfig());
+        HazelcastInstance hazelcastInstance = null != existingInstance
+                ? existingInstance
+                : newHazelcastInstance(hazelCastConfig(), new CacheMetrics(meterRegistry.getIfAvailable(() -> Metrics.globalRegistry)));
         return new HazelcastCacheManager(hazelcastInstance);
     }
 
@@ -52,15 +89,64 @@ public class CacheConfiguration {
      *
      * @return {@link Config}
      */
-    private Config hazelCastConfig(){
+    Config hazelCastConfig(){
+        MapConfig jwtConfigurationMapConfig = new MapConfig()
+                .setName(jwtConfigurationCacheName)
+                .setMaxSizeConfig(new MaxSizeConfig(jwtConfigurationCacheEntryCapacity, MaxSizeConfig.MaxSizePolicy.FREE_HEAP_SIZE))
+                .setEvictionPolicy(EvictionPolicy.LRU)
+                .setTimeToLiveSeconds(jwtConfigurationCacheExpireInSeconds);
+        if (jwtConfigurationNearCacheEnabled) {
+            jwtConfigurationMapConfig.setNearCacheConfig(nearCacheConfig(jwtConfigurationNearCacheEntryCapacity, jwtConfigurationNearCacheExpireInSeconds));
+        }
         Config config = new Config();
         config.setInstanceName(CACHE_INSTANCE_NAME)
-                .addMapConfig(new MapConfig()
-                        .setName(jwtConfigurationCacheName)
-                        .setMaxSizeConfig(new MaxSizeConfig(jwtConfigurationCacheEntryCapacity, MaxSizeConfig.MaxSizePolicy.FREE_HEAP_SIZE))
-                        .setEvictionPolicy(EvictionPolicy.LRU)
-                        .setTimeToLiveSeconds(jwtConfigurationCacheExpireInSeconds));
+                .addMapConfig(jwtConfigurationMapConfig);
         return config;
     }
 
+
+    /**
+     *    Start a new Hazelcast member using the given {@link Config}, publishing the entries evicted from its maps in
+     * {@code cacheMetrics}. Hazelcast does not invalidate the near cache when an entry expires, so the expired entries
+     * are evicted to remove their local copies in all the members.
+     *
+     * @param config
+     *    {@link Config} of the new member
+     * @param cacheMetrics
+     *    {@link CacheMetrics} used to publish the evictions
+     *
+     * @return {@link HazelcastInstance}
+     */
+    HazelcastInstance newHazelcastInstance(Config config, CacheMetrics cacheMetrics) {
+        HazelcastInstance hazelcastInstance = Hazelcast.newHazelcastInstance(config);
+        IMap<Object, Object> jwtConfigurationMap = hazelcastInstance.getMap(jwtConfigurationCacheName);
+        jwtConfigurationMap.addLocalEntryListener(new HazelcastEvictionListener(cacheMetrics, jwtConfigurationCacheName));
+        if (jwtConfigurationNearCacheEnabled) {
+            jwtConfigurationMap.addLocalEntryListener((EntryExpiredListener<Object, Object>) event -> jwtConfigurationMap.evict(event.getKey()));
+        }
+        return hazelcastInstance;
+    }
+
+
+    /**
+     *    Local copy of the most used entries of a map, absent keys included. Hazelcast invalidates them when the entries
+     * change or are evicted in any member of the cluster. The entries owned by this member are cached too, because a
+     * service usually runs an embedded member with all the partitions.
+     *
+     * @param entryCapacity
+     *    Maximum number of entries stored locally
+     * @param expireInSeconds
+     *    Maximum time an entry will be stored locally
+     *
+     * @return {@link NearCacheConfig}
+     */
+    private NearCacheConfig nearCacheConfig(int entryCapacity, int expireInSeconds) {
+        return new NearCacheConfig()
+                .setInMemoryFormat(InMemoryFormat.OBJECT)
+                .setCacheLocalEntries(true)
+                .setInvalidateOnChange(true)
+                .setTimeToLiveSeconds(expireInSeconds)
+                .setEvictionConfig(new EvictionConfig(entryCapacity, EvictionConfig.MaxSizePolicy.ENTRY_COUNT, EvictionPolicy.LRU));
+    }
+
 }
@@ -23,7 +23,6 @@ import org.springframework.web.server.ServerWebInputException;
 import reactor.core.publisher.Mono;
 
 import javax.validation.ConstraintViolationException;
-import java.nio.charset.StandardCharsets;
 import java.util.List;
 
 import static com.common.enums.ExtendedHttpStatus.TOKEN_EXPIRED;
@@ -308,7 +307,7 @@ public class GlobalErrorWebExceptionHandler {
 
         ErrorResponseDto error = new ErrorResponseDto(errorCode, errorMessages);
 
-        byte[] responseMessageBytes = JsonUtil.toJson(error).orElse("").getBytes(StandardCharsets.UTF_8);
+        byte[] responseMessageBytes = JsonUtil.toJsonBytes(error).orElse(new byte[0]);
         DataBuffer bufferResponseMessage = exchange.getResponse().bufferFactory().wrap(responseMessageBytes);
         return exchange.getResponse().writeWith(Mono.just(bufferResponseMessage));
     }
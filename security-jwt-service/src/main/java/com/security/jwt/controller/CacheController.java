@@ -51,8 +51,11 @@ public class CacheController {
     @PutMapping(value = RestRoutes.CACHE.CLEAR)
     public Mono<ResponseEntity> clear() {
         return jwtClientDetailsCacheService.clear()
-                ? Mono.just(new ResponseEntity(OK))
-                : Mono.just(new ResponseEntity(NOT_FOUND));
+                .map(isCleared ->
+                        isCleared
+                                ? new ResponseEntity(OK)
+                                : new ResponseEntity(NOT_FOUND)
+                );
     }
 
 }
@@ -4,6 +4,7 @@ import com.security.jwt.configuration.rest.RestRoutes;
 import com.security.jwt.dto.AuthenticationRequestDto;
 import com.security.jwt.service.SecurityService;
 import com.common.dto.AuthenticationInformationDto;
+import com.common.dto.AuthorizationInformationResultDto;
 import com.common.dto.ErrorResponseDto;
 import com.common.dto.UsernameAuthoritiesDto;
 import com.common.exception.UnauthorizedException;
@@ -29,7 +30,10 @@ import org.springframework.web.bind.annotation.RestController;
 import reactor.core.publisher.Mono;
 
 import javax.validation.Valid;
+import javax.validation.constraints.NotEmpty;
 import javax.validation.constraints.Size;
+import java.util.List;
+import java.util.Map;
 
 import static org.springframework.http.HttpStatus.OK;
 import static org.springframework.http.MediaType.APPLICATION_JSON_VALUE;
@@ -41,6 +45,9 @@ import static org.springframework.http.MediaType.APPLICATION_JSON_VALUE;
 @Log4j2
 public class SecurityController {
 
+    // Maximum number of access tokens validated in a single request
+    public static final int MAX_AUTHORIZATION_INFO_BATCH_SIZE = 500;
+
     @Lazy
     private final SecurityService securityService;
 
@@ -72,10 +79,10 @@ public class SecurityController {
     @PostMapping(value = RestRoutes.SECURITY.LOGIN)
     public Mono<ResponseEntity<AuthenticationInformationDto>> login(@RequestBody @Valid AuthenticationRequestDto authenticationRequestDto) {
         return getPrincipal()
-                .map(userDetails ->
+                .flatMap(userDetails ->
                         securityService.login(userDetails.getUsername(), authenticationRequestDto.getUsername(), authenticationRequestDto.getPassword())
                                 .map(ai -> new ResponseEntity<>(ai, OK))
-                                .orElseGet(() -> new ResponseEntity(HttpStatus.UNPROCESSABLE_ENTITY)));
+                                .defaultIfEmpty(new ResponseEntity(HttpStatus.UNPROCESSABLE_ENTITY)));
     }
 
 
@@ -106,10 +113,10 @@ public class SecurityController {
     @PostMapping(value = RestRoutes.SECURITY.REFRESH)
     public Mono<ResponseEntity<AuthenticationInformationDto>> refresh(@RequestBody @Size(min = 1) String refreshToken) {
         return getPrincipal()
-                .map(userDetails ->
+                .flatMap(userDetails ->
                         securityService.refresh(refreshToken, userDetails.getUsername())
                                 .map(ai -> new ResponseEntity<>(ai, OK))
-                                .orElseGet(() -> new ResponseEntity(HttpStatus.UNAUTHORIZED)));
+                                .defaultIfEmpty(new ResponseEntity(HttpStatus.UNAUTHORIZED)));
     }
 
 
@@ -130,8 +137,32 @@ public class SecurityController {
     @PostMapping(RestRoutes.SECURITY.AUTHORIZATION_INFO)
     public Mono<ResponseEntity<UsernameAuthoritiesDto>> authorizationInformation(@RequestBody @Size(min = 1) String accessToken) {
         return getPrincipal()
-                .map(userDetails ->
-                        new ResponseEntity<>(securityService.getAuthorizationInformation(accessToken, userDetails.getUsername()), OK));
+                .flatMap(userDetails ->
+                        securityService.getAuthorizationInformation(accessToken, userDetails.getUsername())
+                                .map(ua -> new ResponseEntity<>(ua, OK)));
+    }
+
+
+    @Operation(summary = "Get the authorization data of the users included in the given access tokens",
+            description = "Batch version of authorization information: validates every token and returns, by token, the Http status "
+                        + "the single version would have returned and his/her: username, roles and additional information if it is valid")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Successful operation with the result of every given access token in the response",
+                    content = @Content(mediaType = APPLICATION_JSON_VALUE, schema = @Schema(implementation = AuthorizationInformationResultDto.class))),
+            @ApiResponse(responseCode = "400", description = "Given tokens do not verify included format validations",
+                    content = @Content(mediaType = APPLICATION_JSON_VALUE, schema = @Schema(implementation = ErrorResponseDto.class))),
+            @ApiResponse(responseCode = "401", description = "As part of the Basic Auth, the username does not exists or the given password does not belongs to this one.",
+                    content = @Content(mediaType = APPLICATION_JSON_VALUE, schema = @Schema(implementation = ErrorResponseDto.class))),
+            @ApiResponse(responseCode = "500", description = "Any other internal server error",
+                    content = @Content(mediaType = APPLICATION_JSON_VALUE, schema = @Schema(implementation = ErrorResponseDto.class)))
+    })
+    @PostMapping(RestRoutes.SECURITY.AUTHORIZATION_INFO_BATCH)
+    public Mono<ResponseEntity<Map<String, AuthorizationInformationResultDto>>> authorizationInformationBatch(
+            @RequestBody @Size(min = 1, max = MAX_AUTHORIZATION_INFO_BATCH_SIZE) List<@NotEmpty String> accessTokens) {
+        return getPrincipal()
+                .flatMap(userDetails ->
+                        securityService.getAuthorizationInformation(accessTokens, userDetails.getUsername())
+                                .map(results -> new ResponseEntity<>(results, OK)));
     }
 
 
@@ -1,5 +1,7 @@
 package com.security.jwt.enums;
 
+import com.common.validator.enums.EnumInternalPropertyValueRegistry;
+import com.common.validator.enums.IEnumInternalPropertyValue;
 import com.security.jwt.exception.ClientNotFoundException;
 import com.security.jwt.interfaces.IAuthenticationGenerator;
 import com.security.jwt.interfaces.IUserService;
@@ -7,15 +9,12 @@ import com.security.jwt.application.spring5microservices.service.UserService;
 import com.security.jwt.application.spring5microservices.service.AuthenticationGenerator;
 import org.springframework.lang.Nullable;
 
-import java.util.Arrays;
-
 import static java.lang.String.format;
-import static java.util.Optional.ofNullable;
 
 /**
  * Manage the configuration of existing Jwt token providers
  */
-public enum AuthenticationConfigurationEnum {
+public enum AuthenticationConfigurationEnum implements IEnumInternalPropertyValue<String> {
     SPRING5_MICROSERVICES ("Spring5Microservices", AuthenticationGenerator.class, UserService.class);
 
     private String clientId;
@@ -32,6 +31,10 @@ public enum AuthenticationConfigurationEnum {
     public String getClientId() {
         return clientId;
     }
+    @Override
+    public String getInternalPropertyValue() {
+        return clientId;
+    }
     public Class<? extends IAuthenticationGenerator> getAuthenticationGeneratorClass() {
         return authenticationGeneratorClass;
     }
@@ -50,8 +53,8 @@ public enum AuthenticationConfigurationEnum {
      * @throws ClientNotFoundException if the given {@code clientId} does not exists in the {@code enum}
      */
     public static AuthenticationConfigurationEnum getByClientId(@Nullable String clientId) {
-        return ofNullable(clientId)
-                .flatMap(id -> Arrays.stream(AuthenticationConfigurationEnum.values()).filter(e -> clientId.equals(e.clientId)).findFirst())
+        return EnumInternalPropertyValueRegistry.of(AuthenticationConfigurationEnum.class)
+                .get(clientId)
                 .orElseThrow(() -> new ClientNotFoundException(format("The given clientId: %s was not found in AuthenticationGeneratorEnum", clientId)));
     }
 
@@ -18,6 +18,7 @@ import org.springframework.context.annotation.Lazy;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.crypto.encrypt.TextEncryptor;
 import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
 
 import java.util.HashMap;
 import java.util.HashSet;
@@ -69,19 +70,19 @@ public class AuthenticationService {
      * @param userDetails
      *    {@link UserDetails} with the information about who is trying to authenticate
      *
-     * @return {@link Optional} of {@link AuthenticationInformationDto}
+     * @return {@link Mono} of {@link AuthenticationInformationDto}
      *
      * @throws ClientNotFoundException if the given {@code clientId} does not exists in database or {@link AuthenticationConfigurationEnum}
      */
-    public Optional<AuthenticationInformationDto> getAuthenticationInformation(String clientId, UserDetails userDetails) {
-        return ofNullable(userDetails)
+    public Mono<AuthenticationInformationDto> getAuthenticationInformation(String clientId, UserDetails userDetails) {
+        return Mono.justOrEmpty(userDetails)
                 .map(user -> AuthenticationConfigurationEnum.getByClientId(clientId))
-                .map(authConfig -> applicationContext.getBean(authConfig.getAuthenticationGeneratorClass()))
-                .flatMap(authGen -> authGen.getRawAuthenticationInformation(userDetails))
-                .map(authInfo -> {
-                    JwtClientDetails clientDetails = jwtClientDetailsService.findByClientId(clientId);
-                    return buildAuthenticationInformation(clientDetails, authInfo, UUID.randomUUID().toString());
-                });
+                .flatMap(authConfig -> Mono.justOrEmpty(applicationContext.getBean(authConfig.getAuthenticationGeneratorClass())))
+                .flatMap(authGen -> Mono.justOrEmpty(authGen.getRawAuthenticationInformation(userDetails)))
+                .flatMap(authInfo ->
+                        jwtClientDetailsService.findByClientId(clientId)
+                                .map(clientDetails -> buildAuthenticationInformation(clientDetails, authInfo, UUID.randomUUID().toString()))
+                );
     }
 
 
@@ -95,19 +96,21 @@ public class AuthenticationService {
      * @param isAccessToken
      *    {@code true} if {@code token} is an access one, {@code false} if it is a refresh token
      *
-     * @return {@link Map} with the {@code payload} of the given token
+     * @return {@link Mono} with the {@code payload} of the given token, {@link Mono#empty()} if it has no one
      *
      * @throws ClientNotFoundException if the given {@code clientId} does not exists in database
      * @throws UnauthorizedException if the given {@code token} is not a valid one
      * @throws TokenExpiredException if the given {@code token} has expired
      */
-    public Map<String, Object> getPayloadOfToken(String token, String clientId, boolean isAccessToken) {
-        JwtClientDetails clientDetails = jwtClientDetailsService.findByClientId(clientId);
-        Map<String, Object> payload = getVerifiedPayloadOfToken(token, clientDetails);
-        if (isAccessToken != isAccessToken(payload))
-            throw new UnauthorizedException(format("The given token: %s related with clientId: %s is not an "
-                                                + (isAccessToken ? "access " : "refresh ") + "one", token, clientId));
-        return payload;
+    public Mono<Map<String, Object>> getPayloadOfToken(String token, String clientId, boolean isAccessToken) {
+        return jwtClientDetailsService.findByClientId(clientId)
+                .flatMap(clientDetails -> {
+                    Map<String, Object> payload = getVerifiedPayloadOfToken(token, clientDetails);
+                    if (isAccessToken != isAccessToken(payload))
+                        throw new UnauthorizedException(format("The given token: %s related with clientId: %s is not an "
+                                                            + (isAccessToken ? "access " : "refresh ") + "one", token, clientId));
+                    return Mono.justOrEmpty(payload);
+                });
     }
 
 
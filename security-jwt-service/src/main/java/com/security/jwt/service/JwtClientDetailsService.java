@@ -12,8 +12,7 @@ import org.springframework.security.core.userdetails.ReactiveUserDetailsService;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Service;
 import reactor.core.publisher.Mono;
-
-import java.util.Optional;
+import reactor.core.scheduler.Schedulers;
 
 import static java.lang.String.format;
 
@@ -29,25 +28,25 @@ public class JwtClientDetailsService implements ReactiveUserDetailsService {
 
 
     /**
-     * Return the {@link JwtClientDetails} with clientId matches with the given one.
+     *    Return the {@link JwtClientDetails} with clientId matches with the given one. The cache is checked first, and only
+     * if it is not there, the database is queried (out of the event loop threads) and the found value is stored in the cache.
+     * Concurrent requests of the same missing {@code clientId} send only one query to the database.
      *
      * @param clientId
      *    ClientId to search
      *
-     * @return {@link Optional} of {@link JwtClientDetails} is exists, {@link Optional#empty()} otherwise
+     * @return {@link Mono} of {@link JwtClientDetails}
      *
      * @throws ClientNotFoundException if the given {@code clientId} does not exists in database
      */
-    public JwtClientDetails findByClientId(String clientId) {
-        return jwtClientDetailsCacheService.get(clientId)
-                .orElseGet(() ->
-                    jwtClientDetailsRepository.findByClientId(clientId)
-                            .map(c -> {
-                                jwtClientDetailsCacheService.put(clientId, c);
-                                return c;
-                            })
-                            .orElseThrow(() -> new ClientNotFoundException(format("The given clientId: %s was not found in database", clientId)))
-                );
+    public Mono<JwtClientDetails> findByClientId(String clientId) {
+        return jwtClientDetailsCacheService.getOrLoad(clientId,
+                Mono.fromCallable(() ->
+                        jwtClientDetailsRepository.findByClientId(clientId)
+                                .orElseThrow(() -> new ClientNotFoundException(format("The given clientId: %s was not found in database", clientId)))
+                )
+                .subscribeOn(Schedulers.boundedElastic())
+        );
     }
 
 
@@ -64,9 +63,11 @@ public class JwtClientDetailsService implements ReactiveUserDetailsService {
      */
     @Override
     public Mono<UserDetails> findByUsername(String clientId) {
-        UserDetails userDetails = findByClientId(clientId);
-        new AccountStatusUserDetailsChecker().check(userDetails);
-        return Mono.just(userDetails);
+        return findByClientId(clientId)
+                .map(userDetails -> {
+                    new AccountStatusUserDetailsChecker().check(userDetails);
+                    return userDetails;
+                });
     }
 
 }
@@ -2,8 +2,10 @@ package com.security.jwt.service;
 
 import com.security.jwt.enums.AuthenticationConfigurationEnum;
 import com.security.jwt.exception.ClientNotFoundException;
+import com.security.jwt.exception.TokenInvalidException;
 import com.security.jwt.model.JwtClientDetails;
 import com.common.dto.AuthenticationInformationDto;
+import com.common.dto.AuthorizationInformationResultDto;
 import com.common.dto.UsernameAuthoritiesDto;
 import com.common.exception.TokenExpiredException;
 import com.common.exception.UnauthorizedException;
@@ -15,13 +17,24 @@ import org.springframework.security.authentication.AccountStatusException;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
+import org.springframework.util.Assert;
 import org.springframework.util.StringUtils;
-
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.util.function.Tuple2;
+import reactor.util.function.Tuples;
+
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.Map;
 import java.util.Optional;
 
+import static com.common.enums.ExtendedHttpStatus.TOKEN_EXPIRED;
 import static java.lang.String.format;
-import static java.util.Optional.of;
+import static org.springframework.http.HttpStatus.FORBIDDEN;
+import static org.springframework.http.HttpStatus.OK;
+import static org.springframework.http.HttpStatus.UNAUTHORIZED;
 
 @AllArgsConstructor
 @Log4j2
@@ -44,16 +57,16 @@ public class SecurityService {
      * @param username
      *    Identifier of the user who is trying to authenticate
      *
-     * @return {@link Optional} of {@link AuthenticationInformationDto}
+     * @return {@link Mono} of {@link AuthenticationInformationDto}
      *
      * @throws AccountStatusException if the {@link UserDetails} related with the given {@code username} is disabled
      * @throws ClientNotFoundException if the given {@code clientId} does not exists in database
      * @throws UnauthorizedException if the given {@code password} does not mismatch with exists one related with given {@code username}
      * @throws UsernameNotFoundException if the given {@code username} does not exists in database
      */
-    public Optional<AuthenticationInformationDto> login(String clientId, String username, String password) {
-        return of(AuthenticationConfigurationEnum.getByClientId(clientId))
-                .map(authConfig -> applicationContext.getBean(authConfig.getUserServiceClass()))
+    public Mono<AuthenticationInformationDto> login(String clientId, String username, String password) {
+        return Mono.fromCallable(() -> AuthenticationConfigurationEnum.getByClientId(clientId))
+                .flatMap(authConfig -> Mono.justOrEmpty(applicationContext.getBean(authConfig.getUserServiceClass())))
                 .flatMap(userService -> {
                     UserDetails userDetails = userService.loadUserByUsername(username);
                     if (!userService.passwordsMatch(password, userDetails))
@@ -73,7 +86,7 @@ public class SecurityService {
      * @param clientId
      *    {@link JwtClientDetails#getClientId()} used to know the details to include
      *
-     * @return {@link Optional} of {@link AuthenticationInformationDto}
+     * @return {@link Mono} of {@link AuthenticationInformationDto}
      *
      * @throws AccountStatusException if the {@link UserDetails} related with the given {@code username} included in the token is disabled
      * @throws ClientNotFoundException if the given {@code clientId} does not exists in database
@@ -81,15 +94,16 @@ public class SecurityService {
      * @throws UsernameNotFoundException if the {@code refreshToken} does not contain a {@code username} or the included one does not exists in database
      * @throws TokenExpiredException if the given {@code refreshToken} has expired
      */
-    public Optional<AuthenticationInformationDto> refresh(String refreshToken, String clientId) {
-        Map<String, Object> payload = authenticationService.getPayloadOfToken(refreshToken, clientId, false);
-        String username = getUsernameFromPayload(payload, clientId);
-
-        return of(AuthenticationConfigurationEnum.getByClientId(clientId))
-                .map(authConfig -> applicationContext.getBean(authConfig.getUserServiceClass()))
-                .flatMap(userService -> {
-                    UserDetails userDetails = userService.loadUserByUsername(username);
-                    return authenticationService.getAuthenticationInformation(clientId, userDetails);
+    public Mono<AuthenticationInformationDto> refresh(String refreshToken, String clientId) {
+        return authenticationService.getPayloadOfToken(refreshToken, clientId, false)
+                .flatMap(payload -> {
+                    String username = getUsernameFromPayload(payload, clientId);
+                    return Mono.just(AuthenticationConfigurationEnum.getByClientId(clientId))
+                            .flatMap(authConfig -> Mono.justOrEmpty(applicationContext.getBean(authConfig.getUserServiceClass())))
+                            .flatMap(userService -> {
+                                UserDetails userDetails = userService.loadUserByUsername(username);
+                                return authenticationService.getAuthenticationInformation(clientId, userDetails);
+                            });
                 });
     }
 
@@ -105,22 +119,71 @@ public class SecurityService {
      * @param clientId
      *    {@link JwtClientDetails#getClientId()} used to know the details to include
      *
-     * @return {@link UsernameAuthoritiesDto}
+     * @return {@link Mono} of {@link UsernameAuthoritiesDto}
      *
      * @throws ClientNotFoundException if the given {@code clientId} does not exists in database
      * @throws UnauthorizedException if the given {@code accessToken} is not a valid one
      * @throws UsernameNotFoundException if the {@code accessToken} does not contain a {@code username}
      * @throws TokenExpiredException if the given {@code accessToken} has expired
      */
-    public UsernameAuthoritiesDto getAuthorizationInformation(String accessToken, String clientId) {
-        Map<String, Object> payload = authenticationService.getPayloadOfToken(accessToken, clientId, true);
-        String username = getUsernameFromPayload(payload, clientId);
-
-        return UsernameAuthoritiesDto.builder()
-                .username(username)
-                .authorities(authenticationService.getRoles(payload, clientId))
-                .additionalInfo(authenticationService.getCustomInformationIncludedByClient(payload, clientId))
-                .build();
+    public Mono<UsernameAuthoritiesDto> getAuthorizationInformation(String accessToken, String clientId) {
+        return authenticationService.getPayloadOfToken(accessToken, clientId, true)
+                .map(payload ->
+                        UsernameAuthoritiesDto.builder()
+                                .username(getUsernameFromPayload(payload, clientId))
+                                .authorities(authenticationService.getRoles(payload, clientId))
+                                .additionalInfo(authenticationService.getCustomInformationIncludedByClient(payload, clientId))
+                                .build()
+                );
+    }
+
+
+    /**
+     *    Batch version of {@link SecurityService#getAuthorizationInformation(String, String)}: validates every given
+     * access token and returns, by token, the Http status the single version would have returned together with the
+     * {@link UsernameAuthoritiesDto} of the valid ones. Repeated tokens are validated only once.
+     *
+     * @param accessTokens
+     *    Access tokens to validate
+     * @param clientId
+     *    {@link JwtClientDetails#getClientId()} used to know the details to include
+     *
+     * @return {@link Mono} of {@link Map} with the {@link AuthorizationInformationResultDto} of every token
+     *
+     * @throws IllegalArgumentException if {@code accessTokens} is {@code null}
+     */
+    public Mono<Map<String, AuthorizationInformationResultDto>> getAuthorizationInformation(Collection<String> accessTokens,
+                                                                                          String clientId) {
+        Assert.notNull(accessTokens, "accessTokens must be not null");
+        return Flux.fromIterable(new LinkedHashSet<>(accessTokens))
+                .flatMap(accessToken ->
+                        Mono.defer(() -> getAuthorizationInformation(accessToken, clientId))
+                                .map(ua -> new AuthorizationInformationResultDto(OK.value(), ua))
+                                .defaultIfEmpty(new AuthorizationInformationResultDto(UNAUTHORIZED.value(), null))
+                                .onErrorResume(e -> null != getRejectedTokenStatus(e),
+                                        e -> Mono.just(new AuthorizationInformationResultDto(getRejectedTokenStatus(e), null)))
+                                .map(result -> Tuples.of(accessToken, result))
+                )
+                .collectMap(Tuple2::getT1, Tuple2::getT2, LinkedHashMap::new);
+    }
+
+
+    /**
+     *    Http status returned by the single version of the authorization information web service when the given
+     * {@code exception} is thrown validating a token (see GlobalErrorWebExceptionHandler), {@code null} if it is not
+     * related with the token and must abort the whole batch.
+     */
+    private Integer getRejectedTokenStatus(Throwable exception) {
+        if (exception instanceof TokenExpiredException) {
+            return TOKEN_EXPIRED.value();
+        }
+        if (exception instanceof TokenInvalidException) {
+            return FORBIDDEN.value();
+        }
+        if (exception instanceof UnauthorizedException || exception instanceof UsernameNotFoundException) {
+            return UNAUTHORIZED.value();
+        }
+        return null;
     }
 
 
@@ -2,12 +2,11 @@ package com.security.jwt.service.cache;
 
 import com.security.jwt.configuration.cache.CacheConfiguration;
 import com.security.jwt.model.JwtClientDetails;
-import com.common.service.CacheService;
+import com.common.service.ReactiveCacheService;
 import lombok.AllArgsConstructor;
 import org.springframework.context.annotation.Lazy;
 import org.springframework.stereotype.Service;
-
-import java.util.Optional;
+import reactor.core.publisher.Mono;
 
 import static java.util.Optional.ofNullable;
 
@@ -19,15 +18,15 @@ public class JwtClientDetailsCacheService {
     private final CacheConfiguration cacheConfiguration;
 
     @Lazy
-    private final CacheService cacheService;
+    private final ReactiveCacheService cacheService;
 
 
     /**
      * Clear the cache used to store {@link JwtClientDetails} information.
      *
-     * @return {@code true} if the cache was cleared, {@code false} otherwise
+     * @return {@link Mono} with {@code true} if the cache was cleared, {@code false} otherwise
      */
-    public boolean clear() {
+    public Mono<Boolean> clear() {
         return cacheService.clear(cacheConfiguration.getJwtConfigurationCacheName());
     }
 
@@ -38,12 +37,12 @@ public class JwtClientDetailsCacheService {
      * @param clientId
      *    {@link JwtClientDetails#getClientId()} to search
      *
-     * @return {@code true} if the {@code clientId} exists, {@code false} otherwise
+     * @return {@link Mono} with {@code true} if the {@code clientId} exists, {@code false} otherwise
      */
-    public boolean contains(String clientId) {
+    public Mono<Boolean> contains(String clientId) {
         return ofNullable(clientId)
                 .map(id -> cacheService.contains(cacheConfiguration.getJwtConfigurationCacheName(), id))
-                .orElse(false);
+                .orElseGet(() -> Mono.just(false));
     }
 
 
@@ -53,13 +52,31 @@ public class JwtClientDetailsCacheService {
      * @param clientId
      *    {@link JwtClientDetails#getClientId()} to search
      *
-     * @return @return {@link Optional} with the {@link JwtClientDetails} if it was found, {@link Optional#empty()} otherwise
+     * @return {@link Mono} with the {@link JwtClientDetails} if it was found, {@link Mono#empty()} otherwise
      */
-    public Optional<JwtClientDetails> get(String clientId) {
+    public Mono<JwtClientDetails> get(String clientId) {
         return cacheService.get(cacheConfiguration.getJwtConfigurationCacheName(), clientId);
     }
 
 
+    /**
+     *    Return the {@link JwtClientDetails} related with the given {@code clientId} inside the related cache, using
+     * {@code loader} to get and store it when it is not found. Concurrent requests of the same {@code clientId} share only
+     * one subscription to {@code loader}, and the found entries are refreshed in background if it was configured.
+     *
+     * @param clientId
+     *    {@link JwtClientDetails#getClientId()} to search
+     * @param loader
+     *    {@link Mono} used to get the {@link JwtClientDetails} when it was not found
+     *
+     * @return {@link Mono} with the found or loaded {@link JwtClientDetails}
+     */
+    public Mono<JwtClientDetails> getOrLoad(String clientId, Mono<JwtClientDetails> loader) {
+        return cacheService.getOrLoad(cacheConfiguration.getJwtConfigurationCacheName(), clientId, loader,
+                cacheConfiguration.getJwtConfigurationCacheRefreshAhead());
+    }
+
+
     /**
      * Include a pair of {@link JwtClientDetails#getClientId()} - {@link JwtClientDetails} inside the related cache.
      *
@@ -68,9 +85,9 @@ public class JwtClientDetailsCacheService {
      * @param jwtClientDetails
      *    {@link JwtClientDetails} to store
      *
-     * @return {@code true} if the data was stored, {@code false} otherwise
+     * @return {@link Mono} with {@code true} if the data was stored, {@code false} otherwise
      */
-    public boolean put(String clientId, JwtClientDetails jwtClientDetails) {
+    public Mono<Boolean> put(String clientId, JwtClientDetails jwtClientDetails) {
         return cacheService.put(cacheConfiguration.getJwtConfigurationCacheName(), clientId, jwtClientDetails);
     }
 
@@ -17,6 +17,7 @@ import org.springframework.context.ApplicationContext;
 import org.springframework.http.HttpStatus;
 import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.test.web.reactive.server.WebTestClient;
+import reactor.core.publisher.Mono;
 
 import java.util.stream.Stream;
 
@@ -73,7 +74,7 @@ public class CacheControllerTest {
     @WithMockUser
     public void clear_whenGivenBasicAuthIsGiven_thenSuitableHttpCodeIsReturned(boolean cacheServiceResult,
                                                                                HttpStatus expectedResultHttpCode) {
-        when(mockJwtClientDetailsCacheService.clear()).thenReturn(cacheServiceResult);
+        when(mockJwtClientDetailsCacheService.clear()).thenReturn(Mono.just(cacheServiceResult));
 
         webTestClient.put()
                 .uri(RestRoutes.CACHE.ROOT + RestRoutes.CACHE.CLEAR)
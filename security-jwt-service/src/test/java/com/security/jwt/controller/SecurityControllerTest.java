@@ -5,6 +5,7 @@ import com.security.jwt.configuration.rest.RestRoutes;
 import com.security.jwt.dto.AuthenticationRequestDto;
 import com.security.jwt.service.SecurityService;
 import com.common.dto.AuthenticationInformationDto;
+import com.common.dto.AuthorizationInformationResultDto;
 import com.common.dto.ErrorResponseDto;
 import com.common.dto.UsernameAuthoritiesDto;
 import lombok.SneakyThrows;
@@ -18,6 +19,7 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.context.ApplicationContext;
+import org.springframework.core.ParameterizedTypeReference;
 import org.springframework.http.HttpStatus;
 import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.test.web.reactive.server.WebTestClient;
@@ -25,6 +27,9 @@ import reactor.core.publisher.Mono;
 
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.stream.Stream;
@@ -32,6 +37,7 @@ import java.util.stream.Stream;
 import static com.security.jwt.TestDataFactory.buildAuthenticationRequest;
 import static com.security.jwt.TestDataFactory.buildDefaultAuthenticationInformation;
 import static com.security.jwt.TestDataFactory.buildUsernameAuthorities;
+import static com.common.enums.ExtendedHttpStatus.TOKEN_EXPIRED;
 import static com.common.enums.RestApiErrorCode.VALIDATION;
 import static java.util.Optional.empty;
 import static java.util.Optional.of;
@@ -136,7 +142,7 @@ public class SecurityControllerTest {
         String clientId = "ItDoesNotCare";
         AuthenticationRequestDto authenticationRequestDto = buildAuthenticationRequest("usernameValue", "passwordValue");
 
-        when(mockSecurityService.login(clientId, authenticationRequestDto.getUsername(), authenticationRequestDto.getPassword())).thenReturn(authenticationInformation);
+        when(mockSecurityService.login(clientId, authenticationRequestDto.getUsername(), authenticationRequestDto.getPassword())).thenReturn(Mono.justOrEmpty(authenticationInformation));
 
         WebTestClient.ResponseSpec response = webTestClient.post()
                 .uri(RestRoutes.SECURITY.ROOT + RestRoutes.SECURITY.LOGIN)
@@ -208,7 +214,7 @@ public class SecurityControllerTest {
         String clientId = "ItDoesNotCare";
         String refreshToken = "refreshToken";
 
-        when(mockSecurityService.refresh(refreshToken, clientId)).thenReturn(authenticationInformation);
+        when(mockSecurityService.refresh(refreshToken, clientId)).thenReturn(Mono.justOrEmpty(authenticationInformation));
 
         WebTestClient.ResponseSpec response = webTestClient.post()
                 .uri(RestRoutes.SECURITY.ROOT + RestRoutes.SECURITY.REFRESH)
@@ -268,7 +274,7 @@ public class SecurityControllerTest {
         String accessToken = "accessToken";
         UsernameAuthoritiesDto usernameAuthorities = buildUsernameAuthorities("username", Set.of("admin"), new HashMap<>());
 
-        when(mockSecurityService.getAuthorizationInformation(accessToken, clientId)).thenReturn(usernameAuthorities);
+        when(mockSecurityService.getAuthorizationInformation(accessToken, clientId)).thenReturn(Mono.just(usernameAuthorities));
 
         webTestClient.post()
                 .uri(RestRoutes.SECURITY.ROOT + RestRoutes.SECURITY.AUTHORIZATION_INFO)
@@ -281,4 +287,59 @@ public class SecurityControllerTest {
         verify(mockSecurityService, times(1)).getAuthorizationInformation(accessToken, clientId);
     }
 
+
+    @Test
+    @SneakyThrows
+    @DisplayName("authorizationInformationBatch: when no basic authentication is provided then unauthorized code is returned")
+    public void authorizationInformationBatch_whenNoBasicAuthIsProvided_thenUnauthorizedHttpCodeIsReturned() {
+        webTestClient.post()
+                .uri(RestRoutes.SECURITY.ROOT + RestRoutes.SECURITY.AUTHORIZATION_INFO_BATCH)
+                .body(Mono.just(asList("ItDoesNotCare")), List.class)
+                .exchange()
+                .expectStatus().isUnauthorized();
+
+        verifyNoInteractions(mockSecurityService);
+    }
+
+
+    @Test
+    @SneakyThrows
+    @DisplayName("authorizationInformationBatch: when given parameters do not verify validations then bad request error is returned")
+    @WithMockUser
+    public void authorizationInformationBatch_whenGivenParametersDoNotVerifyValidations_thenBadRequestHttpCodeIsReturned() {
+        webTestClient.post()
+                .uri(RestRoutes.SECURITY.ROOT + RestRoutes.SECURITY.AUTHORIZATION_INFO_BATCH)
+                .body(Mono.just(Collections.emptyList()), List.class)
+                .exchange()
+                .expectStatus().isBadRequest();
+
+        verifyNoInteractions(mockSecurityService);
+    }
+
+
+    @Test
+    @DisplayName("authorizationInformationBatch: when given access tokens verify the validations then the result of every one is returned")
+    @WithMockUser(username = "ItDoesNotCare")
+    public void authorizationInformationBatch_whenParametersVerifyValidations_thenTheResultOfEveryOneIsReturned() {
+        String clientId = "ItDoesNotCare";
+        List<String> accessTokens = asList("valid", "expired");
+        UsernameAuthoritiesDto usernameAuthorities = buildUsernameAuthorities("username", Set.of("admin"), new HashMap<>());
+        Map<String, AuthorizationInformationResultDto> results = new LinkedHashMap<>() {{
+            put("valid", new AuthorizationInformationResultDto(OK.value(), usernameAuthorities));
+            put("expired", new AuthorizationInformationResultDto(TOKEN_EXPIRED.value(), null));
+        }};
+
+        when(mockSecurityService.getAuthorizationInformation(accessTokens, clientId)).thenReturn(Mono.just(results));
+
+        webTestClient.post()
+                .uri(RestRoutes.SECURITY.ROOT + RestRoutes.SECURITY.AUTHORIZATION_INFO_BATCH)
+                .body(Mono.just(accessTokens), List.class)
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody(new ParameterizedTypeReference<Map<String, AuthorizationInformationResultDto>>() {})
+                .isEqualTo(results);
+
+        verify(mockSecurityService, times(1)).getAuthorizationInformation(accessTokens, clientId);
+    }
+
 }
@@ -22,6 +22,7 @@ import org.springframework.context.ApplicationContext;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.crypto.encrypt.TextEncryptor;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
+import reactor.core.publisher.Mono;
 
 import java.util.HashMap;
 import java.util.HashSet;
@@ -113,7 +114,7 @@ public class AuthenticationServiceTest {
         String decryptedJwtSecret = "secretKey_ForTestingPurpose@12345#";
 
         when(mockApplicationContext.getBean(AuthenticationGenerator.class)).thenReturn(authenticationGenerator);
-        when(mockJwtClientDetailsService.findByClientId(clientId)).thenReturn(clientDetailsResult);
+        when(mockJwtClientDetailsService.findByClientId(clientId)).thenReturn(Mono.justOrEmpty(clientDetailsResult));
         when(mockEncryptor.decrypt(anyString())).thenReturn(decryptedJwtSecret);
         if (null != authenticationGenerator) {
             when(authenticationGenerator.getRawAuthenticationInformation(userDetails)).thenReturn(rawAuthenticationInformation);
@@ -123,7 +124,7 @@ public class AuthenticationServiceTest {
             when(mockJweUtil.generateToken(anyMap(), eq(algorithm), anyString(), anyString(), anyInt())).thenReturn("JWE token");
             when(mockJwsUtil.generateToken(anyMap(), eq(algorithm), anyString(), anyInt())).thenReturn("JWS token");
         }
-        Optional<AuthenticationInformationDto> result = authenticationService.getAuthenticationInformation(clientId, userDetails);
+        Optional<AuthenticationInformationDto> result = authenticationService.getAuthenticationInformation(clientId, userDetails).blockOptional();
         verifyGetAuthenticationInformationResult(clientDetailsResult, rawAuthenticationInformation, result, isResultEmpty);
     }
 
@@ -197,17 +198,17 @@ public class AuthenticationServiceTest {
         when(mockJwsUtil.getPayloadExceptGivenKeys(token, decryptedJwsSecret, new HashSet<>())).thenReturn(payload);
         when(mockJweUtil.getPayloadExceptGivenKeys(eq(token), eq(decryptedJwsSecret), anyString(), anySet())).thenReturn(payload);
         if (null == clientDetailsResult) {
-            when(mockJwtClientDetailsService.findByClientId(clientId)).thenThrow(ClientNotFoundException.class);
+            when(mockJwtClientDetailsService.findByClientId(clientId)).thenReturn(Mono.error(new ClientNotFoundException()));
         }
         else {
-            when(mockJwtClientDetailsService.findByClientId(clientId)).thenReturn(clientDetailsResult);
+            when(mockJwtClientDetailsService.findByClientId(clientId)).thenReturn(Mono.just(clientDetailsResult));
         }
 
         if (null != expectedException) {
-            assertThrows(expectedException, () -> authenticationService.getPayloadOfToken(token, clientId, isAccessToken));
+            assertThrows(expectedException, () -> authenticationService.getPayloadOfToken(token, clientId, isAccessToken).block());
         }
         else {
-            assertEquals(payload, authenticationService.getPayloadOfToken(token, clientId, isAccessToken));
+            assertEquals(payload, authenticationService.getPayloadOfToken(token, clientId, isAccessToken).block());
         }
     }
 
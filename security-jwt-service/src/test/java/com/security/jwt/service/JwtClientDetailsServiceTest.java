@@ -20,7 +20,6 @@ import java.util.stream.Stream;
 
 import static java.util.Optional.empty;
 import static java.util.Optional.of;
-import static java.util.Optional.ofNullable;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
@@ -61,34 +60,28 @@ public class JwtClientDetailsServiceTest {
                                          Class<? extends Exception> expectedException, JwtClientDetails expectedResult) {
 
         when(mockJwtClientDetailsRepository.findByClientId(clientId)).thenReturn(repositoryResult);
-        when(mockJwtClientDetailsCacheService.get(eq(clientId))).thenReturn(ofNullable(cacheServiceResult));
+        when(mockJwtClientDetailsCacheService.getOrLoad(eq(clientId), any())).thenAnswer(invocation ->
+                null != cacheServiceResult ? Mono.just(cacheServiceResult)
+                                           : invocation.getArgument(1)
+        );
         if (null != expectedException) {
-            assertThrows(expectedException, () -> jwtClientDetailsService.findByClientId(clientId));
+            assertThrows(expectedException, () -> jwtClientDetailsService.findByClientId(clientId).block());
         }
         else {
-            assertEquals(expectedResult, jwtClientDetailsService.findByClientId(clientId));
+            assertEquals(expectedResult, jwtClientDetailsService.findByClientId(clientId).block());
         }
         findByClientId_verifyInvocations(clientId, repositoryResult, cacheServiceResult);
     }
 
     private void findByClientId_verifyInvocations(String clientId, Optional<JwtClientDetails> repositoryResult, JwtClientDetails cacheServiceResult) {
-        // Found jwtClientDetails only in database
-        if (repositoryResult.isPresent() && null == cacheServiceResult) {
-            verify(mockJwtClientDetailsRepository, times(1)).findByClientId(eq(clientId));
-            verify(mockJwtClientDetailsCacheService, times(1)).get(eq(clientId));
-            verify(mockJwtClientDetailsCacheService, times(1)).put(eq(clientId), eq(repositoryResult.get()));
-        }
+        verify(mockJwtClientDetailsCacheService, times(1)).getOrLoad(eq(clientId), any());
         // Found jwtClientDetails in cache
         if (null != cacheServiceResult) {
             verify(mockJwtClientDetailsRepository, times(0)).findByClientId(eq(clientId));
-            verify(mockJwtClientDetailsCacheService, times(1)).get(eq(clientId));
-            verify(mockJwtClientDetailsCacheService, times(0)).put(any(), any());
         }
-        // Not found jwtClientDetails neither in cache nor database
-        if (!repositoryResult.isPresent() && null == cacheServiceResult) {
+        // Searched jwtClientDetails in database
+        else {
             verify(mockJwtClientDetailsRepository, times(1)).findByClientId(eq(clientId));
-            verify(mockJwtClientDetailsCacheService, times(1)).get(eq(clientId));
-            verify(mockJwtClientDetailsCacheService, times(0)).put(any(), any());
         }
     }
 
@@ -110,9 +103,10 @@ public class JwtClientDetailsServiceTest {
     public void findByUsername_testCases(String clientId, Optional<JwtClientDetails> repositoryResult,
                                          Class<? extends Exception> expectedException, JwtClientDetails expectedResult) {
         when(mockJwtClientDetailsRepository.findByClientId(clientId)).thenReturn(repositoryResult);
+        when(mockJwtClientDetailsCacheService.getOrLoad(eq(clientId), any())).thenAnswer(invocation -> invocation.getArgument(1));
 
         if (null != expectedException) {
-            assertThrows(expectedException, () -> jwtClientDetailsService.findByUsername(clientId));
+            assertThrows(expectedException, () -> jwtClientDetailsService.findByUsername(clientId).block());
         }
         else {
             Mono<UserDetails> result = jwtClientDetailsService.findByUsername(clientId);
@@ -120,7 +114,7 @@ public class JwtClientDetailsServiceTest {
                     .expectNextMatches(userDetails -> {
                         assertEquals(expectedResult, userDetails);
                         verify(mockJwtClientDetailsRepository, times(1)).findByClientId(eq(clientId));
-                        verify(mockJwtClientDetailsCacheService, times(1)).get(eq(clientId));
+                        verify(mockJwtClientDetailsCacheService, times(1)).getOrLoad(eq(clientId), any());
                         return true;
                     })
                     .verifyComplete();
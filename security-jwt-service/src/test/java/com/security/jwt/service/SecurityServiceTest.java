@@ -3,11 +3,15 @@ package com.security.jwt.service;
 import com.security.jwt.TestDataFactory;
 import com.security.jwt.application.spring5microservices.service.UserService;
 import com.security.jwt.exception.ClientNotFoundException;
+import com.security.jwt.exception.TokenInvalidException;
 import com.common.dto.AuthenticationInformationDto;
+import com.common.dto.AuthorizationInformationResultDto;
 import com.common.dto.UsernameAuthoritiesDto;
+import com.common.exception.TokenExpiredException;
 import com.common.exception.UnauthorizedException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
@@ -17,6 +21,7 @@ import org.springframework.context.ApplicationContext;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
+import reactor.core.publisher.Mono;
 
 import java.util.HashMap;
 import java.util.HashSet;
@@ -25,6 +30,7 @@ import java.util.Optional;
 import java.util.Set;
 import java.util.stream.Stream;
 
+import static com.common.enums.ExtendedHttpStatus.TOKEN_EXPIRED;
 import static com.security.jwt.enums.TokenKeyEnum.NAME;
 import static java.util.Arrays.asList;
 import static com.security.jwt.enums.AuthenticationConfigurationEnum.SPRING5_MICROSERVICES;
@@ -36,7 +42,12 @@ import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
+import static org.springframework.http.HttpStatus.FORBIDDEN;
+import static org.springframework.http.HttpStatus.OK;
+import static org.springframework.http.HttpStatus.UNAUTHORIZED;
 
 @ExtendWith(SpringExtension.class)
 public class SecurityServiceTest {
@@ -82,7 +93,7 @@ public class SecurityServiceTest {
                                 Optional<AuthenticationInformationDto> authenticationInformation, Optional<AuthenticationInformationDto> expectedResult) {
 
         when(mockApplicationContext.getBean(UserService.class)).thenReturn(userService);
-        when(mockAuthenticationService.getAuthenticationInformation(clientId, userDetails)).thenReturn(authenticationInformation);
+        when(mockAuthenticationService.getAuthenticationInformation(clientId, userDetails)).thenReturn(Mono.justOrEmpty(authenticationInformation));
         if (null != userService) {
             if (null == username) {
                 when(userService.loadUserByUsername(username)).thenThrow(UsernameNotFoundException.class);
@@ -94,10 +105,10 @@ public class SecurityServiceTest {
         }
 
         if (null != expectedException) {
-            assertThrows(expectedException, () -> securityService.login(clientId, username, password));
+            assertThrows(expectedException, () -> securityService.login(clientId, username, password).block());
         }
         else {
-            Optional<AuthenticationInformationDto> result = securityService.login(clientId, username, password);
+            Optional<AuthenticationInformationDto> result = securityService.login(clientId, username, password).blockOptional();
             assertEquals(expectedResult, result);
         }
     }
@@ -132,9 +143,9 @@ public class SecurityServiceTest {
         UserDetails userDetails = TestDataFactory.buildDefaultUser();
         Map<String, Object> payload = new HashMap<>();
 
-        when(mockAuthenticationService.getPayloadOfToken(refreshToken, clientId, false)).thenReturn(payload);
+        when(mockAuthenticationService.getPayloadOfToken(refreshToken, clientId, false)).thenReturn(Mono.just(payload));
         when(mockAuthenticationService.getUsername(payload, clientId)).thenReturn(ofNullable(usernameResult));
-        when(mockAuthenticationService.getAuthenticationInformation(clientId, userDetails)).thenReturn(authenticationInformation);
+        when(mockAuthenticationService.getAuthenticationInformation(clientId, userDetails)).thenReturn(Mono.justOrEmpty(authenticationInformation));
         when(mockApplicationContext.getBean(UserService.class)).thenReturn(userService);
         if (null != userService) {
             if (null == usernameResult) {
@@ -146,10 +157,10 @@ public class SecurityServiceTest {
         }
 
         if (null != expectedException) {
-            assertThrows(expectedException, () -> securityService.refresh(refreshToken, clientId));
+            assertThrows(expectedException, () -> securityService.refresh(refreshToken, clientId).block());
         }
         else {
-            Optional<AuthenticationInformationDto> result = securityService.refresh(refreshToken, clientId);
+            Optional<AuthenticationInformationDto> result = securityService.refresh(refreshToken, clientId).blockOptional();
             assertEquals(expectedResult, result);
         }
     }
@@ -182,17 +193,62 @@ public class SecurityServiceTest {
                                                       UsernameAuthoritiesDto expectedResult) {
         Map<String, Object> payload = new HashMap<>();
 
-        when(mockAuthenticationService.getPayloadOfToken(accessToken, clientId, true)).thenReturn(payload);
+        when(mockAuthenticationService.getPayloadOfToken(accessToken, clientId, true)).thenReturn(Mono.just(payload));
         when(mockAuthenticationService.getUsername(payload, clientId)).thenReturn(ofNullable(usernameResult));
         when(mockAuthenticationService.getRoles(payload, clientId)).thenReturn(rolesResult);
         when(mockAuthenticationService.getCustomInformationIncludedByClient(payload, clientId)).thenReturn(additionalInfoResult);
         if (null != expectedException) {
-            assertThrows(expectedException, () -> securityService.getAuthorizationInformation(accessToken, clientId));
+            assertThrows(expectedException, () -> securityService.getAuthorizationInformation(accessToken, clientId).block());
         }
         else {
-            UsernameAuthoritiesDto result = securityService.getAuthorizationInformation(accessToken, clientId);
+            UsernameAuthoritiesDto result = securityService.getAuthorizationInformation(accessToken, clientId).block();
             assertEquals(expectedResult, result);
         }
     }
 
+
+    @Test
+    @DisplayName("getAuthorizationInformation: when several access tokens are given then the result of every one is returned")
+    public void getAuthorizationInformation_whenSeveralAccessTokensAreGiven_thenTheResultOfEveryOneIsReturned() {
+        String clientId = SPRING5_MICROSERVICES.getClientId();
+        Map<String, Object> validPayload = new HashMap<>();
+        Map<String, Object> noUsernamePayload = new HashMap<>() {{
+            put("noUsername", true);
+        }};
+        Set<String> roles = new HashSet<>(asList("admin", "user"));
+        UsernameAuthoritiesDto usernameAuthorities = TestDataFactory.buildUsernameAuthorities("username value", roles, new HashMap<>());
+
+        when(mockAuthenticationService.getPayloadOfToken("valid", clientId, true)).thenReturn(Mono.just(validPayload));
+        when(mockAuthenticationService.getPayloadOfToken("expired", clientId, true)).thenReturn(Mono.error(new TokenExpiredException("expired")));
+        when(mockAuthenticationService.getPayloadOfToken("invalid", clientId, true)).thenThrow(new TokenInvalidException("invalid"));
+        when(mockAuthenticationService.getPayloadOfToken("refresh", clientId, true)).thenReturn(Mono.error(new UnauthorizedException("refresh")));
+        when(mockAuthenticationService.getPayloadOfToken("noUsername", clientId, true)).thenReturn(Mono.just(noUsernamePayload));
+        when(mockAuthenticationService.getUsername(validPayload, clientId)).thenReturn(of("username value"));
+        when(mockAuthenticationService.getUsername(noUsernamePayload, clientId)).thenReturn(empty());
+        when(mockAuthenticationService.getRoles(validPayload, clientId)).thenReturn(roles);
+        when(mockAuthenticationService.getCustomInformationIncludedByClient(validPayload, clientId)).thenReturn(new HashMap<>());
+
+        Map<String, AuthorizationInformationResultDto> result = securityService.getAuthorizationInformation(
+                asList("valid", "expired", "invalid", "refresh", "noUsername", "valid"), clientId).block();
+
+        assertEquals(5, result.size());
+        assertEquals(new AuthorizationInformationResultDto(OK.value(), usernameAuthorities), result.get("valid"));
+        assertEquals(new AuthorizationInformationResultDto(TOKEN_EXPIRED.value(), null), result.get("expired"));
+        assertEquals(new AuthorizationInformationResultDto(FORBIDDEN.value(), null), result.get("invalid"));
+        assertEquals(new AuthorizationInformationResultDto(UNAUTHORIZED.value(), null), result.get("refresh"));
+        assertEquals(new AuthorizationInformationResultDto(UNAUTHORIZED.value(), null), result.get("noUsername"));
+        verify(mockAuthenticationService, times(1)).getPayloadOfToken("valid", clientId, true);
+    }
+
+
+    @Test
+    @DisplayName("getAuthorizationInformation: when an error not related with the access token is thrown then it is propagated")
+    public void getAuthorizationInformation_whenAnErrorNotRelatedWithTheAccessTokenIsThrown_thenItIsPropagated() {
+        when(mockAuthenticationService.getPayloadOfToken("ItDoesNotCare", "NotFound", true))
+                .thenReturn(Mono.error(new ClientNotFoundException("NotFound")));
+
+        assertThrows(ClientNotFoundException.class,
+                () -> securityService.getAuthorizationInformation(asList("ItDoesNotCare"), "NotFound").block());
+    }
+
 }
@@ -2,16 +2,19 @@ package com.security.jwt.service.cache;
 
 import com.security.jwt.configuration.cache.CacheConfiguration;
 import com.security.jwt.model.JwtClientDetails;
-import com.common.service.CacheService;
+import com.common.service.ReactiveCacheService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import reactor.core.publisher.Mono;
 
+import java.time.Duration;
 import java.util.Optional;
 import java.util.stream.Stream;
 
@@ -21,6 +24,8 @@ import static java.util.Optional.of;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @SpringBootTest(classes = JwtClientDetailsCacheService.class)
@@ -30,7 +35,7 @@ public class JwtClientDetailsCacheServiceTest {
     private CacheConfiguration mockCacheConfiguration;
 
     @MockBean
-    private CacheService mockCacheService;
+    private ReactiveCacheService mockCacheService;
 
     @Autowired
     private JwtClientDetailsCacheService jwtClientDetailsCacheService;
@@ -55,8 +60,8 @@ public class JwtClientDetailsCacheServiceTest {
     @DisplayName("clear: test cases")
     public void clear_testCases(boolean cacheServiceResult, boolean expectedResult) {
         // When
-        when(mockCacheService.clear(anyString())).thenReturn(cacheServiceResult);
-        boolean operationResult = jwtClientDetailsCacheService.clear();
+        when(mockCacheService.clear(anyString())).thenReturn(Mono.just(cacheServiceResult));
+        boolean operationResult = jwtClientDetailsCacheService.clear().block();
 
         // Then
         assertEquals(expectedResult, operationResult);
@@ -79,8 +84,8 @@ public class JwtClientDetailsCacheServiceTest {
     @DisplayName("contains: test cases")
     public void contains_testCases(String clientId, boolean cacheServiceResult, boolean expectedResult) {
         // When
-        when(mockCacheService.contains(anyString(), eq(clientId))).thenReturn(cacheServiceResult);
-        boolean operationResult = jwtClientDetailsCacheService.contains(clientId);
+        when(mockCacheService.contains(anyString(), eq(clientId))).thenReturn(Mono.just(cacheServiceResult));
+        boolean operationResult = jwtClientDetailsCacheService.contains(clientId).block();
 
         // Then
         assertEquals(expectedResult, operationResult);
@@ -104,14 +109,32 @@ public class JwtClientDetailsCacheServiceTest {
     @DisplayName("get: test cases")
     public void get_testCases(String clientId, Optional<JwtClientDetails> cacheServiceResult, Optional<JwtClientDetails> expectedResult) {
         // When
-        when(mockCacheService.get(anyString(), eq(clientId))).thenReturn((Optional)cacheServiceResult);
-        Optional<JwtClientDetails> operationResult = jwtClientDetailsCacheService.get(clientId);
+        when(mockCacheService.get(anyString(), eq(clientId))).thenReturn((Mono)Mono.justOrEmpty(cacheServiceResult));
+        Optional<JwtClientDetails> operationResult = jwtClientDetailsCacheService.get(clientId).blockOptional();
 
         // Then
         assertEquals(expectedResult, operationResult);
     }
 
 
+    @Test
+    @DisplayName("getOrLoad: when refresh-ahead is configured then it is used to get the value")
+    public void getOrLoad_whenRefreshAheadIsConfigured_thenItIsUsedToGetTheValue() {
+        String clientId = "clientId";
+        JwtClientDetails jwtClientDetails = buildDefaultJwtClientDetails(clientId);
+        Mono<JwtClientDetails> loader = Mono.just(jwtClientDetails);
+        Duration refreshAhead = Duration.ofSeconds(30);
+
+        // When
+        when(mockCacheConfiguration.getJwtConfigurationCacheRefreshAhead()).thenReturn(refreshAhead);
+        when(mockCacheService.getOrLoad("TestCache", clientId, loader, refreshAhead)).thenReturn(loader);
+
+        // Then
+        assertEquals(jwtClientDetails, jwtClientDetailsCacheService.getOrLoad(clientId, loader).block());
+        verify(mockCacheService, times(1)).getOrLoad("TestCache", clientId, loader, refreshAhead);
+    }
+
+
     static Stream<Arguments> putTestCases() {
         String clientId = "clientId";
         JwtClientDetails jwtClientDetails = buildDefaultJwtClientDetails(clientId);
@@ -130,8 +153,8 @@ public class JwtClientDetailsCacheServiceTest {
     @DisplayName("put: test cases")
     public void put_testCases(String clientId, JwtClientDetails jwtClientDetails, boolean cacheServiceResult, boolean expectedResult) {
         // When
-        when(mockCacheService.put(anyString(), eq(clientId), eq(jwtClientDetails))).thenReturn(cacheServiceResult);
-        boolean operationResult = jwtClientDetailsCacheService.put(clientId, jwtClientDetails);
+        when(mockCacheService.put(anyString(), eq(clientId), eq(jwtClientDetails))).thenReturn(Mono.just(cacheServiceResult));
+        boolean operationResult = jwtClientDetailsCacheService.put(clientId, jwtClientDetails).block();
 
         // Then
         assertEquals(expectedResult, operationResult);
@@ -1,9 +1,14 @@
 package com.security.oauth.configuration.cache;
 
+import com.common.cache.CacheMetrics;
 import com.security.oauth.configuration.Constants;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
 import lombok.Getter;
 import org.cache2k.Cache2kBuilder;
+import org.cache2k.core.InternalCache;
 import org.cache2k.extra.spring.SpringCache2kCacheManager;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.cache.CacheManager;
 import org.springframework.cache.annotation.EnableCaching;
@@ -11,8 +16,12 @@ import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.ComponentScan;
 import org.springframework.context.annotation.Configuration;
 
+import java.time.Duration;
 import java.util.concurrent.TimeUnit;
 
+import static com.common.cache.CacheMetrics.EXPIRED_CAUSE;
+import static com.common.cache.CacheMetrics.SIZE_CAUSE;
+
 @Configuration
 @ComponentScan(basePackages = {Constants.EXTERNAL_PATH.COMMON})
 @EnableCaching
@@ -28,20 +37,56 @@ public class CacheConfiguration {
     @Getter
     private String oauthClientCacheName;
 
+    // 0 disables the refresh of the entries before their expiration
+    @Value("${cache.oauthClient.refreshAheadInMinutes:0}")
+    private long oauthClientCacheRefreshAheadInMinutes;
+
+
+    /**
+     * Time after which the loaded {@link org.springframework.security.oauth2.provider.ClientDetails} are refreshed in background.
+     *
+     * @return {@link Duration} or {@code null} if refresh-ahead is disabled
+     */
+    public Duration getOauthClientCacheRefreshAhead() {
+        return 0 < oauthClientCacheRefreshAheadInMinutes ? Duration.ofMinutes(oauthClientCacheRefreshAheadInMinutes)
+                                                         : null;
+    }
+
+
     /**
      * Centralized cache configuration to manage the information we want to cache
      *
      * @return {@link CacheManager}
      */
     @Bean
-    public CacheManager cacheManager() {
-        return new SpringCache2kCacheManager().addCaches(
+    public CacheManager cacheManager(ObjectProvider<MeterRegistry> meterRegistry) {
+        SpringCache2kCacheManager cacheManager = new SpringCache2kCacheManager().addCaches(
                 c -> Cache2kBuilder.of(String.class, String.class)
                         .name(oauthClientCacheName)
                         .entryCapacity(oauthClientCacheEntryCapacity)
                         .expireAfterWrite(oauthClientCacheExpireInMinutes, TimeUnit.MINUTES)
-                        .disableStatistics(true)
         );
+        bindEvictions(cacheManager, oauthClientCacheName, new CacheMetrics(meterRegistry.getIfAvailable(() -> Metrics.globalRegistry)));
+        return cacheManager;
+    }
+
+
+    /**
+     * Publish in {@link CacheMetrics#EVICTIONS} the entries evicted or expired, using the statistics kept by cache2k.
+     *
+     * @param cacheManager
+     *    {@link SpringCache2kCacheManager} that contains the cache
+     * @param cacheName
+     *    Name of the cache
+     * @param cacheMetrics
+     *    {@link CacheMetrics} used to publish the evictions
+     */
+    static void bindEvictions(SpringCache2kCacheManager cacheManager, String cacheName, CacheMetrics cacheMetrics) {
+        InternalCache<?, ?> cache = cacheManager.getNativeCacheManager()
+                .getCache(cacheName)
+                .requestInterface(InternalCache.class);
+        cacheMetrics.bindEvictions(cacheName, SIZE_CAUSE, cache, c -> c.getInfo().getEvictedCount());
+        cacheMetrics.bindEvictions(cacheName, EXPIRED_CAUSE, cache, c -> c.getInfo().getExpiredCount());
     }
 
 }
@@ -46,14 +46,13 @@ public class CustomJdbcClientDetailsService extends JdbcClientDetailsService {
     }
 
 
+    /**
+     * Concurrent requests of the same {@code clientId} not found in cache send only one query to the database.
+     */
     @Override
     public ClientDetails loadClientByClientId(String clientId) throws InvalidClientException {
-        return clientDetailsCacheService.get(clientId)
-                .orElseGet(() -> {
-                    ClientDetails clientDetails = super.loadClientByClientId(clientId);
-                    clientDetailsCacheService.put(clientId, clientDetails);
-                    return clientDetails;
-                });
+        return clientDetailsCacheService.getOrLoad(clientId, () -> super.loadClientByClientId(clientId))
+                .orElse(null);
     }
 
     /**
@@ -8,6 +8,7 @@ import org.springframework.security.oauth2.provider.ClientDetails;
 import org.springframework.stereotype.Service;
 
 import java.util.Optional;
+import java.util.function.Supplier;
 
 import static java.util.Optional.ofNullable;
 
@@ -52,6 +53,24 @@ public class ClientDetailsCacheService {
     }
 
 
+    /**
+     *    Return the {@link ClientDetails} related with the given {@code clientId} inside the related cache, using
+     * {@code loader} to get and store it when it is not found. Concurrent requests of the same {@code clientId} invoke
+     * {@code loader} only once, and the found entries are refreshed in background if it was configured.
+     *
+     * @param clientId
+     *    {@link ClientDetails#getClientId()} to search
+     * @param loader
+     *    {@link Supplier} used to get the {@link ClientDetails} when it was not found
+     *
+     * @return {@link Optional} with the found or loaded {@link ClientDetails}, {@link Optional#empty()} otherwise
+     */
+    public Optional<ClientDetails> getOrLoad(String clientId, Supplier<ClientDetails> loader) {
+        return cacheService.getOrLoad(cacheConfiguration.getOauthClientCacheName(), clientId, loader,
+                cacheConfiguration.getOauthClientCacheRefreshAhead());
+    }
+
+
     /**
      * Include a pair of {@link ClientDetails#getClientId()} - {@link ClientDetails} inside the related cache.
      *
@@ -0,0 +1,94 @@
+package com.security.oauth.configuration.cache;
+
+import com.common.cache.CacheMetrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.cache2k.Cache2kBuilder;
+import org.cache2k.extra.spring.SpringCache2kCacheManager;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.Cache;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import static com.common.cache.CacheMetrics.CACHE_TAG;
+import static com.common.cache.CacheMetrics.CAUSE_TAG;
+import static com.common.cache.CacheMetrics.EVICTIONS;
+import static com.common.cache.CacheMetrics.EXPIRED_CAUSE;
+import static com.common.cache.CacheMetrics.SIZE_CAUSE;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class CacheConfigurationTest {
+
+    private String cacheName;
+
+    private SimpleMeterRegistry meterRegistry;
+
+    private SpringCache2kCacheManager cacheManager;
+
+
+    @BeforeEach
+    public void init() {
+        cacheName = "CacheConfigurationTest-" + UUID.randomUUID();
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+
+    @AfterEach
+    public void shutdown() {
+        if (null != cacheManager) {
+            cacheManager.getNativeCacheManager().getCache(cacheName).close();
+        }
+    }
+
+
+    @Test
+    @DisplayName("bindEvictions: when the cache is full then the evicted entries are published")
+    public void bindEvictions_whenTheCacheIsFull_thenTheEvictedEntriesArePublished() {
+        Cache cache = startCache(2, 1, TimeUnit.HOURS);
+
+        IntStream.range(0, 5).forEach(i -> cache.put("key" + i, "value" + i));
+
+        assertEquals(3, evictions(SIZE_CAUSE));
+        assertEquals(0, evictions(EXPIRED_CAUSE));
+    }
+
+
+    @Test
+    @DisplayName("bindEvictions: when an entry expires then it is published as expired")
+    public void bindEvictions_whenAnEntryExpires_thenItIsPublishedAsExpired() throws InterruptedException {
+        Cache cache = startCache(10, 100, TimeUnit.MILLISECONDS);
+        cache.put("key", "value");
+
+        long timeout = System.currentTimeMillis() + 10_000;
+        while (0 == evictions(EXPIRED_CAUSE) && System.currentTimeMillis() < timeout) {
+            Thread.sleep(100);
+        }
+        assertEquals(1, evictions(EXPIRED_CAUSE));
+        assertEquals(0, evictions(SIZE_CAUSE));
+    }
+
+
+    private Cache startCache(long entryCapacity, long expireAfterWrite, TimeUnit unit) {
+        cacheManager = new SpringCache2kCacheManager().addCaches(
+                c -> Cache2kBuilder.of(String.class, String.class)
+                        .name(cacheName)
+                        .entryCapacity(entryCapacity)
+                        .expireAfterWrite(expireAfterWrite, unit)
+        );
+        CacheConfiguration.bindEvictions(cacheManager, cacheName, new CacheMetrics(meterRegistry));
+        return cacheManager.getCache(cacheName);
+    }
+
+
+    private double evictions(String cause) {
+        return meterRegistry.get(EVICTIONS)
+                .tags(CACHE_TAG, cacheName, CAUSE_TAG, cause)
+                .functionCounter()
+                .count();
+    }
+
+}
@@ -4,6 +4,7 @@ import com.security.oauth.configuration.cache.CacheConfiguration;
 import com.common.service.CacheService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
@@ -13,7 +14,9 @@ import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.security.oauth2.provider.ClientDetails;
 import org.springframework.security.oauth2.provider.client.BaseClientDetails;
 
+import java.time.Duration;
 import java.util.Optional;
+import java.util.function.Supplier;
 import java.util.stream.Stream;
 
 import static java.util.Optional.empty;
@@ -21,6 +24,8 @@ import static java.util.Optional.of;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @SpringBootTest(classes = ClientDetailsCacheService.class)
@@ -90,6 +95,24 @@ public class ClientDetailsCacheServiceTest {
     }
 
 
+    @Test
+    @DisplayName("getOrLoad: when refresh-ahead is configured then it is used to get the value")
+    public void getOrLoad_whenRefreshAheadIsConfigured_thenItIsUsedToGetTheValue() {
+        String clientId = "clientId";
+        ClientDetails clientDetails = new BaseClientDetails(clientId, null, null, null, null);
+        Supplier<ClientDetails> loader = () -> clientDetails;
+        Duration refreshAhead = Duration.ofMinutes(5);
+
+        // When
+        when(mockCacheConfiguration.getOauthClientCacheRefreshAhead()).thenReturn(refreshAhead);
+        when(mockCacheService.getOrLoad("TestCache", clientId, loader, refreshAhead)).thenReturn((Optional)of(clientDetails));
+
+        // Then
+        assertEquals(of(clientDetails), clientDetailsCacheService.getOrLoad(clientId, loader));
+        verify(mockCacheService, times(1)).getOrLoad("TestCache", clientId, loader, refreshAhead);
+    }
+
+
     static Stream<Arguments> putTestCases() {
         String clientId = "clientId";
         ClientDetails clientDetails = new BaseClientDetails();
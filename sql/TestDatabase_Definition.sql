@@ -66,6 +66,7 @@ create table eat.order(
 );
 
 create unique index order_code_uindex on eat.order (code);
+create index order_created_id_index on eat.order (created desc, id desc);
 
 
 create table eat.order_line(
@@ -76,6 +77,8 @@ create table eat.order_line(
   amount     smallint           not null
 );
 
+create index order_line_order_id_index on eat.order_line (order_id);
+
 
 ----------- SECURITY -----------
 